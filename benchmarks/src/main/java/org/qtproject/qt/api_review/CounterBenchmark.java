@@ -0,0 +1,81 @@
+package org.qtproject.qt.api_review;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.qtproject.qt.api_review.counter.CountInfo;
+import org.qtproject.qt.api_review.counter.Counter;
+
+/**
+ * Benchmarks the step count of source files.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CounterBenchmark {
+
+	/**
+	 * Approximate number of lines of the source file
+	 */
+	@Param({ "200", "20000" })
+	public int lines;
+
+	/**
+	 * Directory of the source file
+	 */
+	private File dir;
+
+	/**
+	 * Source file
+	 */
+	private File source;
+
+	/**
+	 * Writes the source file.
+	 *
+	 * @throws IOException exception
+	 */
+	@Setup
+	public void setup() throws IOException {
+		dir = File.createTempFile("counter", "");
+		dir.delete();
+		dir.mkdir();
+		source = Fixtures.sourceFile(dir, lines);
+	}
+
+	/**
+	 * Deletes the source file.
+	 */
+	@TearDown
+	public void tearDown() {
+		source.delete();
+		dir.delete();
+	}
+
+	/**
+	 * Counts the source file.
+	 *
+	 * @return step count
+	 */
+	@Benchmark
+	public CountInfo count() {
+		return Counter.count(source);
+	}
+}
@@ -0,0 +1,153 @@
+package org.qtproject.qt.api_review;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+
+/**
+ * Fixture data shared by the benchmarks.
+ */
+final class Fixtures {
+
+	/**
+	 * Long paragraphs with inline tags, as found in Qt class descriptions
+	 */
+	static final String PARAGRAPHS = "The QAndroidBinder class is a wrapper around the Android Binder, used to "
+			+ "transfer data between processes. It is <b>not</b> thread safe, so {@code transact} must be called "
+			+ "from the thread that created the binder.\n <p>\n Use {@link #transact(int, Parcel) transact()} to "
+			+ "send a parcel and <i>wait</i> for the reply &mdash; unless {@code FLAG_ONEWAY} is set &amp; the "
+			+ "caller returns immediately. Note: the reply is &lt;null&gt; in that case.\n <p>\n See "
+			+ "<a href=\"https://developer.android.com/reference/android/os/IBinder\">IBinder</a> for the details "
+			+ "of the underlying protocol, and <a href=\"#onTransact\">onTransact</a> for the receiving side.";
+
+	/**
+	 * Nested lists
+	 */
+	static final String LISTS = "The following states are reported:\n <ul>\n <li>{@code Idle} - no request is "
+			+ "pending</li>\n <li>{@code Busy} - a request is running:\n <ul>\n <li>on the main thread</li>\n "
+			+ "<li>on a <em>worker</em> thread</li>\n </ul>\n </li>\n <li>{@code Error} - the last request "
+			+ "failed</li>\n </ul>\n <p>\n Each state change emits {@link #stateChanged(int)} with one of:\n "
+			+ "<ol>\n <li>the new state</li>\n <li>the previous state</li>\n </ol>";
+
+	/**
+	 * Many link tags
+	 */
+	static final String LINKS = "Converts values between {@link java.lang.String}, {@link java.lang.Integer}, "
+			+ "{@link java.util.List List} and {@link java.util.Map Map}. See {@link #toString()}, "
+			+ "{@link #valueOf(String)}, {@link #fromJson(String, Class) fromJson}, {@linkplain #parse parse}, "
+			+ "{@link org.qtproject.qt.android.QtNative#activity() activity()} and {@link "
+			+ "org.qtproject.qt.android.bindings.QtActivity QtActivity} for the conversions that are "
+			+ "supported, and {@link #register(Class, Converter)} to add new ones.";
+
+	/**
+	 * Type names as returned by the javadoc tool
+	 */
+	static final String[] TYPES = { "int", "java.lang.String", "java.util.Map<java.lang.String, java.lang.Object>",
+			"org.qtproject.qt.android.QtNative.ApplicationStateDetails[]",
+			"java.util.List<? extends org.qtproject.qt.android.bindings.QtActivity>", "android.os.Parcel" };
+
+	/**
+	 * A writer that discards everything.
+	 */
+	static final Writer NULL_WRITER = new Writer() {
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	/**
+	 * Gets a comment fixture by name.
+	 *
+	 * @param name one of <code>paragraphs</code>, <code>lists</code> or <code>links</code>
+	 * @return comment text
+	 */
+	static String comment(String name) {
+		switch (name) {
+		case "paragraphs":
+			return PARAGRAPHS;
+		case "lists":
+			return LISTS;
+		case "links":
+			return LINKS;
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	/**
+	 * Creates a class with documented fields, constructors and methods.
+	 *
+	 * @param members number of methods
+	 * @return class information
+	 */
+	static ClassInfo classInfo(int members) {
+		ClassInfo info = new ClassInfo("QtBinder", "org.qtproject.qt.android.QtBinder", "org.qtproject.qt.android",
+				"public", false, PARAGRAPHS + "\n <p>\n " + LISTS);
+		info.getHierarchy().add("android.os.Binder");
+		info.getHierarchy().add("org.qtproject.qt.android.QtBinder");
+		info.getInterfaces().add("android.os.IBinder");
+		info.getFields().add(new FieldInfo("public static final", "int", "FLAG_ONEWAY", LINKS));
+		MethodInfo constructor = new MethodInfo("public", null, "QtBinder", PARAGRAPHS);
+		constructor.getParams().add(new ParamInfo("long", "id", "native handle of the binder"));
+		info.getConstructors().add(constructor);
+		for (int i = 0; i < members; i++) {
+			MethodInfo method = new MethodInfo("public", "boolean", "transact" + i, i % 2 == 0 ? LINKS : LISTS);
+			method.getParams().add(new ParamInfo("int", "code", "the action to perform, see {@link #FLAG_ONEWAY}"));
+			method.getParams().add(new ParamInfo("Parcel", "data", "the data to send, must <b>not</b> be null"));
+			method.setReturnComment("{@code true} if the transaction succeeded");
+			method.getExceptions().add(new ThrowsInfo("RemoteException", "if the remote process died"));
+			info.getMethods().add(method);
+		}
+		return info;
+	}
+
+	/**
+	 * Writes a synthetic Java source file.
+	 *
+	 * @param dir target directory
+	 * @param lines approximate number of lines
+	 * @return source file
+	 * @throws IOException exception
+	 */
+	static File sourceFile(File dir, int lines) throws IOException {
+		File file = new File(dir, "Generated" + lines + ".java");
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write("package org.qtproject.qt.android;\n\n");
+			out.write("import java.util.List;\n\n");
+			out.write("/**\n * Generated source für Zählungen.\n */\n");
+			out.write("public class Generated {\n");
+			int i = 0;
+			while (i < lines) {
+				out.write("\n");
+				out.write("    /* single line comment */\n");
+				out.write("    /**\n     * Returns the value " + i + ".\n     *\n");
+				out.write("     * @return the value\n     */\n");
+				out.write("    public int value" + i + "() {\n");
+				out.write("        // the value\n");
+				out.write("        return " + i + ";\n");
+				out.write("    }\n");
+				i += 10;
+			}
+			out.write("}\n");
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+}
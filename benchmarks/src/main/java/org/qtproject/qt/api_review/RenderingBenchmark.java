@@ -0,0 +1,113 @@
+package org.qtproject.qt.api_review;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+
+/**
+ * Benchmarks the conversion and rendering of Javadoc comments.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderingBenchmark {
+
+	/**
+	 * Comment fixture
+	 */
+	@Param({ "paragraphs", "lists", "links" })
+	public String comment;
+
+	/**
+	 * Comment text
+	 */
+	private String text;
+
+	/**
+	 * Writer that discards its output
+	 */
+	private ApiReviewWriter md;
+
+	/**
+	 * Renderer that discards its output
+	 */
+	private StubRenderer renderer;
+
+	/**
+	 * Declaration output that discards its output
+	 */
+	private SignatureWriter signatures;
+
+	/**
+	 * Class with 20 documented methods
+	 */
+	private ClassInfo classInfo;
+
+	/**
+	 * Prepares the fixtures.
+	 */
+	@Setup
+	public void setup() {
+		text = Fixtures.comment(comment);
+		md = new ApiReviewWriter(Fixtures.NULL_WRITER);
+		renderer = new StubRenderer(md);
+		signatures = new SignatureWriter(md);
+		classInfo = Fixtures.classInfo(20);
+	}
+
+	/**
+	 * Converts one comment to Markdown.
+	 *
+	 * @return Markdown text
+	 */
+	@Benchmark
+	public String markdown() {
+		return md.markdown(text);
+	}
+
+	/**
+	 * Renders a class stub, which runs every comment through print().
+	 *
+	 * @throws IOException exception
+	 */
+	@Benchmark
+	public void print() throws IOException {
+		renderer.renderClass(classInfo, null);
+	}
+
+	/**
+	 * Outputs the declaration lines of all members of the class, without comments.
+	 *
+	 * @throws IOException exception
+	 */
+	@Benchmark
+	public void declarations() throws IOException {
+		for (FieldInfo field : classInfo.getFields()) {
+			signatures.writeField(field);
+		}
+		for (MethodInfo constructor : classInfo.getConstructors()) {
+			signatures.writeMethod(constructor);
+		}
+		for (MethodInfo method : classInfo.getMethods()) {
+			signatures.writeMethod(method);
+		}
+	}
+}
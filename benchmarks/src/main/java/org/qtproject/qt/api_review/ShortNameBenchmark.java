@@ -0,0 +1,55 @@
+package org.qtproject.qt.api_review;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the removal of package names from type names.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShortNameBenchmark {
+
+	/**
+	 * Cache of the run
+	 */
+	private final ShortNameCache cache = new ShortNameCache();
+
+	/**
+	 * Shortens every fixture type name once.
+	 *
+	 * @param bh sink for the results
+	 */
+	@Benchmark
+	public void shorten(Blackhole bh) {
+		for (String type : Fixtures.TYPES) {
+			bh.consume(ShortNameCache.shorten(type));
+		}
+	}
+
+	/**
+	 * Looks up every fixture type name once, as the doclet does.
+	 *
+	 * @param bh sink for the results
+	 */
+	@Benchmark
+	public void getShortName(Blackhole bh) {
+		for (String type : Fixtures.TYPES) {
+			bh.consume(cache.get(type));
+		}
+	}
+}
@@ -3,8 +3,10 @@
 VERSION="1.0"
 
 build_markdown_doclet_jar() {
-    find src -name "*.java" -exec javac -d build -source 8 -target 8 {} +
-    jar cfm api-review-doclet-$VERSION.jar src/MANIFEST.MF -C build org
+    find src -name "*.java" -not -path "*/api_review/jdk/*" -exec javac -d build -source 8 -target 8 {} +
+    find src/org/qtproject/qt/api_review/jdk -name "*.java" -exec javac -d build -cp build --release 11 {} +
+    { cat src/MANIFEST.MF; echo "Implementation-Version: $VERSION"; } > build/MANIFEST.MF
+    jar cfm api-review-doclet-$VERSION.jar build/MANIFEST.MF -C build org -C build com/sun/javadoc
     rm -R build
 }
 
@@ -0,0 +1,49 @@
+package org.qtproject.qt.api_review;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+
+/**
+ * Reads the API model of a doclet run class by class.
+ * <p>
+ * There is one implementation for each doclet API. The documents are only
+ * read on the thread running the doclet. Classes are read package by
+ * package.
+ */
+public interface ApiReader {
+
+	/**
+	 * Reads the next class with all its members.
+	 *
+	 * @return class information, or null if all classes were read
+	 */
+	ClassInfo readClass();
+
+	/**
+	 * Reads the package of the class read last.
+	 *
+	 * @return package information
+	 */
+	PackageInfo readPackage();
+
+	/**
+	 * Drops what was kept for reading the packages before the one of the class read last.
+	 * <p>
+	 * Declarations of those packages that are needed again are read again.
+	 */
+	void releasePreviousPackages();
+
+	/**
+	 * Gets the cache of short type names.
+	 *
+	 * @return short name cache
+	 */
+	ShortNameCache getShortNames();
+
+	/**
+	 * Prints a notice of the run.
+	 *
+	 * @param message message
+	 */
+	void printNotice(String message);
+}
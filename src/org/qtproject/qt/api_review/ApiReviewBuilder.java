@@ -2,35 +2,40 @@ package org.qtproject.qt.api_review;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import com.sun.javadoc.ClassDoc;
-import com.sun.javadoc.ExecutableMemberDoc;
-import com.sun.javadoc.FieldDoc;
-import com.sun.javadoc.MemberDoc;
-import com.sun.javadoc.MethodDoc;
-import com.sun.javadoc.PackageDoc;
-import com.sun.javadoc.ParamTag;
-import com.sun.javadoc.Parameter;
-import com.sun.javadoc.RootDoc;
-import com.sun.javadoc.Tag;
-import com.sun.javadoc.ThrowsTag;
-import com.sun.javadoc.Type;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.qtproject.qt.api_review.ApiReviewWriter;
 import org.qtproject.qt.api_review.counter.CountInfo;
-import org.qtproject.qt.api_review.counter.Counter;
+import org.qtproject.qt.api_review.counter.CountCache;
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+import org.qtproject.qt.api_review.snapshot.ApiDiff;
+import org.qtproject.qt.api_review.snapshot.ClassDiff;
+import org.qtproject.qt.api_review.snapshot.SnapshotReader;
+import org.qtproject.qt.api_review.snapshot.SnapshotWriter;
 
 /**
  * Provides processing for creating Javadoc documents in Markdown format.
@@ -38,9 +43,9 @@ import org.qtproject.qt.api_review.counter.Counter;
 public class ApiReviewBuilder {
 
 	/**
-	 * Javadoc root document
+	 * Runtime options
 	 */
-	private RootDoc root;
+	private final Options options;
 
 	/**
 	 * Markdown output
@@ -48,76 +53,263 @@ public class ApiReviewBuilder {
 	private ApiReviewWriter md;
 
 	/**
-	 * List for remembering output packages
+	 * Names of the output packages
 	 */
-	private List<PackageDoc> packages;
+	private Set<String> packages;
 
 	/**
-	 * Map for storing step count results
+	 * Step count results, counting each source file once
 	 */
-	private Map<File, CountInfo> counts;
+	private CountCache counts;
 
 	/**
-	 * Display string when no comment is specified
+	 * Reader of the API model
 	 */
-	private static final String NO_COMMENT = "Missing documentation";
+	private ApiReader reader;
 
 	/**
-	 * Generate documentation.
+	 * Cache of rendered classes, or null if not used
+	 */
+	private ApiReviewCache cache;
+
+	/**
+	 * Cost of the run per phase
+	 */
+	private Metrics metrics;
+
+	/**
+	 * Queue of the writer thread while the classes are output, or null if they are written on the reading thread
+	 */
+	private WriteQueue<RenderedClass> queue;
+
+	/**
+	 * Snapshot of the API model, or null if not written
+	 */
+	private SnapshotWriter snapshot;
+
+	/**
+	 * Comparison with the previous version, or null if not compared
+	 */
+	private ApiDiff diff;
+
+	/**
+	 * Kinds of the differing packages by name, in document order
+	 */
+	private Map<String, Integer> packageDiffs;
+
+	/**
+	 * Differing classes in document order, removed classes last
+	 */
+	private List<ClassDiff> classDiffs;
+
+	/**
+	 * Rendered classes kept between runs by source file and key, or null if not kept
+	 */
+	private ConcurrentMap<File, ConcurrentMap<String, ApiReviewCache.Entry>> retained;
+
+	/**
+	 * Number of classes reused from the previous runs
+	 */
+	private final AtomicInteger retainedHits = new AtomicInteger();
+
+	/**
+	 * Number of classes rendered while classes are kept
+	 */
+	private final AtomicInteger retainedMisses = new AtomicInteger();
+
+	/**
+	 * A constructor.
 	 *
-	 * @param rootDoc Javadoc root document
-	 * @throws IOException exception
+	 * @param options runtime options
 	 */
-	public void create(RootDoc rootDoc) throws IOException {
+	public ApiReviewBuilder(Options options) {
+		this.options = options;
+	}
 
-		// Get Javadoc root document
-		root = rootDoc;
+	/**
+	 * Keeps the rendered classes in memory for later runs of this builder.
+	 * <p>
+	 * A kept class is used again as long as its source file is not
+	 * invalidated and its hierarchy and interfaces are the same.
+	 */
+	public void retainClasses() {
+		if (retained == null) {
+			retained = new ConcurrentHashMap<File, ConcurrentMap<String, ApiReviewCache.Entry>>();
+		}
+	}
 
-		// Initialize Markdown output
-		md = new ApiReviewWriter();
+	/**
+	 * Drops the kept classes of changed source files.
+	 *
+	 * @param sources changed source files, or null to drop all classes
+	 */
+	public void invalidate(Collection<File> sources) {
+		if (retained == null) {
+			return;
+		}
+		if (sources == null) {
+			retained.clear();
+			return;
+		}
+		for (File source : sources) {
+			retained.remove(source);
+		}
+	}
 
-		// Create a cover
-		makeCoverPage();
+	/**
+	 * Generate documentation.
+	 *
+	 * @param apiReader reader of the API model
+	 * @throws IOException exception
+	 */
+	public void create(ApiReader apiReader) throws IOException {
+
+		// Get the reader of the API model
+		reader = apiReader;
+		metrics = new Metrics(options.isMetrics());
+
+		// Load the previous version to compare with
+		diff = null;
+		packageDiffs = new LinkedHashMap<String, Integer>();
+		classDiffs = new ArrayList<ClassDiff>();
+		if (options.getDiffSnapshot() != null) {
+			long[] start = metrics.begin();
+			diff = new ApiDiff(SnapshotReader.read(options.getDiffSnapshot()));
+			metrics.end("diff", start);
+		}
 
-		// Initialize output package list
-		packages = new ArrayList<PackageDoc>();
+		// Initialize Markdown output
+		md = new ApiReviewWriter(options);
+		snapshot = options.getSnapshot() == null ? null : new SnapshotWriter();
+
+		// Initialize the cache of rendered classes
+		retainedHits.set(0);
+		retainedMisses.set(0);
+		if (options.getCacheDir() != null) {
+			cache = new ApiReviewCache(options.getCacheDir(), options.getRawOptions());
+		}
 
-		// Initialize step count results
-		counts = new HashMap<File, CountInfo>();
+		try {
+			// Create a cover
+			long[] start = metrics.begin();
+			makeCoverPage();
+			metrics.end("cover", start);
+
+			// Initialize output package list
+			packages = new HashSet<String>();
+
+			// Initialize step count results
+			counts = new CountCache();
+
+			// Output all classes
+			makeClassPages();
+			reader.printNotice(String.format("Line counts: %,d files counted, %,d reused",
+					counts.getMisses(), counts.getHits()));
+			if (retained != null) {
+				reader.printNotice(String.format("Memory: %,d classes reused, %,d rendered",
+						retainedHits.get(), retainedMisses.get()));
+			}
+			// Output the differences to the previous version
+			if (diff != null) {
+				start = metrics.begin();
+				makeDiffPages();
+				metrics.end("diff", start);
+				reader.printNotice(String.format("Diff: %,d classes added, %,d removed, %,d changed",
+						countClasses(ApiDiff.ADDED), countClasses(ApiDiff.REMOVED), countClasses(ApiDiff.CHANGED)));
+			}
 
-		// Output all classes
-		makeClassPages();
+			// Output step count results
+			start = metrics.begin();
+			makeCountPage();
+			metrics.end("statistics", start);
+
+			// Write the snapshot of the API model
+			if (snapshot != null) {
+				start = metrics.begin();
+				snapshot.write(options.getSnapshot());
+				metrics.end("snapshot", start);
+				reader.printNotice("Snapshot written to " + options.getSnapshot().getPath());
+			}
 
-		// Output step count results
-		makeCountPage();
+			// Remove files of classes that no longer exist
+			start = metrics.begin();
+			md.deleteStale();
+			if (cache != null) {
+				cache.deleteStale();
+			}
+			metrics.end("close", start);
+			if (cache != null) {
+				reader.printNotice(String.format("Cache: %,d classes reused, %,d rendered, %,d stale entries deleted",
+						cache.getHits(), cache.getMisses(), cache.getDeleted()));
+			}
+			if (options.getOutputArchive() != null) {
+				reader.printNotice(String.format("Output: %,d files written to %s",
+						md.getWritten(), options.getOutputArchive().getPath()));
+			} else if (options.isWriteIfChanged()) {
+				reader.printNotice(String.format("Output: %,d files written, %,d unchanged, %,d deleted",
+						md.getWritten(), md.getUnchanged(), md.getDeleted()));
+			}
+			FileWriterPool pool = md.getPool();
+			if (pool != null) {
+				reader.printNotice(String.format("Parallel writes: %,d files on %s threads, %.1f at once on average and %,d at most of %,d",
+						pool.getFiles(), pool.isVirtual() ? "virtual" : "platform", pool.getAverageConcurrency(),
+						pool.getMaxConcurrency(), pool.getLimit()));
+				metrics.add("parallelWriteFiles", pool.getFiles());
+				metrics.add("parallelWriteMaxConcurrency", pool.getMaxConcurrency());
+				metrics.add("parallelWriteBusyNanos", pool.getBusyNanos());
+				metrics.add("parallelWriteActiveNanos", pool.getActiveNanos());
+			}
+		} finally {
+			// finish the last file and the archive
+			md.finish();
+		}
 
-		// save to file
-		md.save(Options.getOption("output-dir", ""),
-				Options.getOption("version", ""));
+		// Report the cost of the run
+		if (metrics.isEnabled()) {
+			long lines = counts.getReleased().getLines();
+			for (File file : counts.getFiles()) {
+				CountInfo ci = counts.get(file);
+				if (ci != null) {
+					lines += ci.getLines();
+				}
+			}
+			metrics.add("sourceFiles", counts.getFiles().size() + counts.getReleasedFiles());
+			metrics.add("sourceLines", lines);
+			metrics.add("filesWritten", md.getWritten());
+			metrics.add("bytesWritten", md.getBytesWritten());
+			metrics.add("shortNameHits", reader.getShortNames().getHits());
+			metrics.add("shortNameMisses", reader.getShortNames().getMisses());
+			File report = new File(options.getOutputDir(), "api-review-metrics.json");
+			report.getParentFile().mkdirs();
+			metrics.write(report);
+			reader.printNotice("Metrics written to " + report.getPath());
+		}
 	}
 
 	/**
 	 * Create a cover.
+	 *
+	 * @throws IOException exception
 	 */
-	private void makeCoverPage() {
+	private void makeCoverPage() throws IOException {
 
 		// Title information
-		String title = Options.getOption("title");
-		if (!Options.getOption("subtitle").isEmpty()) {
+		String title = options.getTitle();
+		if (!options.getSubtitle().isEmpty()) {
 			if (!title.isEmpty()) {
 				title += " ";
 			}
-			title += Options.getOption("subtitle");
+			title += options.getSubtitle();
 		}
-		if (!Options.getOption("version").isEmpty()) {
+		if (!options.getVersion().isEmpty()) {
 			if (!title.isEmpty()) {
 				title += " ";
 			}
-			title += Options.getOption("version");
+			title += options.getVersion();
 		}
 
 		// Author information
-		String company = Options.getOption("company");
+		String company = options.getCompany();
 
 		// get date
 		Locale locale = new Locale("en", "US", "US");
@@ -130,384 +322,554 @@ public class ApiReviewBuilder {
 	}
 
 	/**
-	 * Gets the format of the execution method argument as a string.
+	 * Outputs information for all classes.
+	 * <p>
+	 * With a write queue, the rendered classes are handed to a writer thread,
+	 * so that writing the files overlaps with reading and rendering the next
+	 * classes. The queue is bounded, and a full queue holds up reading.
 	 *
-	 * @param parameters Argument information
-	 * @param type When displaying the class name
-	 * @return A string indicating the format of the argument
-	 */
-	private String getParamSignature(Parameter[] parameters, boolean type) {
-		StringBuilder sb = new StringBuilder();
-		for (Parameter parameter : parameters) {
-			if (0 < sb.length()) {
-				sb.append(", ");
+	 * @throws IOException exception
+	 */
+	private void makeClassPages() throws IOException {
+		if (options.getWriteQueue() <= 0) {
+			renderClassPages();
+			return;
+		}
+		queue = new WriteQueue<RenderedClass>("api-review-writer", options.getWriteQueue(),
+				new WriteQueue.Sink<RenderedClass>() {
+					@Override
+					public void write(RenderedClass rendered) throws IOException {
+						writeClass(rendered);
+					}
+				});
+		long bytes = md.getBytesWritten();
+		try {
+			renderClassPages();
+			queue.close();
+
+			// Report the pipeline
+			long written = md.getBytesWritten() - bytes;
+			long busy = queue.getBusyNanos();
+			reader.printNotice(String.format(
+					"Write queue: %,d classes, depth %.1f average and %,d most of %,d, reading held up %,d times for %,d ms, writer busy %,d ms and idle %,d ms, %.1f MB/s",
+					queue.getItems(), queue.getAverageDepth(), queue.getMaxDepth(), queue.getCapacity(), queue.getStalls(),
+					queue.getStallNanos() / 1000000, busy / 1000000, queue.getIdleNanos() / 1000000,
+					busy == 0 ? 0.0 : written * 1000.0 / busy));
+			metrics.add("writeQueueClasses", queue.getItems());
+			metrics.add("writeQueueMaxDepth", queue.getMaxDepth());
+			metrics.add("writeQueueStalls", queue.getStalls());
+			metrics.add("writeQueueStallNanos", queue.getStallNanos());
+			metrics.add("writeQueueBusyNanos", busy);
+			metrics.add("writeQueueIdleNanos", queue.getIdleNanos());
+		} finally {
+			queue.shutdownNow();
+			queue = null;
+		}
+	}
+
+	/**
+	 * Reads and renders all classes and writes them or hands them to the writer thread.
+	 * <p>
+	 * The API model is read from the Javadoc documents on the calling thread.
+	 * With more than one rendering thread, the classes are rendered in
+	 * parallel and written in document order.
+	 * <p>
+	 * In package-at-a-time mode each package is written completely before
+	 * the next one is read, and the state kept for it is released.
+	 *
+	 * @throws IOException exception
+	 */
+	private void renderClassPages() throws IOException {
+
+		// number of rendering threads
+		int threads = options.getThreads();
+		if (threads <= 1) {
+			while (true) {
+				long[] start = metrics.begin();
+				ClassInfo classInfo = readClass();
+				if (classInfo == null) {
+					break;
+				}
+				PackageInfo packageInfo = readPackage(classInfo);
+				metrics.end("read", start);
+				if (packageInfo != null) {
+					releasePreviousPackages();
+				}
+				int packageDiff = comparePackage(packageInfo);
+				ClassDiff classDiff = compareClass(classInfo);
+				queueClass(render(packageInfo, packageDiff, classInfo, classDiff));
+			}
+			return;
+		}
+
+		// render in parallel, keeping a bounded window of pending classes
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			Deque<Future<RenderedClass>> pending = new ArrayDeque<Future<RenderedClass>>();
+			while (true) {
+				long[] start = metrics.begin();
+				final ClassInfo classInfo = readClass();
+				if (classInfo == null) {
+					break;
+				}
+				final PackageInfo packageInfo = readPackage(classInfo);
+				metrics.end("read", start);
+				if (packageInfo != null && options.isPackageAtATime()) {
+					while (!pending.isEmpty()) {
+						queueClass(await(pending.poll()));
+					}
+					releasePreviousPackages();
+				}
+				final int packageDiff = comparePackage(packageInfo);
+				final ClassDiff classDiff = compareClass(classInfo);
+				pending.add(pool.submit(new Callable<RenderedClass>() {
+					@Override
+					public RenderedClass call() throws IOException {
+						return render(packageInfo, packageDiff, classInfo, classDiff);
+					}
+				}));
+				if (threads * 4 <= pending.size()) {
+					queueClass(await(pending.poll()));
+				}
 			}
-			if (type) {
-				sb.append(getShortName(parameter.type()));
-				sb.append(" ");
+			while (!pending.isEmpty()) {
+				queueClass(await(pending.poll()));
 			}
-			sb.append(parameter.name());
+		} finally {
+			pool.shutdownNow();
 		}
-		return sb.toString();
 	}
 
 	/**
-	 * Gets the comment set in the parameter.
+	 * Releases the state kept for the packages written so far in package-at-a-time mode.
+	 * <p>
+	 * Only the totals of the line counts are kept. All classes of these
+	 * packages must have been written, so the write queue is drained first.
 	 *
-	 * @param tags Tag information
-	 * @param name Parameter name
-	 * @return Comment information
-	 */
-	private String getParamComment(ParamTag[] tags, String name) {
-		for (ParamTag tag : tags) {
-			if (tag.parameterName().equals(name)) {
-				return tag.parameterComment();
-			}
+	 * @throws IOException exception
+	 */
+	private void releasePreviousPackages() throws IOException {
+		if (!options.isPackageAtATime()) {
+			return;
+		}
+		if (queue != null) {
+			queue.drain();
 		}
-		return "";
+		long[] start = metrics.begin();
+		counts.release();
+		reader.releasePreviousPackages();
+		metrics.end("release", start);
 	}
 
 	/**
-	 * Gets the comment set in the exception.
+	 * Reads the package of a class if it has not been output yet.
 	 *
-	 * @param tags Tag information
-	 * @param name exception class name
-	 * @return Comment information
-	 */
-	private String getThrowsComment(ThrowsTag[] tags, String name) {
-		for (ThrowsTag tag : tags) {
-			if (tag.exceptionName().equals(name)) {
-				return tag.exceptionComment();
+	 * @param classInfo class information
+	 * @return package information, or null if the package was already output
+	 */
+	private PackageInfo readPackage(ClassInfo classInfo) {
+
+		// For new packages
+		if (packages.add(classInfo.getPackageName())) {
+			metrics.add("packages", 1);
+			PackageInfo packageInfo = reader.readPackage();
+			if (snapshot != null) {
+				snapshot.addPackage(packageInfo);
 			}
+			return packageInfo;
 		}
-		return "";
+		return null;
 	}
 
 	/**
-	 * Outputs information for all classes.
+	 * Reads the next class with all its members.
+	 *
+	 * @return class information, or null if all classes were read
 	 */
-	private void makeClassPages() {
-
-		// all classes
-		for (ClassDoc classDoc : root.classes()) {
-
-			// package
-			PackageDoc packageDoc = classDoc.containingPackage();
-
-			// For new packages
-			if (!packages.contains(packageDoc)) {
-
-				// Package name
-				md.lines.add("#package=" +  packageDoc.name());
+	private ClassInfo readClass() {
+		ClassInfo classInfo = reader.readClass();
+		if (classInfo == null) {
+			return null;
+		}
+		metrics.add("classes", 1);
+		metrics.add("members", classInfo.getEnumConstants().size() + classInfo.getFields().size()
+				+ classInfo.getConstructors().size() + classInfo.getMethods().size());
+		if (snapshot != null) {
+			snapshot.addClass(classInfo);
+		}
+		return classInfo;
+	}
 
-				// Package description
-				md.lines.add("/*");
-				print(getText(packageDoc.commentText(), NO_COMMENT), false);
-				md.lines.add("*/");
+	/**
+	 * Compares a package with the previous version.
+	 *
+	 * @param packageInfo package information, or null if the package was already output
+	 * @return kind of the difference, or 0 if unchanged or not compared
+	 */
+	private int comparePackage(PackageInfo packageInfo) {
+		if (diff == null || packageInfo == null) {
+			return 0;
+		}
+		long[] start = metrics.begin();
+		int kind = diff.comparePackage(packageInfo);
+		if (kind != 0) {
+			packageDiffs.put(packageInfo.getName(), kind);
+		}
+		metrics.end("diff", start);
+		return kind;
+	}
 
-				md.lines.add("package " + packageDoc.name() + ";");
+	/**
+	 * Compares a class with the previous version.
+	 *
+	 * @param classInfo class information
+	 * @return difference, or null if unchanged or not compared
+	 */
+	private ClassDiff compareClass(ClassInfo classInfo) {
+		if (diff == null) {
+			return null;
+		}
+		long[] start = metrics.begin();
+		ClassDiff classDiff = diff.compareClass(classInfo);
+		if (classDiff != null) {
+			classDiffs.add(classDiff);
+		}
+		metrics.end("diff", start);
+		return classDiff;
+	}
 
-				// Add to output package
-				packages.add(packageDoc);
+	/**
+	 * Renders the files of a class.
+	 * <p>
+	 * Only the API model is used, so this can run on any thread.
+	 *
+	 * @param packageInfo package information, or null if the package was already output
+	 * @param packageDiff kind of the difference of the package, or 0
+	 * @param classInfo class information
+	 * @param classDiff difference of the class, or null
+	 * @return rendered files
+	 * @throws IOException exception
+	 */
+	private RenderedClass render(PackageInfo packageInfo, int packageDiff, ClassInfo classInfo, ClassDiff classDiff)
+			throws IOException {
+		RenderedClass rendered = new RenderedClass();
+		rendered.packageName = classInfo.getPackageName();
+		rendered.className = classInfo.getName();
+		rendered.source = classInfo.getSource();
+
+		// differences to the previous version
+		if (packageDiff != 0 || classDiff != null) {
+			long[] start = metrics.begin();
+			if (packageDiff != 0) {
+				StringWriter buffer = new StringWriter();
+				new StubRenderer(new ApiReviewWriter(buffer)).renderPackageDiff(packageInfo.getName(), packageInfo, packageDiff);
+				rendered.packageDiffText = buffer.toString();
 			}
-
-			// Type name
-			String classType;
-			if (classDoc.isInterface()) {
-				classType = "interface";
-			} else {
-				classType = "class";
+			if (classDiff != null) {
+				StringWriter buffer = new StringWriter();
+				new StubRenderer(new ApiReviewWriter(buffer), options.isTypeHierarchy()).renderClassDiff(classInfo, classDiff);
+				rendered.classDiffText = buffer.toString();
 			}
+			metrics.end("diff", start);
+		}
 
-			// class
-			md.lines.add("#class=" +  classDoc.name());
-
-			// package name
-			md.lines.add("package " + classDoc.containingPackage().name() + ";");
-			md.lines.add("");
-			// md.heading3("Package");
-			// md.unorderedList(classDoc.containingPackage().name());
-			// md.breakElement();
-
-			// class description
-			md.lines.add("/*");
-			print(getText(classDoc.commentText(), NO_COMMENT).trim(), false);
-
-			// Source code file information
-			File source = classDoc.position().file();
-			CountInfo ci = Counter.count(source);
-			if (ci != null) {
-				md.breakElement();
-				md.lines.add("File");
-				String qtRepoPattern = "\\/(qt\\w+\\/src\\/.+)";
-				String classPath = "";
-        		Matcher matcher = Pattern.compile(qtRepoPattern).matcher(source.getPath());
-				if (matcher.find())
-					classPath = matcher.group(1);
-				else
-					classPath = source.getName();
-
-				// md.unorderedList(String.format("%s - %,d source code lines and %,d lines in total", classPath, ci.getSteps(), ci.getLines()));
-				md.unorderedList(classPath);
-				// md.lines.add("Class File: " + classPath);
-			}
-			counts.put(source, ci);
-
-			// inheritance hierarchy
-			List<ClassDoc> classDocs = new ArrayList<ClassDoc>();
-			classDocs.add(classDoc);
-			ClassDoc d = classDoc.superclass();
-			while (d != null && !d.qualifiedName().equals("java.lang.Object")) {
-				classDocs.add(d);
-				d = d.superclass();
-			}
-			if (2 <= classDocs.size()) {
-				md.breakElement();
-				md.lines.add("Inheritance Hierarchy");
-				Collections.reverse(classDocs);
-				for (int i = 0; i < classDocs.size(); i++) {
-					md.orderedList(classDocs.get(i).qualifiedName());
-				}
-			}
+		// Package description
+		if (packageInfo != null) {
+			long[] start = metrics.begin();
+			StringWriter buffer = new StringWriter();
+			new StubRenderer(new ApiReviewWriter(buffer)).renderPackage(packageInfo);
+			rendered.packageText = buffer.toString();
+			metrics.end("render", start);
+		}
 
-			// interface
-			if (0 < classDoc.interfaces().length) {
-				md.breakElement();
-				md.lines.add("Implemented Interfaces");
-				for (int i = 0; i < classDoc.interfaces().length; i++) {
-					md.unorderedList(classDoc.interfaces()[i].qualifiedName());
+		// class, kept from a previous run or from the cache if the source is unchanged
+		ConcurrentMap<String, ApiReviewCache.Entry> kept = getRetained(classInfo.getSource());
+		String keptKey = null;
+		ApiReviewCache.Entry entry = null;
+		if (kept != null) {
+			keptKey = retainedKey(classInfo);
+			entry = kept.get(keptKey);
+			if (entry != null) {
+				if (cache != null && entry.getKey() != null) {
+					cache.keep(entry.getKey());
 				}
+				retainedHits.incrementAndGet();
+				rendered.classText = entry.getText();
+				rendered.count = entry.getCount();
+				return rendered;
 			}
-
-			// version
-			Tag[] versionTags = classDoc.tags("version");
-			if (0 < versionTags.length) {
-				md.lines.add("Version");
-				for (int i = 0; i < versionTags.length; i++) {
-					md.unorderedList(versionTags[i].text());
-				}
-				// md.breakElement();
+			retainedMisses.incrementAndGet();
+		}
+		String key = null;
+		if (cache != null) {
+			long[] start = metrics.begin();
+			key = cache.key(classInfo);
+			entry = cache.get(key);
+			metrics.end("cache", start);
+		}
+		if (entry == null) {
+			long[] start = metrics.begin();
+			CountInfo count = counts.count(rendered.source);
+			metrics.end("count", start);
+
+			start = metrics.begin();
+			StringWriter buffer = new StringWriter();
+			new StubRenderer(new ApiReviewWriter(buffer), options.isTypeHierarchy()).renderClass(classInfo, count);
+			entry = new ApiReviewCache.Entry(buffer.toString(), count, key);
+			metrics.end("render", start);
+
+			if (cache != null) {
+				start = metrics.begin();
+				cache.put(key, entry);
+				metrics.end("cache", start);
 			}
+		}
+		if (kept != null) {
+			kept.put(keptKey, entry);
+		}
+		rendered.classText = entry.getText();
+		rendered.count = entry.getCount();
+		return rendered;
+	}
 
-			// Author
-			Tag[] authorTags = classDoc.tags("author");
-			if (0 < authorTags.length) {
-				md.lines.add("Author");
-				for (int i = 0; i < authorTags.length; i++) {
-					md.unorderedList(authorTags[i].text());
-				}
-				// md.breakElement();
+	/**
+	 * Gets the kept classes of a source file.
+	 *
+	 * @param source source file, or null
+	 * @return kept classes by key, or null if classes are not kept
+	 */
+	private ConcurrentMap<String, ApiReviewCache.Entry> getRetained(File source) {
+		if (retained == null || source == null) {
+			return null;
+		}
+		ConcurrentMap<String, ApiReviewCache.Entry> kept = retained.get(source);
+		if (kept == null) {
+			ConcurrentMap<String, ApiReviewCache.Entry> created = new ConcurrentHashMap<String, ApiReviewCache.Entry>();
+			kept = retained.putIfAbsent(source, created);
+			if (kept == null) {
+				kept = created;
 			}
+		}
+		return kept;
+	}
 
-			md.lines.add("*/");
-
-			md.lines.add(classDoc.modifiers() + " " + classType + " " + classDoc.name() + " {");
+	/**
+	 * Computes the key of a kept class.
+	 * <p>
+	 * Everything besides the source file that goes into the rendered class is part of the key.
+	 *
+	 * @param classInfo class information
+	 * @return key
+	 */
+	private static String retainedKey(ClassInfo classInfo) {
+		StringBuilder sb = new StringBuilder(classInfo.getQualifiedName());
+		for (String name : classInfo.getHierarchy()) {
+			sb.append('\0').append(name);
+		}
+		sb.append('\0');
+		for (String name : classInfo.getInterfaces()) {
+			sb.append('\0').append(name);
+		}
+		sb.append('\0');
+		for (String name : classInfo.getAllInterfaces()) {
+			sb.append('\0').append(name);
+		}
+		sb.append('\0');
+		for (String name : classInfo.getSubclasses()) {
+			sb.append('\0').append(name);
+		}
+		return sb.toString();
+	}
 
-			// all constants
-			if (0 < classDoc.enumConstants().length) {
-				// md.heading4("Constant details");
-				for (int i = 0; i < classDoc.enumConstants().length; i++) {
-					writeFieldDoc(classDoc.enumConstants()[i]);
-				}
+	/**
+	 * Waits for a class to be rendered.
+	 *
+	 * @param future pending rendering
+	 * @return rendered files
+	 * @throws IOException exception
+	 */
+	private RenderedClass await(Future<RenderedClass> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while rendering classes");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
 			}
-
-			// all fields
-			if (0 < classDoc.fields().length) {
-				// md.heading4("Field details");
-				for (int i = 0; i < classDoc.fields().length; i++) {
-					writeFieldDoc(classDoc.fields()[i]);
-				}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
 			}
-
-			// all constructors
-			for (int i = 0; i < classDoc.constructors().length; i++) {
-				writeMemberDoc(classDoc.constructors()[i]);
+			if (cause instanceof Error) {
+				throw (Error) cause;
 			}
-
-			// all methods
-			for (int i = 0; i < classDoc.methods().length; i++) {
-				writeMemberDoc(classDoc.methods()[i]);
-			}
-
-			md.lines.add("}");
+			throw new IOException(cause);
 		}
 	}
 
 	/**
-	 * Outputs information for all fields.
+	 * Writes the files of a rendered class or hands them to the writer thread.
 	 *
-	 * @param doc member information
+	 * @param rendered rendered files
+	 * @throws IOException exception
 	 */
-	private void writeFieldDoc(MemberDoc doc) {
-
-		// Type name
-		String fieldType;
-		if (doc.isEnumConstant()) {
-			fieldType = "enum constant";
-		} else if (doc.isEnum()) {
-			fieldType = "enumeration type";
+	private void queueClass(RenderedClass rendered) throws IOException {
+		if (queue != null) {
+			queue.put(rendered);
 		} else {
-			fieldType = "field";
+			writeClass(rendered);
 		}
-
-		// field information
-		md.lines.add("");
-		md.lines.add("    /*");
-		String comment = getText(doc.commentText(), NO_COMMENT).replaceAll("(?m)^", "    ");
-		print(comment);
-		md.lines.add("    */");
-		md.lines.add("    " + doc.modifiers() + " " + getShortName(((FieldDoc) doc).type()) + " " + doc.name() + ";");
 	}
 
 	/**
-	 * Outputs information about all executable members.
+	 * Writes the files of a rendered class.
 	 *
-	 * @param doc Executable member information
-	 */
-	private void writeMemberDoc(ExecutableMemberDoc doc) {
-		md.lines.add("");
-		md.lines.add("    /*");
-		String comment = getText(doc.commentText(), NO_COMMENT).replaceAll("(?m)^", "    ");
-		print(comment);
-
-		boolean paramBreakAdded = false;
-		// parameters
-		Parameter[] parameters = doc.parameters();
-		if (0 < parameters.length) {
-			for (int i = 0; i < parameters.length; i++) {
-				String paramText = getText(getParamComment(doc.paramTags(), parameters[i].name()), "");
-				if (!paramText.isEmpty()) {
-					if (!paramBreakAdded)
-						md.breakElement();
-					paramBreakAdded = true;
-					print("    `" + getShortName(parameters[i].type()) + " " + parameters[i].name() + "`: "
-								+ paramText, true, false);
-				}
-			}
-		}
+	 * @param rendered rendered files
+	 * @throws IOException exception
+	 */
+	private void writeClass(RenderedClass rendered) throws IOException {
+		long[] start = metrics.begin();
 
-		// Return value
-		if (doc instanceof MethodDoc) {
-			MethodDoc method = (MethodDoc) doc;
-			if (0 < method.tags("return").length) {
-				md.breakElement();
-				print("    Returns " + method.tags("return")[0].text(), true, false);
-			}
+		// Package file
+		if (rendered.packageText != null) {
+			md.openPackage(rendered.packageName);
+			md.rawText(rendered.packageText);
 		}
 
-		// exception
-		Type[] exceptions = doc.thrownExceptionTypes();
-		if (0 < exceptions.length) {
-			for (int i = 0; i < exceptions.length; i++) {
-				md.breakElement();
-				print("    Exception `" + getShortName(exceptions[i]) + "`: " +
-						getText(getThrowsComment(doc.throwsTags(), exceptions[i].typeName()), NO_COMMENT), true, false);
-			}
-		}
-		md.lines.add("    */");
+		// class
+		md.openClass(rendered.packageName, rendered.className);
+		md.rawText(rendered.classText);
+		counts.put(rendered.source, rendered.count);
 
-		// Method information
-		String str = doc.modifiers();
-		if (doc instanceof MethodDoc) {
-			str += " " + getShortName(((MethodDoc) doc).returnType());
+		// differences to the previous version
+		if (rendered.packageDiffText != null) {
+			md.openDiffPackage(rendered.packageName);
+			md.rawText(rendered.packageDiffText);
 		}
-		str += " " + doc.name() + "(" + getParamSignature(doc.parameters(), true) + ");";
-		md.lines.add("    " + str);
+		if (rendered.classDiffText != null) {
+			md.openDiffClass(rendered.packageName, rendered.className);
+			md.rawText(rendered.classDiffText);
+		}
+		metrics.end("write", start);
 	}
 
 	/**
-	 * Outputs Javadoc content in Markdown format.
+	 * Outputs the removed packages and classes and the summary of the differences.
 	 *
-	 * @param str Javadoc content
+	 * @throws IOException exception
 	 */
-	private void print(String str, boolean indent, boolean isMainComment) {
-
-		// Process each paragraph
-		String[] paragraphs = str.split("\\s*<(p|P)>\\s*");
-		for (int i = 0; i < paragraphs.length; i++) {
-
-			// Combining line breaks
-			paragraphs[i] = paragraphs[i].replaceAll("\\s*[\\r\\n]+\\s*", " ");
-
-			paragraphs[i] = md.markdown(paragraphs[i]);
+	private void makeDiffPages() throws IOException {
+		StubRenderer renderer = new StubRenderer(md);
+
+		// what is left of the previous version
+		for (String name : diff.getRemovedPackages()) {
+			packageDiffs.put(name, ApiDiff.REMOVED);
+			md.openDiffPackage(name);
+			renderer.renderPackageDiff(name, null, ApiDiff.REMOVED);
+		}
+		for (ClassDiff classDiff : diff.getRemovedClasses()) {
+			classDiffs.add(classDiff);
+			md.openDiffClass(classDiff.getPrevious().getPackageName(), classDiff.getPrevious().getName());
+			renderer.renderClassDiff(null, classDiff);
+		}
 
-			paragraphs[i] = paragraphs[i].replaceAll(" 1. ", "\n1. ");
-			paragraphs[i] = paragraphs[i].replaceAll("Note: ", "\nNote: ");
+		// summary file
+		md.openDiffSummary();
+		md.heading1("API Changes");
 
-			// Insert line break after each line
-			if (indent) {
-				if (isMainComment)
-					paragraphs[i] = paragraphs[i].replaceAll("(.{75,86}(?=\\s) )", "$1\n    ");
-				else
-					paragraphs[i] = paragraphs[i].replaceAll("(.{75,86}(?=\\s) )", "$1\n        ");
-			} else {
-				paragraphs[i] = paragraphs[i].replaceAll("(.{75,86}(?=\\s) )", "$1\n");
+		// table of counts
+		int[] packageCounts = new int[4];
+		for (int kind : packageDiffs.values()) {
+			packageCounts[kind]++;
+		}
+		int[] memberCounts = new int[4];
+		for (ClassDiff classDiff : classDiffs) {
+			for (int kind = ApiDiff.ADDED; kind <= ApiDiff.CHANGED; kind++) {
+				memberCounts[kind] += classDiff.count(kind);
 			}
+		}
+		md.columns("Declarations", "Added", "Removed", "Changed");
+		md.columns(":-----", "-----:", "-----:", "-----:");
+		md.columns("Packages", String.format("%,d", packageCounts[ApiDiff.ADDED]),
+				String.format("%,d", packageCounts[ApiDiff.REMOVED]), String.format("%,d", packageCounts[ApiDiff.CHANGED]));
+		md.columns("Classes", String.format("%,d", countClasses(ApiDiff.ADDED)),
+				String.format("%,d", countClasses(ApiDiff.REMOVED)), String.format("%,d", countClasses(ApiDiff.CHANGED)));
+		md.columns("Members", String.format("%,d", memberCounts[ApiDiff.ADDED]),
+				String.format("%,d", memberCounts[ApiDiff.REMOVED]), String.format("%,d", memberCounts[ApiDiff.CHANGED]));
+		md.breakElement();
 
-			paragraphs[i] = paragraphs[i].replaceAll(" \n", "\n");
-
-			// Process every line break
-			String[] lines = paragraphs[i].split("\n");
-			Pattern regex = Pattern.compile("</ul>\\s*$");
-			for (int j = 0; j < lines.length; j++) {
-				if (!regex.matcher(lines[j]).find())
-					md.line(lines[j]);
+		// lists of packages and classes
+		String[] headings = { null, "Added", "Removed", "Changed" };
+		for (int kind = ApiDiff.ADDED; kind <= ApiDiff.CHANGED; kind++) {
+			if (packageCounts[kind] == 0) {
+				continue;
 			}
-
-			// Ending a Markdown element
-			if (i < paragraphs.length - 1)
-				md.breakElement();
+			md.heading2(headings[kind] + " Packages");
+			for (Map.Entry<String, Integer> entry : packageDiffs.entrySet()) {
+				if (entry.getValue() == kind) {
+					md.unorderedList(entry.getKey());
+				}
+			}
+			md.breakElement();
 		}
-	}
-
-	private void print(String str, boolean indent) {
-		print(str, indent, true);
-	}
-
-	private void print(String str) {
-		print(str, true, true);
-	}
-
-	/**
-	 * Returns the default string if the specified string is empty.
-	 *
-	 * @param str string
-	 * @param def default string
-	 * @return selected string
-	 */
-	private String getText(String str, String def) {
-		if (str == null || str.isEmpty()) {
-			return def;
+		for (int kind = ApiDiff.ADDED; kind <= ApiDiff.CHANGED; kind++) {
+			if (countClasses(kind) == 0) {
+				continue;
+			}
+			md.heading2(headings[kind] + " Classes");
+			for (ClassDiff classDiff : classDiffs) {
+				if (classDiff.getKind() != kind) {
+					continue;
+				}
+				String item = classDiff.getLatest().getQualifiedName();
+				if (kind == ApiDiff.CHANGED) {
+					StringBuilder sb = new StringBuilder();
+					for (String change : classDiff.getChanges()) {
+						sb.append(change).append(", ");
+					}
+					item += String.format(" (%s%,d added, %,d removed, %,d changed members)", sb,
+							classDiff.count(ApiDiff.ADDED), classDiff.count(ApiDiff.REMOVED), classDiff.count(ApiDiff.CHANGED));
+				}
+				md.unorderedList(item);
+			}
+			md.breakElement();
 		}
-		return str.trim().replace("\n ", "\n").replaceAll("(\\n)+$", "");
 	}
 
 	/**
-	 * Removes the package name from the class name.
+	 * Counts the differing classes of a kind.
 	 *
-	 * @param type class
-	 * @return abbreviated class name
+	 * @param kind kind of the difference
+	 * @return number of classes
 	 */
-	private String getShortName(Type type) {
-		String name = type.toString();
-		name = name.replaceAll("[a-zA-Z0-9\\-\\_]+\\.", "");
-		return name;
+	private int countClasses(int kind) {
+		int count = 0;
+		for (ClassDiff classDiff : classDiffs) {
+			if (classDiff.getKind() == kind) {
+				count++;
+			}
+		}
+		return count;
 	}
 
 	/**
 	 * Outputs the step count result page.
+	 *
+	 * @throws IOException exception
 	 */
-	private void makeCountPage() {
+	private void makeCountPage() throws IOException {
 
-		// Initialize total value
-		int count = 0;
-		long sumSize = 0;
-		int sumSteps = 0;
-		int sumBranks = 0;
-		int sumLines = 0;
+		// Initialize total value with the released files
+		int count = counts.getReleasedFiles();
+		long sumSize = counts.getReleasedBytes();
+		int sumSteps = counts.getReleased().getSteps();
+		int sumBranks = counts.getReleased().getBranks();
+		int sumLines = counts.getReleased().getLines();
 
-		// package name
-		md.lines.add("#statistics-section");
+		// statistics file
+		md.openStatistics();
 		md.heading1("Source Code Statistics");
 
 		// table header
@@ -515,10 +877,10 @@ public class ApiReviewBuilder {
 		md.columns(":-----", "-----:", "-----:", "-----:", "-----:");
 
 		// If the target file exists
-		if (0 < counts.size()) {
+		List<File> files = counts.getFiles();
+		if (0 < files.size()) {
 
 			// File list generation (file name order)
-			List<File> files = new ArrayList<File>(counts.keySet());
 			Collections.sort(files, new Comparator<File>() {
 				@Override
 				public int compare(File o1, File o2) {
@@ -561,4 +923,50 @@ public class ApiReviewBuilder {
 		);
 		md.breakElement();
 	}
+
+	/**
+	 * Files of a class rendered ahead of writing.
+	 */
+	private static class RenderedClass {
+
+		/**
+		 * Package name
+		 */
+		private String packageName;
+
+		/**
+		 * Class name
+		 */
+		private String className;
+
+		/**
+		 * Package description, or null if the package was already output
+		 */
+		private String packageText;
+
+		/**
+		 * Class stub
+		 */
+		private String classText;
+
+		/**
+		 * Package difference, or null if the package is unchanged or not compared
+		 */
+		private String packageDiffText;
+
+		/**
+		 * Class difference, or null if the class is unchanged or not compared
+		 */
+		private String classDiffText;
+
+		/**
+		 * Source file
+		 */
+		private File source;
+
+		/**
+		 * Step count of the source file, or null
+		 */
+		private CountInfo count;
+	}
 }
@@ -0,0 +1,510 @@
+package org.qtproject.qt.api_review;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.qtproject.qt.api_review.counter.CountInfo;
+import org.qtproject.qt.api_review.model.ClassInfo;
+
+/**
+ * Persistent cache of rendered class stubs.
+ * <p>
+ * Entries are keyed by the digest of the source file together with the class
+ * name, its inheritance hierarchy and interfaces, the cache format, the
+ * version and code of the doclet and the doclet options, so a class is only
+ * rendered again when one of them changes.
+ * Each entry is a file in the cache directory holding the class stub and the
+ * step count of the source file. Entries not used by a run are deleted at
+ * its end. The cache can be used from several threads.
+ */
+public class ApiReviewCache {
+
+	/**
+	 * Format of the cache entries. Change it whenever the rendered output changes.
+	 */
+	private static final String FORMAT = "api-review-cache-2";
+
+	/**
+	 * Options that do not change the rendered stubs
+	 */
+	private static final String[] IGNORED_OPTIONS = { "-output-dir", "-cache-dir", "-threads", "-write-queue",
+			"-parallel-writes", "-write-if-changed", "-package-at-a-time", "-metrics", "-output-archive",
+			"-compression-level", "-snapshot", "-diff-snapshot" };
+
+	/**
+	 * Character set of the keys and stubs
+	 */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Package directory of the doclet classes when they are not in a jar
+	 */
+	private static final String CLASS_DIR = "org/qtproject/qt/api_review";
+
+	/**
+	 * Digest of the doclet version and code, or null until computed
+	 */
+	private static byte[] docletDigest;
+
+	/**
+	 * Cache directory
+	 */
+	private final File cacheDir;
+
+	/**
+	 * Digest of everything besides the class that goes into a key
+	 */
+	private final byte[] salt;
+
+	/**
+	 * Number of classes found in the cache
+	 */
+	private final AtomicInteger hits = new AtomicInteger();
+
+	/**
+	 * Number of classes not found in the cache
+	 */
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Keys of the entries read or written by this run
+	 */
+	private final Set<String> used = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * Number of entries deleted because this run did not use them
+	 */
+	private int deleted;
+
+	/**
+	 * A constructor.
+	 * <p>
+	 * Creates the cache directory if it does not exist.
+	 *
+	 * @param cacheDir cache directory
+	 * @param options doclet options
+	 * @throws IOException exception
+	 */
+	public ApiReviewCache(File cacheDir, String[][] options) throws IOException {
+		this.cacheDir = cacheDir;
+		if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+			throw new IOException("Cannot create cache directory " + cacheDir);
+		}
+
+		MessageDigest digest = newDigest();
+		update(digest, FORMAT);
+		digest.update(getDocletDigest());
+		for (String[] option : options) {
+			if (Arrays.asList(IGNORED_OPTIONS).contains(option[0])) {
+				continue;
+			}
+			for (String value : option) {
+				update(digest, value);
+			}
+		}
+		salt = digest.digest();
+	}
+
+	/**
+	 * Computes the key of a class.
+	 *
+	 * @param classInfo class information
+	 * @return key as a hexadecimal string
+	 * @throws IOException exception
+	 */
+	public String key(ClassInfo classInfo) throws IOException {
+		MessageDigest digest = newDigest();
+		digest.update(salt);
+		update(digest, classInfo.getQualifiedName());
+		for (String name : classInfo.getHierarchy()) {
+			update(digest, name);
+		}
+		update(digest, "");
+		for (String name : classInfo.getInterfaces()) {
+			update(digest, name);
+		}
+		update(digest, "");
+		for (String name : classInfo.getAllInterfaces()) {
+			update(digest, name);
+		}
+		update(digest, "");
+		for (String name : classInfo.getSubclasses()) {
+			update(digest, name);
+		}
+		update(digest, "");
+
+		// Source code file contents
+		File source = classInfo.getSource();
+		if (source != null) {
+			update(digest, source.getPath());
+			updateFile(digest, source);
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+			sb.append(Character.forDigit(b & 0xf, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Gets a cached class.
+	 * <p>
+	 * Unreadable entries are treated as missing.
+	 *
+	 * @param key key of the class
+	 * @return cached class, or null if not found
+	 */
+	public Entry get(String key) {
+		File file = new File(cacheDir, key);
+		if (!file.isFile()) {
+			misses.incrementAndGet();
+			return null;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				if (!FORMAT.equals(in.readUTF())) {
+					misses.incrementAndGet();
+					return null;
+				}
+				CountInfo count = null;
+				if (in.readBoolean()) {
+					count = new CountInfo(in.readInt(), in.readInt(), in.readInt());
+				}
+				byte[] text = new byte[in.readInt()];
+				in.readFully(text);
+				hits.incrementAndGet();
+				used.add(key);
+				return new Entry(new String(text, UTF_8), count, key);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a rendered class.
+	 * <p>
+	 * The entry is written to a temporary file first, so concurrent runs never
+	 * see a partial entry.
+	 *
+	 * @param key key of the class
+	 * @param entry rendered class
+	 * @throws IOException exception
+	 */
+	public void put(String key, Entry entry) throws IOException {
+		File file = new File(cacheDir, key);
+		File temp = File.createTempFile(key, ".tmp", cacheDir);
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+			try {
+				out.writeUTF(FORMAT);
+				CountInfo count = entry.getCount();
+				out.writeBoolean(count != null);
+				if (count != null) {
+					out.writeInt(count.getLines());
+					out.writeInt(count.getSteps());
+					out.writeInt(count.getBranks());
+				}
+				byte[] text = entry.getText().getBytes(UTF_8);
+				out.writeInt(text.length);
+				out.write(text);
+			} finally {
+				out.close();
+			}
+			if (!temp.renameTo(file)) {
+				file.delete();
+				if (!temp.renameTo(file)) {
+					throw new IOException("Cannot write cache entry " + file);
+				}
+			}
+			used.add(key);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Marks an entry as used without reading it, for a class kept in memory.
+	 *
+	 * @param key key of the class
+	 */
+	public void keep(String key) {
+		used.add(key);
+	}
+
+	/**
+	 * Deletes the entries that were not read or written by this run.
+	 * <p>
+	 * Keeps the cache from growing when source files change, since an edited
+	 * file gives its classes new keys. Only files named like keys are
+	 * deleted, so temporary files of concurrent runs are left alone.
+	 *
+	 * @throws IOException exception
+	 */
+	public void deleteStale() throws IOException {
+		File[] files = cacheDir.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			String name = file.getName();
+			if (!isKey(name) || used.contains(name) || !file.isFile()) {
+				continue;
+			}
+			if (!file.delete() && file.exists()) {
+				throw new IOException("Cannot delete " + file);
+			}
+			deleted++;
+		}
+	}
+
+	/**
+	 * Gets the number of classes found in the cache.
+	 *
+	 * @return number of hits
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of classes not found in the cache.
+	 *
+	 * @return number of misses
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the digest of the doclet version and code.
+	 * <p>
+	 * The implementation version from the manifest stays the same when the
+	 * doclet is rebuilt, so the contents of the doclet jar, or of the class
+	 * files when the doclet runs from a directory, are digested as well. The
+	 * digest is computed once.
+	 *
+	 * @return digest
+	 * @throws IOException exception
+	 */
+	private static synchronized byte[] getDocletDigest() throws IOException {
+		if (docletDigest == null) {
+			MessageDigest digest = newDigest();
+			String version = ApiReviewCache.class.getPackage().getImplementationVersion();
+			update(digest, version == null ? "" : version);
+			CodeSource code = ApiReviewCache.class.getProtectionDomain().getCodeSource();
+			if (code != null && code.getLocation() != null) {
+				try {
+					File location = new File(code.getLocation().toURI());
+					updateFiles(digest, location.isDirectory() ? new File(location, CLASS_DIR) : location);
+				} catch (URISyntaxException e) {
+					update(digest, code.getLocation().toString());
+				} catch (IllegalArgumentException e) {
+					update(digest, code.getLocation().toString());
+				}
+			}
+			docletDigest = digest.digest();
+		}
+		return docletDigest;
+	}
+
+	/**
+	 * Adds a file, or the class files below a directory, to a digest.
+	 *
+	 * @param digest message digest
+	 * @param file file or directory
+	 * @throws IOException exception
+	 */
+	private static void updateFiles(MessageDigest digest, File file) throws IOException {
+		if (!file.isDirectory()) {
+			updateFile(digest, file);
+			return;
+		}
+		String[] names = file.list();
+		if (names == null) {
+			return;
+		}
+		Arrays.sort(names);
+		for (String name : names) {
+			File child = new File(file, name);
+			if (child.isDirectory() || name.endsWith(".class")) {
+				update(digest, name);
+				updateFiles(digest, child);
+			}
+		}
+	}
+
+	/**
+	 * Adds the contents of a file to a digest.
+	 * <p>
+	 * A missing file adds nothing.
+	 *
+	 * @param digest message digest
+	 * @param file file
+	 * @throws IOException exception
+	 */
+	private static void updateFile(MessageDigest digest, File file) throws IOException {
+		InputStream in;
+		try {
+			in = new FileInputStream(file);
+		} catch (FileNotFoundException e) {
+			return;
+		}
+		try {
+			byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, n);
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Gets the number of entries deleted because this run did not use them.
+	 *
+	 * @return number of deleted entries
+	 */
+	public int getDeleted() {
+		return deleted;
+	}
+
+	/**
+	 * Determine whether a file name is the key of an entry.
+	 *
+	 * @param name file name
+	 * @return Returns true for a SHA-256 digest in lower-case hexadecimal.
+	 */
+	private static boolean isKey(String name) {
+		if (name.length() != 64) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!('0' <= c && c <= '9') && !('a' <= c && c <= 'f')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the digest used for the keys.
+	 *
+	 * @return message digest
+	 */
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Adds a string to a digest, terminated so that neighbouring strings cannot run together.
+	 *
+	 * @param digest message digest
+	 * @param str string
+	 */
+	private static void update(MessageDigest digest, String str) {
+		digest.update(str.getBytes(UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * A rendered class stored in the cache.
+	 */
+	public static class Entry {
+
+		/**
+		 * Class stub
+		 */
+		private final String text;
+
+		/**
+		 * Step count of the source file, or null
+		 */
+		private final CountInfo count;
+
+		/**
+		 * Key of the entry in the cache, or null
+		 */
+		private final String key;
+
+		/**
+		 * A constructor.
+		 *
+		 * @param text class stub
+		 * @param count step count of the source file, or null
+		 */
+		public Entry(String text, CountInfo count) {
+			this(text, count, null);
+		}
+
+		/**
+		 * A constructor.
+		 *
+		 * @param text class stub
+		 * @param count step count of the source file, or null
+		 * @param key key of the entry in the cache, or null if not cached
+		 */
+		public Entry(String text, CountInfo count, String key) {
+			this.text = text;
+			this.count = count;
+			this.key = key;
+		}
+
+		/**
+		 * Get the class stub.
+		 *
+		 * @return class stub
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Get the step count of the source file.
+		 *
+		 * @return step count, or null
+		 */
+		public CountInfo getCount() {
+			return count;
+		}
+
+		/**
+		 * Get the key of the entry in the cache.
+		 *
+		 * @return key, or null if not cached
+		 */
+		public String getKey() {
+			return key;
+		}
+	}
+}
@@ -1,11 +1,25 @@
 package org.qtproject.qt.api_review;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import com.sun.javadoc.DocErrorReporter;
 import com.sun.javadoc.Doclet;
 import com.sun.javadoc.LanguageVersion;
 import com.sun.javadoc.RootDoc;
 
+import org.qtproject.qt.api_review.source.SourceReader;
+import org.qtproject.qt.api_review.source.SourceWatcher;
+
 /**
  * A doclet that creates Javadoc documents in Markdown format.
+ * <p>
+ * It can also be run on its own, see {@link #main(String[])}.
  */
 public class ApiReviewDoclet extends Doclet {
 
@@ -19,10 +33,9 @@ public class ApiReviewDoclet extends Doclet {
 	 * @return Returns the execution result as a boolean value.
 	 */
 	public static boolean start(RootDoc rootDoc) {
-		ApiReviewBuilder creator = new ApiReviewBuilder();
 		try {
-			Options.options = rootDoc.options();
-			creator.create(rootDoc);
+			ApiReviewBuilder creator = new ApiReviewBuilder(new Options(rootDoc.options()));
+			creator.create(new DocReader(rootDoc));
 		} catch (Exception e) {
 			e.printStackTrace();
 			return false;
@@ -37,12 +50,32 @@ public class ApiReviewDoclet extends Doclet {
 	 * @return Number of parameters including the corresponding argument itself
 	 */
 	public static int optionLength(String option) {
+		if (Options.isFlagOption(option)) {
+			return 1;
+		}
 		if (Options.isSupportedOption(option)) {
 			return 2;
 		}
 		return 0;
 	}
 
+	/**
+	 * Checks the option values before the documents are read.
+	 *
+	 * @param options Javadoc options
+	 * @param reporter error reporter
+	 * @return Returns true if all option values are valid.
+	 */
+	public static boolean validOptions(String[][] options, DocErrorReporter reporter) {
+		try {
+			new Options(options);
+		} catch (IllegalArgumentException e) {
+			reporter.printError(e.getMessage());
+			return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Specify the corresponding Java version.
 	 *
@@ -51,4 +84,119 @@ public class ApiReviewDoclet extends Doclet {
 	public static LanguageVersion languageVersion() {
 		return LanguageVersion.JAVA_1_5;
 	}
+
+	/**
+	 * Creates the documents from Java source files without the javadoc tool.
+	 * <p>
+	 * Only declarations are read, so no classpath is needed. The arguments
+	 * are the doclet options, <code>-sourcepath</code>,
+	 * <code>-encoding</code> and <code>-watch</code>, followed by the
+	 * package names.
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) {
+		String sourcePath = ".";
+		String encoding = "UTF-8";
+		boolean watch = false;
+		List<String[]> options = new ArrayList<String[]>();
+		List<String> packageNames = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (!arg.startsWith("-")) {
+				packageNames.add(arg);
+				continue;
+			}
+			if (arg.equals("-watch")) {
+				watch = true;
+				continue;
+			}
+			int length = arg.equals("-sourcepath") || arg.equals("-encoding") ? 2 : optionLength(arg);
+			if (length == 0 || args.length < i + length) {
+				exit("Invalid option: " + arg);
+			}
+			String[] opt = Arrays.copyOfRange(args, i, i + length);
+			if (arg.equals("-sourcepath")) {
+				sourcePath = opt[1];
+			} else if (arg.equals("-encoding")) {
+				encoding = opt[1];
+			}
+			options.add(opt);
+			i += length - 1;
+		}
+		if (packageNames.isEmpty()) {
+			exit("Usage: java -jar api-review-doclet.jar [-sourcepath <path>] [-encoding <encoding>] [-watch] [options] <packages>");
+		}
+		if (watch) {
+			// only stubs that changed are written, and stubs of removed classes are deleted
+			options.add(new String[] { "-write-if-changed" });
+		}
+		try {
+			Options parsed = new Options(options.toArray(new String[options.size()][]));
+			Charset charset;
+			try {
+				charset = Charset.forName(encoding);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+			}
+			ApiReviewBuilder creator = new ApiReviewBuilder(parsed);
+			SourceReader reader = new SourceReader(sourcePath, charset, packageNames);
+			reader.setKnownSubclasses(parsed.isTypeHierarchy());
+			reader.setPackageAtATime(parsed.isPackageAtATime());
+			if (watch) {
+				watch(creator, reader);
+			} else {
+				creator.create(reader);
+			}
+		} catch (IllegalArgumentException e) {
+			exit(e.getMessage());
+		} catch (Exception e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Creates the documents and creates them again whenever source files change.
+	 * <p>
+	 * The declarations and rendered classes stay in memory, so only the
+	 * changed source files are parsed and only their classes are rendered
+	 * again. An error in one run is printed, and the next change is waited for.
+	 *
+	 * @param creator builder of the documents
+	 * @param reader reader of the source files
+	 * @throws IOException if the source directories cannot be watched
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	private static void watch(ApiReviewBuilder creator, SourceReader reader) throws IOException, InterruptedException {
+		creator.retainClasses();
+		SourceWatcher watcher = new SourceWatcher(reader);
+		try {
+			while (true) {
+				long start = System.nanoTime();
+				try {
+					creator.create(reader);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+				reader.printNotice(String.format("Done in %,d ms, watching for changes",
+						(System.nanoTime() - start) / 1000000));
+				Set<File> changed = watcher.await();
+				creator.invalidate(changed);
+				reader.reset(changed);
+			}
+		} finally {
+			watcher.close();
+		}
+	}
+
+	/**
+	 * Prints an error and ends the standalone run.
+	 *
+	 * @param message error message
+	 */
+	private static void exit(String message) {
+		System.err.println("error: " + message);
+		System.exit(1);
+	}
 }
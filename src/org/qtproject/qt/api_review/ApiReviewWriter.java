@@ -1,24 +1,381 @@
 package org.qtproject.qt.api_review;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Outputs data in Markdown format.
+ * <p>
+ * Lines are streamed to the file opened last with {@link #openPackage(String)},
+ * {@link #openClass(String, String)}, {@link #openStatistics()} or one of the
+ * methods opening the files of the <code>api-diff</code> directory. Lines
+ * written while no file is open are discarded.
+ * <p>
+ * In write-if-changed mode each file is kept in memory until it is finished
+ * and only written if it differs from the existing file, so unchanged files
+ * keep their modification time.
+ * <p>
+ * If an output archive is given, the same files are written one after
+ * another into that zip file instead of the output directory.
+ * <p>
+ * With parallel writes, each finished file is handed to a
+ * {@link FileWriterPool} and written while the next one is output.
  */
 public class ApiReviewWriter {
 
 	/**
-	 * Markdown output line information
+	 * Directory of the differences to a previous version within the review directory
 	 */
-	List<String> lines = new ArrayList<String>();
+	private static final String DIFF_DIR = "api-diff";
+
+	/**
+	 * Output directory of the review files
+	 */
+	private final File apiDir;
+
+	/**
+	 * Archive the files are written to, or null if they are written to the output directory
+	 */
+	private final ZipOutputStream archive;
+
+	/**
+	 * Current output file, or null if output is discarded
+	 */
+	private Writer writer;
+
+	/**
+	 * Whether a package or class file has been written
+	 */
+	private boolean hasApiChanges;
+
+	/**
+	 * Whether the statistics page is written
+	 */
+	private boolean writeStats = false;
+
+	/**
+	 * Whether files are only written if their content changed
+	 */
+	private final boolean writeIfChanged;
+
+	/**
+	 * Writer of the finished files, or null if they are written on the calling thread
+	 */
+	private final FileWriterPool pool;
+
+	/**
+	 * Current output file in write-if-changed mode or with parallel writes
+	 */
+	private File file;
+
+	/**
+	 * Content of the current output file in write-if-changed mode or with parallel writes
+	 */
+	private ByteArrayOutputStream buffer;
+
+	/**
+	 * All files output so far
+	 */
+	private final Set<File> outputs = new HashSet<File>();
+
+	/**
+	 * Names of the packages output so far
+	 */
+	private final Set<String> packageNames = new HashSet<String>();
+
+	/**
+	 * Number of files written
+	 */
+	private int written;
+
+	/**
+	 * Number of files left as they were
+	 */
+	private int unchanged;
+
+	/**
+	 * Number of stale files deleted
+	 */
+	private int deleted;
+
+	/**
+	 * Number of bytes written to files
+	 */
+	private long bytesWritten;
+
+	/**
+	 * Javadoc to Markdown converter
+	 */
+	private final MarkdownConverter converter = new MarkdownConverter();
+
+	/**
+	 * A constructor.
+	 * <p>
+	 * Creates the directory <code>java-api-review-&lt;version&gt;</code> in the output directory,
+	 * and the output directory itself if it does not exist yet, or the output
+	 * archive with this directory as its only entry at the top.
+	 *
+	 * @param options runtime options
+	 * @throws IOException if the directory or the archive cannot be created
+	 */
+	public ApiReviewWriter(Options options) throws IOException {
+		apiDir = new File(options.getOutputDir() + "/java-api-review-" + options.getVersion());
+		File archiveFile = options.getOutputArchive();
+		if (archiveFile == null) {
+			if (!apiDir.isDirectory() && !apiDir.mkdirs()) {
+				throw new IOException("Cannot create output directory " + apiDir);
+			}
+			this.archive = null;
+			this.writeIfChanged = options.isWriteIfChanged();
+			this.pool = options.getParallelWrites() <= 0 ? null : new FileWriterPool(options.getParallelWrites());
+		} else {
+			this.archive = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile)));
+			this.archive.setLevel(options.getCompressionLevel());
+			this.writeIfChanged = false;
+			this.pool = null;
+		}
+	}
+
+	/**
+	 * A constructor.
+	 * <p>
+	 * Lines are written to the given writer. No files can be opened.
+	 *
+	 * @param writer output buffer
+	 */
+	public ApiReviewWriter(Writer writer) {
+		this.apiDir = null;
+		this.archive = null;
+		this.writer = writer;
+		this.writeIfChanged = false;
+		this.pool = null;
+	}
+
+	/**
+	 * Starts the description file of a package.
+	 *
+	 * @param packageName package name
+	 * @throws IOException exception
+	 */
+	public void openPackage(String packageName) throws IOException {
+		if (archive == null) {
+			new File(apiDir, packageName).mkdir();
+		}
+		packageNames.add(packageName);
+		open(packageName + "/package.java");
+		hasApiChanges = true;
+	}
+
+	/**
+	 * Starts the stub file of a class.
+	 *
+	 * @param packageName name of the containing package
+	 * @param className class name
+	 * @throws IOException exception
+	 */
+	public void openClass(String packageName, String className) throws IOException {
+		packageNames.add(packageName);
+		open(packageName + "/" + className + ".java");
+		hasApiChanges = true;
+	}
+
+	/**
+	 * Starts the difference file of a package.
+	 *
+	 * @param packageName package name
+	 * @throws IOException exception
+	 */
+	public void openDiffPackage(String packageName) throws IOException {
+		if (archive == null) {
+			new File(apiDir, DIFF_DIR + File.separator + packageName).mkdirs();
+		}
+		packageNames.add(packageName);
+		open(DIFF_DIR + "/" + packageName + "/package.java");
+	}
+
+	/**
+	 * Starts the difference file of a class.
+	 *
+	 * @param packageName name of the containing package
+	 * @param className class name
+	 * @throws IOException exception
+	 */
+	public void openDiffClass(String packageName, String className) throws IOException {
+		if (archive == null) {
+			new File(apiDir, DIFF_DIR + File.separator + packageName).mkdirs();
+		}
+		packageNames.add(packageName);
+		open(DIFF_DIR + "/" + packageName + "/" + className + ".java");
+	}
+
+	/**
+	 * Starts the summary page of the differences.
+	 *
+	 * @throws IOException exception
+	 */
+	public void openDiffSummary() throws IOException {
+		if (archive == null) {
+			new File(apiDir, DIFF_DIR).mkdir();
+		}
+		open(DIFF_DIR + "/summary.md");
+	}
+
+	/**
+	 * Starts the source code statistics page.
+	 * <p>
+	 * The page is only written if any package or class was written before.
+	 *
+	 * @throws IOException exception
+	 */
+	public void openStatistics() throws IOException {
+		close();
+		if (writeStats && hasApiChanges) {
+			open("code-statistics.md");
+		}
+	}
+
+	/**
+	 * Finishes the current file.
+	 *
+	 * @throws IOException exception
+	 */
+	public void close() throws IOException {
+		if (writer != null) {
+			try {
+				writer.close();
+				if (buffer != null) {
+					final File target = file;
+					final byte[] content = buffer.toByteArray();
+					if (pool != null) {
+						pool.submit(new Callable<Void>() {
+							@Override
+							public Void call() throws IOException {
+								store(target, content);
+								return null;
+							}
+						});
+					} else {
+						store(target, content);
+					}
+				}
+			} finally {
+				writer = null;
+				buffer = null;
+				file = null;
+			}
+		}
+	}
+
+	/**
+	 * Finishes the current file and the output archive.
+	 *
+	 * @throws IOException exception
+	 */
+	public void finish() throws IOException {
+		try {
+			close();
+		} finally {
+			try {
+				if (pool != null) {
+					pool.close();
+				}
+			} finally {
+				if (archive != null) {
+					archive.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deletes the stub files of a previous run that were not output by this one.
+	 * <p>
+	 * Only done in write-if-changed mode, and only in the directories of the
+	 * packages output by this run and their differences, besides the summary
+	 * of the differences. Packages that were not part of this run keep their
+	 * files, so several runs can share one output directory. Package
+	 * directories left empty are deleted as well. Waits for the parallel
+	 * writes first, so that the counts of the written files are complete
+	 * afterwards.
+	 *
+	 * @throws IOException exception
+	 */
+	public void deleteStale() throws IOException {
+		close();
+		if (pool != null) {
+			pool.await();
+		}
+		if (!writeIfChanged) {
+			return;
+		}
+		File diffDir = new File(apiDir, DIFF_DIR);
+		for (String packageName : packageNames) {
+			deleteStale(new File(apiDir, packageName));
+			deleteStale(new File(diffDir, packageName));
+		}
+		deleteIfStale(new File(diffDir, "summary.md"));
+		deleteIfEmpty(diffDir);
+	}
+
+	/**
+	 * Get the number of files written.
+	 *
+	 * @return number of files written
+	 */
+	public synchronized int getWritten() {
+		return written;
+	}
+
+	/**
+	 * Get the number of files left as they were.
+	 *
+	 * @return number of unchanged files
+	 */
+	public synchronized int getUnchanged() {
+		return unchanged;
+	}
+
+	/**
+	 * Get the number of stale files deleted.
+	 *
+	 * @return number of deleted files
+	 */
+	public int getDeleted() {
+		return deleted;
+	}
+
+	/**
+	 * Get the number of bytes written to files.
+	 *
+	 * @return number of bytes
+	 */
+	public synchronized long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	/**
+	 * Get the writer of the finished files.
+	 *
+	 * @return pool of parallel writes, or null if files are written on the calling thread
+	 */
+	public FileWriterPool getPool() {
+		return pool;
+	}
 
 	/**
 	 * Outputs the cover information.
@@ -26,11 +383,12 @@ public class ApiReviewWriter {
 	 * @param title Title
 	 * @param author Author
 	 * @param date date
+	 * @throws IOException exception
 	 */
-	public void cover(String title, String author, String date) {
-		lines.add(0, "% " + markdown(date));
-		lines.add(0, "% " + markdown(author));
-		lines.add(0, "% " + markdown(title));
+	public void cover(String title, String author, String date) throws IOException {
+		rawLine("% " + markdown(title));
+		rawLine("% " + markdown(author));
+		rawLine("% " + markdown(date));
 		breakElement();
 	}
 
@@ -38,9 +396,10 @@ public class ApiReviewWriter {
 	 * Outputs level 1 headings.
 	 *
 	 * @param str heading string
+	 * @throws IOException exception
 	 */
-	public void heading1(String str) {
-		lines.add("# " + markdown(str));
+	public void heading1(String str) throws IOException {
+		rawLine("# " + markdown(str));
 		breakElement();
 	}
 
@@ -48,9 +407,10 @@ public class ApiReviewWriter {
 	 * Outputs level 2 headings.
 	 *
 	 * @param str heading string
+	 * @throws IOException exception
 	 */
-	public void heading2(String str) {
-		lines.add("## " + markdown(str));
+	public void heading2(String str) throws IOException {
+		rawLine("## " + markdown(str));
 		breakElement();
 	}
 
@@ -58,9 +418,10 @@ public class ApiReviewWriter {
 	 * Outputs level 3 headings.
 	 *
 	 * @param str heading string
+	 * @throws IOException exception
 	 */
-	public void heading3(String str) {
-		lines.add("### " + markdown(str));
+	public void heading3(String str) throws IOException {
+		rawLine("### " + markdown(str));
 		breakElement();
 	}
 
@@ -68,9 +429,10 @@ public class ApiReviewWriter {
 	 * Outputs level 4 headings.
 	 *
 	 * @param str heading string
+	 * @throws IOException exception
 	 */
-	public void heading4(String str) {
-		lines.add("#### " + markdown(str));
+	public void heading4(String str) throws IOException {
+		rawLine("#### " + markdown(str));
 		breakElement();
 	}
 
@@ -78,9 +440,10 @@ public class ApiReviewWriter {
 	 * Outputs level 5 headings.
 	 *
 	 * @param str heading string
+	 * @throws IOException exception
 	 */
-	public void heading5(String str) {
-		lines.add("##### " + markdown(str));
+	public void heading5(String str) throws IOException {
+		rawLine("##### " + markdown(str));
 		breakElement();
 	}
 
@@ -88,18 +451,20 @@ public class ApiReviewWriter {
 	 * Outputs an unordered list.
 	 *
 	 * @param str list contents
+	 * @throws IOException exception
 	 */
-	public void unorderedList(String str) {
-		lines.add("* " + markdown(str));
+	public void unorderedList(String str) throws IOException {
+		rawLine("* " + markdown(str));
 	}
 
 	/**
 	 * Print a numbered list.
 	 *
 	 * @param str list contents
+	 * @throws IOException exception
 	 */
-	public void orderedList(String str) {
-		lines.add("1. " + markdown(str));
+	public void orderedList(String str) throws IOException {
+		rawLine("1. " + markdown(str));
 	}
 
 	/**
@@ -107,15 +472,16 @@ public class ApiReviewWriter {
 	 *
 	 * @param item definition name
 	 * @param term contents of definition
+	 * @throws IOException exception
 	 */
-	public void definition(String item, String term) {
+	public void definition(String item, String term) throws IOException {
 		String defString;
 		if (!term.isEmpty())
 			defString = markdown(term).trim();
 		else
 			defString = "(undef)";
 
-		lines.add(markdown(item) + ": " + defString);
+		rawLine(markdown(item) + ": " + defString);
 
 		// breakElement();
 	}
@@ -124,31 +490,35 @@ public class ApiReviewWriter {
 	 * Outputs line-by-line information.
 	 *
 	 * @param str line-by-line information
+	 * @throws IOException exception
 	 */
-	public void line(String str) {
-		lines.add(markdown(str));
+	public void line(String str) throws IOException {
+		rawLine(markdown(str));
 	}
 
 	/**
 	 * Print table rows.
 	 *
 	 * @param cols column information
+	 * @throws IOException exception
 	 */
-	public void columns(String... cols) {
+	public void columns(String... cols) throws IOException {
 		StringBuilder sb = new StringBuilder();
 		sb.append('|');
 		for (int i = 0; i < cols.length; i++) {
 			sb.append(markdown(cols[i]));
 			sb.append('|');
 		}
-		lines.add(sb.toString());
+		rawLine(sb.toString());
 	}
 
 	/**
 	 * Ending a Markdown element
+	 *
+	 * @throws IOException exception
 	 */
-	public void breakElement() {
-		lines.add("");
+	public void breakElement() throws IOException {
+		rawLine("");
 	}
 
 	/**
@@ -158,104 +528,212 @@ public class ApiReviewWriter {
 	 * @return Markdown format string
 	 */
 	public String markdown(String str) {
-		// Markdown conversion of Javadoc inline tags
-		str = Pattern.compile("<code>(.*?)</code>").matcher(str).replaceAll("`$1`");
-		str = Pattern.compile("<i>(.*?)</i>").matcher(str).replaceAll("_$1_");
-		str = Pattern.compile("<em>(.*?)</em>").matcher(str).replaceAll("_$1_");
-		// str = Pattern.compile("<b>(.*?)</b>").matcher(str).replaceAll("__$1__");
-		// str = Pattern.compile("<strong>(.*?)</strong>").matcher(str).replaceAll("__$1__");
-		str = Pattern.compile("<b>(.*?)</b>").matcher(str).replaceAll("$1");
-		str = Pattern.compile("<strong>(.*?)</strong>").matcher(str).replaceAll("$1");
-		str = Pattern.compile("<a href=\"(https?://.+?)\">(.+?)</a>").matcher(str).replaceAll("[$2]($1)");
-		str = Pattern.compile("\\{@link +([^,{}]+?) +([^,{}]+?)\\}").matcher(str).replaceAll("[$2]($1)");
-		str = Pattern.compile("\\{@link +(.+?)\\}").matcher(str).replaceAll("[$1]($1)");
-		str = Pattern.compile("\\{@code +(.+?)\\}").matcher(str).replaceAll("`$1`");
-		str = Pattern.compile("</p>\\s+").matcher(str).replaceAll("\n");
-		str = Pattern.compile("<li>\\s*").matcher(str).replaceAll("1. ");
-		str = Pattern.compile("<\\/?ul>\\s*").matcher(str).replaceAll("");
-
-		// escape
-		str = str.replaceAll("\\\\", "\\\\\\\\");
-		str = Pattern.compile("<(.*?)>").matcher(str).replaceAll("\\<$1\\>");
-
-		// Restore entity references
-		str = str.replaceAll("&lt;", "<");
-		str = str.replaceAll("&gt;", ">");
-		str = str.replaceAll("&quot;", "\"");
-		str = str.replaceAll("&apos;", "'");
-		str = str.replaceAll("&nbsp;", " ");
-		str = str.replaceAll("&amp;", "&");
-
-		// Returning results
-		return str;
-	}
-
-	/**
-	 * Save the Markdown file.
-	 *
-	 * @param file file name
+		return converter.convert(str);
+	}
+
+	/**
+	 * Outputs a line without Markdown conversion.
+	 *
+	 * @param str line
 	 * @throws IOException exception
 	 */
-	public void save(String outputDirRoot, String version) throws IOException {
-		Writer writer = null;
-		String packageName = "";
-		String outputDir = "";
-		boolean hasApiChanges = false;
-		boolean writeStats = false;
+	public void rawLine(String str) throws IOException {
+		if (writer != null) {
+			writer.write(str);
+			writer.write(System.lineSeparator());
+		}
+	}
 
-		String apiDir = outputDirRoot + "/java-api-review-" + version;
-		new File(apiDir).mkdir();
+	/**
+	 * Outputs text as is, without a line break.
+	 *
+	 * @param str text
+	 * @throws IOException exception
+	 */
+	public void rawText(String str) throws IOException {
+		if (writer != null) {
+			writer.write(str);
+		}
+	}
 
-		try {
-			for (String line : lines) {
-				if (line.startsWith("#class=")) {
-					String className = line.split("#class=")[1];
-					String outputFilename = outputDir + "/" + className + ".java";
-
-					if (writer != null)
-						writer.close();
-
-					writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFilename), "UTF-8"));
-					hasApiChanges = true;
-					continue;
-				} else if (line.startsWith("#package=")) {
-					packageName = line.split("#package=")[1];
-
-					outputDir = apiDir + "/" + packageName;
-					new File(outputDir).mkdir();
-
-					String outputFilename = outputDir + "/package.java";
-
-					if (writer != null)
-						writer.close();
-
-					writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFilename), "UTF-8"));
-					hasApiChanges = true;
-					continue;
-				} else if (line.startsWith("#statistics-section") && hasApiChanges) {
-					outputDir = apiDir;
-					String outputFilename = outputDir + "/code-statistics.md";
-
-					if (writer != null)
-						writer.close();
-
-					if (writeStats)
-						writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFilename), "UTF-8"));
-					else
-						writer = null;
-
-					continue;
-				} else if (writer != null) {
-					writer.write(line);
-					writer.write(System.lineSeparator());
+	/**
+	 * Opens an output file, finishing the current one.
+	 *
+	 * @param path path of the file in the review directory, separated by slashes
+	 * @throws IOException exception
+	 */
+	private void open(String path) throws IOException {
+		close();
+		if (archive != null) {
+			archive.putNextEntry(new ZipEntry(apiDir.getName() + "/" + path));
+			OutputStream out = new FilterOutputStream(archive) {
+				@Override
+				public void write(int b) throws IOException {
+					out.write(b);
+					bytesWritten++;
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					out.write(b, off, len);
+					bytesWritten += len;
+				}
+
+				@Override
+				public void close() throws IOException {
+					// the archive stays open for the next file
+					archive.closeEntry();
+				}
+			};
+			writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+			written++;
+			return;
+		}
+		File file = new File(apiDir, path.replace('/', File.separatorChar));
+		outputs.add(file);
+		if (writeIfChanged || pool != null) {
+			this.file = file;
+			buffer = new ByteArrayOutputStream();
+			writer = new OutputStreamWriter(buffer, "UTF-8");
+		} else {
+			OutputStream out = new FilterOutputStream(new FileOutputStream(file)) {
+				@Override
+				public void write(int b) throws IOException {
+					out.write(b);
+					bytesWritten++;
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					out.write(b, off, len);
+					bytesWritten += len;
 				}
+			};
+			writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+			written++;
+		}
+	}
+
+	/**
+	 * Writes the content of a finished file.
+	 * <p>
+	 * In write-if-changed mode a file that already has the content is left as it was.
+	 * Runs on the threads of the pool with parallel writes.
+	 *
+	 * @param file file
+	 * @param content content
+	 * @throws IOException exception
+	 */
+	private void store(File file, byte[] content) throws IOException {
+		if (writeIfChanged && hasContent(file, content)) {
+			synchronized (this) {
+				unchanged++;
 			}
+			return;
+		}
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
 		} finally {
-			if (writer != null) {
-				try {
-					writer.close();
-				} catch (Exception e) { }
+			out.close();
+		}
+		synchronized (this) {
+			written++;
+			bytesWritten += content.length;
+		}
+	}
+
+	/**
+	 * Deletes the stub files in a package directory that were not output by this run.
+	 *
+	 * @param dir package directory
+	 * @throws IOException exception
+	 */
+	private void deleteStale(File dir) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			deleteIfStale(file);
+		}
+		deleteIfEmpty(dir);
+	}
+
+	/**
+	 * Deletes a stub file if it was not output by this run.
+	 *
+	 * @param file file below the review directory
+	 * @throws IOException exception
+	 */
+	private void deleteIfStale(File file) throws IOException {
+		if (!file.isFile() || outputs.contains(file) || !isStub(file)) {
+			return;
+		}
+		if (!file.delete()) {
+			throw new IOException("Cannot delete " + file);
+		}
+		deleted++;
+	}
+
+	/**
+	 * Deletes a directory if it is empty.
+	 *
+	 * @param dir directory
+	 */
+	private static void deleteIfEmpty(File dir) {
+		String[] rest = dir.list();
+		if (rest != null && rest.length == 0) {
+			dir.delete();
+		}
+	}
+
+	/**
+	 * Determines whether a file is a stub file or the summary of the differences.
+	 *
+	 * @param file file below the review directory
+	 * @return Returns true for files output by the writer.
+	 */
+	private boolean isStub(File file) {
+		if (file.getName().endsWith(".java")) {
+			return !file.getParentFile().equals(apiDir);
+		}
+		return file.getName().equals("summary.md") && file.getParentFile().getName().equals(DIFF_DIR);
+	}
+
+	/**
+	 * Determines whether a file already has the given content.
+	 * <p>
+	 * The sizes are compared first, so the file is only read if they match.
+	 *
+	 * @param file file
+	 * @param content expected content
+	 * @return Returns true if the file exists with the same content.
+	 * @throws IOException exception
+	 */
+	private static boolean hasContent(File file, byte[] content) throws IOException {
+		if (!file.isFile() || file.length() != content.length) {
+			return false;
+		}
+		InputStream in = new FileInputStream(file);
+		try {
+			byte[] chunk = new byte[8192];
+			int pos = 0;
+			while (pos < content.length) {
+				int n = in.read(chunk, 0, Math.min(chunk.length, content.length - pos));
+				if (n < 0) {
+					return false;
+				}
+				for (int i = 0; i < n; i++) {
+					if (chunk[i] != content[pos + i]) {
+						return false;
+					}
+				}
+				pos += n;
 			}
+			return in.read() == -1;
+		} finally {
+			in.close();
 		}
 	}
 }
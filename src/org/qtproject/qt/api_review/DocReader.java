@@ -0,0 +1,329 @@
+package org.qtproject.qt.api_review;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.javadoc.ClassDoc;
+import com.sun.javadoc.ExecutableMemberDoc;
+import com.sun.javadoc.FieldDoc;
+import com.sun.javadoc.MethodDoc;
+import com.sun.javadoc.PackageDoc;
+import com.sun.javadoc.ParamTag;
+import com.sun.javadoc.Parameter;
+import com.sun.javadoc.RootDoc;
+import com.sun.javadoc.Tag;
+import com.sun.javadoc.ThrowsTag;
+import com.sun.javadoc.Type;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+
+/**
+ * Reads the API model from Javadoc documents.
+ * <p>
+ * The javadoc tool does not support concurrent access to its documents, so
+ * they are only read on the thread running the doclet.
+ */
+public class DocReader implements ApiReader {
+
+	/**
+	 * Javadoc root document
+	 */
+	private final RootDoc root;
+
+	/**
+	 * Classes to read
+	 */
+	private final ClassDoc[] classes;
+
+	/**
+	 * Index of the next class to read
+	 */
+	private int next;
+
+	/**
+	 * Short type names of the run
+	 */
+	private final ShortNameCache shortNames = new ShortNameCache();
+
+	/**
+	 * Type hierarchy of the run
+	 */
+	private final HierarchyIndex hierarchy = new HierarchyIndex();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param root Javadoc root document
+	 */
+	public DocReader(RootDoc root) {
+		this.root = root;
+		this.classes = groupByPackage(root.classes());
+		for (ClassDoc classDoc : classes) {
+			index(classDoc);
+			hierarchy.addDocumented(classDoc.qualifiedName());
+		}
+	}
+
+	@Override
+	public ClassInfo readClass() {
+		if (classes.length <= next) {
+			return null;
+		}
+		return readClass(classes[next++]);
+	}
+
+	@Override
+	public PackageInfo readPackage() {
+		return readPackage(classes[next - 1].containingPackage());
+	}
+
+	@Override
+	public void releasePreviousPackages() {
+		// the javadoc tool keeps its documents for the whole run
+	}
+
+	@Override
+	public ShortNameCache getShortNames() {
+		return shortNames;
+	}
+
+	@Override
+	public void printNotice(String message) {
+		root.printNotice(message);
+	}
+
+	/**
+	 * Orders classes package by package.
+	 *
+	 * @param classes class documents
+	 * @return class documents, the packages in order of their first class and the classes of each package in their order
+	 */
+	private static ClassDoc[] groupByPackage(ClassDoc[] classes) {
+		Map<PackageDoc, List<ClassDoc>> packages = new LinkedHashMap<PackageDoc, List<ClassDoc>>();
+		for (ClassDoc classDoc : classes) {
+			List<ClassDoc> list = packages.get(classDoc.containingPackage());
+			if (list == null) {
+				list = new ArrayList<ClassDoc>();
+				packages.put(classDoc.containingPackage(), list);
+			}
+			list.add(classDoc);
+		}
+		List<ClassDoc> grouped = new ArrayList<ClassDoc>(classes.length);
+		for (List<ClassDoc> list : packages.values()) {
+			grouped.addAll(list);
+		}
+		return grouped.toArray(new ClassDoc[grouped.size()]);
+	}
+
+	/**
+	 * Reads the information of a package.
+	 *
+	 * @param packageDoc package document
+	 * @return package information
+	 */
+	public PackageInfo readPackage(PackageDoc packageDoc) {
+		return new PackageInfo(packageDoc.name(), packageDoc.commentText());
+	}
+
+	/**
+	 * Reads the information of a class with all its members.
+	 *
+	 * @param classDoc class document
+	 * @return class information
+	 */
+	public ClassInfo readClass(ClassDoc classDoc) {
+		ClassInfo info = new ClassInfo(classDoc.name(), classDoc.qualifiedName(),
+				classDoc.containingPackage().name(), classDoc.modifiers(),
+				classDoc.isInterface(), classDoc.commentText());
+
+		// Source code file information
+		info.setSource(classDoc.position().file());
+
+		// inheritance hierarchy and known subclasses
+		index(classDoc);
+		info.getHierarchy().addAll(hierarchy.getHierarchy(classDoc.qualifiedName()));
+		info.getSubclasses().addAll(hierarchy.getSubclasses(classDoc.qualifiedName()));
+
+		// interface
+		ClassDoc[] interfaces = classDoc.interfaces();
+		for (int i = 0; i < interfaces.length; i++) {
+			info.getInterfaces().add(interfaces[i].qualifiedName());
+		}
+		info.getAllInterfaces().addAll(hierarchy.getAllInterfaces(classDoc.qualifiedName()));
+
+		// version
+		Tag[] versionTags = classDoc.tags("version");
+		for (int i = 0; i < versionTags.length; i++) {
+			info.getVersions().add(versionTags[i].text());
+		}
+
+		// Author
+		Tag[] authorTags = classDoc.tags("author");
+		for (int i = 0; i < authorTags.length; i++) {
+			info.getAuthors().add(authorTags[i].text());
+		}
+
+		// all constants
+		for (FieldDoc field : classDoc.enumConstants()) {
+			info.getEnumConstants().add(readField(field));
+		}
+
+		// all fields
+		for (FieldDoc field : classDoc.fields()) {
+			info.getFields().add(readField(field));
+		}
+
+		// all constructors
+		for (ExecutableMemberDoc constructor : classDoc.constructors()) {
+			info.getConstructors().add(readMember(constructor));
+		}
+
+		// all methods
+		for (ExecutableMemberDoc method : classDoc.methods()) {
+			info.getMethods().add(readMember(method));
+		}
+		return info;
+	}
+
+	/**
+	 * Adds a class to the type hierarchy after its supertypes.
+	 *
+	 * @param classDoc class document
+	 */
+	private void index(ClassDoc classDoc) {
+		if (hierarchy.contains(classDoc.qualifiedName())) {
+			return;
+		}
+		String superclass = null;
+		ClassDoc d = classDoc.superclass();
+		if (d != null && !d.qualifiedName().equals("java.lang.Object")) {
+			index(d);
+			superclass = d.qualifiedName();
+		}
+		List<String> interfaces = new ArrayList<String>();
+		for (ClassDoc i : classDoc.interfaces()) {
+			index(i);
+			interfaces.add(i.qualifiedName());
+		}
+		hierarchy.add(classDoc.qualifiedName(), superclass, interfaces);
+	}
+
+	/**
+	 * Reads the information of a field.
+	 *
+	 * @param doc field information
+	 * @return field information
+	 */
+	private FieldInfo readField(FieldDoc doc) {
+		return new FieldInfo(doc.modifiers(), getShortName(doc.type()), doc.name(), doc.commentText());
+	}
+
+	/**
+	 * Reads the information of an executable member.
+	 *
+	 * @param doc Executable member information
+	 * @return method information
+	 */
+	private MethodInfo readMember(ExecutableMemberDoc doc) {
+		String returnType = null;
+		if (doc instanceof MethodDoc) {
+			returnType = getShortName(((MethodDoc) doc).returnType());
+		}
+		MethodInfo info = new MethodInfo(doc.modifiers(), returnType, doc.name(), doc.commentText());
+
+		// parameters
+		Parameter[] parameters = doc.parameters();
+		if (0 < parameters.length) {
+			Map<String, String> comments = getParamComments(doc.paramTags());
+			for (Parameter parameter : parameters) {
+				info.getParams().add(new ParamInfo(getShortName(parameter.type()), parameter.name(),
+						getComment(comments, parameter.name())));
+			}
+		}
+
+		// Return value
+		if (doc instanceof MethodDoc) {
+			Tag[] returnTags = doc.tags("return");
+			if (0 < returnTags.length) {
+				info.setReturnComment(returnTags[0].text());
+			}
+		}
+
+		// exception
+		Type[] exceptions = doc.thrownExceptionTypes();
+		if (0 < exceptions.length) {
+			Map<String, String> comments = getThrowsComments(doc.throwsTags());
+			for (Type exception : exceptions) {
+				info.getExceptions().add(new ThrowsInfo(getShortName(exception),
+						getComment(comments, exception.typeName())));
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Gets the comments set in the parameter tags by parameter name.
+	 * <p>
+	 * If a parameter is documented twice, the first comment is used.
+	 *
+	 * @param tags Tag information
+	 * @return Comment information by parameter name
+	 */
+	private Map<String, String> getParamComments(ParamTag[] tags) {
+		Map<String, String> comments = new HashMap<String, String>();
+		for (ParamTag tag : tags) {
+			if (!comments.containsKey(tag.parameterName())) {
+				comments.put(tag.parameterName(), tag.parameterComment());
+			}
+		}
+		return comments;
+	}
+
+	/**
+	 * Gets the comments set in the exception tags by exception class name.
+	 * <p>
+	 * If an exception is documented twice, the first comment is used.
+	 *
+	 * @param tags Tag information
+	 * @return Comment information by exception class name
+	 */
+	private Map<String, String> getThrowsComments(ThrowsTag[] tags) {
+		Map<String, String> comments = new HashMap<String, String>();
+		for (ThrowsTag tag : tags) {
+			if (!comments.containsKey(tag.exceptionName())) {
+				comments.put(tag.exceptionName(), tag.exceptionComment());
+			}
+		}
+		return comments;
+	}
+
+	/**
+	 * Gets a comment by name.
+	 *
+	 * @param comments Comment information by name
+	 * @param name name
+	 * @return Comment information, or an empty string if there is none
+	 */
+	private String getComment(Map<String, String> comments, String name) {
+		String comment = comments.get(name);
+		return comment == null ? "" : comment;
+	}
+
+	/**
+	 * Removes the package name from the class name.
+	 *
+	 * @param type class
+	 * @return abbreviated class name
+	 */
+	private String getShortName(Type type) {
+		return shortNames.get(type.toString());
+	}
+}
@@ -0,0 +1,308 @@
+package org.qtproject.qt.api_review;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes files concurrently, with a limit on the files open at once.
+ * <p>
+ * On JDK 21 and later each write runs on its own virtual thread, so a
+ * write waiting for a slow file system only parks its virtual thread. On
+ * older JDKs the writes run on a small pool of platform threads. The API
+ * of virtual threads is looked up at run time, so the class still runs on
+ * Java 8.
+ * <p>
+ * Submitting waits while the limit of concurrent writes is reached, which
+ * also bounds the memory of the contents waiting to be written. The first
+ * failure of a write is rethrown by the next call.
+ */
+public class FileWriterPool {
+
+	/**
+	 * Number of platform threads if virtual threads are not available
+	 */
+	private static final int PLATFORM_THREADS = 4;
+
+	/**
+	 * Executor of the writes
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Whether the writes run on virtual threads
+	 */
+	private final boolean virtual;
+
+	/**
+	 * Maximum number of files written at once
+	 */
+	private final int limit;
+
+	/**
+	 * Permits for the files written at once
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * Number of writes submitted and not finished
+	 */
+	private int pending;
+
+	/**
+	 * Number of writes running
+	 */
+	private int running;
+
+	/**
+	 * Largest number of writes running at once
+	 */
+	private int maxRunning;
+
+	/**
+	 * Number of writes finished
+	 */
+	private long files;
+
+	/**
+	 * Sum of the durations of all writes in nanoseconds
+	 */
+	private long busyNanos;
+
+	/**
+	 * Time in nanoseconds while at least one write was running
+	 */
+	private long activeNanos;
+
+	/**
+	 * Start of the current period with writes running
+	 */
+	private long activeStart;
+
+	/**
+	 * First failure of a write, or null
+	 */
+	private Throwable failure;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param limit maximum number of files written at once, at least one
+	 */
+	public FileWriterPool(int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("Invalid limit: " + limit);
+		}
+		this.limit = limit;
+		this.permits = new Semaphore(limit);
+		ExecutorService virtualExecutor = newVirtualThreadExecutor();
+		if (virtualExecutor != null) {
+			executor = virtualExecutor;
+			virtual = true;
+		} else {
+			executor = Executors.newFixedThreadPool(Math.min(limit, PLATFORM_THREADS), new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "api-review-file-writer-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			virtual = false;
+		}
+	}
+
+	/**
+	 * Submits a write, waiting while the limit of concurrent writes is reached.
+	 *
+	 * @param write write of one file
+	 * @throws IOException if a previous write failed or the thread was interrupted
+	 */
+	public void submit(final Callable<?> write) throws IOException {
+		checkFailure();
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing files");
+		}
+		synchronized (this) {
+			pending++;
+		}
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				long start = begin();
+				Throwable error = null;
+				try {
+					write.call();
+				} catch (Throwable e) {
+					error = e;
+				} finally {
+					end(start, error);
+					permits.release();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Waits until all submitted writes are finished.
+	 *
+	 * @throws IOException if a write failed or the thread was interrupted
+	 */
+	public synchronized void await() throws IOException {
+		while (0 < pending) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing files");
+			}
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Waits until all submitted writes are finished and stops the threads.
+	 *
+	 * @throws IOException if a write failed or the thread was interrupted
+	 */
+	public void close() throws IOException {
+		try {
+			await();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Determine whether the writes run on virtual threads.
+	 *
+	 * @return Returns true on JDK 21 and later.
+	 */
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	/**
+	 * Gets the maximum number of files written at once.
+	 *
+	 * @return limit
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Gets the number of finished writes.
+	 *
+	 * @return number of files
+	 */
+	public synchronized long getFiles() {
+		return files;
+	}
+
+	/**
+	 * Gets the largest number of writes that ran at once.
+	 *
+	 * @return number of writes
+	 */
+	public synchronized int getMaxConcurrency() {
+		return maxRunning;
+	}
+
+	/**
+	 * Gets the sum of the durations of all writes.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getBusyNanos() {
+		return busyNanos;
+	}
+
+	/**
+	 * Gets the time while at least one write was running.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getActiveNanos() {
+		return activeNanos;
+	}
+
+	/**
+	 * Gets the number of writes that ran at once on average while any write was running.
+	 *
+	 * @return effective concurrency
+	 */
+	public synchronized double getAverageConcurrency() {
+		return activeNanos == 0 ? 0 : (double) busyNanos / activeNanos;
+	}
+
+	/**
+	 * Records the start of a write.
+	 *
+	 * @return start time
+	 */
+	private synchronized long begin() {
+		long start = System.nanoTime();
+		if (running == 0) {
+			activeStart = start;
+		}
+		running++;
+		maxRunning = Math.max(maxRunning, running);
+		return start;
+	}
+
+	/**
+	 * Records the end of a write.
+	 *
+	 * @param start start time
+	 * @param error failure of the write, or null
+	 */
+	private synchronized void end(long start, Throwable error) {
+		long stop = System.nanoTime();
+		busyNanos += stop - start;
+		running--;
+		if (running == 0) {
+			activeNanos += stop - activeStart;
+		}
+		pending--;
+		files++;
+		if (failure == null) {
+			failure = error;
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Rethrows the first failure of a write.
+	 *
+	 * @throws IOException if a write failed with an I/O exception
+	 */
+	private synchronized void checkFailure() throws IOException {
+		if (failure != null) {
+			WriteQueue.rethrow(failure);
+		}
+	}
+
+	/**
+	 * Creates an executor that starts a virtual thread for each task.
+	 *
+	 * @return executor, or null before JDK 21
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package org.qtproject.qt.api_review;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the type hierarchy of a run by qualified name.
+ * <p>
+ * A type is added after its supertypes, so its inheritance hierarchy and
+ * the closure of its interfaces are built once from those of its supertypes
+ * and kept. Every lookup afterwards takes constant time. Supertypes that
+ * were not added count as types without supertypes of their own.
+ * <p>
+ * Documented classes are listed as the known subclasses of their superclass.
+ * The index is built on the thread reading the documents.
+ */
+public class HierarchyIndex {
+
+	/**
+	 * Indexed types by qualified name
+	 */
+	private final Map<String, Entry> types = new HashMap<String, Entry>();
+
+	/**
+	 * Determine whether a type was added.
+	 *
+	 * @param qualifiedName qualified name
+	 * @return Returns true if the type was added.
+	 */
+	public boolean contains(String qualifiedName) {
+		return types.containsKey(qualifiedName);
+	}
+
+	/**
+	 * Adds a type after its supertypes.
+	 *
+	 * @param qualifiedName qualified name
+	 * @param superclass qualified name of the superclass, or null for interfaces,
+	 *            direct subclasses of java.lang.Object and types whose superclass is unknown
+	 * @param interfaces qualified names of the directly implemented or extended interfaces
+	 */
+	public void add(String qualifiedName, String superclass, List<String> interfaces) {
+		if (types.containsKey(qualifiedName)) {
+			return;
+		}
+		Entry entry = new Entry();
+		entry.superclass = superclass;
+
+		// the inheritance hierarchy of the superclass, then this type
+		List<String> hierarchy = new ArrayList<String>();
+		if (superclass != null) {
+			hierarchy.addAll(getHierarchy(superclass));
+		}
+		hierarchy.add(qualifiedName);
+		entry.hierarchy = Collections.unmodifiableList(hierarchy);
+
+		// each direct interface with its closure, then the closure of the superclass
+		Set<String> closure = new LinkedHashSet<String>();
+		for (String name : interfaces) {
+			closure.add(name);
+			closure.addAll(getAllInterfaces(name));
+		}
+		if (superclass != null) {
+			closure.addAll(getAllInterfaces(superclass));
+		}
+		entry.interfaces = Collections.unmodifiableList(new ArrayList<String>(closure));
+		types.put(qualifiedName, entry);
+	}
+
+	/**
+	 * Lists a documented class as a known subclass of its superclass.
+	 * Listing a class again has no effect.
+	 *
+	 * @param qualifiedName qualified name of a class added before
+	 */
+	public void addDocumented(String qualifiedName) {
+		Entry entry = types.get(qualifiedName);
+		if (entry == null || entry.superclass == null) {
+			return;
+		}
+		Entry superEntry = types.get(entry.superclass);
+		if (superEntry == null) {
+			return;
+		}
+		if (superEntry.subclasses.isEmpty()) {
+			superEntry.subclasses = new ArrayList<String>();
+		}
+		// keep the subclasses sorted by name whatever order the reader lists them in
+		int index = Collections.binarySearch(superEntry.subclasses, qualifiedName);
+		if (index < 0) {
+			superEntry.subclasses.add(-index - 1, qualifiedName);
+		}
+	}
+
+	/**
+	 * Gets the inheritance hierarchy of a type.
+	 *
+	 * @param qualifiedName qualified name
+	 * @return qualified names from the topmost superclass below java.lang.Object down to the type
+	 */
+	public List<String> getHierarchy(String qualifiedName) {
+		Entry entry = types.get(qualifiedName);
+		return entry == null ? Collections.singletonList(qualifiedName) : entry.hierarchy;
+	}
+
+	/**
+	 * Gets all interfaces a type implements or extends, directly or through its supertypes.
+	 *
+	 * @param qualifiedName qualified name
+	 * @return qualified interface names
+	 */
+	public List<String> getAllInterfaces(String qualifiedName) {
+		Entry entry = types.get(qualifiedName);
+		return entry == null ? Collections.<String>emptyList() : entry.interfaces;
+	}
+
+	/**
+	 * Gets the documented classes that directly extend a class.
+	 *
+	 * @param qualifiedName qualified name
+	 * @return qualified names in sorted order
+	 */
+	public List<String> getSubclasses(String qualifiedName) {
+		Entry entry = types.get(qualifiedName);
+		return entry == null ? Collections.<String>emptyList() : Collections.unmodifiableList(entry.subclasses);
+	}
+
+	/**
+	 * Removes all types.
+	 */
+	public void clear() {
+		types.clear();
+	}
+
+	/**
+	 * Supertypes of an indexed type.
+	 */
+	private static class Entry {
+
+		/**
+		 * Qualified name of the superclass, or null
+		 */
+		private String superclass;
+
+		/**
+		 * Inheritance hierarchy, the type last
+		 */
+		private List<String> hierarchy;
+
+		/**
+		 * Closure of the interfaces
+		 */
+		private List<String> interfaces;
+
+		/**
+		 * Documented direct subclasses
+		 */
+		private List<String> subclasses = Collections.emptyList();
+	}
+}
@@ -0,0 +1,727 @@
+package org.qtproject.qt.api_review;
+
+/**
+ * Character references of HTML5.
+ * <p>
+ * Holds all 2,125 named references of the HTML5 specification that end with
+ * a semicolon. The forms without a semicolon that HTML5 accepts for legacy
+ * pages are left out. The names are stored in a perfect hash table that is
+ * generated together with them: the hash of a name picks a bucket, and the
+ * displacement of the bucket gives the slot of the name, so that every slot
+ * holds at most one name. Loading the class only puts the names into their
+ * slots. A lookup hashes the characters of the name in place and compares
+ * with a single candidate, without creating a string.
+ * <p>
+ * Numeric references are mapped to code points by the rules of HTML5:
+ * zero, surrogates and values beyond U+10FFFF become U+FFFD, and the C1
+ * control range is read as Windows-1252.
+ */
+public class HtmlEntities {
+
+	/**
+	 * Named references generated from the HTML5 specification, each as the name,
+	 * a semicolon, the number of UTF-16 characters of the value and the value
+	 */
+	private static final String DATA =
+			"AElig;1\u00C6AMP;1&Aacute;1\u00C1Abreve;1\u0102Acirc;1\u00C2Acy;1\u0410Afr;2\uD835\uDD04"
+			+ "Agrave;1\u00C0Alpha;1\u0391Amacr;1\u0100And;1\u2A53Aogon;1\u0104Aopf;2\uD835\uDD38"
+			+ "ApplyFunction;1\u2061Aring;1\u00C5Ascr;2\uD835\uDC9CAssign;1\u2254Atilde;1\u00C3Auml;1\u00C4"
+			+ "Backslash;1\u2216Barv;1\u2AE7Barwed;1\u2306Bcy;1\u0411Because;1\u2235Bernoullis;1\u212C"
+			+ "Beta;1\u0392Bfr;2\uD835\uDD05Bopf;2\uD835\uDD39Breve;1\u02D8Bscr;1\u212CBumpeq;1\u224E"
+			+ "CHcy;1\u0427COPY;1\u00A9Cacute;1\u0106Cap;1\u22D2CapitalDifferentialD;1\u2145Cayleys;1\u212D"
+			+ "Ccaron;1\u010CCcedil;1\u00C7Ccirc;1\u0108Cconint;1\u2230Cdot;1\u010ACedilla;1\u00B8"
+			+ "CenterDot;1\u00B7Cfr;1\u212DChi;1\u03A7CircleDot;1\u2299CircleMinus;1\u2296CirclePlus;1\u2295"
+			+ "CircleTimes;1\u2297ClockwiseContourIntegral;1\u2232CloseCurlyDoubleQuote;1\u201D"
+			+ "CloseCurlyQuote;1\u2019Colon;1\u2237Colone;1\u2A74Congruent;1\u2261Conint;1\u222F"
+			+ "ContourIntegral;1\u222ECopf;1\u2102Coproduct;1\u2210CounterClockwiseContourIntegral;1\u2233"
+			+ "Cross;1\u2A2FCscr;2\uD835\uDC9ECup;1\u22D3CupCap;1\u224DDD;1\u2145DDotrahd;1\u2911DJcy;1\u0402"
+			+ "DScy;1\u0405DZcy;1\u040FDagger;1\u2021Darr;1\u21A1Dashv;1\u2AE4Dcaron;1\u010EDcy;1\u0414"
+			+ "Del;1\u2207Delta;1\u0394Dfr;2\uD835\uDD07DiacriticalAcute;1\u00B4DiacriticalDot;1\u02D9"
+			+ "DiacriticalDoubleAcute;1\u02DDDiacriticalGrave;1`DiacriticalTilde;1\u02DCDiamond;1\u22C4"
+			+ "DifferentialD;1\u2146Dopf;2\uD835\uDD3BDot;1\u00A8DotDot;1\u20DCDotEqual;1\u2250"
+			+ "DoubleContourIntegral;1\u222FDoubleDot;1\u00A8DoubleDownArrow;1\u21D3DoubleLeftArrow;1\u21D0"
+			+ "DoubleLeftRightArrow;1\u21D4DoubleLeftTee;1\u2AE4DoubleLongLeftArrow;1\u27F8"
+			+ "DoubleLongLeftRightArrow;1\u27FADoubleLongRightArrow;1\u27F9DoubleRightArrow;1\u21D2"
+			+ "DoubleRightTee;1\u22A8DoubleUpArrow;1\u21D1DoubleUpDownArrow;1\u21D5DoubleVerticalBar;1\u2225"
+			+ "DownArrow;1\u2193DownArrowBar;1\u2913DownArrowUpArrow;1\u21F5DownBreve;1\u0311"
+			+ "DownLeftRightVector;1\u2950DownLeftTeeVector;1\u295EDownLeftVector;1\u21BD"
+			+ "DownLeftVectorBar;1\u2956DownRightTeeVector;1\u295FDownRightVector;1\u21C1"
+			+ "DownRightVectorBar;1\u2957DownTee;1\u22A4DownTeeArrow;1\u21A7Downarrow;1\u21D3Dscr;2\uD835\uDC9F"
+			+ "Dstrok;1\u0110ENG;1\u014AETH;1\u00D0Eacute;1\u00C9Ecaron;1\u011AEcirc;1\u00CAEcy;1\u042D"
+			+ "Edot;1\u0116Efr;2\uD835\uDD08Egrave;1\u00C8Element;1\u2208Emacr;1\u0112EmptySmallSquare;1\u25FB"
+			+ "EmptyVerySmallSquare;1\u25ABEogon;1\u0118Eopf;2\uD835\uDD3CEpsilon;1\u0395Equal;1\u2A75"
+			+ "EqualTilde;1\u2242Equilibrium;1\u21CCEscr;1\u2130Esim;1\u2A73Eta;1\u0397Euml;1\u00CB"
+			+ "Exists;1\u2203ExponentialE;1\u2147Fcy;1\u0424Ffr;2\uD835\uDD09FilledSmallSquare;1\u25FC"
+			+ "FilledVerySmallSquare;1\u25AAFopf;2\uD835\uDD3DForAll;1\u2200Fouriertrf;1\u2131Fscr;1\u2131"
+			+ "GJcy;1\u0403GT;1>Gamma;1\u0393Gammad;1\u03DCGbreve;1\u011EGcedil;1\u0122Gcirc;1\u011CGcy;1\u0413"
+			+ "Gdot;1\u0120Gfr;2\uD835\uDD0AGg;1\u22D9Gopf;2\uD835\uDD3EGreaterEqual;1\u2265"
+			+ "GreaterEqualLess;1\u22DBGreaterFullEqual;1\u2267GreaterGreater;1\u2AA2GreaterLess;1\u2277"
+			+ "GreaterSlantEqual;1\u2A7EGreaterTilde;1\u2273Gscr;2\uD835\uDCA2Gt;1\u226BHARDcy;1\u042A"
+			+ "Hacek;1\u02C7Hat;1^Hcirc;1\u0124Hfr;1\u210CHilbertSpace;1\u210BHopf;1\u210D"
+			+ "HorizontalLine;1\u2500Hscr;1\u210BHstrok;1\u0126HumpDownHump;1\u224EHumpEqual;1\u224F"
+			+ "IEcy;1\u0415IJlig;1\u0132IOcy;1\u0401Iacute;1\u00CDIcirc;1\u00CEIcy;1\u0418Idot;1\u0130"
+			+ "Ifr;1\u2111Igrave;1\u00CCIm;1\u2111Imacr;1\u012AImaginaryI;1\u2148Implies;1\u21D2Int;1\u222C"
+			+ "Integral;1\u222BIntersection;1\u22C2InvisibleComma;1\u2063InvisibleTimes;1\u2062Iogon;1\u012E"
+			+ "Iopf;2\uD835\uDD40Iota;1\u0399Iscr;1\u2110Itilde;1\u0128Iukcy;1\u0406Iuml;1\u00CFJcirc;1\u0134"
+			+ "Jcy;1\u0419Jfr;2\uD835\uDD0DJopf;2\uD835\uDD41Jscr;2\uD835\uDCA5Jsercy;1\u0408Jukcy;1\u0404"
+			+ "KHcy;1\u0425KJcy;1\u040CKappa;1\u039AKcedil;1\u0136Kcy;1\u041AKfr;2\uD835\uDD0E"
+			+ "Kopf;2\uD835\uDD42Kscr;2\uD835\uDCA6LJcy;1\u0409LT;1<Lacute;1\u0139Lambda;1\u039BLang;1\u27EA"
+			+ "Laplacetrf;1\u2112Larr;1\u219ELcaron;1\u013DLcedil;1\u013BLcy;1\u041BLeftAngleBracket;1\u27E8"
+			+ "LeftArrow;1\u2190LeftArrowBar;1\u21E4LeftArrowRightArrow;1\u21C6LeftCeiling;1\u2308"
+			+ "LeftDoubleBracket;1\u27E6LeftDownTeeVector;1\u2961LeftDownVector;1\u21C3"
+			+ "LeftDownVectorBar;1\u2959LeftFloor;1\u230ALeftRightArrow;1\u2194LeftRightVector;1\u294E"
+			+ "LeftTee;1\u22A3LeftTeeArrow;1\u21A4LeftTeeVector;1\u295ALeftTriangle;1\u22B2"
+			+ "LeftTriangleBar;1\u29CFLeftTriangleEqual;1\u22B4LeftUpDownVector;1\u2951LeftUpTeeVector;1\u2960"
+			+ "LeftUpVector;1\u21BFLeftUpVectorBar;1\u2958LeftVector;1\u21BCLeftVectorBar;1\u2952"
+			+ "Leftarrow;1\u21D0Leftrightarrow;1\u21D4LessEqualGreater;1\u22DALessFullEqual;1\u2266"
+			+ "LessGreater;1\u2276LessLess;1\u2AA1LessSlantEqual;1\u2A7DLessTilde;1\u2272Lfr;2\uD835\uDD0F"
+			+ "Ll;1\u22D8Lleftarrow;1\u21DALmidot;1\u013FLongLeftArrow;1\u27F5LongLeftRightArrow;1\u27F7"
+			+ "LongRightArrow;1\u27F6Longleftarrow;1\u27F8Longleftrightarrow;1\u27FALongrightarrow;1\u27F9"
+			+ "Lopf;2\uD835\uDD43LowerLeftArrow;1\u2199LowerRightArrow;1\u2198Lscr;1\u2112Lsh;1\u21B0"
+			+ "Lstrok;1\u0141Lt;1\u226AMap;1\u2905Mcy;1\u041CMediumSpace;1\u205FMellintrf;1\u2133"
+			+ "Mfr;2\uD835\uDD10MinusPlus;1\u2213Mopf;2\uD835\uDD44Mscr;1\u2133Mu;1\u039CNJcy;1\u040A"
+			+ "Nacute;1\u0143Ncaron;1\u0147Ncedil;1\u0145Ncy;1\u041DNegativeMediumSpace;1\u200B"
+			+ "NegativeThickSpace;1\u200BNegativeThinSpace;1\u200BNegativeVeryThinSpace;1\u200B"
+			+ "NestedGreaterGreater;1\u226BNestedLessLess;1\u226ANewLine;1\nNfr;2\uD835\uDD11NoBreak;1\u2060"
+			+ "NonBreakingSpace;1\u00A0Nopf;1\u2115Not;1\u2AECNotCongruent;1\u2262NotCupCap;1\u226D"
+			+ "NotDoubleVerticalBar;1\u2226NotElement;1\u2209NotEqual;1\u2260NotEqualTilde;2\u2242\u0338"
+			+ "NotExists;1\u2204NotGreater;1\u226FNotGreaterEqual;1\u2271NotGreaterFullEqual;2\u2267\u0338"
+			+ "NotGreaterGreater;2\u226B\u0338NotGreaterLess;1\u2279NotGreaterSlantEqual;2\u2A7E\u0338"
+			+ "NotGreaterTilde;1\u2275NotHumpDownHump;2\u224E\u0338NotHumpEqual;2\u224F\u0338"
+			+ "NotLeftTriangle;1\u22EANotLeftTriangleBar;2\u29CF\u0338NotLeftTriangleEqual;1\u22EC"
+			+ "NotLess;1\u226ENotLessEqual;1\u2270NotLessGreater;1\u2278NotLessLess;2\u226A\u0338"
+			+ "NotLessSlantEqual;2\u2A7D\u0338NotLessTilde;1\u2274NotNestedGreaterGreater;2\u2AA2\u0338"
+			+ "NotNestedLessLess;2\u2AA1\u0338NotPrecedes;1\u2280NotPrecedesEqual;2\u2AAF\u0338"
+			+ "NotPrecedesSlantEqual;1\u22E0NotReverseElement;1\u220CNotRightTriangle;1\u22EB"
+			+ "NotRightTriangleBar;2\u29D0\u0338NotRightTriangleEqual;1\u22EDNotSquareSubset;2\u228F\u0338"
+			+ "NotSquareSubsetEqual;1\u22E2NotSquareSuperset;2\u2290\u0338NotSquareSupersetEqual;1\u22E3"
+			+ "NotSubset;2\u2282\u20D2NotSubsetEqual;1\u2288NotSucceeds;1\u2281NotSucceedsEqual;2\u2AB0\u0338"
+			+ "NotSucceedsSlantEqual;1\u22E1NotSucceedsTilde;2\u227F\u0338NotSuperset;2\u2283\u20D2"
+			+ "NotSupersetEqual;1\u2289NotTilde;1\u2241NotTildeEqual;1\u2244NotTildeFullEqual;1\u2247"
+			+ "NotTildeTilde;1\u2249NotVerticalBar;1\u2224Nscr;2\uD835\uDCA9Ntilde;1\u00D1Nu;1\u039D"
+			+ "OElig;1\u0152Oacute;1\u00D3Ocirc;1\u00D4Ocy;1\u041EOdblac;1\u0150Ofr;2\uD835\uDD12Ograve;1\u00D2"
+			+ "Omacr;1\u014COmega;1\u03A9Omicron;1\u039FOopf;2\uD835\uDD46OpenCurlyDoubleQuote;1\u201C"
+			+ "OpenCurlyQuote;1\u2018Or;1\u2A54Oscr;2\uD835\uDCAAOslash;1\u00D8Otilde;1\u00D5Otimes;1\u2A37"
+			+ "Ouml;1\u00D6OverBar;1\u203EOverBrace;1\u23DEOverBracket;1\u23B4OverParenthesis;1\u23DC"
+			+ "PartialD;1\u2202Pcy;1\u041FPfr;2\uD835\uDD13Phi;1\u03A6Pi;1\u03A0PlusMinus;1\u00B1"
+			+ "Poincareplane;1\u210CPopf;1\u2119Pr;1\u2ABBPrecedes;1\u227APrecedesEqual;1\u2AAF"
+			+ "PrecedesSlantEqual;1\u227CPrecedesTilde;1\u227EPrime;1\u2033Product;1\u220FProportion;1\u2237"
+			+ "Proportional;1\u221DPscr;2\uD835\uDCABPsi;1\u03A8QUOT;1\"Qfr;2\uD835\uDD14Qopf;1\u211A"
+			+ "Qscr;2\uD835\uDCACRBarr;1\u2910REG;1\u00AERacute;1\u0154Rang;1\u27EBRarr;1\u21A0Rarrtl;1\u2916"
+			+ "Rcaron;1\u0158Rcedil;1\u0156Rcy;1\u0420Re;1\u211CReverseElement;1\u220B"
+			+ "ReverseEquilibrium;1\u21CBReverseUpEquilibrium;1\u296FRfr;1\u211CRho;1\u03A1"
+			+ "RightAngleBracket;1\u27E9RightArrow;1\u2192RightArrowBar;1\u21E5RightArrowLeftArrow;1\u21C4"
+			+ "RightCeiling;1\u2309RightDoubleBracket;1\u27E7RightDownTeeVector;1\u295DRightDownVector;1\u21C2"
+			+ "RightDownVectorBar;1\u2955RightFloor;1\u230BRightTee;1\u22A2RightTeeArrow;1\u21A6"
+			+ "RightTeeVector;1\u295BRightTriangle;1\u22B3RightTriangleBar;1\u29D0RightTriangleEqual;1\u22B5"
+			+ "RightUpDownVector;1\u294FRightUpTeeVector;1\u295CRightUpVector;1\u21BERightUpVectorBar;1\u2954"
+			+ "RightVector;1\u21C0RightVectorBar;1\u2953Rightarrow;1\u21D2Ropf;1\u211DRoundImplies;1\u2970"
+			+ "Rrightarrow;1\u21DBRscr;1\u211BRsh;1\u21B1RuleDelayed;1\u29F4SHCHcy;1\u0429SHcy;1\u0428"
+			+ "SOFTcy;1\u042CSacute;1\u015ASc;1\u2ABCScaron;1\u0160Scedil;1\u015EScirc;1\u015CScy;1\u0421"
+			+ "Sfr;2\uD835\uDD16ShortDownArrow;1\u2193ShortLeftArrow;1\u2190ShortRightArrow;1\u2192"
+			+ "ShortUpArrow;1\u2191Sigma;1\u03A3SmallCircle;1\u2218Sopf;2\uD835\uDD4ASqrt;1\u221ASquare;1\u25A1"
+			+ "SquareIntersection;1\u2293SquareSubset;1\u228FSquareSubsetEqual;1\u2291SquareSuperset;1\u2290"
+			+ "SquareSupersetEqual;1\u2292SquareUnion;1\u2294Sscr;2\uD835\uDCAEStar;1\u22C6Sub;1\u22D0"
+			+ "Subset;1\u22D0SubsetEqual;1\u2286Succeeds;1\u227BSucceedsEqual;1\u2AB0SucceedsSlantEqual;1\u227D"
+			+ "SucceedsTilde;1\u227FSuchThat;1\u220BSum;1\u2211Sup;1\u22D1Superset;1\u2283SupersetEqual;1\u2287"
+			+ "Supset;1\u22D1THORN;1\u00DETRADE;1\u2122TSHcy;1\u040BTScy;1\u0426Tab;1\tTau;1\u03A4"
+			+ "Tcaron;1\u0164Tcedil;1\u0162Tcy;1\u0422Tfr;2\uD835\uDD17Therefore;1\u2234Theta;1\u0398"
+			+ "ThickSpace;2\u205F\u200AThinSpace;1\u2009Tilde;1\u223CTildeEqual;1\u2243TildeFullEqual;1\u2245"
+			+ "TildeTilde;1\u2248Topf;2\uD835\uDD4BTripleDot;1\u20DBTscr;2\uD835\uDCAFTstrok;1\u0166"
+			+ "Uacute;1\u00DAUarr;1\u219FUarrocir;1\u2949Ubrcy;1\u040EUbreve;1\u016CUcirc;1\u00DBUcy;1\u0423"
+			+ "Udblac;1\u0170Ufr;2\uD835\uDD18Ugrave;1\u00D9Umacr;1\u016AUnderBar;1_UnderBrace;1\u23DF"
+			+ "UnderBracket;1\u23B5UnderParenthesis;1\u23DDUnion;1\u22C3UnionPlus;1\u228EUogon;1\u0172"
+			+ "Uopf;2\uD835\uDD4CUpArrow;1\u2191UpArrowBar;1\u2912UpArrowDownArrow;1\u21C5UpDownArrow;1\u2195"
+			+ "UpEquilibrium;1\u296EUpTee;1\u22A5UpTeeArrow;1\u21A5Uparrow;1\u21D1Updownarrow;1\u21D5"
+			+ "UpperLeftArrow;1\u2196UpperRightArrow;1\u2197Upsi;1\u03D2Upsilon;1\u03A5Uring;1\u016E"
+			+ "Uscr;2\uD835\uDCB0Utilde;1\u0168Uuml;1\u00DCVDash;1\u22ABVbar;1\u2AEBVcy;1\u0412Vdash;1\u22A9"
+			+ "Vdashl;1\u2AE6Vee;1\u22C1Verbar;1\u2016Vert;1\u2016VerticalBar;1\u2223VerticalLine;1|"
+			+ "VerticalSeparator;1\u2758VerticalTilde;1\u2240VeryThinSpace;1\u200AVfr;2\uD835\uDD19"
+			+ "Vopf;2\uD835\uDD4DVscr;2\uD835\uDCB1Vvdash;1\u22AAWcirc;1\u0174Wedge;1\u22C0Wfr;2\uD835\uDD1A"
+			+ "Wopf;2\uD835\uDD4EWscr;2\uD835\uDCB2Xfr;2\uD835\uDD1BXi;1\u039EXopf;2\uD835\uDD4F"
+			+ "Xscr;2\uD835\uDCB3YAcy;1\u042FYIcy;1\u0407YUcy;1\u042EYacute;1\u00DDYcirc;1\u0176Ycy;1\u042B"
+			+ "Yfr;2\uD835\uDD1CYopf;2\uD835\uDD50Yscr;2\uD835\uDCB4Yuml;1\u0178ZHcy;1\u0416Zacute;1\u0179"
+			+ "Zcaron;1\u017DZcy;1\u0417Zdot;1\u017BZeroWidthSpace;1\u200BZeta;1\u0396Zfr;1\u2128Zopf;1\u2124"
+			+ "Zscr;2\uD835\uDCB5aacute;1\u00E1abreve;1\u0103ac;1\u223EacE;2\u223E\u0333acd;1\u223F"
+			+ "acirc;1\u00E2acute;1\u00B4acy;1\u0430aelig;1\u00E6af;1\u2061afr;2\uD835\uDD1Eagrave;1\u00E0"
+			+ "alefsym;1\u2135aleph;1\u2135alpha;1\u03B1amacr;1\u0101amalg;1\u2A3Famp;1&and;1\u2227"
+			+ "andand;1\u2A55andd;1\u2A5Candslope;1\u2A58andv;1\u2A5Aang;1\u2220ange;1\u29A4angle;1\u2220"
+			+ "angmsd;1\u2221angmsdaa;1\u29A8angmsdab;1\u29A9angmsdac;1\u29AAangmsdad;1\u29ABangmsdae;1\u29AC"
+			+ "angmsdaf;1\u29ADangmsdag;1\u29AEangmsdah;1\u29AFangrt;1\u221Fangrtvb;1\u22BEangrtvbd;1\u299D"
+			+ "angsph;1\u2222angst;1\u00C5angzarr;1\u237Caogon;1\u0105aopf;2\uD835\uDD52ap;1\u2248apE;1\u2A70"
+			+ "apacir;1\u2A6Fape;1\u224Aapid;1\u224Bapos;1'approx;1\u2248approxeq;1\u224Aaring;1\u00E5"
+			+ "ascr;2\uD835\uDCB6ast;1*asymp;1\u2248asympeq;1\u224Datilde;1\u00E3auml;1\u00E4awconint;1\u2233"
+			+ "awint;1\u2A11bNot;1\u2AEDbackcong;1\u224Cbackepsilon;1\u03F6backprime;1\u2035backsim;1\u223D"
+			+ "backsimeq;1\u22CDbarvee;1\u22BDbarwed;1\u2305barwedge;1\u2305bbrk;1\u23B5bbrktbrk;1\u23B6"
+			+ "bcong;1\u224Cbcy;1\u0431bdquo;1\u201Ebecaus;1\u2235because;1\u2235bemptyv;1\u29B0bepsi;1\u03F6"
+			+ "bernou;1\u212Cbeta;1\u03B2beth;1\u2136between;1\u226Cbfr;2\uD835\uDD1Fbigcap;1\u22C2"
+			+ "bigcirc;1\u25EFbigcup;1\u22C3bigodot;1\u2A00bigoplus;1\u2A01bigotimes;1\u2A02bigsqcup;1\u2A06"
+			+ "bigstar;1\u2605bigtriangledown;1\u25BDbigtriangleup;1\u25B3biguplus;1\u2A04bigvee;1\u22C1"
+			+ "bigwedge;1\u22C0bkarow;1\u290Dblacklozenge;1\u29EBblacksquare;1\u25AAblacktriangle;1\u25B4"
+			+ "blacktriangledown;1\u25BEblacktriangleleft;1\u25C2blacktriangleright;1\u25B8blank;1\u2423"
+			+ "blk12;1\u2592blk14;1\u2591blk34;1\u2593block;1\u2588bne;2=\u20E5bnequiv;2\u2261\u20E5"
+			+ "bnot;1\u2310bopf;2\uD835\uDD53bot;1\u22A5bottom;1\u22A5bowtie;1\u22C8boxDL;1\u2557boxDR;1\u2554"
+			+ "boxDl;1\u2556boxDr;1\u2553boxH;1\u2550boxHD;1\u2566boxHU;1\u2569boxHd;1\u2564boxHu;1\u2567"
+			+ "boxUL;1\u255DboxUR;1\u255AboxUl;1\u255CboxUr;1\u2559boxV;1\u2551boxVH;1\u256CboxVL;1\u2563"
+			+ "boxVR;1\u2560boxVh;1\u256BboxVl;1\u2562boxVr;1\u255Fboxbox;1\u29C9boxdL;1\u2555boxdR;1\u2552"
+			+ "boxdl;1\u2510boxdr;1\u250Cboxh;1\u2500boxhD;1\u2565boxhU;1\u2568boxhd;1\u252Cboxhu;1\u2534"
+			+ "boxminus;1\u229Fboxplus;1\u229Eboxtimes;1\u22A0boxuL;1\u255BboxuR;1\u2558boxul;1\u2518"
+			+ "boxur;1\u2514boxv;1\u2502boxvH;1\u256AboxvL;1\u2561boxvR;1\u255Eboxvh;1\u253Cboxvl;1\u2524"
+			+ "boxvr;1\u251Cbprime;1\u2035breve;1\u02D8brvbar;1\u00A6bscr;2\uD835\uDCB7bsemi;1\u204F"
+			+ "bsim;1\u223Dbsime;1\u22CDbsol;1\\bsolb;1\u29C5bsolhsub;1\u27C8bull;1\u2022bullet;1\u2022"
+			+ "bump;1\u224EbumpE;1\u2AAEbumpe;1\u224Fbumpeq;1\u224Fcacute;1\u0107cap;1\u2229capand;1\u2A44"
+			+ "capbrcup;1\u2A49capcap;1\u2A4Bcapcup;1\u2A47capdot;1\u2A40caps;2\u2229\uFE00caret;1\u2041"
+			+ "caron;1\u02C7ccaps;1\u2A4Dccaron;1\u010Dccedil;1\u00E7ccirc;1\u0109ccups;1\u2A4Cccupssm;1\u2A50"
+			+ "cdot;1\u010Bcedil;1\u00B8cemptyv;1\u29B2cent;1\u00A2centerdot;1\u00B7cfr;2\uD835\uDD20"
+			+ "chcy;1\u0447check;1\u2713checkmark;1\u2713chi;1\u03C7cir;1\u25CBcirE;1\u29C3circ;1\u02C6"
+			+ "circeq;1\u2257circlearrowleft;1\u21BAcirclearrowright;1\u21BBcircledR;1\u00AEcircledS;1\u24C8"
+			+ "circledast;1\u229Bcircledcirc;1\u229Acircleddash;1\u229Dcire;1\u2257cirfnint;1\u2A10"
+			+ "cirmid;1\u2AEFcirscir;1\u29C2clubs;1\u2663clubsuit;1\u2663colon;1:colone;1\u2254coloneq;1\u2254"
+			+ "comma;1,commat;1@comp;1\u2201compfn;1\u2218complement;1\u2201complexes;1\u2102cong;1\u2245"
+			+ "congdot;1\u2A6Dconint;1\u222Ecopf;2\uD835\uDD54coprod;1\u2210copy;1\u00A9copysr;1\u2117"
+			+ "crarr;1\u21B5cross;1\u2717cscr;2\uD835\uDCB8csub;1\u2ACFcsube;1\u2AD1csup;1\u2AD0csupe;1\u2AD2"
+			+ "ctdot;1\u22EFcudarrl;1\u2938cudarrr;1\u2935cuepr;1\u22DEcuesc;1\u22DFcularr;1\u21B6"
+			+ "cularrp;1\u293Dcup;1\u222Acupbrcap;1\u2A48cupcap;1\u2A46cupcup;1\u2A4Acupdot;1\u228D"
+			+ "cupor;1\u2A45cups;2\u222A\uFE00curarr;1\u21B7curarrm;1\u293Ccurlyeqprec;1\u22DE"
+			+ "curlyeqsucc;1\u22DFcurlyvee;1\u22CEcurlywedge;1\u22CFcurren;1\u00A4curvearrowleft;1\u21B6"
+			+ "curvearrowright;1\u21B7cuvee;1\u22CEcuwed;1\u22CFcwconint;1\u2232cwint;1\u2231cylcty;1\u232D"
+			+ "dArr;1\u21D3dHar;1\u2965dagger;1\u2020daleth;1\u2138darr;1\u2193dash;1\u2010dashv;1\u22A3"
+			+ "dbkarow;1\u290Fdblac;1\u02DDdcaron;1\u010Fdcy;1\u0434dd;1\u2146ddagger;1\u2021ddarr;1\u21CA"
+			+ "ddotseq;1\u2A77deg;1\u00B0delta;1\u03B4demptyv;1\u29B1dfisht;1\u297Fdfr;2\uD835\uDD21"
+			+ "dharl;1\u21C3dharr;1\u21C2diam;1\u22C4diamond;1\u22C4diamondsuit;1\u2666diams;1\u2666die;1\u00A8"
+			+ "digamma;1\u03DDdisin;1\u22F2div;1\u00F7divide;1\u00F7divideontimes;1\u22C7divonx;1\u22C7"
+			+ "djcy;1\u0452dlcorn;1\u231Edlcrop;1\u230Ddollar;1$dopf;2\uD835\uDD55dot;1\u02D9doteq;1\u2250"
+			+ "doteqdot;1\u2251dotminus;1\u2238dotplus;1\u2214dotsquare;1\u22A1doublebarwedge;1\u2306"
+			+ "downarrow;1\u2193downdownarrows;1\u21CAdownharpoonleft;1\u21C3downharpoonright;1\u21C2"
+			+ "drbkarow;1\u2910drcorn;1\u231Fdrcrop;1\u230Cdscr;2\uD835\uDCB9dscy;1\u0455dsol;1\u29F6"
+			+ "dstrok;1\u0111dtdot;1\u22F1dtri;1\u25BFdtrif;1\u25BEduarr;1\u21F5duhar;1\u296Fdwangle;1\u29A6"
+			+ "dzcy;1\u045Fdzigrarr;1\u27FFeDDot;1\u2A77eDot;1\u2251eacute;1\u00E9easter;1\u2A6Eecaron;1\u011B"
+			+ "ecir;1\u2256ecirc;1\u00EAecolon;1\u2255ecy;1\u044Dedot;1\u0117ee;1\u2147efDot;1\u2252"
+			+ "efr;2\uD835\uDD22eg;1\u2A9Aegrave;1\u00E8egs;1\u2A96egsdot;1\u2A98el;1\u2A99elinters;1\u23E7"
+			+ "ell;1\u2113els;1\u2A95elsdot;1\u2A97emacr;1\u0113empty;1\u2205emptyset;1\u2205emptyv;1\u2205"
+			+ "emsp;1\u2003emsp13;1\u2004emsp14;1\u2005eng;1\u014Bensp;1\u2002eogon;1\u0119eopf;2\uD835\uDD56"
+			+ "epar;1\u22D5eparsl;1\u29E3eplus;1\u2A71epsi;1\u03B5epsilon;1\u03B5epsiv;1\u03F5eqcirc;1\u2256"
+			+ "eqcolon;1\u2255eqsim;1\u2242eqslantgtr;1\u2A96eqslantless;1\u2A95equals;1=equest;1\u225F"
+			+ "equiv;1\u2261equivDD;1\u2A78eqvparsl;1\u29E5erDot;1\u2253erarr;1\u2971escr;1\u212Fesdot;1\u2250"
+			+ "esim;1\u2242eta;1\u03B7eth;1\u00F0euml;1\u00EBeuro;1\u20ACexcl;1!exist;1\u2203"
+			+ "expectation;1\u2130exponentiale;1\u2147fallingdotseq;1\u2252fcy;1\u0444female;1\u2640"
+			+ "ffilig;1\uFB03fflig;1\uFB00ffllig;1\uFB04ffr;2\uD835\uDD23filig;1\uFB01fjlig;2fjflat;1\u266D"
+			+ "fllig;1\uFB02fltns;1\u25B1fnof;1\u0192fopf;2\uD835\uDD57forall;1\u2200fork;1\u22D4forkv;1\u2AD9"
+			+ "fpartint;1\u2A0Dfrac12;1\u00BDfrac13;1\u2153frac14;1\u00BCfrac15;1\u2155frac16;1\u2159"
+			+ "frac18;1\u215Bfrac23;1\u2154frac25;1\u2156frac34;1\u00BEfrac35;1\u2157frac38;1\u215C"
+			+ "frac45;1\u2158frac56;1\u215Afrac58;1\u215Dfrac78;1\u215Efrasl;1\u2044frown;1\u2322"
+			+ "fscr;2\uD835\uDCBBgE;1\u2267gEl;1\u2A8Cgacute;1\u01F5gamma;1\u03B3gammad;1\u03DDgap;1\u2A86"
+			+ "gbreve;1\u011Fgcirc;1\u011Dgcy;1\u0433gdot;1\u0121ge;1\u2265gel;1\u22DBgeq;1\u2265geqq;1\u2267"
+			+ "geqslant;1\u2A7Eges;1\u2A7Egescc;1\u2AA9gesdot;1\u2A80gesdoto;1\u2A82gesdotol;1\u2A84"
+			+ "gesl;2\u22DB\uFE00gesles;1\u2A94gfr;2\uD835\uDD24gg;1\u226Bggg;1\u22D9gimel;1\u2137gjcy;1\u0453"
+			+ "gl;1\u2277glE;1\u2A92gla;1\u2AA5glj;1\u2AA4gnE;1\u2269gnap;1\u2A8Agnapprox;1\u2A8Agne;1\u2A88"
+			+ "gneq;1\u2A88gneqq;1\u2269gnsim;1\u22E7gopf;2\uD835\uDD58grave;1`gscr;1\u210Agsim;1\u2273"
+			+ "gsime;1\u2A8Egsiml;1\u2A90gt;1>gtcc;1\u2AA7gtcir;1\u2A7Agtdot;1\u22D7gtlPar;1\u2995"
+			+ "gtquest;1\u2A7Cgtrapprox;1\u2A86gtrarr;1\u2978gtrdot;1\u22D7gtreqless;1\u22DBgtreqqless;1\u2A8C"
+			+ "gtrless;1\u2277gtrsim;1\u2273gvertneqq;2\u2269\uFE00gvnE;2\u2269\uFE00hArr;1\u21D4hairsp;1\u200A"
+			+ "half;1\u00BDhamilt;1\u210Bhardcy;1\u044Aharr;1\u2194harrcir;1\u2948harrw;1\u21ADhbar;1\u210F"
+			+ "hcirc;1\u0125hearts;1\u2665heartsuit;1\u2665hellip;1\u2026hercon;1\u22B9hfr;2\uD835\uDD25"
+			+ "hksearow;1\u2925hkswarow;1\u2926hoarr;1\u21FFhomtht;1\u223Bhookleftarrow;1\u21A9"
+			+ "hookrightarrow;1\u21AAhopf;2\uD835\uDD59horbar;1\u2015hscr;2\uD835\uDCBDhslash;1\u210F"
+			+ "hstrok;1\u0127hybull;1\u2043hyphen;1\u2010iacute;1\u00EDic;1\u2063icirc;1\u00EEicy;1\u0438"
+			+ "iecy;1\u0435iexcl;1\u00A1iff;1\u21D4ifr;2\uD835\uDD26igrave;1\u00ECii;1\u2148iiiint;1\u2A0C"
+			+ "iiint;1\u222Diinfin;1\u29DCiiota;1\u2129ijlig;1\u0133imacr;1\u012Bimage;1\u2111imagline;1\u2110"
+			+ "imagpart;1\u2111imath;1\u0131imof;1\u22B7imped;1\u01B5in;1\u2208incare;1\u2105infin;1\u221E"
+			+ "infintie;1\u29DDinodot;1\u0131int;1\u222Bintcal;1\u22BAintegers;1\u2124intercal;1\u22BA"
+			+ "intlarhk;1\u2A17intprod;1\u2A3Ciocy;1\u0451iogon;1\u012Fiopf;2\uD835\uDD5Aiota;1\u03B9"
+			+ "iprod;1\u2A3Ciquest;1\u00BFiscr;2\uD835\uDCBEisin;1\u2208isinE;1\u22F9isindot;1\u22F5"
+			+ "isins;1\u22F4isinsv;1\u22F3isinv;1\u2208it;1\u2062itilde;1\u0129iukcy;1\u0456iuml;1\u00EF"
+			+ "jcirc;1\u0135jcy;1\u0439jfr;2\uD835\uDD27jmath;1\u0237jopf;2\uD835\uDD5Bjscr;2\uD835\uDCBF"
+			+ "jsercy;1\u0458jukcy;1\u0454kappa;1\u03BAkappav;1\u03F0kcedil;1\u0137kcy;1\u043Akfr;2\uD835\uDD28"
+			+ "kgreen;1\u0138khcy;1\u0445kjcy;1\u045Ckopf;2\uD835\uDD5Ckscr;2\uD835\uDCC0lAarr;1\u21DA"
+			+ "lArr;1\u21D0lAtail;1\u291BlBarr;1\u290ElE;1\u2266lEg;1\u2A8BlHar;1\u2962lacute;1\u013A"
+			+ "laemptyv;1\u29B4lagran;1\u2112lambda;1\u03BBlang;1\u27E8langd;1\u2991langle;1\u27E8lap;1\u2A85"
+			+ "laquo;1\u00ABlarr;1\u2190larrb;1\u21E4larrbfs;1\u291Flarrfs;1\u291Dlarrhk;1\u21A9larrlp;1\u21AB"
+			+ "larrpl;1\u2939larrsim;1\u2973larrtl;1\u21A2lat;1\u2AABlatail;1\u2919late;1\u2AAD"
+			+ "lates;2\u2AAD\uFE00lbarr;1\u290Clbbrk;1\u2772lbrace;1{lbrack;1[lbrke;1\u298Blbrksld;1\u298F"
+			+ "lbrkslu;1\u298Dlcaron;1\u013Elcedil;1\u013Clceil;1\u2308lcub;1{lcy;1\u043Bldca;1\u2936"
+			+ "ldquo;1\u201Cldquor;1\u201Eldrdhar;1\u2967ldrushar;1\u294Bldsh;1\u21B2le;1\u2264"
+			+ "leftarrow;1\u2190leftarrowtail;1\u21A2leftharpoondown;1\u21BDleftharpoonup;1\u21BC"
+			+ "leftleftarrows;1\u21C7leftrightarrow;1\u2194leftrightarrows;1\u21C6leftrightharpoons;1\u21CB"
+			+ "leftrightsquigarrow;1\u21ADleftthreetimes;1\u22CBleg;1\u22DAleq;1\u2264leqq;1\u2266"
+			+ "leqslant;1\u2A7Dles;1\u2A7Dlescc;1\u2AA8lesdot;1\u2A7Flesdoto;1\u2A81lesdotor;1\u2A83"
+			+ "lesg;2\u22DA\uFE00lesges;1\u2A93lessapprox;1\u2A85lessdot;1\u22D6lesseqgtr;1\u22DA"
+			+ "lesseqqgtr;1\u2A8Blessgtr;1\u2276lesssim;1\u2272lfisht;1\u297Clfloor;1\u230Alfr;2\uD835\uDD29"
+			+ "lg;1\u2276lgE;1\u2A91lhard;1\u21BDlharu;1\u21BClharul;1\u296Alhblk;1\u2584ljcy;1\u0459ll;1\u226A"
+			+ "llarr;1\u21C7llcorner;1\u231Ellhard;1\u296Blltri;1\u25FAlmidot;1\u0140lmoust;1\u23B0"
+			+ "lmoustache;1\u23B0lnE;1\u2268lnap;1\u2A89lnapprox;1\u2A89lne;1\u2A87lneq;1\u2A87lneqq;1\u2268"
+			+ "lnsim;1\u22E6loang;1\u27ECloarr;1\u21FDlobrk;1\u27E6longleftarrow;1\u27F5"
+			+ "longleftrightarrow;1\u27F7longmapsto;1\u27FClongrightarrow;1\u27F6looparrowleft;1\u21AB"
+			+ "looparrowright;1\u21AClopar;1\u2985lopf;2\uD835\uDD5Dloplus;1\u2A2Dlotimes;1\u2A34lowast;1\u2217"
+			+ "lowbar;1_loz;1\u25CAlozenge;1\u25CAlozf;1\u29EBlpar;1(lparlt;1\u2993lrarr;1\u21C6"
+			+ "lrcorner;1\u231Flrhar;1\u21CBlrhard;1\u296Dlrm;1\u200Elrtri;1\u22BFlsaquo;1\u2039"
+			+ "lscr;2\uD835\uDCC1lsh;1\u21B0lsim;1\u2272lsime;1\u2A8Dlsimg;1\u2A8Flsqb;1[lsquo;1\u2018"
+			+ "lsquor;1\u201Alstrok;1\u0142lt;1<ltcc;1\u2AA6ltcir;1\u2A79ltdot;1\u22D6lthree;1\u22CB"
+			+ "ltimes;1\u22C9ltlarr;1\u2976ltquest;1\u2A7BltrPar;1\u2996ltri;1\u25C3ltrie;1\u22B4ltrif;1\u25C2"
+			+ "lurdshar;1\u294Aluruhar;1\u2966lvertneqq;2\u2268\uFE00lvnE;2\u2268\uFE00mDDot;1\u223A"
+			+ "macr;1\u00AFmale;1\u2642malt;1\u2720maltese;1\u2720map;1\u21A6mapsto;1\u21A6mapstodown;1\u21A7"
+			+ "mapstoleft;1\u21A4mapstoup;1\u21A5marker;1\u25AEmcomma;1\u2A29mcy;1\u043Cmdash;1\u2014"
+			+ "measuredangle;1\u2221mfr;2\uD835\uDD2Amho;1\u2127micro;1\u00B5mid;1\u2223midast;1*midcir;1\u2AF0"
+			+ "middot;1\u00B7minus;1\u2212minusb;1\u229Fminusd;1\u2238minusdu;1\u2A2Amlcp;1\u2ADBmldr;1\u2026"
+			+ "mnplus;1\u2213models;1\u22A7mopf;2\uD835\uDD5Emp;1\u2213mscr;2\uD835\uDCC2mstpos;1\u223E"
+			+ "mu;1\u03BCmultimap;1\u22B8mumap;1\u22B8nGg;2\u22D9\u0338nGt;2\u226B\u20D2nGtv;2\u226B\u0338"
+			+ "nLeftarrow;1\u21CDnLeftrightarrow;1\u21CEnLl;2\u22D8\u0338nLt;2\u226A\u20D2nLtv;2\u226A\u0338"
+			+ "nRightarrow;1\u21CFnVDash;1\u22AFnVdash;1\u22AEnabla;1\u2207nacute;1\u0144nang;2\u2220\u20D2"
+			+ "nap;1\u2249napE;2\u2A70\u0338napid;2\u224B\u0338napos;1\u0149napprox;1\u2249natur;1\u266E"
+			+ "natural;1\u266Enaturals;1\u2115nbsp;1\u00A0nbump;2\u224E\u0338nbumpe;2\u224F\u0338ncap;1\u2A43"
+			+ "ncaron;1\u0148ncedil;1\u0146ncong;1\u2247ncongdot;2\u2A6D\u0338ncup;1\u2A42ncy;1\u043D"
+			+ "ndash;1\u2013ne;1\u2260neArr;1\u21D7nearhk;1\u2924nearr;1\u2197nearrow;1\u2197"
+			+ "nedot;2\u2250\u0338nequiv;1\u2262nesear;1\u2928nesim;2\u2242\u0338nexist;1\u2204nexists;1\u2204"
+			+ "nfr;2\uD835\uDD2BngE;2\u2267\u0338nge;1\u2271ngeq;1\u2271ngeqq;2\u2267\u0338"
+			+ "ngeqslant;2\u2A7E\u0338nges;2\u2A7E\u0338ngsim;1\u2275ngt;1\u226Fngtr;1\u226FnhArr;1\u21CE"
+			+ "nharr;1\u21AEnhpar;1\u2AF2ni;1\u220Bnis;1\u22FCnisd;1\u22FAniv;1\u220Bnjcy;1\u045AnlArr;1\u21CD"
+			+ "nlE;2\u2266\u0338nlarr;1\u219Anldr;1\u2025nle;1\u2270nleftarrow;1\u219Anleftrightarrow;1\u21AE"
+			+ "nleq;1\u2270nleqq;2\u2266\u0338nleqslant;2\u2A7D\u0338nles;2\u2A7D\u0338nless;1\u226E"
+			+ "nlsim;1\u2274nlt;1\u226Enltri;1\u22EAnltrie;1\u22ECnmid;1\u2224nopf;2\uD835\uDD5Fnot;1\u00AC"
+			+ "notin;1\u2209notinE;2\u22F9\u0338notindot;2\u22F5\u0338notinva;1\u2209notinvb;1\u22F7"
+			+ "notinvc;1\u22F6notni;1\u220Cnotniva;1\u220Cnotnivb;1\u22FEnotnivc;1\u22FDnpar;1\u2226"
+			+ "nparallel;1\u2226nparsl;2\u2AFD\u20E5npart;2\u2202\u0338npolint;1\u2A14npr;1\u2280nprcue;1\u22E0"
+			+ "npre;2\u2AAF\u0338nprec;1\u2280npreceq;2\u2AAF\u0338nrArr;1\u21CFnrarr;1\u219B"
+			+ "nrarrc;2\u2933\u0338nrarrw;2\u219D\u0338nrightarrow;1\u219Bnrtri;1\u22EBnrtrie;1\u22ED"
+			+ "nsc;1\u2281nsccue;1\u22E1nsce;2\u2AB0\u0338nscr;2\uD835\uDCC3nshortmid;1\u2224"
+			+ "nshortparallel;1\u2226nsim;1\u2241nsime;1\u2244nsimeq;1\u2244nsmid;1\u2224nspar;1\u2226"
+			+ "nsqsube;1\u22E2nsqsupe;1\u22E3nsub;1\u2284nsubE;2\u2AC5\u0338nsube;1\u2288nsubset;2\u2282\u20D2"
+			+ "nsubseteq;1\u2288nsubseteqq;2\u2AC5\u0338nsucc;1\u2281nsucceq;2\u2AB0\u0338nsup;1\u2285"
+			+ "nsupE;2\u2AC6\u0338nsupe;1\u2289nsupset;2\u2283\u20D2nsupseteq;1\u2289nsupseteqq;2\u2AC6\u0338"
+			+ "ntgl;1\u2279ntilde;1\u00F1ntlg;1\u2278ntriangleleft;1\u22EAntrianglelefteq;1\u22EC"
+			+ "ntriangleright;1\u22EBntrianglerighteq;1\u22EDnu;1\u03BDnum;1#numero;1\u2116numsp;1\u2007"
+			+ "nvDash;1\u22ADnvHarr;1\u2904nvap;2\u224D\u20D2nvdash;1\u22ACnvge;2\u2265\u20D2nvgt;2>\u20D2"
+			+ "nvinfin;1\u29DEnvlArr;1\u2902nvle;2\u2264\u20D2nvlt;2<\u20D2nvltrie;2\u22B4\u20D2nvrArr;1\u2903"
+			+ "nvrtrie;2\u22B5\u20D2nvsim;2\u223C\u20D2nwArr;1\u21D6nwarhk;1\u2923nwarr;1\u2196nwarrow;1\u2196"
+			+ "nwnear;1\u2927oS;1\u24C8oacute;1\u00F3oast;1\u229Bocir;1\u229Aocirc;1\u00F4ocy;1\u043E"
+			+ "odash;1\u229Dodblac;1\u0151odiv;1\u2A38odot;1\u2299odsold;1\u29BCoelig;1\u0153ofcir;1\u29BF"
+			+ "ofr;2\uD835\uDD2Cogon;1\u02DBograve;1\u00F2ogt;1\u29C1ohbar;1\u29B5ohm;1\u03A9oint;1\u222E"
+			+ "olarr;1\u21BAolcir;1\u29BEolcross;1\u29BBoline;1\u203Eolt;1\u29C0omacr;1\u014Domega;1\u03C9"
+			+ "omicron;1\u03BFomid;1\u29B6ominus;1\u2296oopf;2\uD835\uDD60opar;1\u29B7operp;1\u29B9"
+			+ "oplus;1\u2295or;1\u2228orarr;1\u21BBord;1\u2A5Dorder;1\u2134orderof;1\u2134ordf;1\u00AA"
+			+ "ordm;1\u00BAorigof;1\u22B6oror;1\u2A56orslope;1\u2A57orv;1\u2A5Boscr;1\u2134oslash;1\u00F8"
+			+ "osol;1\u2298otilde;1\u00F5otimes;1\u2297otimesas;1\u2A36ouml;1\u00F6ovbar;1\u233Dpar;1\u2225"
+			+ "para;1\u00B6parallel;1\u2225parsim;1\u2AF3parsl;1\u2AFDpart;1\u2202pcy;1\u043Fpercnt;1%period;1."
+			+ "permil;1\u2030perp;1\u22A5pertenk;1\u2031pfr;2\uD835\uDD2Dphi;1\u03C6phiv;1\u03D5phmmat;1\u2133"
+			+ "phone;1\u260Epi;1\u03C0pitchfork;1\u22D4piv;1\u03D6planck;1\u210Fplanckh;1\u210Eplankv;1\u210F"
+			+ "plus;1+plusacir;1\u2A23plusb;1\u229Epluscir;1\u2A22plusdo;1\u2214plusdu;1\u2A25pluse;1\u2A72"
+			+ "plusmn;1\u00B1plussim;1\u2A26plustwo;1\u2A27pm;1\u00B1pointint;1\u2A15popf;2\uD835\uDD61"
+			+ "pound;1\u00A3pr;1\u227AprE;1\u2AB3prap;1\u2AB7prcue;1\u227Cpre;1\u2AAFprec;1\u227A"
+			+ "precapprox;1\u2AB7preccurlyeq;1\u227Cpreceq;1\u2AAFprecnapprox;1\u2AB9precneqq;1\u2AB5"
+			+ "precnsim;1\u22E8precsim;1\u227Eprime;1\u2032primes;1\u2119prnE;1\u2AB5prnap;1\u2AB9"
+			+ "prnsim;1\u22E8prod;1\u220Fprofalar;1\u232Eprofline;1\u2312profsurf;1\u2313prop;1\u221D"
+			+ "propto;1\u221Dprsim;1\u227Eprurel;1\u22B0pscr;2\uD835\uDCC5psi;1\u03C8puncsp;1\u2008"
+			+ "qfr;2\uD835\uDD2Eqint;1\u2A0Cqopf;2\uD835\uDD62qprime;1\u2057qscr;2\uD835\uDCC6"
+			+ "quaternions;1\u210Dquatint;1\u2A16quest;1?questeq;1\u225Fquot;1\"rAarr;1\u21DBrArr;1\u21D2"
+			+ "rAtail;1\u291CrBarr;1\u290FrHar;1\u2964race;2\u223D\u0331racute;1\u0155radic;1\u221A"
+			+ "raemptyv;1\u29B3rang;1\u27E9rangd;1\u2992range;1\u29A5rangle;1\u27E9raquo;1\u00BBrarr;1\u2192"
+			+ "rarrap;1\u2975rarrb;1\u21E5rarrbfs;1\u2920rarrc;1\u2933rarrfs;1\u291Erarrhk;1\u21AA"
+			+ "rarrlp;1\u21ACrarrpl;1\u2945rarrsim;1\u2974rarrtl;1\u21A3rarrw;1\u219Dratail;1\u291A"
+			+ "ratio;1\u2236rationals;1\u211Arbarr;1\u290Drbbrk;1\u2773rbrace;1}rbrack;1]rbrke;1\u298C"
+			+ "rbrksld;1\u298Erbrkslu;1\u2990rcaron;1\u0159rcedil;1\u0157rceil;1\u2309rcub;1}rcy;1\u0440"
+			+ "rdca;1\u2937rdldhar;1\u2969rdquo;1\u201Drdquor;1\u201Drdsh;1\u21B3real;1\u211Crealine;1\u211B"
+			+ "realpart;1\u211Creals;1\u211Drect;1\u25ADreg;1\u00AErfisht;1\u297Drfloor;1\u230B"
+			+ "rfr;2\uD835\uDD2Frhard;1\u21C1rharu;1\u21C0rharul;1\u296Crho;1\u03C1rhov;1\u03F1"
+			+ "rightarrow;1\u2192rightarrowtail;1\u21A3rightharpoondown;1\u21C1rightharpoonup;1\u21C0"
+			+ "rightleftarrows;1\u21C4rightleftharpoons;1\u21CCrightrightarrows;1\u21C9rightsquigarrow;1\u219D"
+			+ "rightthreetimes;1\u22CCring;1\u02DArisingdotseq;1\u2253rlarr;1\u21C4rlhar;1\u21CCrlm;1\u200F"
+			+ "rmoust;1\u23B1rmoustache;1\u23B1rnmid;1\u2AEEroang;1\u27EDroarr;1\u21FErobrk;1\u27E7"
+			+ "ropar;1\u2986ropf;2\uD835\uDD63roplus;1\u2A2Erotimes;1\u2A35rpar;1)rpargt;1\u2994"
+			+ "rppolint;1\u2A12rrarr;1\u21C9rsaquo;1\u203Arscr;2\uD835\uDCC7rsh;1\u21B1rsqb;1]rsquo;1\u2019"
+			+ "rsquor;1\u2019rthree;1\u22CCrtimes;1\u22CArtri;1\u25B9rtrie;1\u22B5rtrif;1\u25B8rtriltri;1\u29CE"
+			+ "ruluhar;1\u2968rx;1\u211Esacute;1\u015Bsbquo;1\u201Asc;1\u227BscE;1\u2AB4scap;1\u2AB8"
+			+ "scaron;1\u0161sccue;1\u227Dsce;1\u2AB0scedil;1\u015Fscirc;1\u015DscnE;1\u2AB6scnap;1\u2ABA"
+			+ "scnsim;1\u22E9scpolint;1\u2A13scsim;1\u227Fscy;1\u0441sdot;1\u22C5sdotb;1\u22A1sdote;1\u2A66"
+			+ "seArr;1\u21D8searhk;1\u2925searr;1\u2198searrow;1\u2198sect;1\u00A7semi;1;seswar;1\u2929"
+			+ "setminus;1\u2216setmn;1\u2216sext;1\u2736sfr;2\uD835\uDD30sfrown;1\u2322sharp;1\u266F"
+			+ "shchcy;1\u0449shcy;1\u0448shortmid;1\u2223shortparallel;1\u2225shy;1\u00ADsigma;1\u03C3"
+			+ "sigmaf;1\u03C2sigmav;1\u03C2sim;1\u223Csimdot;1\u2A6Asime;1\u2243simeq;1\u2243simg;1\u2A9E"
+			+ "simgE;1\u2AA0siml;1\u2A9DsimlE;1\u2A9Fsimne;1\u2246simplus;1\u2A24simrarr;1\u2972slarr;1\u2190"
+			+ "smallsetminus;1\u2216smashp;1\u2A33smeparsl;1\u29E4smid;1\u2223smile;1\u2323smt;1\u2AAA"
+			+ "smte;1\u2AACsmtes;2\u2AAC\uFE00softcy;1\u044Csol;1/solb;1\u29C4solbar;1\u233Fsopf;2\uD835\uDD64"
+			+ "spades;1\u2660spadesuit;1\u2660spar;1\u2225sqcap;1\u2293sqcaps;2\u2293\uFE00sqcup;1\u2294"
+			+ "sqcups;2\u2294\uFE00sqsub;1\u228Fsqsube;1\u2291sqsubset;1\u228Fsqsubseteq;1\u2291sqsup;1\u2290"
+			+ "sqsupe;1\u2292sqsupset;1\u2290sqsupseteq;1\u2292squ;1\u25A1square;1\u25A1squarf;1\u25AA"
+			+ "squf;1\u25AAsrarr;1\u2192sscr;2\uD835\uDCC8ssetmn;1\u2216ssmile;1\u2323sstarf;1\u22C6"
+			+ "star;1\u2606starf;1\u2605straightepsilon;1\u03F5straightphi;1\u03D5strns;1\u00AFsub;1\u2282"
+			+ "subE;1\u2AC5subdot;1\u2ABDsube;1\u2286subedot;1\u2AC3submult;1\u2AC1subnE;1\u2ACBsubne;1\u228A"
+			+ "subplus;1\u2ABFsubrarr;1\u2979subset;1\u2282subseteq;1\u2286subseteqq;1\u2AC5subsetneq;1\u228A"
+			+ "subsetneqq;1\u2ACBsubsim;1\u2AC7subsub;1\u2AD5subsup;1\u2AD3succ;1\u227Bsuccapprox;1\u2AB8"
+			+ "succcurlyeq;1\u227Dsucceq;1\u2AB0succnapprox;1\u2ABAsuccneqq;1\u2AB6succnsim;1\u22E9"
+			+ "succsim;1\u227Fsum;1\u2211sung;1\u266Asup;1\u2283sup1;1\u00B9sup2;1\u00B2sup3;1\u00B3"
+			+ "supE;1\u2AC6supdot;1\u2ABEsupdsub;1\u2AD8supe;1\u2287supedot;1\u2AC4suphsol;1\u27C9"
+			+ "suphsub;1\u2AD7suplarr;1\u297Bsupmult;1\u2AC2supnE;1\u2ACCsupne;1\u228Bsupplus;1\u2AC0"
+			+ "supset;1\u2283supseteq;1\u2287supseteqq;1\u2AC6supsetneq;1\u228Bsupsetneqq;1\u2ACCsupsim;1\u2AC8"
+			+ "supsub;1\u2AD4supsup;1\u2AD6swArr;1\u21D9swarhk;1\u2926swarr;1\u2199swarrow;1\u2199"
+			+ "swnwar;1\u292Aszlig;1\u00DFtarget;1\u2316tau;1\u03C4tbrk;1\u23B4tcaron;1\u0165tcedil;1\u0163"
+			+ "tcy;1\u0442tdot;1\u20DBtelrec;1\u2315tfr;2\uD835\uDD31there4;1\u2234therefore;1\u2234"
+			+ "theta;1\u03B8thetasym;1\u03D1thetav;1\u03D1thickapprox;1\u2248thicksim;1\u223Cthinsp;1\u2009"
+			+ "thkap;1\u2248thksim;1\u223Cthorn;1\u00FEtilde;1\u02DCtimes;1\u00D7timesb;1\u22A0timesbar;1\u2A31"
+			+ "timesd;1\u2A30tint;1\u222Dtoea;1\u2928top;1\u22A4topbot;1\u2336topcir;1\u2AF1topf;2\uD835\uDD65"
+			+ "topfork;1\u2ADAtosa;1\u2929tprime;1\u2034trade;1\u2122triangle;1\u25B5triangledown;1\u25BF"
+			+ "triangleleft;1\u25C3trianglelefteq;1\u22B4triangleq;1\u225Ctriangleright;1\u25B9"
+			+ "trianglerighteq;1\u22B5tridot;1\u25ECtrie;1\u225Ctriminus;1\u2A3Atriplus;1\u2A39trisb;1\u29CD"
+			+ "tritime;1\u2A3Btrpezium;1\u23E2tscr;2\uD835\uDCC9tscy;1\u0446tshcy;1\u045Btstrok;1\u0167"
+			+ "twixt;1\u226Ctwoheadleftarrow;1\u219Etwoheadrightarrow;1\u21A0uArr;1\u21D1uHar;1\u2963"
+			+ "uacute;1\u00FAuarr;1\u2191ubrcy;1\u045Eubreve;1\u016Ducirc;1\u00FBucy;1\u0443udarr;1\u21C5"
+			+ "udblac;1\u0171udhar;1\u296Eufisht;1\u297Eufr;2\uD835\uDD32ugrave;1\u00F9uharl;1\u21BF"
+			+ "uharr;1\u21BEuhblk;1\u2580ulcorn;1\u231Culcorner;1\u231Culcrop;1\u230Fultri;1\u25F8umacr;1\u016B"
+			+ "uml;1\u00A8uogon;1\u0173uopf;2\uD835\uDD66uparrow;1\u2191updownarrow;1\u2195"
+			+ "upharpoonleft;1\u21BFupharpoonright;1\u21BEuplus;1\u228Eupsi;1\u03C5upsih;1\u03D2upsilon;1\u03C5"
+			+ "upuparrows;1\u21C8urcorn;1\u231Durcorner;1\u231Durcrop;1\u230Euring;1\u016Furtri;1\u25F9"
+			+ "uscr;2\uD835\uDCCAutdot;1\u22F0utilde;1\u0169utri;1\u25B5utrif;1\u25B4uuarr;1\u21C8uuml;1\u00FC"
+			+ "uwangle;1\u29A7vArr;1\u21D5vBar;1\u2AE8vBarv;1\u2AE9vDash;1\u22A8vangrt;1\u299C"
+			+ "varepsilon;1\u03F5varkappa;1\u03F0varnothing;1\u2205varphi;1\u03D5varpi;1\u03D6varpropto;1\u221D"
+			+ "varr;1\u2195varrho;1\u03F1varsigma;1\u03C2varsubsetneq;2\u228A\uFE00varsubsetneqq;2\u2ACB\uFE00"
+			+ "varsupsetneq;2\u228B\uFE00varsupsetneqq;2\u2ACC\uFE00vartheta;1\u03D1vartriangleleft;1\u22B2"
+			+ "vartriangleright;1\u22B3vcy;1\u0432vdash;1\u22A2vee;1\u2228veebar;1\u22BBveeeq;1\u225A"
+			+ "vellip;1\u22EEverbar;1|vert;1|vfr;2\uD835\uDD33vltri;1\u22B2vnsub;2\u2282\u20D2"
+			+ "vnsup;2\u2283\u20D2vopf;2\uD835\uDD67vprop;1\u221Dvrtri;1\u22B3vscr;2\uD835\uDCCB"
+			+ "vsubnE;2\u2ACB\uFE00vsubne;2\u228A\uFE00vsupnE;2\u2ACC\uFE00vsupne;2\u228B\uFE00vzigzag;1\u299A"
+			+ "wcirc;1\u0175wedbar;1\u2A5Fwedge;1\u2227wedgeq;1\u2259weierp;1\u2118wfr;2\uD835\uDD34"
+			+ "wopf;2\uD835\uDD68wp;1\u2118wr;1\u2240wreath;1\u2240wscr;2\uD835\uDCCCxcap;1\u22C2xcirc;1\u25EF"
+			+ "xcup;1\u22C3xdtri;1\u25BDxfr;2\uD835\uDD35xhArr;1\u27FAxharr;1\u27F7xi;1\u03BExlArr;1\u27F8"
+			+ "xlarr;1\u27F5xmap;1\u27FCxnis;1\u22FBxodot;1\u2A00xopf;2\uD835\uDD69xoplus;1\u2A01xotime;1\u2A02"
+			+ "xrArr;1\u27F9xrarr;1\u27F6xscr;2\uD835\uDCCDxsqcup;1\u2A06xuplus;1\u2A04xutri;1\u25B3"
+			+ "xvee;1\u22C1xwedge;1\u22C0yacute;1\u00FDyacy;1\u044Fycirc;1\u0177ycy;1\u044Byen;1\u00A5"
+			+ "yfr;2\uD835\uDD36yicy;1\u0457yopf;2\uD835\uDD6Ayscr;2\uD835\uDCCEyucy;1\u044Eyuml;1\u00FF"
+			+ "zacute;1\u017Azcaron;1\u017Ezcy;1\u0437zdot;1\u017Czeetrf;1\u2128zeta;1\u03B6zfr;2\uD835\uDD37"
+			+ "zhcy;1\u0436zigrarr;1\u21DDzopf;2\uD835\uDD6Bzscr;2\uD835\uDCCFzwj;1\u200Dzwnj;1\u200C";
+
+	/**
+	 * Number of bits of the slot index
+	 */
+	private static final int SLOT_BITS = 12;
+
+	/**
+	 * Number of bits of the bucket index
+	 */
+	private static final int BUCKET_BITS = 10;
+
+	/**
+	 * Characters read as Windows-1252 for numeric references from 0x80 to 0x9F,
+	 * or 0 for those that stay as they are
+	 */
+	private static final char[] WINDOWS_1252 = { '\u20AC', 0, '\u201A', '\u0192', '\u201E', '\u2026', '\u2020', '\u2021',
+			'\u02C6', '\u2030', '\u0160', '\u2039', '\u0152', 0, '\u017D', 0,
+			0, '\u2018', '\u2019', '\u201C', '\u201D', '\u2022', '\u2013', '\u2014',
+			'\u02DC', '\u2122', '\u0161', '\u203A', '\u0153', 0, '\u017E', '\u0178' };
+
+	/**
+	 * Slot of each name of {@link #DATA}, generated with the names
+	 */
+	private static final String SLOTS =
+			"\u0BFC\u05DF\u08EC\u0FCD\u0B33\u01D4\u0E4C\u08C4\u0EDD\u0F8C\u0159\u07E0\u0143\u053B\u0136\u03E6"
+			+ "\u0B31\u0574\u01F2\u0435\u0692\u0477\u0C5B\u0522\u0839\u0705\u095F\u047E\u0CE8\u0451\u0AB9\u02C2"
+			+ "\u09E7\u04E5\u0FA0\u0E86\u0740\u0017\u0CE7\u0825\u0454\u052A\u0A17\u0596\u02AD\u0668\u0F82\u0642"
+			+ "\u0BA8\u05D3\u03F2\u0616\u0DA4\u0943\u0621\u0469\u0FDF\u0FB2\u09F8\u0B5E\u0174\u08AE\u0EAE\u0F36"
+			+ "\u0C82\u0D58\u0B4A\u04A4\u0BC1\u041C\u0EEB\u0CBB\u0C2A\u05EE\u0BB2\u0F66\u005D\u07FE\u08F0\u0677"
+			+ "\u0625\u001D\u0529\u0FAB\u036F\u0868\u0ACA\u081A\u057B\u01B7\u0B62\u016E\u0855\u092A\u037E\u050E"
+			+ "\u0201\u031D\u05CC\u0E25\u02A9\u0860\u0BEA\u0044\u05B7\u0D4D\u0C1E\u0E16\u0696\u08EF\u03C0\u09FB"
+			+ "\u0D19\u0C53\u0184\u023C\u0EA3\u0D43\u054F\u0626\u0929\u0E92\u095C\u011A\u0A4E\u09BD\u0582\u08C5"
+			+ "\u0581\u0CEF\u07CD\u087A\u0E48\u01BA\u01E3\u01B4\u09B7\u0E23\u0E32\u08DF\u01A3\u0CDA\u0A04\u0E70"
+			+ "\u0E56\u00AF\u0C47\u0E4A\u0916\u0F2F\u0C33\u00D6\u0001\u0EB7\u04BC\u0A7A\u0869\u0A25\u0C71\u032C"
+			+ "\u0ACF\u0EBE\u0300\u00C1\u0727\u02C4\u04A6\u05B3\u0B0D\u0988\u07F2\u006F\u0A53\u08B1\u0B67\u04A3"
+			+ "\u01D6\u0C4D\u096E\u08EB\u0D65\u0FFE\u0E63\u0712\u007D\u0897\u0DE8\u035E\u0DA6\u0FF5\u0F11\u01F3"
+			+ "\u0F48\u0D3D\u09C3\u06D6\u0A94\u0DC5\u0F6F\u0BA4\u0401\u0E14\u04E1\u0993\u0076\u0BF0\u05E3\u0E06"
+			+ "\u0B60\u0443\u0680\u0392\u09F0\u09FE\u07C5\u071A\u02FE\u00AA\u06B7\u0150\u06FD\u0E03\u03EE\u035B"
+			+ "\u0EBC\u0B54\u0A0A\u0F98\u067D\u06D5\u053F\u0E3E\u0290\u0F58\u0003\u068A\u02A1\u01C2\u0CF3\u0788"
+			+ "\u0E37\u0841\u0BC2\u0547\u0B6F\u0158\u07B7\u03AA\u0772\u0116\u007A\u041F\u0232\u044D\u07F6\u0BF8"
+			+ "\u03CF\u0D4C\u0BE4\u0CA0\u02AB\u0405\u06FB\u0809\u0D9A\u0E0E\u06BE\u060B\u0BC6\u0079\u0041\u0AE7"
+			+ "\u0CDE\u0B80\u0ECF\u0B08\u09A1\u00B0\u0ADB\u006A\u071F\u021F\u05BB\u00F6\u0CD8\u0DF2\u032B\u0030"
+			+ "\u0813\u0F24\u0792\u070C\u08F2\u01DD\u0F1D\u0F81\u048C\u0B2A\u0E75\u0202\u0045\u0E83\u0DDA\u05FE"
+			+ "\u0D91\u0178\u09C9\u0D32\u046D\u0FAC\u0100\u0E2B\u0D0C\u0CE0\u0BF7\u051B\u0631\u0A2C\u0F91\u0E15"
+			+ "\u04C9\u0ABD\u0EBB\u00BC\u0484\u0C8C\u0806\u0A9F\u0B7B\u063E\u0487\u0F06\u030A\u017F\u0AA0\u0162"
+			+ "\u044A\u0562\u0604\u0D95\u07B3\u0D90\u0C75\u0CB1\u0146\u0C8A\u0CC3\u0279\u038B\u05E0\u0B00\u0A1D"
+			+ "\u0B35\u0C14\u0B2F\u0F4F\u0377\u0CC1\u0B93\u05D5\u05CD\u00DE\u00DD\u087B\u0936\u0A7C\u0407\u084A"
+			+ "\u03C2\u081E\u0A09\u08FA\u008B\u09EB\u0357\u08C8\u0F7E\u01AA\u0F7D\u0BE3\u035A\u03EC\u01F8\u092B"
+			+ "\u0768\u0BFD\u0922\u0CED\u064C\u0738\u0333\u0E98\u0358\u0D8E\u0E69\u05BA\u06BF\u0913\u0822\u0899"
+			+ "\u0FE6\u0AA8\u04E0\u0E72\u0FDC\u0C64\u0A2A\u0FFF\u0018\u064D\u09CF\u08A2\u0C3F\u0236\u02DA\u013A"
+			+ "\u0366\u01DE\u0C7E\u0633\u07C7\u055A\u024D\u03B8\u0794\u018A\u02B0\u01B2\u089C\u0588\u0C0A\u0064"
+			+ "\u0D66\u04EC\u049F\u0E97\u0BA3\u0B1C\u0331\u0656\u0CCA\u07E7\u0A87\u0E55\u0F2D\u042E\u05EA\u0DDF"
+			+ "\u015E\u0330\u03C4\u0BBF\u04B0\u0BD2\u0C98\u02F3\u0082\u0DBE\u0C02\u09DD\u0007\u0A95\u0442\u0999"
+			+ "\u07C2\u029C\u044F\u01E8\u04BE\u0E79\u0FD5\u048D\u090F\u0777\u05AF\u02D1\u0AE1\u0A29\u008E\u0B51"
+			+ "\u0F2E\u0728\u0D86\u05B8\u0462\u03A7\u04EB\u0D07\u0E42\u09E6\u0C72\u0BE9\u0DA2\u0ADE\u0898\u020A"
+			+ "\u0380\u0701\u0CDC\u0A3A\u096F\u0CF6\u0FF7\u0545\u0C36\u078D\u0903\u0EEF\u0E8B\u051F\u0DAA\u0D52"
+			+ "\u0624\u0E66\u09D7\u075A\u0D10\u0A55\u02A6\u019C\u06E1\u0981\u08D3\u0B2D\u070F\u0C27\u0CD3\u0D45"
+			+ "\u0196\u0960\u0A1A\u0034\u0E8D\u0327\u055E\u0B97\u0DFA\u05A1\u0FC4\u0723\u0DB3\u019E\u0077\u0E59"
+			+ "\u0238\u048F\u0A3E\u0EEC\u0511\u05B2\u0EF0\u06D4\u0421\u05C9\u09C5\u072E\u0B02\u0BA7\u08BE\u0C6A"
+			+ "\u0C5A\u08D7\u0D74\u0F3F\u062D\u03DF\u090E\u0EED\u0A49\u0577\u0F71\u0BF5\u04DD\u0E60\u0DFE\u09FD"
+			+ "\u0598\u0425\u0BB5\u07CF\u01D8\u013E\u07B4\u0780\u07B9\u0C83\u0C08\u0B15\u0470\u0613\u03D2\u03A3"
+			+ "\u0FC9\u0EC2\u0A4B\u0319\u0175\u0E9E\u0992\u01CD\u015D\u0AC2\u0726\u0473\u0292\u0AC7\u0F76\u07A5"
+			+ "\u0C90\u0CE4\u01AE\u09E2\u0D3F\u0AFE\u03F3\u0FB8\u0B9A\u070B\u0433\u0118\u03D7\u0EE6\u05EF\u04B7"
+			+ "\u0911\u0912\u0C70\u0192\u0FB4\u0762\u05E8\u0FAA\u0258\u0F2C\u01ED\u0329\u0799\u03D0\u0221\u078C"
+			+ "\u0C17\u0B3D\u086E\u0AE2\u0B30\u0B23\u0283\u08A0\u0D89\u09AC\u0852\u0AD2\u005B\u0AF8\u05E6\u04A0"
+			+ "\u0BA5\u0F10\u0056\u08DE\u0555\u0FCC\u0A91\u091A\u0F85\u007E\u062B\u08DA\u0666\u09D3\u0FE0\u01CE"
+			+ "\u05C5\u01C6\u052B\u0D3E\u0667\u059A\u02A4\u0C8D\u0423\u015C\u0C54\u09EA\u0BCB\u0CD1\u0E3C\u06F2"
+			+ "\u03C7\u05FB\u0DA0\u0FBF\u0EB1\u047F\u0FF0\u0CD2\u0F22\u0058\u0227\u08B8\u077F\u0254\u05F6\u08B2"
+			+ "\u018C\u0403\u0B61\u073F\u0498\u06F9\u098C\u0A0B\u009D\u0C51\u0965\u0417\u0565\u0103\u07BC\u09E5"
+			+ "\u0BBB\u01E4\u03C6\u07F7\u0122\u0FFD\u0C3A\u0BC4\u0449\u0D34\u088B\u06E2\u0647\u0609\u0F3C\u03F5"
+			+ "\u04B1\u0EAF\u09C2\u0304\u021B\u046F\u0131\u034B\u0472\u0130\u03BB\u0203\u02F0\u0BA9\u035D\u0790"
+			+ "\u0A5B\u0506\u0212\u0ADF\u0A63\u0297\u00D1\u0110\u08B3\u082E\u0188\u003C\u0CCF\u0CB3\u0FE8\u0CD4"
+			+ "\u0072\u0E7F\u0BF2\u0FD6\u0F9C\u09FC\u02C8\u0FA5\u02AC\u090A\u073D\u0C11\u0754\u0AA5\u0E44\u0B9F"
+			+ "\u0EE0\u04FA\u0B32\u0B44\u0101\u064A\u0EB2\u0B69\u0C4E\u07BB\u0A31\u0C40\u00CD\u0FBC\u07FB\u0AFF"
+			+ "\u014D\u0E35\u0734\u068C\u0786\u05F0\u06E0\u000B\u0759\u061E\u0950\u05CE\u0C46\u00EB\u058A\u0974"
+			+ "\u0908\u0346\u0683\u0359\u0404\u0EBD\u0E24\u0E0B\u065B\u06D9\u0DBB\u0A61\u029A\u0334\u0A44\u0361"
+			+ "\u0182\u0599\u0A08\u0B7C\u03ED\u08A1\u0A5E\u0010\u0AAB\u0742\u0CA6\u00AC\u0B4F\u0D1B\u0CFC\u08C0"
+			+ "\u04DB\u03E1\u06FF\u0AB7\u0AF1\u0217\u03FB\u0CFD\u0B9B\u0AB5\u0A00\u0C9C\u0249\u0805\u0AFC\u0587"
+			+ "\u0945\u0C2B\u013B\u0E95\u0AF7\u079E\u0AEA\u0418\u0F6A\u0E68\u0036\u0540\u0FE3\u0233\u07DA\u0BEE"
+			+ "\u0958\u09F6\u07F5\u0952\u0166\u06F4\u0C2C\u0E04\u0293\u0DA7\u083F\u0CF5\u0BE5\u0880\u01D0\u0152"
+			+ "\u076E\u0A5C\u0F1C\u00CC\u0B74\u0168\u01DF\u04D4\u0137\u0E73\u0120\u0C28\u0DE9\u0C0F\u026E\u0C10"
+			+ "\u0594\u01E5\u0C3B\u0884\u0753\u038F\u0FDE\u03B1\u0224\u0513\u02EE\u04BA\u06BB\u07CA\u05C8\u059C"
+			+ "\u0278\u07C8\u0210\u067F\u0B1B\u01FD\u0195\u056E\u0BCC\u0F34\u0807\u0D22\u0556\u0557\u011C\u0B10"
+			+ "\u030D\u059E\u07F1\u01F1\u0237\u00F0\u0542\u0661\u0896\u0861\u082B\u0067\u0BBD\u0D44\u0D1E\u05C1"
+			+ "\u0176\u0138\u0E6E\u0448\u0096\u00A2\u0FF2\u0946\u01C0\u0EA7\u0D8D\u0390\u00A6\u0538\u033C\u004E"
+			+ "\u0AFA\u06F7\u0BEF\u04E3\u0FBA\u00FF\u0295\u07F9\u0971\u09E8\u0C6E\u0D64\u00A8\u0DB8\u0AD3\u04E4"
+			+ "\u07B8\u00B5\u084E\u081D\u049C\u0D47\u098D\u0119\u080F\u0572\u0288\u0323\u085B\u0AD5\u08D0\u0EFC"
+			+ "\u0F32\u0341\u0F17\u0259\u0674\u07D4\u0FB1\u0951\u0F54\u0987\u0016\u025C\u0B79\u03D3\u0C3D\u083D"
+			+ "\u07EA\u0145\u0ED3\u00D0\u046E\u0A84\u004B\u057C\u0B4B\u082C\u0C03\u0CF4\u0743\u04B8\u0931\u00DB"
+			+ "\u005E\u0EA1\u0A5D\u0989\u0BFE\u02D3\u0468\u0CFB\u0866\u0BFF\u0493\u0BBC\u08B9\u0E76\u08B5\u0AE0"
+			+ "\u0926\u03B6\u0244\u04E9\u0F08\u0317\u0CEE\u01FB\u09D9\u0846\u0770\u0537\u0342\u0BF1\u08FE\u02E6"
+			+ "\u084D\u0019\u0D2C\u0445\u0D76\u0BC8\u04C4\u0089\u0B12\u013F\u0D8A\u086B\u022F\u0942\u0C31\u0BA2"
+			+ "\u047D\u0521\u0DD0\u0DA1\u0A8E\u0655\u0A7E\u016D\u00EF\u00C4\u0068\u0637\u02F5\u0B8B\u0643\u005A"
+			+ "\u0ABA\u0D36\u0ACB\u02EF\u07F4\u0D30\u04CC\u056D\u04D5\u0488\u00EC\u0FAD\u0BCD\u0887\u0FEB\u06A5"
+			+ "\u0242\u024E\u0C1B\u035F\u0040\u0438\u0B09\u09C4\u09E9\u0877\u077D\u059B\u05A9\u099E\u0A34\u060F"
+			+ "\u0570\u094E\u07ED\u02D5\u043D\u096B\u0815\u0797\u0619\u0E58\u0758\u0B13\u0FA7\u01EC\u06E5\u0D1F"
+			+ "\u030C\u00BA\u0E12\u0FD0\u0D6A\u02B4\u0665\u0E47\u0FD1\u03CC\u0228\u0181\u0124\u0675\u096C\u0413"
+			+ "\u0CB8\u0C9E\u0A0D\u0379\u075E\u0E6C\u04E7\u0A3C\u001E\u0B03\u04F1\u00A0\u047C\u089E\u05A6\u06FA"
+			+ "\u05C0\u0AE4\u0063\u0139\u0408\u0FF8\u0BCA\u0CFF\u027F\u06D8\u0F94\u0D24\u0714\u03BD\u0B43\u060D"
+			+ "\u00F1\u0A73\u094A\u0676\u0764\u0E9C\u0F92\u0105\u0580\u0AFB\u00D7\u095A\u0C92\u0A93\u0FE7\u0654"
+			+ "\u049A\u0E0A\u060A\u08E9\u0984\u02F8\u0D72\u0427\u029D\u065C\u0527\u0978\u0C93\u08F9\u0907\u0518"
+			+ "\u0E7D\u09BF\u0345\u0129\u0A6F\u0412\u0739\u058F\u0A0C\u024A\u08B6\u0439\u0276\u0E2D\u0FEE\u0607"
+			+ "\u0DBA\u020D\u0D02\u08A7\r\u0399\u08A4\u0194\u0230\u0318\u018F\u0BDE\u0E0C\u0DF9\u0ECB\u0B34"
+			+ "\u055B\u0AC5\u0830\u03D5\u0EB8\u0D62\u0731\u04D2\u0BE8\u0B2C\u09EE\u0213\u028C\u0FF3\u0ECE\u0134"
+			+ "\u0052\u0709\u0B3A\u0112\u00E9\u07D0\u008D\u0622\u05D9\u05CF\u0756\u0636\u0DAC\u0817\u0A40\u06D2"
+			+ "\u055C\u0F7F\u0944\u0A1E\u074E\u0967\u09EF\u0EDA\u0F52\u042F\u0694\u089B\u0BD4\u0883\u0CF9\u0F83"
+			+ "\u0294\u00D8\u0A8B\u07F8\u066A\u07E8\u0707\u00A5\u0372\u0A71\u037B\u0B8C\u0ED6\u09B0\u08E4\u01A9"
+			+ "\u0388\u05F9\u06B6\u0C94\u0A79\u00CB\u0C61\u0C69\u0FB7\u06D3\u09F3\u09DC\u01CB\u02FD\u0ED4\u0DE0"
+			+ "\u086F\u027C\u0C3C\u03DA\u0CAD\u06CB\u05AD\u0BCF\u0FFA\u0995\u0381\u0722\u0BFB\u01EF\u096A\u031B"
+			+ "\u0CA3\u056A\u0849\u0208\u06A6\u034C\u0C5E\u0B22\u0CC0\u0685\u0774\u042A\u0198\u02AE\u0C65\u0900"
+			+ "\u0889\u0A64\u00BF\u0773\u0065\u04CD\u0B77\u0C6F\u0B40\u0C5F\u05F8\u0098\u097B\u0ED0\u0BB9\u090C"
+			+ "\u009C\u0043\u00C9\u0160\u05DB\u0D51\u025B\u0C06\u08A6\u05E5\u0CDB\u07AC\u09FF\u0894\u0C4A\u0FCF"
+			+ "\u0DD7\u02BC\u048E\u012B\u0E39\u0E26\u06AF\u091D\u082A\u075C\u0601\u003A\u014B\u0560\u02E8\u0DFB"
+			+ "\u0FB5\u0D6F\u0411\u0DB4\u09B9\u02DE\u00C8\u0C5C\u04E2\u043A\u09F1\u017B\u03F7\u0618\u0A96\u0AE9"
+			+ "\u091B\u0186\u04D7\u00D4\u04C6\u0657\u02E4\u0B4E\u0BE2\u0DD9\u0703\u0DB1\u06EE\u0872\u0F39\u01FF"
+			+ "\u0340\u094D\u0009\u0EC9\u0DF5\u0F13\u08E0\u0E7C\u011D\u0DFD\u03B7\u0092\u0252\u0691\u0DCF\u00B6"
+			+ "\u04C1\u098E\u0605\u0E43\u0485\u05ED\u04A8\u0CEC\u0C63\u0A9C\u01C7\u0332\u074D\u0F8D\u08A9\u05BC"
+			+ "\u0BFA\u0395\u0840\u0C77\u0C43\u0795\u08D8\u0FF4\u03D1\u0256\u067A\u06BD\u0BC9\u01A4\u08DD\u0F9A"
+			+ "\u0324\u02CB\u0FDB\u0CB2\u00F3\u02E5\u030F\u06AC\u00E7\u0930\u038D\u0FAF\u012E\u0A6A\u0C0B\u0C41"
+			+ "\u01D9\u0199\u0FFC\u0378\u07DF\u0F69\u087D\u021A\u03CE\u021E\u0C7C\u049D\u040A\u0C18\u0DF0\u0A86"
+			+ "\u0E41\u0DF3\u08FD\u099D\u00C5\u0E9D\u0D81\u0F8E\u0C21\u0141\u07A2\u0C44\u0F9E\u0D1D\u032F\u06A8"
+			+ "\u0DF7\u07FF\u0AD6\u0F46\u0D83\u0475\u0623\u016C\u061A\u043C\u05F3\u05E1\u01CF\u0A19\u0BD3\u0491"
+			+ "\u066F\u02D0\u08F5\u02DB\u0BAE\u0436\u08B0\u0A52\u0A56\u05BF\u02C7\u017A\u03BE\u0093\u0CC9\u053D"
+			+ "\u04DE\u0D0A\u067C\u0DA5\u09A5\u02A5\u0313\u029B\u0867\u0F29\u0FCE\u04FB\u0144\u0D5E\u022D\u0075"
+			+ "\u0976\u0000\u0F90\u0681\u0D1C\u0306\u02D8\u008A\u0350\u02FA\u02E2\u0355\u08ED\u0842\u0E78\u0A1B"
+			+ "\u0EBF\u0646\u0FA6\u01A1\u0F9B\u0991\u0053\u0382\u08C9\u0874\u0C9F\u026F\u0576\u092E\u027E\u05B0"
+			+ "\u0396\u054E\u0C30\u0CAC\u0EF9\u096D\u0447\u0FC8\u0C79\u0E27\u06FE\u039C\u0CCD\u01E7\u0684\u04AB"
+			+ "\u0771\u079D\u0EDB\u0BDC\u0CE2\u09BA\u04DF\u033F\u06C6\u0394\u01D5\u0FF6\u0CF2\u0E19\u0858\u0D2B"
+			+ "\u0DB2\u09C8\u0189\u03E0\u0B5D\u0DF8\u063D\u0C38\u0578\u025A\u0747\u020E\u07BF\u0C20\u01F4\u0EF3"
+			+ "\u01DB\u0819\u033E\u0B2B\u04F2\u006B\u0272\u0914\u0C9A\u068F\u0DC4\u0A06\u0766\u0364\u0CD0\u0CEA"
+			+ "\u0F75\u04C7\u02E1\u0F72\u0CD6\u0F7A\u0A62\u0386\u0CAE\u0589\u0A89\u02E9\u0269\u0D9C\u006E\u0A22"
+			+ "\u01E6\u0FE1\u0CE3\u09FA\u00E6\u05C2\u02B5\u0220\u00E1\u0BE7\u0C0D\u01DC\u0B70\u0C62\u05F1\u0F74"
+			+ "\u0829\u0641\u0F3E\u0AB3\u0289\u09A7\u042B\u0892\u010B\u0E88\u09AD\u0E22\u0037\u084F\u0845\u069B"
+			+ "\u0C26\u0745\u0E77\u0E1A\u07E5\u088E\u0309\u0E5F\u0A41\u0D1A\u04FC\u03AE\u066C\u06FC\u0E5E\u0968"
+			+ "\u05D0\u0888\u0C84\u0231\u04D8\u078E\u0824\u0F00\u05FA\u0310\u0DC0\u0C81\u0507\u036B\u0419\u083C"
+			+ "\u0C12\u000C\u0ABC\u01D1\u0C0E\u064B\u070A\u0437\u02A3\u01A5\u0782\u05C4\u03BF\u0339\u077A\u093A"
+			+ "\u0ECD\u0552\u0BB8\u07D9\u09F2\u0DED\u0DE3\u0F20\u0311\u0113\u00AE\u0108\u0ED8\u064F\u05A8\u02EC"
+			+ "\u02CF\u06EF\u0384\u0E11\u0E5B\u045E\u0612\u04CA\u033A\u0BB0\u0D08\u06A1\u06BA\u0F79\u001A\u002F"
+			+ "\u023F\u0541\u08DC\u068B\u0640\u0760\u0BD9\u0D09\u0970\u08CD\u0D35\u09D4\u0B17\u0CA9\u0F41\u093D"
+			+ "\u04D6\u0651\u0D39\u0C60\u0695\u0C7A\u039E\u0E4E\u0757\u0A70\u0A85\u0B98\u0CEB\u0FD9\u0653\u0296"
+			+ "\u0DB6\u0C1D\u0783\u0E1C\u045C\u01F9\u0D2A\u0DEF\u0193\u0A4C\u08F8\u01BC\u0287\u0F59\u0818\u0B95"
+			+ "\u07BD\u0F0B\u04CE\u0AB0\u083A\u0EE5\u065D\u0D6B\u0D23\u04F5\u0167\u063F\u0A51\u0430\u0057\u02BA"
+			+ "\u0316\u06C1\u09BE\u002C\u02BD\u0B59\u070E\u0C8B\u08C3\u09EC\u0721\u0305\u0051\u0E4D\u0250\u0941"
+			+ "\u0AC0\u0E00\u0EB6\u0590\u0277\u0D49\u0415\u0F3A\u072C\u009E\u034E\u05A7\u009A\u0A30\u0D4A\u0424"
+			+ "\u004F\u0932\u0C87\u0F0D\u0C95\u0BD1\u0080\u0934\u0CBC\u0E50\u074A\u05D8\u02BF\u0EE1\u0F0F\u037D"
+			+ "\u011F\u006D\u0B06\u0812\u091F\u0A76\u0F09\u0E07\u03D6\u01CA\u01BF\u0360\u0A4D\u010D\u0B4C\u07CE"
+			+ "\u0614\u0086\u0B38\u0AF4\u0A2D\u045D\u0F2A\u037C\u09A0\u0CBF\u0A82\u0A2B\u04D0\u05D2\u0081\u0573"
+			+ "\u03DC\u04AD\u0344\u0811\u01EA\u0D03\u044E\u05B4\u0A27\u0B6B\u0032\u0979\u0CF1\u0938\u062E\u0CD5"
+			+ "\u0B53\u0682\u0CC4\u0B6A\u05AC\u0CE1\u0737\u0670\u01A6\u03C1\u0225\u061C\u0AF9\u0CB9\u086C\u0AC4"
+			+ "\u06B1\u0630\u0D84\u0274\u0A12\u0E57\u04FD\u0F6D\u0595\u00CE\u001B\u0710\u0D8F\u0479\u015F\u0918"
+			+ "\u08C2\u0029\u00FC\u0778\u0F8F\u00B1\u0567\u0DD4\u085A\u021C\u0DDE\u0D40\u0B16\u0895\u0733\u04D9"
+			+ "\u0B37\u0879\u020F\u0142\u011E\u0241\u0833\u0629\u0FD4\u0A05\u0B0E\u041E\u03C5\u0DDB\u0A45\u05DA"
+			+ "\u055D\u0BF4\u0E99\u09CE\u0826\u0282\u0C67\u0D98\u05E4\u0429\u0935\u0AAE\u0933\u0550\u086D\u0DC3"
+			+ "\u09B3\u0862\u0483\u0B5A\u03E2\u0B72\u0A3D\u09E4\u0C00\u053A\u02DD\u0A0F\u0095\u06A9\u06F3\u0925"
+			+ "\u058D\u04B6\u049B\u0A5F\u056B\u093B\u0047\u0A33\u0171\u0495\u0DCA\u00DF\u0F2B\u0B65\u0E52\u0EAD"
+			+ "\u04A1\u0E6F\u03FD\u0490\u06F8\u0106\u0B99\u0528\u0A32\u0644\u01FE\u0E6B\u068E\u072B\u02AA\u0F8A"
+			+ "\u01B9\u08CC\u04D1\u0C39\u00CF\u0AA2\u0BD8\u0659\u05F5\u0947\u036C\u0AF6\u0216";
+
+	/**
+	 * Displacement of each bucket, generated with the names
+	 */
+	private static final String DISPLACEMENTS =
+			"\u0000\u0002\u0001\u0001\u0001\u0000\u0001\u0001\u0001\u0003\u0007\u0007\u0004\u0001\u0003\u0000"
+			+ "\u0001\u0001\u0002\u0003\u0001\u0001\u0001\u0001\u0000\u0001\u0001\u0001\u0001\u0000\u0001\u0002"
+			+ "\u0003\u0001\u0001\u0001\u0000\u0002\u0001\u0005\u0001\u0001\u0004\u0001\u0001\u0005\u0002\u0001"
+			+ "\u0000\u0003\u0001\u0001\u0005\u0001\u0001\u0004\u0001\u0001\u0001\u0001\u0001\u0004\u0001\u0001"
+			+ "\u0001\u0001\u0003\u0001\u0002\u0000\u0003\u0001\u0002\u0001\u0002\u0002\u0001\u0001\u0001\u0004"
+			+ "\u0002\u0000\u0003\u0001\u0000\u0001\u0001\u0001\u0000\u0001\u0001\u0006\u0001\u0003\u0001\u0000"
+			+ "\u0001\u0000\u0001\u0001\u0001\u0001\u0002\u0001\u0003\u0001\u0001\u0004\u0000\u0001\u0004\u0001"
+			+ "\u0001\u0001\u0005\u0002\u0001\u0004\u0001\u0002\u0001\u0001\u0001\u0002\u0001\u0001\u0001\u0001"
+			+ "\u0000\u0004\u0003\u0002\u0001\u0003\u0000\u0001\u0001\u0001\u0002\u0002\u0001\u0003\u0001\u0001"
+			+ "\u0002\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0007\u0003\u0001\u0001\u0001\u0001"
+			+ "\u0000\u0006\u0007\u0001\u0001\u0003\u0001\u0003\u0001\u0002\u0001\u0002\u0003\u0000\u0002\u0001"
+			+ "\u0000\u0003\u0001\u0001\u0005\u0000\u0002\u0001\u0001\u0001\u0000\u0001\u0002\u0004\u0002\u0001"
+			+ "\u0001\u0001\u0000\u0003\u0001\u0000\u0001\u0001\u0001\u0000\u0000\u0001\u0010\u0001\u0001\u0001"
+			+ "\u0003\u0002\u0000\u0001\u0003\u0001\u0001\u0002\u0002\u0003\u0001\u0001\u0001\u0003\u0001\u0003"
+			+ "\u0001\u0001\u0001\u0001\u0001\u0002\u0000\u0001\u0001\u0002\u0001\u0001\u0001\u0000\u0003\u0001"
+			+ "\u0003\u0002\u0001\u0003\u0001\u0001\u0000\u0000\u0001\u0001\u0000\u0006\u0001\u0002\u0005\u0004"
+			+ "\u0001\u0001\u0001\u0002\u0007\u0001\u0001\u0001\u0000\u0002\u0000\u0001\u0001\u0002\u0004\u0003"
+			+ "\u0001\u0000\u0001\u0001\u0001\u0002\u0000\u0000\u0002\u0001\u0002\u0001\u0001\u0000\u0008\u0003"
+			+ "\u0001\u0003\u0001\u0003\u0000\u0002\u0002\u0005\u0002\u0001\u0001\u0001\u0005\u0001\u0000\u0000"
+			+ "\u0003\u0003\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0000\u0001\u0005\u0003\u0006"
+			+ "\u0002\u0002\u0001\u0001\u0002\u0001\u0000\u0001\u0000\u0002\u0003\u0001\u0001\u0004\u0001\u0001"
+			+ "\u0004\u0002\u0004\u0001\u0002\u0000\u0000\u0004\u0001\u0001\u0004\u0001\u0001\u0001\u0001\u0002"
+			+ "\u0001\u0003\u0001\u0001\u0002\u0002\u0001\u0002\u0001\u0002\u0001\u0005\u0001\u0004\u0000\u0003"
+			+ "\u0001\u0002\u0002\u0001\u0001\u0004\u0001\u0001\u0003\u0002\u0001\u0002\u0003\u0002\u0001\u0000"
+			+ "\u0001\u0001\u0003\u0002\u0000\u0002\u0002\u0009\u0001\u0000\u0001\u0000\u0001\u0001\u0004\u0001"
+			+ "\u0009\u0003\u0004\u0001\u0002\u0001\u0005\u0001\u0004\u0000\u0001\u0003\u0002\u0007\u0004\u0001"
+			+ "\u0001\u0001\u0001\u0004\u0003\u0002\u0001\u0001\u0000\u0004\u0002\u0001\u0000\u0003\u0003\u0001"
+			+ "\u0002\u0001\u0000\u0001\u0001\u0003\u0001\u0001\u0003\u0001\u0002\u0002\u0001\u0002\u0001\u0003"
+			+ "\u0004\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0000\u0007\u0000\u0001\u0001\u0001\u0001\u0002"
+			+ "\u0000\u0002\u0005\u0000\u0002\u0001\u0001\u0001\u0000\u0003\u0000\u0001\u0003\u0006\u0001\u0001"
+			+ "\u0001\u0000\u0001\u0003\u0002\u0004\u0002\u0002\u0001\u0001\u0003\u0000\u0002\u0003\u0004\u0000"
+			+ "\u0001\u0001\u0001\u0002\u0001\u0000\u0000\u0001\u0001\u0004\u0000\u0000\u0001\u0003\u0001\u0001"
+			+ "\u0001\u0001\u0002\u0001\u0001\u0001\u0001\u0000\u0000\u0002\u0001\u0001\u0002\u0002\u0000\u0003"
+			+ "\u0002\u0002\u0001\u0002\u0003\u0002\u0001\u0002\u0003\u0001\u0004\u0004\u0001\u0002\u0000\u0009"
+			+ "\u0001\u0001\u0000\u0003\u0003\u0003\u0001\u0004\u0002\u0001\u0001\u0004\u0002\u0004\u0001\u0001"
+			+ "\u0001\u0005\u0000\u0004\u0004\u0008\u0003\u0003\u0000\u0002\u0002\u0001\u0001\u0002\u0001\u0002"
+			+ "\u0003\u0001\u0004\u0003\u0002\u0001\u0004\u0002\u0004\u0002\u0005\u0002\u0001\u0002\u0001\u0004"
+			+ "\u0001\u0001\u0002\u0002\u0003\u0001\u0003\u0001\u0001\u0002\u0003\u0002\u0001\u0003\u0004\u0001"
+			+ "\u0001\u0001\u0003\u0001\u0002\u0004\u0002\u0002\u0008\u0001\u0002\u0000\u0002\u0001\u0002\u0000"
+			+ "\u0002\u0001\u0001\u0002\u0003\u0003\u0003\u0004\u0000\u0003\u0003\u0001\u0001\u0001\u0004\u0005"
+			+ "\u0002\u0003\u0003\u0002\u0002\u0001\u0002\u0001\u0002\u0000\u0002\u0001\u0002\u0003\u0000\u0001"
+			+ "\u0002\u0004\u0005\u0001\u0000\u0006\u0000\u0002\u0002\u0001\u0000\u0001\u0001\u0006\u0001\u0002"
+			+ "\u0002\u0001\u0001\u0001\u0000\u0001\u0004\u0003\u0001\u0001\n\u0009\u0001\u0003\u0002\u0001"
+			+ "\u0008\u0000\u0001\u0000\u0001\u0002\u0002\u0001\u0001\u0000\u0000\u0002\u0005\u0004\u0006\u0001"
+			+ "\u0004\u0000\u0002\u0003\u0001\u0001\u0003\u0005\u0001\u0001\u0001\u0003\u0001\u0003\u0000\u0001"
+			+ "\u0004\u0005\u0000\u0002\u0002\u0005\u0004\u0005\u0001\u0001\u0000\u0001\u0002\r\u0001\u0002"
+			+ "\u0005\u0002\u0005\u0001\u0005\u0000\u0003\u0003\u0001\u0001\u0001\u0009\u0001\u0001\u0003\u0001"
+			+ "\u0002\u0006\u0001\u0001\u0003\u0001\u0007\u0013\u0003\u0001\u0000\u0002\u0001\u0002\u0006\u0001"
+			+ "\u0001\u0001\u0001\u0000\u0001\u0001\u0004\u0002\u0003\u0001\u0001\u0007\u0003\u0003\u0001\u0000"
+			+ "\u0001\u0002\u0001\u0002\u0002\u0001\u0001\u0001\n\u0002\u0005\u0001\u0004\u0000\u0009\u0001"
+			+ "\u0001\u0004\u0002\u0003\u0004\u0005\u0004\u0001\u0004\u0001\u0003\u0003\u0001\u0004\u0001\u0002"
+			+ "\u0000\u0000\u0001\u0001\u0004\u0007\u0002\u0002\u0002\u0003\u0003\u0001\u0001\u0002\u0001\u0000"
+			+ "\u0001\u0001\u0001\u0002\u0001\u0000\u0000\u0002\u0000\u0001\u0003\u0001\u0001\u0000\u0001\u0001"
+			+ "\u0003\u0002\u0001\u0001\u0006\u0004\u0000\u0000\u0001\u0002\u0003\u0001\u0001\u0003\u0002\u0001"
+			+ "\u0002\u0003\u0001\u0007\u0004\u0001\u0002\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001"
+			+ "\u0001\u0001\u0004\u0002\u0004\u0001\u0004\u0004\u0001\u0001\u0001\u0000\u0001\u0002\u0005\u0001"
+			+ "\u0003\u0002\n\u0001\u0001\u0002\u0001\u0000\u0003\u0001\u0004\u0000\u0002\u0001\u0004\u0003"
+			+ "\u0000\u0006\u0003\u0003\u0001\u0001\u0002\u0003\u0001\u0002\u0001\u0004\u0004\n\u0001\u0001"
+			+ "\u0001\u0001\u0007\u0001\u0001\u0000\u0001\u0004\u0002\u0002\u0002\u0001\u0002\u0002\u0002\u0001"
+			+ "\u0007\u0004\u0006\u0004\u0003\u0001\u0002\u0005\u0001\u0002\u0007\u0000\u0001\u0002\u0004\u0001"
+			+ "\u0002\u0001\u0001\u0001\u0006\u0001\u0000\u0003\u0005\u0001\u0004\u0002\u0001\u0004\u0001\u0002"
+			+ "\u0009\u0004\u0001\u0004\n\u0001\u0001\u0004\u0000\u0002\u0001\u0003\u0002\u0002\u0001\u0002"
+			+ "\u0001\u0001\u0001\u0002\u0001\u0002\u0000\u0001\u0002\u0002\u0002\u0001\u0001\u0001\u0003\u0001"
+			+ "\u0001\u0001\u0000\u0003\u0001\u0000\u0006\u0003\u0001\u0004\u0003\u0002\u0001\u0002\u0005\u0002";
+
+	/**
+	 * Names by slot, or null for empty slots
+	 */
+	private static final String[] NAMES = new String[1 << SLOT_BITS];
+
+	/**
+	 * Values by slot
+	 */
+	private static final String[] VALUES = new String[1 << SLOT_BITS];
+
+	/**
+	 * Length of the longest name
+	 */
+	public static final int MAX_NAME_LENGTH = 31;
+
+	static {
+		// unpack the names and values into their slots
+		int i = 0;
+		for (int k = 0; k < SLOTS.length(); k++) {
+			int semicolon = DATA.indexOf(';', i);
+			int length = DATA.charAt(semicolon + 1) - '0';
+			int slot = SLOTS.charAt(k);
+			NAMES[slot] = DATA.substring(i, semicolon);
+			VALUES[slot] = DATA.substring(semicolon + 2, semicolon + 2 + length);
+			i = semicolon + 2 + length;
+		}
+	}
+
+	/**
+	 * No instances.
+	 */
+	private HtmlEntities() {
+	}
+
+	/**
+	 * Gets the value of a named reference.
+	 *
+	 * @param str text holding the name
+	 * @param start start of the name, after '&amp;'
+	 * @param end end of the name, at ';'
+	 * @return value, or null if the name is unknown
+	 */
+	public static String get(String str, int start, int end) {
+		int length = end - start;
+		if (length <= 0 || MAX_NAME_LENGTH < length) {
+			return null;
+		}
+		int h = hash(str, start, end);
+		int slot = mix(h, DISPLACEMENTS.charAt(bucket(h))) & (NAMES.length - 1);
+		String name = NAMES[slot];
+		if (name != null && name.length() == length && str.regionMatches(start, name, 0, length)) {
+			return VALUES[slot];
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the code point of a numeric reference.
+	 *
+	 * @param number number of the reference, values beyond U+10FFFF may be capped
+	 * @return code point
+	 */
+	public static int toCodePoint(int number) {
+		if (number == 0 || Character.MAX_CODE_POINT < number
+				|| (Character.MIN_SURROGATE <= number && number <= Character.MAX_SURROGATE)) {
+			return '\uFFFD';
+		}
+		if (0x80 <= number && number < 0xA0 && WINDOWS_1252[number - 0x80] != 0) {
+			return WINDOWS_1252[number - 0x80];
+		}
+		return number;
+	}
+
+	/**
+	 * Gets the bucket of a name.
+	 *
+	 * @param h hash of the name
+	 * @return bucket index
+	 */
+	private static int bucket(int h) {
+		return mix(h, 0) & ((1 << BUCKET_BITS) - 1);
+	}
+
+	/**
+	 * Computes the hash of a name like {@link String#hashCode()}.
+	 *
+	 * @param str text holding the name
+	 * @param start start of the name
+	 * @param end end of the name
+	 * @return hash
+	 */
+	private static int hash(String str, int start, int end) {
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + str.charAt(i);
+		}
+		return h;
+	}
+
+	/**
+	 * Mixes a hash with a displacement.
+	 *
+	 * @param h hash
+	 * @param displacement displacement, or 0 for the bucket
+	 * @return mixed hash
+	 */
+	private static int mix(int h, int displacement) {
+		int x = (h ^ displacement * 0x61C88647) * 0x9E3779B1;
+		return x ^ x >>> 15;
+	}
+}
@@ -0,0 +1,603 @@
+package org.qtproject.qt.api_review;
+
+import java.util.Arrays;
+
+/**
+ * Converts Javadoc comment text to Markdown in a single scan.
+ * <p>
+ * The conversion gives the same result as the former chain of regular
+ * expressions: inline tags are rewritten in the order <code>&lt;code&gt;</code>,
+ * <code>&lt;i&gt;</code>, <code>&lt;em&gt;</code>, <code>&lt;b&gt;</code>,
+ * <code>&lt;strong&gt;</code>, <code>&lt;a href&gt;</code>, <code>{&#64;link}</code>,
+ * <code>{&#64;code}</code>, <code>&lt;/p&gt;</code>, <code>&lt;li&gt;</code> and
+ * <code>&lt;ul&gt;</code>, backslashes are escaped and entity references are
+ * restored. Paired tags never span a line break, as with the regular expressions.
+ * <p>
+ * Entity references are decoded in the same scan: all named references of
+ * HTML5 and decimal and hexadecimal numeric references, see
+ * {@link HtmlEntities}. Decoded backslashes are escaped too, and a decoded
+ * no-break space becomes a plain space, so that the line can still be
+ * broken there.
+ * <p>
+ * An instance reuses its output buffer and is not thread safe.
+ */
+public class MarkdownConverter {
+
+	/**
+	 * Opening tags which are replaced together with their closing tag
+	 */
+	private static final String[] OPEN_TAGS = { "<code>", "<i>", "<em>", "<b>", "<strong>" };
+
+	/**
+	 * Closing tags matching {@link #OPEN_TAGS}
+	 */
+	private static final String[] CLOSE_TAGS = { "</code>", "</i>", "</em>", "</b>", "</strong>" };
+
+	/**
+	 * Markdown replacing the tags in {@link #OPEN_TAGS}
+	 */
+	private static final String[] TAG_MARKS = { "`", "_", "_", "", "" };
+
+	/**
+	 * Index of the <code>{&#64;code}</code> pair in the pair state
+	 */
+	private static final int CODE_TAG = OPEN_TAGS.length;
+
+	/**
+	 * Number of pairs tracked while scanning
+	 */
+	private static final int PAIRS = CODE_TAG + 1;
+
+	/**
+	 * Conversion result buffer
+	 */
+	private final StringBuilder out = new StringBuilder(256);
+
+	/**
+	 * Closing position of the open pair of each kind, or -1
+	 */
+	private final int[] closeAt = new int[PAIRS];
+
+	/**
+	 * Saved pair state of the enclosing ranges
+	 */
+	private int[] saved = new int[PAIRS * 4];
+
+	/**
+	 * Nesting depth of converted link groups
+	 */
+	private int depth;
+
+	/**
+	 * String being converted
+	 */
+	private String in;
+
+	/**
+	 * Bounds of the groups found by the last successful link match
+	 */
+	private int group1Start, group1End, group2Start, group2End, matchEnd;
+
+	/**
+	 * Converts Javadoc information to a Markdown format string.
+	 *
+	 * @param str Javadoc format string
+	 * @return Markdown format string
+	 */
+	public String convert(String str) {
+		in = str;
+		out.setLength(0);
+		Arrays.fill(closeAt, -1);
+		depth = 0;
+		convert(0, str.length());
+		in = null;
+		return out.toString();
+	}
+
+	/**
+	 * Converts a range of the input and appends it to the output.
+	 *
+	 * @param start start index
+	 * @param end end index (exclusive)
+	 */
+	private void convert(int start, int end) {
+		int i = start;
+		while (i < end) {
+			char c = in.charAt(i);
+			switch (c) {
+			case '<':
+				i = tag(i, end);
+				break;
+			case '{':
+				i = inlineTag(i, end);
+				break;
+			case '}':
+				if (closeAt[CODE_TAG] == i) {
+					out.append('`');
+				} else {
+					out.append('}');
+				}
+				i++;
+				break;
+			case '&':
+				i = entity(i, end);
+				break;
+			case '\\':
+				// escape
+				out.append("\\\\");
+				i++;
+				break;
+			default:
+				out.append(c);
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Converts a link group.
+	 * <p>
+	 * The group sees the pairs opened before the link, but pairs opened
+	 * inside the group do not leak out of it.
+	 *
+	 * @param start start index
+	 * @param end end index (exclusive)
+	 */
+	private void convertGroup(int start, int end) {
+		if (saved.length < (depth + 1) * PAIRS) {
+			saved = Arrays.copyOf(saved, saved.length * 2);
+		}
+		System.arraycopy(closeAt, 0, saved, depth * PAIRS, PAIRS);
+		depth++;
+		convert(start, end);
+		depth--;
+		System.arraycopy(saved, depth * PAIRS, closeAt, 0, PAIRS);
+	}
+
+	/**
+	 * Converts an HTML tag starting at the given position.
+	 *
+	 * @param i position of '&lt;'
+	 * @param end end of the current range
+	 * @return position after the processed characters
+	 */
+	private int tag(int i, int end) {
+
+		// paired inline tags
+		for (int t = 0; t < OPEN_TAGS.length; t++) {
+			if (in.startsWith(OPEN_TAGS[t], i)) {
+				int from = i + OPEN_TAGS[t].length();
+				if (i < closeAt[t]) {
+					break;
+				}
+				int close = find(CLOSE_TAGS[t], from, end);
+				if (close < 0) {
+					break;
+				}
+				closeAt[t] = close;
+				out.append(TAG_MARKS[t]);
+				return from;
+			}
+			if (in.startsWith(CLOSE_TAGS[t], i)) {
+				if (closeAt[t] != i) {
+					break;
+				}
+				out.append(TAG_MARKS[t]);
+				return i + CLOSE_TAGS[t].length();
+			}
+		}
+
+		// hyperlink
+		if (in.startsWith("<a href=\"http", i)) {
+			return anchor(i, end);
+		}
+
+		// paragraph end and lists
+		if (in.startsWith("</p>", i)) {
+			int next = skipSpaces(i + 4, end);
+			if (next == i + 4) {
+				out.append('<');
+				return i + 1;
+			}
+			out.append('\n');
+			return next;
+		}
+		if (in.startsWith("<li>", i)) {
+			out.append("1. ");
+			return skipBreaks(i + 4, end);
+		}
+		if (in.startsWith("<ul>", i)) {
+			return skipBreaks(i + 4, end);
+		}
+		if (in.startsWith("</ul>", i)) {
+			return skipBreaks(i + 5, end);
+		}
+
+		out.append('<');
+		return i + 1;
+	}
+
+	/**
+	 * Converts <code>&lt;a href="..."&gt;text&lt;/a&gt;</code> to <code>[text](url)</code>.
+	 *
+	 * @param i position of '&lt;'
+	 * @param end end of the current range
+	 * @return position after the processed characters
+	 */
+	private int anchor(int i, int end) {
+		int scheme = i + 13;
+		if (in.startsWith("s://", scheme)) {
+			scheme += 4;
+		} else if (in.startsWith("://", scheme)) {
+			scheme += 3;
+		} else {
+			out.append('<');
+			return i + 1;
+		}
+		int quote = -1;
+		int close = -1;
+
+		// both the address and the text hold at least one character
+		if (scheme < end && !isLineTerminator(in.charAt(scheme))) {
+			quote = find("\">", scheme + 1, end);
+		}
+		if (0 <= quote && quote + 2 < end && !isLineTerminator(in.charAt(quote + 2))) {
+			close = find("</a>", quote + 3, end);
+		}
+		if (close < 0) {
+			out.append('<');
+			return i + 1;
+		}
+		out.append('[');
+		convertGroup(quote + 2, close);
+		out.append("](");
+		convertGroup(i + 9, quote);
+		out.append(')');
+		return close + 4;
+	}
+
+	/**
+	 * Converts a Javadoc inline tag starting at the given position.
+	 *
+	 * @param i position of '{'
+	 * @param end end of the current range
+	 * @return position after the processed characters
+	 */
+	private int inlineTag(int i, int end) {
+		if (in.startsWith("{@link", i) && matchLink(i, end)) {
+			int start1 = group1Start, end1 = group1End, start2 = group2Start, end2 = group2End, next = matchEnd;
+			out.append('[');
+			convertGroup(start2, end2);
+			out.append("](");
+			convertGroup(start1, end1);
+			out.append(')');
+			return next;
+		}
+		if (in.startsWith("{@code", i) && i >= closeAt[CODE_TAG]) {
+			int close = matchCode(i, end);
+			if (0 <= close) {
+				closeAt[CODE_TAG] = close;
+				out.append('`');
+				return group1Start;
+			}
+		}
+		out.append('{');
+		return i + 1;
+	}
+
+	/**
+	 * Matches <code>{&#64;link target label}</code> or <code>{&#64;link target}</code>.
+	 * <p>
+	 * On success the group bounds are stored in the match fields. For a link
+	 * without a label both groups span the target.
+	 *
+	 * @param i position of '{'
+	 * @param end end of the current range
+	 * @return Returns true if a link was matched.
+	 */
+	private boolean matchLink(int i, int end) {
+		if (matchLabeledLink(i, end)) {
+			return true;
+		}
+		int close = matchBraced(i + 6, end, false);
+		if (close < 0) {
+			return false;
+		}
+		group2Start = group1Start;
+		group2End = group1End;
+		matchEnd = close + 1;
+		return true;
+	}
+
+	/**
+	 * Matches <code>{&#64;link target label}</code>.
+	 * <p>
+	 * Neither the target nor the label contains ',', '{' or '}', but both
+	 * may span lines.
+	 *
+	 * @param i position of '{'
+	 * @param end end of the current range
+	 * @return Returns true if a link was matched.
+	 */
+	private boolean matchLabeledLink(int i, int end) {
+		int p = i + 6;
+		int spaces = countSpaces(p, end);
+		int e = p;
+		while (e < end && !isLinkDelimiter(in.charAt(e))) {
+			e++;
+		}
+		if (e == end || in.charAt(e) != '}') {
+			return false;
+		}
+		for (int k1 = spaces; 1 <= k1; k1--) {
+			int a = p + k1;
+			for (int b = a + 1; b < e; b++) {
+				if (in.charAt(b) != ' ') {
+					continue;
+				}
+				int m = countSpaces(b, e);
+				int k2 = b + m < e ? m : m - 1;
+				if (1 <= k2) {
+					group1Start = a;
+					group1End = b;
+					group2Start = b + k2;
+					group2End = e;
+					matchEnd = e + 1;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Matches <code>{&#64;code text}</code>.
+	 *
+	 * @param i position of '{'
+	 * @param end end of the current range
+	 * @return position of the closing '}', or -1
+	 */
+	private int matchCode(int i, int end) {
+		return matchBraced(i + 6, end, true);
+	}
+
+	/**
+	 * Finds the closing brace of a single-group inline tag on the same line.
+	 * <p>
+	 * The group starts after the spaces and holds at least one character; if
+	 * the spaces are followed directly by '}', the last space is the group.
+	 * Links inside the group are skipped, since they are converted first:
+	 * labeled links for a link group and all links for a code group.
+	 * The group bounds are stored in the match fields.
+	 *
+	 * @param p position after the tag name
+	 * @param end end of the current range
+	 * @param code true for <code>{&#64;code}</code>, false for <code>{&#64;link}</code>
+	 * @return position of the closing '}', or -1
+	 */
+	private int matchBraced(int p, int end, boolean code) {
+		int spaces = countSpaces(p, end);
+		if (spaces == 0) {
+			return -1;
+		}
+		int a = p + spaces;
+		int j = a;
+		while (j < end && !isLineTerminator(in.charAt(j))) {
+			char c = in.charAt(j);
+			if (c == '}' && a < j) {
+				group1Start = a;
+				group1End = j;
+				return j;
+			}
+			if (c == '{' && in.startsWith("{@link", j)
+					&& (code ? matchLink(j, end) : matchLabeledLink(j, end))) {
+				int next = matchEnd;
+				while (j < next && !isLineTerminator(in.charAt(j))) {
+					j++;
+				}
+				if (j < next) {
+					break;
+				}
+				continue;
+			}
+			j++;
+		}
+		if (2 <= spaces && a < end && in.charAt(a) == '}') {
+			group1Start = a - 1;
+			group1End = a;
+			return a;
+		}
+		return -1;
+	}
+
+	/**
+	 * Decodes an entity reference starting at the given position.
+	 * <p>
+	 * Only references ending with a semicolon are decoded, anything else is
+	 * kept as it is.
+	 *
+	 * @param i position of '&amp;'
+	 * @param end end of the current range
+	 * @return position after the processed characters
+	 */
+	private int entity(int i, int end) {
+		int j = i + 1;
+		if (j < end && in.charAt(j) == '#') {
+			// numeric reference
+			j++;
+			int radix = 10;
+			if (j < end && (in.charAt(j) == 'x' || in.charAt(j) == 'X')) {
+				radix = 16;
+				j++;
+			}
+			int digits = j;
+			int number = 0;
+			for (; j < end; j++) {
+				// ASCII digits only
+				char c = in.charAt(j);
+				int digit = c <= 'z' ? Character.digit(c, radix) : -1;
+				if (digit < 0) {
+					break;
+				}
+				// cap the number instead of overflowing
+				number = Math.min(number * radix + digit, Character.MAX_CODE_POINT + 1);
+			}
+			if (digits < j && j < end && in.charAt(j) == ';') {
+				int codePoint = HtmlEntities.toCodePoint(number);
+				if (Character.isBmpCodePoint(codePoint)) {
+					appendDecoded((char) codePoint);
+				} else {
+					out.appendCodePoint(codePoint);
+				}
+				return j + 1;
+			}
+		} else {
+			// named reference
+			int last = Math.min(end, j + HtmlEntities.MAX_NAME_LENGTH);
+			while (j < last && isAsciiLetterOrDigit(in.charAt(j))) {
+				j++;
+			}
+			if (j < end && in.charAt(j) == ';') {
+				String value = HtmlEntities.get(in, i + 1, j);
+				if (value != null) {
+					for (int k = 0; k < value.length(); k++) {
+						appendDecoded(value.charAt(k));
+					}
+					return j + 1;
+				}
+			}
+		}
+		out.append('&');
+		return i + 1;
+	}
+
+	/**
+	 * Appends a decoded character, escaping backslashes and replacing the no-break space.
+	 *
+	 * @param c character
+	 */
+	private void appendDecoded(char c) {
+		if (c == '\\') {
+			out.append("\\\\");
+		} else if (c == '\u00A0') {
+			out.append(' ');
+		} else {
+			out.append(c);
+		}
+	}
+
+	/**
+	 * Finds a token on the current line.
+	 *
+	 * @param token token to find
+	 * @param from search start
+	 * @param end end of the current range
+	 * @return position of the token, or -1
+	 */
+	private int find(String token, int from, int end) {
+		char first = token.charAt(0);
+		int last = end - token.length();
+		for (int j = from; j <= last; j++) {
+			char c = in.charAt(j);
+			if (c == first && in.startsWith(token, j)) {
+				return j;
+			}
+			if (isLineTerminator(c)) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Skips whitespace characters.
+	 *
+	 * @param from start position
+	 * @param end end of the current range
+	 * @return position of the first non-whitespace character
+	 */
+	private int skipSpaces(int from, int end) {
+		int j = from;
+		while (j < end && isWhitespace(in.charAt(j))) {
+			j++;
+		}
+		return j;
+	}
+
+	/**
+	 * Skips whitespace after a list tag.
+	 * <p>
+	 * A paragraph end followed by whitespace has already become a line break
+	 * at this point and is skipped as well.
+	 *
+	 * @param from start position
+	 * @param end end of the current range
+	 * @return position of the first character which is kept
+	 */
+	private int skipBreaks(int from, int end) {
+		int j = skipSpaces(from, end);
+		while (in.startsWith("</p>", j)) {
+			int next = skipSpaces(j + 4, end);
+			if (next == j + 4) {
+				break;
+			}
+			j = next;
+		}
+		return j;
+	}
+
+	/**
+	 * Counts the space characters at the given position.
+	 *
+	 * @param from start position
+	 * @param end end of the current range
+	 * @return number of spaces
+	 */
+	private int countSpaces(int from, int end) {
+		int j = from;
+		while (j < end && in.charAt(j) == ' ') {
+			j++;
+		}
+		return j - from;
+	}
+
+	/**
+	 * Determine whether the character may be part of the name of an entity reference.
+	 *
+	 * @param c character
+	 * @return Returns true for ASCII letters and digits.
+	 */
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z') || ('0' <= c && c <= '9');
+	}
+
+	/**
+	 * Determine whether the character ends a link target or label.
+	 *
+	 * @param c character
+	 * @return Returns true for ',', '{' and '}'.
+	 */
+	private static boolean isLinkDelimiter(char c) {
+		return c == ',' || c == '{' || c == '}';
+	}
+
+	/**
+	 * Determine whether the character is whitespace in the sense of <code>\s</code>.
+	 *
+	 * @param c character
+	 * @return Returns true for whitespace characters.
+	 */
+	static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * Determine whether the character ends a line in the sense of <code>.</code>.
+	 *
+	 * @param c character
+	 * @return Returns true for line terminators.
+	 */
+	static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+}
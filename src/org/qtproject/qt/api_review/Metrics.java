@@ -0,0 +1,239 @@
+package org.qtproject.qt.api_review;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the cost of a doclet run per phase.
+ * <p>
+ * Each phase sums the wall time, CPU time and allocated bytes of all its
+ * calls, on all threads. CPU time and allocated bytes are only recorded if
+ * the JVM supports measuring them for the current thread. Counters record
+ * the amount of work done. A disabled instance records nothing.
+ */
+public class Metrics {
+
+	/**
+	 * Whether anything is recorded
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Thread measurements of the JVM
+	 */
+	private final ThreadMXBean threads;
+
+	/**
+	 * Whether the CPU time of the current thread can be measured
+	 */
+	private final boolean cpuTime;
+
+	/**
+	 * Whether the allocated bytes of the current thread can be measured
+	 */
+	private final boolean allocatedBytes;
+
+	/**
+	 * Start of the run
+	 */
+	private final long startNanos = System.nanoTime();
+
+	/**
+	 * Phases in order of first use
+	 */
+	private final Map<String, Phase> phases = new LinkedHashMap<String, Phase>();
+
+	/**
+	 * Counters in order of first use
+	 */
+	private final Map<String, AtomicLong> counters = new LinkedHashMap<String, AtomicLong>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param enabled whether anything is recorded
+	 */
+	public Metrics(boolean enabled) {
+		this.enabled = enabled;
+		threads = ManagementFactory.getThreadMXBean();
+		cpuTime = enabled && threads.isCurrentThreadCpuTimeSupported();
+		if (cpuTime && !threads.isThreadCpuTimeEnabled()) {
+			threads.setThreadCpuTimeEnabled(true);
+		}
+		boolean allocation = false;
+		if (enabled && threads instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+			allocation = sunThreads.isThreadAllocatedMemorySupported();
+			if (allocation && !sunThreads.isThreadAllocatedMemoryEnabled()) {
+				sunThreads.setThreadAllocatedMemoryEnabled(true);
+			}
+		}
+		allocatedBytes = allocation;
+	}
+
+	/**
+	 * Determine whether anything is recorded.
+	 *
+	 * @return Returns true if enabled.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts a call of a phase on the current thread.
+	 *
+	 * @return start sample to pass to {@link #end(String, long[])}, or null if disabled
+	 */
+	public long[] begin() {
+		if (!enabled) {
+			return null;
+		}
+		return sample();
+	}
+
+	/**
+	 * Ends a call of a phase on the current thread.
+	 *
+	 * @param name phase name
+	 * @param start sample returned by {@link #begin()}
+	 */
+	public void end(String name, long[] start) {
+		if (start == null) {
+			return;
+		}
+		long[] stop = sample();
+		Phase phase;
+		synchronized (phases) {
+			phase = phases.get(name);
+			if (phase == null) {
+				phase = new Phase();
+				phases.put(name, phase);
+			}
+		}
+		phase.calls.incrementAndGet();
+		phase.wallNanos.addAndGet(stop[0] - start[0]);
+		phase.cpuNanos.addAndGet(stop[1] - start[1]);
+		phase.allocatedBytes.addAndGet(stop[2] - start[2]);
+	}
+
+	/**
+	 * Adds to a counter.
+	 *
+	 * @param name counter name
+	 * @param delta value to add
+	 */
+	public void add(String name, long delta) {
+		if (!enabled) {
+			return;
+		}
+		AtomicLong counter;
+		synchronized (counters) {
+			counter = counters.get(name);
+			if (counter == null) {
+				counter = new AtomicLong();
+				counters.put(name, counter);
+			}
+		}
+		counter.addAndGet(delta);
+	}
+
+	/**
+	 * Writes the report as JSON.
+	 *
+	 * @param file output file
+	 * @throws IOException exception
+	 */
+	public void write(File file) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n");
+		sb.append("  \"wallNanos\": ").append(System.nanoTime() - startNanos).append(",\n");
+		sb.append("  \"cpuTimeMeasured\": ").append(cpuTime).append(",\n");
+		sb.append("  \"allocatedBytesMeasured\": ").append(allocatedBytes).append(",\n");
+		sb.append("  \"phases\": {");
+		synchronized (phases) {
+			String separator = "\n";
+			for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+				Phase phase = entry.getValue();
+				sb.append(separator).append("    \"").append(entry.getKey()).append("\": {");
+				sb.append("\"calls\": ").append(phase.calls.get());
+				sb.append(", \"wallNanos\": ").append(phase.wallNanos.get());
+				sb.append(", \"cpuNanos\": ").append(phase.cpuNanos.get());
+				sb.append(", \"allocatedBytes\": ").append(phase.allocatedBytes.get());
+				sb.append("}");
+				separator = ",\n";
+			}
+		}
+		sb.append("\n  },\n");
+		sb.append("  \"counters\": {");
+		synchronized (counters) {
+			String separator = "\n";
+			for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+				sb.append(separator).append("    \"").append(entry.getKey()).append("\": ");
+				sb.append(entry.getValue().get());
+				separator = ",\n";
+			}
+		}
+		sb.append("\n  }\n");
+		sb.append("}\n");
+
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write(sb.toString());
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Takes a sample of the current thread.
+	 *
+	 * @return wall time, CPU time and allocated bytes
+	 */
+	private long[] sample() {
+		long[] sample = new long[3];
+		sample[0] = System.nanoTime();
+		if (cpuTime) {
+			sample[1] = threads.getCurrentThreadCpuTime();
+		}
+		if (allocatedBytes) {
+			sample[2] = ((com.sun.management.ThreadMXBean) threads)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return sample;
+	}
+
+	/**
+	 * Totals of one phase.
+	 */
+	private static class Phase {
+
+		/**
+		 * Number of calls
+		 */
+		private final AtomicLong calls = new AtomicLong();
+
+		/**
+		 * Wall time in nanoseconds
+		 */
+		private final AtomicLong wallNanos = new AtomicLong();
+
+		/**
+		 * CPU time in nanoseconds
+		 */
+		private final AtomicLong cpuNanos = new AtomicLong();
+
+		/**
+		 * Allocated bytes
+		 */
+		private final AtomicLong allocatedBytes = new AtomicLong();
+	}
+}
@@ -1,25 +1,306 @@
 package org.qtproject.qt.api_review;
 
+import java.io.File;
+import java.util.zip.Deflater;
+
 /**
- * A class that stores runtime options.
+ * Runtime options of a doclet run.
+ * <p>
+ * The options are parsed and validated once from the Javadoc options and
+ * cannot be changed afterwards, so several runs in one JVM do not share
+ * any state. If an option is given more than once, the first value is used.
  */
 public class Options {
 
 	/**
-	 * Array of Javadoc options
+	 * Javadoc options as given
 	 */
-	public static String[][] options;
+	private final String[][] rawOptions;
 
 	/**
-	 * Get option string.
-	 * <p>
-	 * If the corresponding option is not specified, an empty string is returned.
+	 * Output directory
+	 */
+	private final String outputDir;
+
+	/**
+	 * Title
+	 */
+	private final String title;
+
+	/**
+	 * Subtitle
+	 */
+	private final String subtitle;
+
+	/**
+	 * API version
+	 */
+	private final String version;
+
+	/**
+	 * Author
+	 */
+	private final String company;
+
+	/**
+	 * Number of rendering threads
+	 */
+	private final int threads;
+
+	/**
+	 * Number of rendered classes queued for the writer thread, or 0 to write on the reading thread
+	 */
+	private final int writeQueue;
+
+	/**
+	 * Maximum number of files written at once, or 0 to write them one after another
+	 */
+	private final int parallelWrites;
+
+	/**
+	 * Cache directory of rendered classes, or null if not used
+	 */
+	private final File cacheDir;
+
+	/**
+	 * Archive the files are written to, or null if they are written to the output directory
+	 */
+	private final File outputArchive;
+
+	/**
+	 * Compression level of the archive
+	 */
+	private final int compressionLevel;
+
+	/**
+	 * Snapshot file of the API model, or null if not written
+	 */
+	private final File snapshot;
+
+	/**
+	 * Snapshot of the previous version to compare with, or null if not compared
+	 */
+	private final File diffSnapshot;
+
+	/**
+	 * Whether files are only written if their content changed
+	 */
+	private final boolean writeIfChanged;
+
+	/**
+	 * Whether each package is finished before the next one is read
+	 */
+	private final boolean packageAtATime;
+
+	/**
+	 * Whether all implemented interfaces and the known subclasses are output
+	 */
+	private final boolean typeHierarchy;
+
+	/**
+	 * Whether the cost of the run is reported
+	 */
+	private final boolean metrics;
+
+	/**
+	 * A constructor.
 	 *
-	 * @param name option name
-	 * @return option value
+	 * @param options Javadoc options
+	 * @throws IllegalArgumentException if an option value is invalid
+	 */
+	public Options(String[][] options) {
+		rawOptions = new String[options.length][];
+		for (int i = 0; i < options.length; i++) {
+			rawOptions[i] = options[i].clone();
+		}
+
+		outputDir = getOption("output-dir", "");
+		title = getOption("title", "");
+		subtitle = getOption("subtitle", "");
+		version = getOption("version", "");
+		company = getOption("company", "");
+		threads = parseThreads(getOption("threads", "1"));
+		writeQueue = parseCount("write-queue", getOption("write-queue", "0"));
+		parallelWrites = parseCount("parallel-writes", getOption("parallel-writes", "0"));
+		String cache = getOption("cache-dir", "");
+		cacheDir = cache.isEmpty() ? null : new File(cache);
+		String archive = getOption("output-archive", "");
+		outputArchive = archive.isEmpty() ? null : new File(archive);
+		String snapshotFile = getOption("snapshot", "");
+		snapshot = snapshotFile.isEmpty() ? null : new File(snapshotFile);
+		String diffFile = getOption("diff-snapshot", "");
+		diffSnapshot = diffFile.isEmpty() ? null : new File(diffFile);
+		compressionLevel = parseCompressionLevel(getOption("compression-level", String.valueOf(Deflater.DEFAULT_COMPRESSION)));
+		writeIfChanged = hasOption("write-if-changed");
+		packageAtATime = hasOption("package-at-a-time");
+		typeHierarchy = hasOption("type-hierarchy");
+		metrics = hasOption("metrics");
+	}
+
+	/**
+	 * Get the output directory.
+	 *
+	 * @return output directory, or an empty string for the current directory
+	 */
+	public String getOutputDir() {
+		return outputDir;
+	}
+
+	/**
+	 * Get the title.
+	 *
+	 * @return title
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Get the subtitle.
+	 *
+	 * @return subtitle
+	 */
+	public String getSubtitle() {
+		return subtitle;
+	}
+
+	/**
+	 * Get the API version.
+	 *
+	 * @return API version
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Get the author.
+	 *
+	 * @return author
+	 */
+	public String getCompany() {
+		return company;
+	}
+
+	/**
+	 * Get the number of rendering threads.
+	 *
+	 * @return number of threads, at least one
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Get the number of rendered classes queued for the writer thread.
+	 *
+	 * @return queue capacity, or 0 if the classes are written on the reading thread
+	 */
+	public int getWriteQueue() {
+		return writeQueue;
+	}
+
+	/**
+	 * Get the maximum number of files written at once.
+	 *
+	 * @return limit of parallel writes, or 0 if files are written one after another
+	 */
+	public int getParallelWrites() {
+		return parallelWrites;
+	}
+
+	/**
+	 * Get the cache directory of rendered classes.
+	 *
+	 * @return cache directory, or null if not used
+	 */
+	public File getCacheDir() {
+		return cacheDir;
+	}
+
+	/**
+	 * Get the archive the files are written to.
+	 *
+	 * @return zip or jar file, or null if the files are written to the output directory
+	 */
+	public File getOutputArchive() {
+		return outputArchive;
+	}
+
+	/**
+	 * Get the compression level of the archive.
+	 *
+	 * @return level from 0 to 9, or -1 for the default level
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Get the snapshot file of the API model.
+	 *
+	 * @return snapshot file, or null if not written
+	 */
+	public File getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Get the snapshot of the previous version to compare with.
+	 *
+	 * @return snapshot file, or null if not compared
+	 */
+	public File getDiffSnapshot() {
+		return diffSnapshot;
+	}
+
+	/**
+	 * Determine whether files are only written if their content changed.
+	 *
+	 * @return Returns true in write-if-changed mode.
+	 */
+	public boolean isWriteIfChanged() {
+		return writeIfChanged;
+	}
+
+	/**
+	 * Determine whether each package is finished before the next one is read.
+	 *
+	 * @return Returns true in package-at-a-time mode.
+	 */
+	public boolean isPackageAtATime() {
+		return packageAtATime;
+	}
+
+	/**
+	 * Determine whether all implemented interfaces and the known subclasses are output.
+	 *
+	 * @return Returns true if the stubs show the type hierarchy around each class.
+	 */
+	public boolean isTypeHierarchy() {
+		return typeHierarchy;
+	}
+
+	/**
+	 * Determine whether the cost of the run is reported.
+	 *
+	 * @return Returns true if metrics are written.
 	 */
-	public static String getOption(String name) {
-		return getOption(name, "");
+	public boolean isMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Get the Javadoc options as given.
+	 *
+	 * @return copy of the options
+	 */
+	public String[][] getRawOptions() {
+		String[][] options = new String[rawOptions.length][];
+		for (int i = 0; i < rawOptions.length; i++) {
+			options[i] = rawOptions[i].clone();
+		}
+		return options;
 	}
 
 	/**
@@ -31,16 +312,94 @@ public class Options {
 	 * @param defaultValue value to use if option is not specified
 	 * @return option value
 	 */
-	public static String getOption(String name, String defaultValue) {
-		for (int i = 0; i < options.length; i++) {
-			String[] opt = options[i];
-			if (opt[0].equals("-" + name)) {
+	private String getOption(String name, String defaultValue) {
+		for (int i = 0; i < rawOptions.length; i++) {
+			String[] opt = rawOptions[i];
+			if (opt[0].equals("-" + name) && 1 < opt.length) {
 				return opt[1];
 			}
 		}
 		return defaultValue;
 	}
 
+	/**
+	 * Determine whether an option is specified.
+	 *
+	 * @param name option name
+	 * @return Returns true if the option is specified.
+	 */
+	private boolean hasOption(String name) {
+		for (int i = 0; i < rawOptions.length; i++) {
+			if (rawOptions[i][0].equals("-" + name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the number of rendering threads.
+	 * <p>
+	 * A value of zero or less selects the number of available processors.
+	 *
+	 * @param value option value
+	 * @return number of threads
+	 * @throws IllegalArgumentException if the value is not a number
+	 */
+	private static int parseThreads(String value) {
+		int threads;
+		try {
+			threads = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid -threads value: " + value);
+		}
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		return threads;
+	}
+
+	/**
+	 * Parses a count that may be zero.
+	 *
+	 * @param name option name
+	 * @param value option value
+	 * @return count
+	 * @throws IllegalArgumentException if the value is not a number or negative
+	 */
+	private static int parseCount(String name, String value) {
+		int count;
+		try {
+			count = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid -" + name + " value: " + value);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Invalid -" + name + " value: " + value);
+		}
+		return count;
+	}
+
+	/**
+	 * Parses the compression level of the archive.
+	 *
+	 * @param value option value
+	 * @return level from 0 to 9, or -1 for the default level
+	 * @throws IllegalArgumentException if the value is not a valid level
+	 */
+	private static int parseCompressionLevel(String value) {
+		int level;
+		try {
+			level = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid -compression-level value: " + value);
+		}
+		if (level < Deflater.DEFAULT_COMPRESSION || Deflater.BEST_COMPRESSION < level) {
+			throw new IllegalArgumentException("Invalid -compression-level value: " + value);
+		}
+		return level;
+	}
+
 	/**
 	 * Determine whether the option name is supported.
 	 *
@@ -54,6 +413,31 @@ public class Options {
 		case "-subtitle":
 		case "-version":
 		case "-company":
+		case "-threads":
+		case "-write-queue":
+		case "-parallel-writes":
+		case "-cache-dir":
+		case "-output-archive":
+		case "-compression-level":
+		case "-snapshot":
+		case "-diff-snapshot":
+			return true;
+		}
+		return isFlagOption(option);
+	}
+
+	/**
+	 * Determine whether the option name is a supported option without a value.
+	 *
+	 * @param option option name
+	 * @return Returns true if the option takes no value.
+	 */
+	public static boolean isFlagOption(String option) {
+		switch (option) {
+		case "-write-if-changed":
+		case "-package-at-a-time":
+		case "-type-hierarchy":
+		case "-metrics":
 			return true;
 		}
 		return false;
@@ -0,0 +1,151 @@
+package org.qtproject.qt.api_review;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of type names without package names.
+ * <p>
+ * Every package or outer class prefix is removed, also within type arguments,
+ * so <code>java.util.Map&lt;java.lang.String, java.util.List&lt;a.B.C&gt;&gt;[]</code>
+ * becomes <code>Map&lt;String, List&lt;C&gt;&gt;[]</code>. Each name is shortened once
+ * and the same short name instance is returned afterwards. New names are no
+ * longer cached once the cache is full. The cache can be used from several
+ * threads.
+ */
+public class ShortNameCache {
+
+	/**
+	 * Default number of cached names
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	/**
+	 * Maximum number of cached names
+	 */
+	private final int capacity;
+
+	/**
+	 * Short names by qualified name
+	 */
+	private final ConcurrentMap<String, String> names = new ConcurrentHashMap<String, String>();
+
+	/**
+	 * Number of names found in the cache
+	 */
+	private final AtomicLong hits = new AtomicLong();
+
+	/**
+	 * Number of names shortened
+	 */
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * A constructor with the default capacity.
+	 */
+	public ShortNameCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * A constructor.
+	 *
+	 * @param capacity maximum number of cached names
+	 */
+	public ShortNameCache(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gets the short form of a type name.
+	 *
+	 * @param name qualified type name
+	 * @return abbreviated type name
+	 */
+	public String get(String name) {
+		String shortName = names.get(name);
+		if (shortName != null) {
+			hits.incrementAndGet();
+			return shortName;
+		}
+		misses.incrementAndGet();
+		shortName = shorten(name);
+		if (names.size() < capacity) {
+			String previous = names.putIfAbsent(name, shortName);
+			if (previous != null) {
+				shortName = previous;
+			}
+		}
+		return shortName;
+	}
+
+	/**
+	 * Gets the number of names found in the cache.
+	 *
+	 * @return number of hits
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of names shortened.
+	 *
+	 * @return number of misses
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Removes the package names from a type name.
+	 * <p>
+	 * Each run of letters, digits, <code>-</code> and <code>_</code> that is
+	 * followed by a dot is dropped together with the dot.
+	 *
+	 * @param name qualified type name
+	 * @return abbreviated type name
+	 */
+	static String shorten(String name) {
+		int n = name.length();
+		StringBuilder sb = null;
+		int copied = 0;
+		int i = 0;
+		while (i < n) {
+			if (!isNameChar(name.charAt(i))) {
+				i++;
+				continue;
+			}
+			int j = i + 1;
+			while (j < n && isNameChar(name.charAt(j))) {
+				j++;
+			}
+			if (j < n && name.charAt(j) == '.') {
+				if (sb == null) {
+					sb = new StringBuilder(n);
+				}
+				sb.append(name, copied, i);
+				copied = j + 1;
+				i = j + 1;
+			} else {
+				i = j;
+			}
+		}
+		if (sb == null) {
+			return name;
+		}
+		sb.append(name, copied, n);
+		return sb.toString();
+	}
+
+	/**
+	 * Determine whether the character may be part of a package name.
+	 *
+	 * @param c character
+	 * @return Returns true for letters, digits, <code>-</code> and <code>_</code>.
+	 */
+	private static boolean isNameChar(char c) {
+		return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z') || ('0' <= c && c <= '9') || c == '-' || c == '_';
+	}
+}
@@ -0,0 +1,162 @@
+package org.qtproject.qt.api_review;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.snapshot.SnapshotMember;
+
+/**
+ * Outputs the declaration lines of fields, constructors and methods.
+ * <p>
+ * Modifiers, type names and parameters are appended to a buffer reused by
+ * all instances on the same thread, so that a declaration only allocates
+ * the line passed to the output. Comments are indented the same way.
+ */
+public class SignatureWriter {
+
+	/**
+	 * Indentation of members and their comments
+	 */
+	private static final String INDENT = "    ";
+
+	/**
+	 * Line buffer of the current thread
+	 */
+	private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<StringBuilder>() {
+		@Override
+		protected StringBuilder initialValue() {
+			return new StringBuilder(256);
+		}
+	};
+
+	/**
+	 * Markdown output
+	 */
+	private final ApiReviewWriter md;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param md Markdown output
+	 */
+	public SignatureWriter(ApiReviewWriter md) {
+		this.md = md;
+	}
+
+	/**
+	 * Outputs the declaration of a field.
+	 *
+	 * @param field field information
+	 * @throws IOException exception
+	 */
+	public void writeField(FieldInfo field) throws IOException {
+		StringBuilder sb = start();
+		sb.append(field.getModifiers()).append(' ').append(field.getType()).append(' ').append(field.getName());
+		end(sb, ";");
+	}
+
+	/**
+	 * Outputs the declaration of a constructor or method.
+	 *
+	 * @param method executable member information
+	 * @throws IOException exception
+	 */
+	public void writeMethod(MethodInfo method) throws IOException {
+		StringBuilder sb = start();
+		sb.append(method.getModifiers());
+		if (!method.isConstructor()) {
+			sb.append(' ').append(method.getReturnType());
+		}
+		sb.append(' ').append(method.getName()).append('(');
+		List<ParamInfo> params = method.getParams();
+		for (int i = 0; i < params.size(); i++) {
+			if (0 < i) {
+				sb.append(", ");
+			}
+			sb.append(params.get(i).getType()).append(' ').append(params.get(i).getName());
+		}
+		end(sb, ");");
+	}
+
+	/**
+	 * Outputs the declaration of a member of a previous version.
+	 *
+	 * @param member member of the previous version
+	 * @throws IOException exception
+	 */
+	public void writeRemoved(SnapshotMember member) throws IOException {
+		StringBuilder sb = start();
+		sb.append(member.getModifiers());
+		if (member.getType() != null) {
+			sb.append(' ').append(member.getType());
+		}
+		sb.append(' ').append(member.getName());
+		if (member.getKind() == SnapshotMember.CONSTRUCTOR || member.getKind() == SnapshotMember.METHOD) {
+			sb.append('(');
+			for (int i = 0; i < member.getParamTypes().size(); i++) {
+				if (0 < i) {
+					sb.append(", ");
+				}
+				sb.append(member.getParamTypes().get(i)).append(' ').append(member.getParamNames().get(i));
+			}
+			sb.append(')');
+		}
+		end(sb, ";");
+	}
+
+	/**
+	 * Indents every line of a comment by four spaces.
+	 * <p>
+	 * Gives the same text as <code>replaceAll("(?m)^", "    ")</code>: a
+	 * line starts at the beginning and after each line terminator, except at
+	 * the end, and <code>"\r\n"</code> counts as one terminator.
+	 *
+	 * @param text comment text
+	 * @return indented text
+	 */
+	public static String indent(String text) {
+		int n = text.length();
+		if (n == 0) {
+			return text;
+		}
+		StringBuilder sb = BUFFER.get();
+		sb.setLength(0);
+		sb.append(INDENT);
+		int from = 0;
+		for (int i = 0; i < n - 1; i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || (c == '\r' && text.charAt(i + 1) != '\n') || c == '\u0085' || c == '\u2028'
+					|| c == '\u2029') {
+				sb.append(text, from, i + 1).append(INDENT);
+				from = i + 1;
+			}
+		}
+		sb.append(text, from, n);
+		return sb.toString();
+	}
+
+	/**
+	 * Starts a declaration line in the buffer of the current thread.
+	 *
+	 * @return buffer holding the indentation
+	 */
+	private static StringBuilder start() {
+		StringBuilder sb = BUFFER.get();
+		sb.setLength(0);
+		return sb.append(INDENT);
+	}
+
+	/**
+	 * Ends a declaration line and outputs it.
+	 *
+	 * @param sb buffer
+	 * @param end end of the declaration
+	 * @throws IOException exception
+	 */
+	private void end(StringBuilder sb, String end) throws IOException {
+		md.rawLine(sb.append(end).toString());
+	}
+}
@@ -0,0 +1,532 @@
+package org.qtproject.qt.api_review;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.qtproject.qt.api_review.counter.CountInfo;
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+import org.qtproject.qt.api_review.snapshot.ApiDiff;
+import org.qtproject.qt.api_review.snapshot.ClassDiff;
+import org.qtproject.qt.api_review.snapshot.MemberDiff;
+import org.qtproject.qt.api_review.snapshot.SnapshotClass;
+import org.qtproject.qt.api_review.snapshot.SnapshotMember;
+
+/**
+ * Renders packages and classes of the API model as review stubs.
+ * <p>
+ * Rendering only uses the model, so renderers with separate writers can run
+ * on several threads at once.
+ */
+public class StubRenderer {
+
+	/**
+	 * Display string when no comment is specified
+	 */
+	private static final String NO_COMMENT = "Missing documentation";
+
+	/**
+	 * Path of a source file below a Qt repository
+	 */
+	private static final Pattern QT_REPO_PATH = Pattern.compile("\\/(qt\\w+\\/src\\/.+)");
+
+	/**
+	 * Paragraph separator
+	 */
+	private static final Pattern PARAGRAPH = Pattern.compile("\\s*<(p|P)>\\s*");
+
+	/**
+	 * Line breaks within a paragraph
+	 */
+	private static final Pattern LINE_BREAKS = Pattern.compile("\\s*[\\r\\n]+\\s*");
+
+	/**
+	 * Line breaks at the end of a comment
+	 */
+	private static final Pattern TRAILING_LINE_BREAKS = Pattern.compile("(\\n)+$");
+
+	/**
+	 * Markdown output
+	 */
+	private final ApiReviewWriter md;
+
+	/**
+	 * Line breaking of converted paragraphs
+	 */
+	private final WordWrapper wrapper;
+
+	/**
+	 * Declaration output
+	 */
+	private final SignatureWriter signatures;
+
+	/**
+	 * Whether all implemented interfaces and the known subclasses are output
+	 */
+	private final boolean typeHierarchy;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param md Markdown output
+	 */
+	public StubRenderer(ApiReviewWriter md) {
+		this(md, false);
+	}
+
+	/**
+	 * A constructor.
+	 *
+	 * @param md Markdown output
+	 * @param typeHierarchy whether all implemented interfaces and the known subclasses are output
+	 */
+	public StubRenderer(ApiReviewWriter md, boolean typeHierarchy) {
+		this.md = md;
+		this.wrapper = new WordWrapper(md);
+		this.signatures = new SignatureWriter(md);
+		this.typeHierarchy = typeHierarchy;
+	}
+
+	/**
+	 * Outputs the description file of a package.
+	 *
+	 * @param packageInfo package information
+	 * @throws IOException exception
+	 */
+	public void renderPackage(PackageInfo packageInfo) throws IOException {
+
+		// Package description
+		md.rawLine("/*");
+		print(getText(packageInfo.getComment(), NO_COMMENT), false);
+		md.rawLine("*/");
+
+		md.rawLine("package " + packageInfo.getName() + ";");
+	}
+
+	/**
+	 * Outputs the stub file of a class.
+	 *
+	 * @param classInfo class information
+	 * @param ci step count of the source file, or null
+	 * @throws IOException exception
+	 */
+	public void renderClass(ClassInfo classInfo, CountInfo ci) throws IOException {
+
+		// Type name
+		String classType;
+		if (classInfo.isInterface()) {
+			classType = "interface";
+		} else {
+			classType = "class";
+		}
+
+		// package name
+		md.rawLine("package " + classInfo.getPackageName() + ";");
+		md.rawLine("");
+		// md.heading3("Package");
+		// md.unorderedList(classDoc.containingPackage().name());
+		// md.breakElement();
+
+		// class description
+		md.rawLine("/*");
+		print(getText(classInfo.getComment(), NO_COMMENT).trim(), false);
+
+		// Source code file information
+		File source = classInfo.getSource();
+		if (ci != null) {
+			md.breakElement();
+			md.rawLine("File");
+			String classPath = "";
+			Matcher matcher = QT_REPO_PATH.matcher(source.getPath());
+			if (matcher.find())
+				classPath = matcher.group(1);
+			else
+				classPath = source.getName();
+
+			// md.unorderedList(String.format("%s - %,d source code lines and %,d lines in total", classPath, ci.getSteps(), ci.getLines()));
+			md.unorderedList(classPath);
+			// md.rawLine("Class File: " + classPath);
+		}
+
+		// inheritance hierarchy
+		List<String> hierarchy = classInfo.getHierarchy();
+		if (2 <= hierarchy.size()) {
+			md.breakElement();
+			md.rawLine("Inheritance Hierarchy");
+			for (int i = 0; i < hierarchy.size(); i++) {
+				md.orderedList(hierarchy.get(i));
+			}
+		}
+
+		// interface
+		if (0 < classInfo.getInterfaces().size()) {
+			md.breakElement();
+			md.rawLine("Implemented Interfaces");
+			for (String name : classInfo.getInterfaces()) {
+				md.unorderedList(name);
+			}
+		}
+
+		// interfaces of the supertypes and known subclasses
+		if (typeHierarchy) {
+			writeTypeHierarchy(classInfo);
+		}
+
+		// version
+		if (0 < classInfo.getVersions().size()) {
+			md.rawLine("Version");
+			for (String version : classInfo.getVersions()) {
+				md.unorderedList(version);
+			}
+			// md.breakElement();
+		}
+
+		// Author
+		if (0 < classInfo.getAuthors().size()) {
+			md.rawLine("Author");
+			for (String author : classInfo.getAuthors()) {
+				md.unorderedList(author);
+			}
+			// md.breakElement();
+		}
+
+		md.rawLine("*/");
+
+		md.rawLine(classInfo.getModifiers() + " " + classType + " " + classInfo.getName() + " {");
+
+		// all constants
+		for (FieldInfo field : classInfo.getEnumConstants()) {
+			writeFieldDoc(field, null);
+		}
+
+		// all fields
+		for (FieldInfo field : classInfo.getFields()) {
+			writeFieldDoc(field, null);
+		}
+
+		// all constructors
+		for (MethodInfo constructor : classInfo.getConstructors()) {
+			writeMemberDoc(constructor, null);
+		}
+
+		// all methods
+		for (MethodInfo method : classInfo.getMethods()) {
+			writeMemberDoc(method, null);
+		}
+
+		md.rawLine("}");
+	}
+
+	/**
+	 * Outputs the difference file of a package.
+	 *
+	 * @param packageName package name
+	 * @param packageInfo package information, or null if removed
+	 * @param kind kind of the difference
+	 * @throws IOException exception
+	 */
+	public void renderPackageDiff(String packageName, PackageInfo packageInfo, int kind) throws IOException {
+		md.rawLine("/*");
+		md.rawLine(getStatus(kind, null));
+		if (packageInfo != null) {
+			md.breakElement();
+			print(getText(packageInfo.getComment(), NO_COMMENT), false);
+		}
+		md.rawLine("*/");
+
+		md.rawLine("package " + packageName + ";");
+	}
+
+	/**
+	 * Outputs the difference file of a class.
+	 * <p>
+	 * Only the members that were added, removed or changed are output. Added
+	 * and changed declarations are rendered from the model like in the stub
+	 * file, removed ones from the previous snapshot.
+	 *
+	 * @param classInfo class information, or null if removed
+	 * @param diff difference to the previous version
+	 * @throws IOException exception
+	 */
+	public void renderClassDiff(ClassInfo classInfo, ClassDiff diff) throws IOException {
+		SnapshotClass latest = diff.getLatest();
+
+		// package name
+		md.rawLine("package " + latest.getPackageName() + ";");
+		md.rawLine("");
+
+		// class difference
+		md.rawLine("/*");
+		md.rawLine(getStatus(diff.getKind(), diff.getChanges()));
+		if (classInfo != null) {
+			md.breakElement();
+			print(getText(classInfo.getComment(), NO_COMMENT).trim(), false);
+		}
+
+		// previous and current supertypes
+		if (diff.getChanges().contains("hierarchy")) {
+			md.breakElement();
+			md.rawLine("Previous Inheritance Hierarchy");
+			for (String name : diff.getPrevious().getHierarchy()) {
+				md.orderedList(name);
+			}
+			md.breakElement();
+			md.rawLine("Inheritance Hierarchy");
+			for (String name : diff.getCurrent().getHierarchy()) {
+				md.orderedList(name);
+			}
+		}
+		if (diff.getChanges().contains("interfaces")) {
+			md.breakElement();
+			md.rawLine("Previous Implemented Interfaces");
+			for (String name : diff.getPrevious().getInterfaces()) {
+				md.unorderedList(name);
+			}
+			md.breakElement();
+			md.rawLine("Implemented Interfaces");
+			for (String name : diff.getCurrent().getInterfaces()) {
+				md.unorderedList(name);
+			}
+		}
+
+		// member counts
+		md.breakElement();
+		md.rawLine("Members");
+		md.unorderedList(String.format("%,d added", diff.count(ApiDiff.ADDED)));
+		md.unorderedList(String.format("%,d removed", diff.count(ApiDiff.REMOVED)));
+		md.unorderedList(String.format("%,d changed", diff.count(ApiDiff.CHANGED)));
+		md.rawLine("*/");
+
+		md.rawLine(latest.getModifiers() + " " + (latest.isInterface() ? "interface" : "class") + " " + latest.getName() + " {");
+
+		// differing members
+		for (MemberDiff member : diff.getMembers()) {
+			String status = getStatus(member.getKind(), member.getChanges());
+			if (member.getCurrent() == null) {
+				writeRemovedDoc(member.getPrevious(), status);
+				continue;
+			}
+			int index = member.getIndex();
+			if (index < classInfo.getEnumConstants().size()) {
+				writeFieldDoc(classInfo.getEnumConstants().get(index), status);
+				continue;
+			}
+			index -= classInfo.getEnumConstants().size();
+			if (index < classInfo.getFields().size()) {
+				writeFieldDoc(classInfo.getFields().get(index), status);
+				continue;
+			}
+			index -= classInfo.getFields().size();
+			if (index < classInfo.getConstructors().size()) {
+				writeMemberDoc(classInfo.getConstructors().get(index), status);
+				continue;
+			}
+			index -= classInfo.getConstructors().size();
+			writeMemberDoc(classInfo.getMethods().get(index), status);
+		}
+
+		md.rawLine("}");
+	}
+
+	/**
+	 * Outputs all implemented interfaces and the known subclasses of a class.
+	 * <p>
+	 * All interfaces are only listed if the supertypes add any to the
+	 * implemented ones.
+	 *
+	 * @param classInfo class information
+	 * @throws IOException exception
+	 */
+	private void writeTypeHierarchy(ClassInfo classInfo) throws IOException {
+		if (!classInfo.getAllInterfaces().equals(classInfo.getInterfaces())) {
+			md.breakElement();
+			md.rawLine(classInfo.isInterface() ? "All Superinterfaces" : "All Implemented Interfaces");
+			for (String name : classInfo.getAllInterfaces()) {
+				md.unorderedList(name);
+			}
+		}
+		if (0 < classInfo.getSubclasses().size()) {
+			md.breakElement();
+			md.rawLine("Direct Known Subclasses");
+			for (String name : classInfo.getSubclasses()) {
+				md.unorderedList(name);
+			}
+		}
+	}
+
+	/**
+	 * Outputs information for all fields.
+	 *
+	 * @param doc field information
+	 * @param status difference to the previous version, or null
+	 * @throws IOException exception
+	 */
+	private void writeFieldDoc(FieldInfo doc, String status) throws IOException {
+
+		// field information
+		md.rawLine("");
+		md.rawLine("    /*");
+		writeStatus(status);
+		print(SignatureWriter.indent(getText(doc.getComment(), NO_COMMENT)));
+		md.rawLine("    */");
+		signatures.writeField(doc);
+	}
+
+	/**
+	 * Outputs information about all executable members.
+	 *
+	 * @param doc Executable member information
+	 * @param status difference to the previous version, or null
+	 * @throws IOException exception
+	 */
+	private void writeMemberDoc(MethodInfo doc, String status) throws IOException {
+		md.rawLine("");
+		md.rawLine("    /*");
+		writeStatus(status);
+		print(SignatureWriter.indent(getText(doc.getComment(), NO_COMMENT)));
+
+		boolean paramBreakAdded = false;
+		// parameters
+		for (ParamInfo parameter : doc.getParams()) {
+			String paramText = getText(parameter.getComment(), "");
+			if (!paramText.isEmpty()) {
+				if (!paramBreakAdded)
+					md.breakElement();
+				paramBreakAdded = true;
+				print("    `" + parameter.getType() + " " + parameter.getName() + "`: "
+							+ paramText, true, false);
+			}
+		}
+
+		// Return value
+		if (doc.getReturnComment() != null) {
+			md.breakElement();
+			print("    Returns " + doc.getReturnComment(), true, false);
+		}
+
+		// exception
+		for (ThrowsInfo exception : doc.getExceptions()) {
+			md.breakElement();
+			print("    Exception `" + exception.getType() + "`: " +
+					getText(exception.getComment(), NO_COMMENT), true, false);
+		}
+		md.rawLine("    */");
+
+		// Method information
+		signatures.writeMethod(doc);
+	}
+
+	/**
+	 * Outputs a member that no longer exists.
+	 *
+	 * @param member member of the previous version
+	 * @param status difference to the previous version
+	 * @throws IOException exception
+	 */
+	private void writeRemovedDoc(SnapshotMember member, String status) throws IOException {
+		md.rawLine("");
+		md.rawLine("    /*");
+		md.rawLine("    " + status);
+		md.rawLine("    */");
+
+		signatures.writeRemoved(member);
+	}
+
+	/**
+	 * Outputs the difference to the previous version at the top of a member comment.
+	 *
+	 * @param status difference to the previous version, or null
+	 * @throws IOException exception
+	 */
+	private void writeStatus(String status) throws IOException {
+		if (status != null) {
+			md.rawLine("    " + status);
+			md.breakElement();
+		}
+	}
+
+	/**
+	 * Describes a difference to the previous version.
+	 *
+	 * @param kind kind of the difference
+	 * @param changes changed parts, or null
+	 * @return description such as <code>Changed: modifiers, comment</code>
+	 */
+	private static String getStatus(int kind, List<String> changes) {
+		if (kind == ApiDiff.ADDED) {
+			return "Added";
+		}
+		if (kind == ApiDiff.REMOVED) {
+			return "Removed";
+		}
+		StringBuilder sb = new StringBuilder("Changed");
+		if (changes != null) {
+			for (int i = 0; i < changes.size(); i++) {
+				sb.append(i == 0 ? ": " : ", ").append(changes.get(i));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Outputs Javadoc content in Markdown format.
+	 *
+	 * @param str Javadoc content
+	 * @throws IOException exception
+	 */
+	private void print(String str, boolean indent, boolean isMainComment) throws IOException {
+
+		// Process each paragraph
+		String[] paragraphs = PARAGRAPH.split(str);
+		for (int i = 0; i < paragraphs.length; i++) {
+
+			// Combining line breaks
+			String paragraph = LINE_BREAKS.matcher(paragraphs[i]).replaceAll(" ");
+
+			paragraph = md.markdown(paragraph);
+
+			// Insert line break after each line
+			if (indent) {
+				if (isMainComment)
+					wrapper.write(paragraph, "    ");
+				else
+					wrapper.write(paragraph, "        ");
+			} else {
+				wrapper.write(paragraph, "");
+			}
+
+			// Ending a Markdown element
+			if (i < paragraphs.length - 1)
+				md.breakElement();
+		}
+	}
+
+	private void print(String str, boolean indent) throws IOException {
+		print(str, indent, true);
+	}
+
+	private void print(String str) throws IOException {
+		print(str, true, true);
+	}
+
+	/**
+	 * Returns the default string if the specified string is empty.
+	 *
+	 * @param str string
+	 * @param def default string
+	 * @return selected string
+	 */
+	private String getText(String str, String def) {
+		if (str == null || str.isEmpty()) {
+			return def;
+		}
+		return TRAILING_LINE_BREAKS.matcher(str.trim().replace("\n ", "\n")).replaceAll("");
+	}
+}
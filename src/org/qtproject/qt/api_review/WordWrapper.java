@@ -0,0 +1,214 @@
+package org.qtproject.qt.api_review;
+
+import java.io.IOException;
+
+/**
+ * Breaks converted paragraphs into lines in a single forward scan.
+ * <p>
+ * The lines are the same as with the former chain of regular expressions:
+ * a line break is put before <code>" 1. "</code> (any character in place of
+ * the dot, which becomes a dot) and before <code>"Note: "</code>, a line is
+ * broken after the first space following 75 to 86 characters (as many as
+ * possible), the space before a line break is dropped, empty lines at the
+ * end are dropped and lines ending with <code>&lt;/ul&gt;</code> are skipped.
+ * <p>
+ * An instance reuses its buffers and is not thread safe.
+ */
+public class WordWrapper {
+
+	/**
+	 * Shortest line before a break
+	 */
+	private static final int MIN_WIDTH = 75;
+
+	/**
+	 * Longest line before a break
+	 */
+	private static final int MAX_WIDTH = 86;
+
+	/**
+	 * Markdown output
+	 */
+	private final ApiReviewWriter md;
+
+	/**
+	 * Paragraph after inserting the list and note breaks
+	 */
+	private final StringBuilder text = new StringBuilder(256);
+
+	/**
+	 * Line being built
+	 */
+	private final StringBuilder line = new StringBuilder(128);
+
+	/**
+	 * Number of empty lines not yet output
+	 */
+	private int blanks;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param md Markdown output
+	 */
+	public WordWrapper(ApiReviewWriter md) {
+		this.md = md;
+	}
+
+	/**
+	 * Outputs a converted paragraph line by line.
+	 *
+	 * @param paragraph paragraph in Markdown format
+	 * @param indent indentation of continuation lines
+	 * @throws IOException exception
+	 */
+	public void write(String paragraph, String indent) throws IOException {
+		insertBreaks(paragraph);
+
+		// an empty paragraph is still one line
+		int n = text.length();
+		if (n == 0) {
+			output("");
+			return;
+		}
+
+		blanks = 0;
+		line.setLength(0);
+		int next = nextBreak(0);
+		for (int i = 0; i < n; i++) {
+			char c = text.charAt(i);
+			if (c == '\n') {
+				endLine(true);
+			} else {
+				line.append(c);
+				if (i == next) {
+					endLine(true);
+					line.append(indent);
+					next = nextBreak(i + 1);
+				}
+			}
+		}
+		endLine(false);
+	}
+
+	/**
+	 * Copies a paragraph to the text buffer, inserting the list and note breaks.
+	 *
+	 * @param paragraph paragraph in Markdown format
+	 */
+	private void insertBreaks(String paragraph) {
+		text.setLength(0);
+		int n = paragraph.length();
+		int i = 0;
+		while (i < n) {
+			char c = paragraph.charAt(i);
+			if (c == ' ' && i + 3 < n && paragraph.charAt(i + 1) == '1'
+					&& !MarkdownConverter.isLineTerminator(paragraph.charAt(i + 2))
+					&& paragraph.charAt(i + 3) == ' ') {
+				text.append("\n1. ");
+				i += 4;
+				continue;
+			}
+			if (c == ' ' && endsWithNote()) {
+				text.insert(text.length() - 5, '\n');
+			}
+			text.append(c);
+			i++;
+		}
+	}
+
+	/**
+	 * Determine whether the text buffer ends with <code>"Note:"</code>.
+	 *
+	 * @return Returns true if the buffer ends with the note marker.
+	 */
+	private boolean endsWithNote() {
+		int n = text.length();
+		return 5 <= n && text.charAt(n - 5) == 'N' && text.charAt(n - 4) == 'o' && text.charAt(n - 3) == 't'
+				&& text.charAt(n - 2) == 'e' && text.charAt(n - 1) == ':';
+	}
+
+	/**
+	 * Finds the next space after which the line is broken.
+	 * <p>
+	 * The space must follow 75 to 86 characters without a line terminator,
+	 * counted from the search start or from any later position, whichever
+	 * comes first. The longest line wins.
+	 *
+	 * @param from search start
+	 * @return index of the space, or -1 if there is none
+	 */
+	private int nextBreak(int from) {
+		int n = text.length();
+		int terminator = from - 1;
+		for (int start = from; start + MIN_WIDTH < n; start++) {
+
+			// characters up to the next line terminator
+			if (terminator < start) {
+				terminator = start;
+				while (terminator < n && !MarkdownConverter.isLineTerminator(text.charAt(terminator))) {
+					terminator++;
+				}
+			}
+			int width = Math.min(MAX_WIDTH, terminator - start);
+			if (width < MIN_WIDTH) {
+				start = terminator;
+				continue;
+			}
+
+			// longest line first
+			for (int end = start + width; start + MIN_WIDTH <= end; end--) {
+				if (end < n && text.charAt(end) == ' ') {
+					return end;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Ends the current line.
+	 * <p>
+	 * Empty lines are held back until a non-empty line follows.
+	 *
+	 * @param broken whether a line break follows
+	 * @throws IOException exception
+	 */
+	private void endLine(boolean broken) throws IOException {
+		int length = line.length();
+		if (broken && 0 < length && line.charAt(length - 1) == ' ') {
+			line.setLength(--length);
+		}
+		if (length == 0) {
+			blanks++;
+			return;
+		}
+		for (; 0 < blanks; blanks--) {
+			output("");
+		}
+		output(line.toString());
+		line.setLength(0);
+	}
+
+	/**
+	 * Outputs a line unless it ends with <code>&lt;/ul&gt;</code>.
+	 *
+	 * @param str line
+	 * @throws IOException exception
+	 */
+	private void output(String str) throws IOException {
+		int end = str.length();
+		if (0 < end) {
+			char last = str.charAt(end - 1);
+			if (last == '\u0085' || last == '\u2028' || last == '\u2029') {
+				end--;
+			}
+		}
+		while (0 < end && MarkdownConverter.isWhitespace(str.charAt(end - 1))) {
+			end--;
+		}
+		if (!str.startsWith("</ul>", end - 5)) {
+			md.line(str);
+		}
+	}
+}
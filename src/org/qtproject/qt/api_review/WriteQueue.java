@@ -0,0 +1,384 @@
+package org.qtproject.qt.api_review;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded queue drained by a dedicated writer thread.
+ * <p>
+ * Items are written one at a time in the order they were put, so the
+ * output can stay a single sequential stream. When the queue is full, the
+ * thread putting an item waits until the writer made room, which keeps the
+ * memory held by finished but unwritten items bounded. The first failure
+ * of the writer is rethrown to the thread putting items.
+ * <p>
+ * The queue records how full it was, how long the producer waited for room
+ * and how long the writer waited for items or was busy.
+ *
+ * @param <T> type of the queued items
+ */
+public class WriteQueue<T> {
+
+	/**
+	 * Writer of the queued items.
+	 *
+	 * @param <T> type of the queued items
+	 */
+	public interface Sink<T> {
+
+		/**
+		 * Writes an item.
+		 *
+		 * @param item queued item
+		 * @throws IOException exception
+		 */
+		void write(T item) throws IOException;
+	}
+
+	/**
+	 * Writer of the queued items
+	 */
+	private final Sink<T> sink;
+
+	/**
+	 * Maximum number of queued items, the one being written included
+	 */
+	private final int capacity;
+
+	/**
+	 * Queued items, the one being written first
+	 */
+	private final Deque<T> queue = new ArrayDeque<T>();
+
+	/**
+	 * Writer thread
+	 */
+	private final Thread thread;
+
+	/**
+	 * Whether no more items are put
+	 */
+	private boolean closed;
+
+	/**
+	 * First failure of the writer, or null
+	 */
+	private Throwable failure;
+
+	/**
+	 * Number of items put
+	 */
+	private long items;
+
+	/**
+	 * Sum of the queue depths right after each item was put
+	 */
+	private long depthSum;
+
+	/**
+	 * Largest queue depth
+	 */
+	private int maxDepth;
+
+	/**
+	 * Number of times the producer waited for the writer
+	 */
+	private long stalls;
+
+	/**
+	 * Nanoseconds the producer waited for the writer
+	 */
+	private long stallNanos;
+
+	/**
+	 * Nanoseconds the writer waited for items
+	 */
+	private long idleNanos;
+
+	/**
+	 * Nanoseconds the writer was writing items
+	 */
+	private long busyNanos;
+
+	/**
+	 * A constructor. Starts the writer thread.
+	 *
+	 * @param name name of the writer thread
+	 * @param capacity maximum number of queued items, at least one
+	 * @param sink writer of the queued items
+	 */
+	public WriteQueue(String name, int capacity, Sink<T> sink) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		}
+		this.capacity = capacity;
+		this.sink = sink;
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				drainQueue();
+			}
+		}, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Queues an item, waiting while the queue is full.
+	 *
+	 * @param item item to write
+	 * @throws IOException if the writer failed or the thread was interrupted
+	 */
+	public synchronized void put(T item) throws IOException {
+		checkFailure();
+		if (closed) {
+			throw new IllegalStateException("Queue is closed");
+		}
+		if (capacity <= queue.size()) {
+			long start = System.nanoTime();
+			while (capacity <= queue.size() && failure == null) {
+				await();
+			}
+			stalls++;
+			stallNanos += System.nanoTime() - start;
+			checkFailure();
+		}
+		queue.add(item);
+		items++;
+		depthSum += queue.size();
+		maxDepth = Math.max(maxDepth, queue.size());
+		notifyAll();
+	}
+
+	/**
+	 * Waits until all queued items are written.
+	 *
+	 * @throws IOException if the writer failed or the thread was interrupted
+	 */
+	public synchronized void drain() throws IOException {
+		if (!queue.isEmpty()) {
+			long start = System.nanoTime();
+			while (!queue.isEmpty() && failure == null) {
+				await();
+			}
+			stalls++;
+			stallNanos += System.nanoTime() - start;
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Writes all queued items and stops the writer thread.
+	 *
+	 * @throws IOException if the writer failed or the thread was interrupted
+	 */
+	public void close() throws IOException {
+		drain();
+		synchronized (this) {
+			closed = true;
+			notifyAll();
+		}
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing files");
+		}
+	}
+
+	/**
+	 * Discards the queued items and stops the writer thread.
+	 * <p>
+	 * Waits for the item being written, so that the output is no longer used
+	 * by the writer thread afterwards.
+	 */
+	public void shutdownNow() {
+		synchronized (this) {
+			closed = true;
+			T current = queue.peek();
+			queue.clear();
+			if (current != null) {
+				queue.add(current);
+			}
+			notifyAll();
+		}
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Gets the number of items put.
+	 *
+	 * @return number of items
+	 */
+	public synchronized long getItems() {
+		return items;
+	}
+
+	/**
+	 * Gets the average queue depth right after an item was put.
+	 *
+	 * @return average number of queued items
+	 */
+	public synchronized double getAverageDepth() {
+		return items == 0 ? 0 : (double) depthSum / items;
+	}
+
+	/**
+	 * Gets the largest queue depth.
+	 *
+	 * @return largest number of queued items
+	 */
+	public synchronized int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Gets the maximum number of queued items.
+	 *
+	 * @return capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the number of times the producer waited for the writer.
+	 *
+	 * @return number of waits
+	 */
+	public synchronized long getStalls() {
+		return stalls;
+	}
+
+	/**
+	 * Gets the time the producer waited for the writer.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getStallNanos() {
+		return stallNanos;
+	}
+
+	/**
+	 * Gets the time the writer waited for items.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getIdleNanos() {
+		return idleNanos;
+	}
+
+	/**
+	 * Gets the time the writer was writing items.
+	 *
+	 * @return nanoseconds
+	 */
+	public synchronized long getBusyNanos() {
+		return busyNanos;
+	}
+
+	/**
+	 * Writes the queued items until the queue is closed and empty, or the writer failed.
+	 */
+	private void drainQueue() {
+		while (true) {
+			T item;
+			synchronized (this) {
+				if (queue.isEmpty() && !closed) {
+					long start = System.nanoTime();
+					while (queue.isEmpty() && !closed) {
+						try {
+							wait();
+						} catch (InterruptedException e) {
+							failure = new InterruptedIOException("Interrupted while writing files");
+							notifyAll();
+							return;
+						}
+					}
+					idleNanos += System.nanoTime() - start;
+				}
+				if (queue.isEmpty()) {
+					return;
+				}
+
+				// keep the item queued while it is written, so that draining waits for it
+				item = queue.peek();
+			}
+			long start = System.nanoTime();
+			try {
+				sink.write(item);
+			} catch (Throwable e) {
+				synchronized (this) {
+					failure = e;
+					queue.clear();
+					notifyAll();
+				}
+				return;
+			}
+			synchronized (this) {
+				busyNanos += System.nanoTime() - start;
+				queue.poll();
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the writer thread to change the queue.
+	 *
+	 * @throws InterruptedIOException if the thread was interrupted
+	 */
+	private void await() throws InterruptedIOException {
+		try {
+			wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing files");
+		}
+	}
+
+	/**
+	 * Rethrows the failure of the writer.
+	 *
+	 * @throws IOException if the writer failed with an I/O exception
+	 */
+	private void checkFailure() throws IOException {
+		if (failure != null) {
+			rethrow(failure);
+		}
+	}
+
+	/**
+	 * Rethrows the failure of a writing thread on the calling thread.
+	 * <p>
+	 * I/O exceptions, runtime exceptions and errors are thrown as they are,
+	 * other exceptions are wrapped in an I/O exception.
+	 *
+	 * @param failure failure
+	 * @throws IOException if the failure is an I/O exception or another checked exception
+	 */
+	static void rethrow(Throwable failure) throws IOException {
+		if (failure instanceof IOException) {
+			throw (IOException) failure;
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		throw new IOException(failure);
+	}
+}
@@ -0,0 +1,213 @@
+package org.qtproject.qt.api_review.counter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Step count results of a run, counting each file at most once.
+ * <p>
+ * Several classes declared in one source file share its count. The cache
+ * can be queried from several threads. Counts can be released to keep only
+ * their totals.
+ */
+public class CountCache {
+
+	/**
+	 * Count results by file
+	 */
+	private final ConcurrentMap<File, Entry> counts = new ConcurrentHashMap<File, Entry>();
+
+	/**
+	 * Number of counts served from the cache
+	 */
+	private final AtomicInteger hits = new AtomicInteger();
+
+	/**
+	 * Number of files counted
+	 */
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Number of released files
+	 */
+	private int releasedFiles;
+
+	/**
+	 * Total size of the released files
+	 */
+	private long releasedBytes;
+
+	/**
+	 * Total count of the released files
+	 */
+	private final CountInfo released = new CountInfo(0, 0, 0);
+
+	/**
+	 * Count the number of steps of a file, unless it was counted before.
+	 *
+	 * @param file Target file
+	 * @return Count information, or null if the file could not be read
+	 */
+	public CountInfo count(File file) {
+		Entry entry = counts.get(file);
+		if (entry == null) {
+			Entry created = new Entry();
+			entry = counts.putIfAbsent(file, created);
+			if (entry == null) {
+				entry = created;
+			}
+		}
+		return entry.get(file);
+	}
+
+	/**
+	 * Stores the count of a file that was obtained elsewhere.
+	 * <p>
+	 * An existing count of the file is kept.
+	 *
+	 * @param file Target file
+	 * @param ci Count information, or null if the file could not be read
+	 */
+	public void put(File file, CountInfo ci) {
+		counts.putIfAbsent(file, new Entry(ci));
+	}
+
+	/**
+	 * Gets the count of a file.
+	 *
+	 * @param file Target file
+	 * @return Count information, or null if not counted or not readable
+	 */
+	public CountInfo get(File file) {
+		Entry entry = counts.get(file);
+		return entry == null ? null : entry.ci;
+	}
+
+	/**
+	 * Gets all files with a count.
+	 *
+	 * @return list of files
+	 */
+	public List<File> getFiles() {
+		return new ArrayList<File>(counts.keySet());
+	}
+
+	/**
+	 * Drops all counts, keeping only their totals.
+	 * <p>
+	 * No count may be in progress. Released files are no longer listed by
+	 * {@link #getFiles()}.
+	 */
+	public void release() {
+		for (Map.Entry<File, Entry> entry : counts.entrySet()) {
+			releasedFiles++;
+			releasedBytes += entry.getKey().length();
+			CountInfo ci = entry.getValue().ci;
+			if (ci != null) {
+				released.setLines(released.getLines() + ci.getLines());
+				released.setSteps(released.getSteps() + ci.getSteps());
+				released.setBranks(released.getBranks() + ci.getBranks());
+			}
+		}
+		counts.clear();
+	}
+
+	/**
+	 * Gets the number of released files.
+	 *
+	 * @return number of files
+	 */
+	public int getReleasedFiles() {
+		return releasedFiles;
+	}
+
+	/**
+	 * Gets the total size of the released files.
+	 *
+	 * @return number of bytes
+	 */
+	public long getReleasedBytes() {
+		return releasedBytes;
+	}
+
+	/**
+	 * Gets the total count of the released files.
+	 *
+	 * @return count information
+	 */
+	public CountInfo getReleased() {
+		return released;
+	}
+
+	/**
+	 * Gets the number of counts served from the cache.
+	 *
+	 * @return number of hits
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of files counted.
+	 *
+	 * @return number of misses
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Count result of one file, computed by the first thread asking for it.
+	 */
+	private class Entry {
+
+		/**
+		 * Whether the count is available
+		 */
+		private boolean done;
+
+		/**
+		 * Count information, or null if the file could not be read
+		 */
+		private volatile CountInfo ci;
+
+		/**
+		 * A constructor for a count still to be made.
+		 */
+		Entry() {
+		}
+
+		/**
+		 * A constructor for a known count.
+		 *
+		 * @param ci Count information
+		 */
+		Entry(CountInfo ci) {
+			this.ci = ci;
+			this.done = true;
+		}
+
+		/**
+		 * Gets the count, counting the file on first use.
+		 *
+		 * @param file Target file
+		 * @return Count information
+		 */
+		synchronized CountInfo get(File file) {
+			if (done) {
+				hits.incrementAndGet();
+			} else {
+				ci = Counter.count(file);
+				done = true;
+				misses.incrementAndGet();
+			}
+			return ci;
+		}
+	}
+}
@@ -1,15 +1,27 @@
 package org.qtproject.qt.api_review.counter;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * Provides step counting processing. Provides step counting processing.
+ * <p>
+ * Lines are classified directly on the bytes of the file. The bytes that
+ * matter (white space, line breaks, <code>/</code> and <code>*</code>) are
+ * ASCII and never occur inside a multi-byte UTF-8 character, so ASCII and
+ * UTF-8 sources are counted as if they were decoded first.
  */
 public class Counter {
 
+	/**
+	 * Files from this size on are memory-mapped instead of read
+	 */
+	private static final long MAP_THRESHOLD = 1024 * 1024;
+
 	/**
 	 * Count the number of steps. Returns null if an exception occurs.
 	 *
@@ -20,60 +32,36 @@ public class Counter {
 	public static CountInfo count(File file) {
 
 		// count execution
-		BufferedReader br = null;
+		FileInputStream in = null;
 		try {
 
-			// Counter initialization
-			int lines = 0;
-			int steps = 0;
-			int blanks = 0;
-
-			// row text column
-			String line;
-
-			// Block comment flag initialization
-			boolean comment = false;
-
 			// file open
-			br = new BufferedReader(new FileReader(file));
-
-			// read all lines
-			while ((line = br.readLine()) != null) {
-
-				// Add number of rows
-				lines++;
-
-				// blank removal
-				line = line.trim();
-
-				// Valid row count
-				if (line.length() == 0) {
-					blanks++;
-				} else {
-					if (line.startsWith("/*") && line.endsWith("*/")) {
-						comment = false;
-					} else if (line.startsWith("/*")) {
-						comment = true;
-					} else if (line.endsWith("*/")) {
-						comment = false;
-					} else {
-						if (!comment && !line.startsWith("//")) {
-							steps++;
-						}
-					}
+			in = new FileInputStream(file);
+			FileChannel channel = in.getChannel();
+
+			// read all bytes
+			ByteBuffer buffer;
+			long size = channel.size();
+			if (MAP_THRESHOLD <= size) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			} else {
+				buffer = ByteBuffer.allocate((int) size);
+				while (buffer.hasRemaining() && channel.read(buffer) != -1) {
 				}
+				// through Buffer, so a build with a newer javac also links on JDK 8
+				((Buffer) buffer).flip();
 			}
 
 			// Return count results
-			return new CountInfo(lines, steps, blanks);
+			return count(buffer);
 
 		} catch (IOException e) {
 		} finally {
 
 			// file close
-			if (br != null) {
+			if (in != null) {
 				try {
-					br.close();
+					in.close();
 				} catch (IOException e) {
 				}
 			}
@@ -82,4 +70,93 @@ public class Counter {
 		// If an error occurs
 		return null;
 	}
+
+	/**
+	 * Count the number of steps in the contents of a file.
+	 * <p>
+	 * Lines end with <code>\n</code>, <code>\r</code> or <code>\r\n</code>,
+	 * and are trimmed like {@link String#trim()}.
+	 *
+	 * @param buffer file contents from the position to the limit
+	 * @return Count information
+	 */
+	static CountInfo count(ByteBuffer buffer) {
+
+		// Counter initialization
+		int lines = 0;
+		int steps = 0;
+		int blanks = 0;
+
+		// Block comment flag initialization
+		boolean comment = false;
+
+		// read all lines
+		int limit = buffer.limit();
+		int pos = buffer.position();
+		while (pos < limit) {
+
+			// find the end of the line
+			int start = pos;
+			int end = pos;
+			while (end < limit) {
+				byte b = buffer.get(end);
+				if (b == '\n' || b == '\r') {
+					break;
+				}
+				end++;
+			}
+			pos = end + 1;
+			if (end < limit && buffer.get(end) == '\r' && pos < limit && buffer.get(pos) == '\n') {
+				pos++;
+			}
+
+			// Add number of rows
+			lines++;
+
+			// blank removal
+			while (start < end && (buffer.get(start) & 0xff) <= ' ') {
+				start++;
+			}
+			while (start < end && (buffer.get(end - 1) & 0xff) <= ' ') {
+				end--;
+			}
+
+			// Valid row count
+			if (start == end) {
+				blanks++;
+			} else {
+				boolean opens = matches(buffer, start, start, end, '/', '*');
+				boolean closes = matches(buffer, end - 2, start, end, '*', '/');
+				if (opens && closes) {
+					comment = false;
+				} else if (opens) {
+					comment = true;
+				} else if (closes) {
+					comment = false;
+				} else {
+					if (!comment && !matches(buffer, start, start, end, '/', '/')) {
+						steps++;
+					}
+				}
+			}
+		}
+
+		// Return count results
+		return new CountInfo(lines, steps, blanks);
+	}
+
+	/**
+	 * Determines whether two characters occur at a position within a line.
+	 *
+	 * @param buffer file contents
+	 * @param at position of the first character
+	 * @param start start of the line
+	 * @param end end of the line
+	 * @param c1 first character
+	 * @param c2 second character
+	 * @return Returns true if both characters are found within the line.
+	 */
+	private static boolean matches(ByteBuffer buffer, int at, int start, int end, char c1, char c2) {
+		return start <= at && at + 2 <= end && buffer.get(at) == c1 && buffer.get(at + 1) == c2;
+	}
 }
@@ -0,0 +1,175 @@
+package org.qtproject.qt.api_review.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+
+import jdk.javadoc.doclet.Doclet;
+import jdk.javadoc.doclet.DocletEnvironment;
+import jdk.javadoc.doclet.Reporter;
+
+import org.qtproject.qt.api_review.ApiReviewBuilder;
+import org.qtproject.qt.api_review.Options;
+
+/**
+ * A doclet that creates Javadoc documents in Markdown format, for the
+ * jdk.javadoc doclet API of JDK 9 and later.
+ * <p>
+ * The options and the output are the same as with
+ * {@link org.qtproject.qt.api_review.ApiReviewDoclet}, which uses the
+ * com.sun.javadoc API removed in JDK 13.
+ */
+public class JdkApiReviewDoclet implements Doclet {
+
+	/**
+	 * Reporter of the run
+	 */
+	private Reporter reporter;
+
+	/**
+	 * Options in the order given
+	 */
+	private final List<String[]> options = new ArrayList<String[]>();
+
+	@Override
+	public void init(Locale locale, Reporter reporter) {
+		this.reporter = reporter;
+	}
+
+	@Override
+	public String getName() {
+		return "ApiReview";
+	}
+
+	@Override
+	public Set<? extends Doclet.Option> getSupportedOptions() {
+		Set<Doclet.Option> supported = new LinkedHashSet<Doclet.Option>();
+		supported.add(new ApiReviewOption("-output-dir", "<directory>", "Output directory"));
+		supported.add(new ApiReviewOption("-title", "<text>", "Title"));
+		supported.add(new ApiReviewOption("-subtitle", "<text>", "Subtitle"));
+		supported.add(new ApiReviewOption("-version", "<version>", "API version"));
+		supported.add(new ApiReviewOption("-company", "<text>", "Author"));
+		supported.add(new ApiReviewOption("-threads", "<number>", "Number of rendering threads"));
+		supported.add(new ApiReviewOption("-write-queue", "<number>", "Number of rendered classes queued for a writer thread"));
+		supported.add(new ApiReviewOption("-parallel-writes", "<number>", "Maximum number of files written at once"));
+		supported.add(new ApiReviewOption("-cache-dir", "<directory>", "Cache directory of rendered classes"));
+		supported.add(new ApiReviewOption("-output-archive", "<file>", "Zip or jar file to write the files to"));
+		supported.add(new ApiReviewOption("-compression-level", "<0-9>", "Compression level of the archive"));
+		supported.add(new ApiReviewOption("-snapshot", "<file>", "Binary snapshot file of the API model"));
+		supported.add(new ApiReviewOption("-diff-snapshot", "<file>", "Snapshot of the previous version to compare with"));
+		supported.add(new ApiReviewOption("-write-if-changed", null, "Only write files whose content changed"));
+		supported.add(new ApiReviewOption("-package-at-a-time", null, "Finish each package before reading the next one"));
+		supported.add(new ApiReviewOption("-type-hierarchy", null, "Output all implemented interfaces and the known subclasses"));
+		supported.add(new ApiReviewOption("-metrics", null, "Report the cost of the run"));
+		return supported;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latest();
+	}
+
+	/**
+	 * Executes Javadoc generation processing.
+	 * <p>
+	 * When executed, Javadoc information is generated as a Markdown file.
+	 * If a file with the same name already exists, it will be overwritten.
+	 *
+	 * @param environment doclet environment
+	 * @return Returns the execution result as a boolean value.
+	 */
+	@Override
+	public boolean run(DocletEnvironment environment) {
+		Options parsed;
+		try {
+			parsed = new Options(options.toArray(new String[options.size()][]));
+		} catch (IllegalArgumentException e) {
+			reporter.print(Diagnostic.Kind.ERROR, e.getMessage());
+			return false;
+		}
+		try {
+			ApiReviewBuilder creator = new ApiReviewBuilder(parsed);
+			creator.create(new JdkDocReader(environment, reporter));
+		} catch (Exception e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * An option of the doclet, with one value or none.
+	 */
+	private class ApiReviewOption implements Doclet.Option {
+
+		/**
+		 * Option name
+		 */
+		private final String name;
+
+		/**
+		 * Value description, or null if the option takes no value
+		 */
+		private final String parameters;
+
+		/**
+		 * Option description
+		 */
+		private final String description;
+
+		/**
+		 * A constructor.
+		 *
+		 * @param name option name
+		 * @param parameters value description, or null if the option takes no value
+		 * @param description option description
+		 */
+		ApiReviewOption(String name, String parameters, String description) {
+			this.name = name;
+			this.parameters = parameters;
+			this.description = description;
+		}
+
+		@Override
+		public int getArgumentCount() {
+			return parameters == null ? 0 : 1;
+		}
+
+		@Override
+		public String getDescription() {
+			return description;
+		}
+
+		@Override
+		public Doclet.Option.Kind getKind() {
+			return Doclet.Option.Kind.STANDARD;
+		}
+
+		@Override
+		public List<String> getNames() {
+			return Collections.singletonList(name);
+		}
+
+		@Override
+		public String getParameters() {
+			return parameters == null ? "" : parameters;
+		}
+
+		@Override
+		public boolean process(String option, List<String> arguments) {
+			String[] opt = new String[arguments.size() + 1];
+			opt[0] = name;
+			for (int i = 0; i < arguments.size(); i++) {
+				opt[i + 1] = arguments.get(i);
+			}
+			options.add(opt);
+			return true;
+		}
+	}
+}
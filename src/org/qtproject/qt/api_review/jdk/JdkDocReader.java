@@ -0,0 +1,896 @@
+package org.qtproject.qt.api_review.jdk;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+import com.sun.source.doctree.AuthorTree;
+import com.sun.source.doctree.DocCommentTree;
+import com.sun.source.doctree.DocTree;
+import com.sun.source.doctree.EntityTree;
+import com.sun.source.doctree.ParamTree;
+import com.sun.source.doctree.ReturnTree;
+import com.sun.source.doctree.TextTree;
+import com.sun.source.doctree.ThrowsTree;
+import com.sun.source.doctree.VersionTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.DocSourcePositions;
+import com.sun.source.util.DocTrees;
+import com.sun.source.util.TreePath;
+
+import jdk.javadoc.doclet.DocletEnvironment;
+import jdk.javadoc.doclet.Reporter;
+
+import org.qtproject.qt.api_review.ApiReader;
+import org.qtproject.qt.api_review.HierarchyIndex;
+import org.qtproject.qt.api_review.ShortNameCache;
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+
+/**
+ * Reads the API model from the elements and comment trees of the
+ * jdk.javadoc doclet API.
+ * <p>
+ * The model is the same as the one read from the com.sun.javadoc documents:
+ * names, modifiers and types are written the way the old doclet API wrote
+ * them, and comment texts are rebuilt from the comment tree nodes in their
+ * source form. A comment is only parsed when its element is read.
+ */
+public class JdkDocReader implements ApiReader {
+
+	/**
+	 * Doclet environment
+	 */
+	private final DocletEnvironment env;
+
+	/**
+	 * Reporter of the run
+	 */
+	private final Reporter reporter;
+
+	/**
+	 * Comment trees of the elements
+	 */
+	private final DocTrees trees;
+
+	/**
+	 * Element utilities
+	 */
+	private final Elements elements;
+
+	/**
+	 * Classes to read
+	 */
+	private final List<TypeElement> classes;
+
+	/**
+	 * Index of the next class to read
+	 */
+	private int next;
+
+	/**
+	 * Short type names of the run
+	 */
+	private final ShortNameCache shortNames = new ShortNameCache();
+
+	/**
+	 * Type hierarchy of the run
+	 */
+	private final HierarchyIndex hierarchy = new HierarchyIndex();
+
+	/**
+	 * Source positions of the comment nodes
+	 */
+	private final DocSourcePositions positions;
+
+	/**
+	 * Compilation unit of the element being read, or null if unknown
+	 */
+	private CompilationUnitTree unit;
+
+	/**
+	 * Source code of the compilation unit, or null if unknown
+	 */
+	private CharSequence source;
+
+	/**
+	 * Buffer for rebuilding comment texts
+	 */
+	private final StringBuilder text = new StringBuilder(1024);
+
+	/**
+	 * A constructor.
+	 *
+	 * @param env doclet environment
+	 * @param reporter reporter of the run
+	 */
+	public JdkDocReader(DocletEnvironment env, Reporter reporter) {
+		this.env = env;
+		this.reporter = reporter;
+		this.trees = env.getDocTrees();
+		this.positions = trees.getSourcePositions();
+		this.elements = env.getElementUtils();
+		this.classes = groupByPackage(ElementFilter.typesIn(env.getIncludedElements()));
+		for (TypeElement type : classes) {
+			index(type);
+			hierarchy.addDocumented(type.getQualifiedName().toString());
+		}
+	}
+
+	@Override
+	public ClassInfo readClass() {
+		if (classes.size() <= next) {
+			return null;
+		}
+		return readClass(classes.get(next++));
+	}
+
+	@Override
+	public PackageInfo readPackage() {
+		return readPackage(elements.getPackageOf(classes.get(next - 1)));
+	}
+
+	@Override
+	public void releasePreviousPackages() {
+		// the javadoc tool keeps its elements for the whole run
+	}
+
+	@Override
+	public ShortNameCache getShortNames() {
+		return shortNames;
+	}
+
+	@Override
+	public void printNotice(String message) {
+		reporter.print(Diagnostic.Kind.NOTE, message);
+	}
+
+	/**
+	 * Orders classes package by package.
+	 *
+	 * @param types type elements
+	 * @return type elements, the packages in order of their first class and the classes of each package in their order
+	 */
+	private List<TypeElement> groupByPackage(Collection<TypeElement> types) {
+		Map<PackageElement, List<TypeElement>> packages = new LinkedHashMap<PackageElement, List<TypeElement>>();
+		for (TypeElement type : types) {
+			PackageElement packageElement = elements.getPackageOf(type);
+			List<TypeElement> list = packages.get(packageElement);
+			if (list == null) {
+				list = new ArrayList<TypeElement>();
+				packages.put(packageElement, list);
+			}
+			list.add(type);
+		}
+		List<TypeElement> grouped = new ArrayList<TypeElement>(types.size());
+		for (List<TypeElement> list : packages.values()) {
+			grouped.addAll(list);
+		}
+		return grouped;
+	}
+
+	/**
+	 * Reads the information of a package.
+	 * <p>
+	 * The comment is taken from <code>package-info.java</code>, or else from
+	 * the body of <code>package.html</code>.
+	 *
+	 * @param packageElement package element
+	 * @return package information
+	 */
+	public PackageInfo readPackage(PackageElement packageElement) {
+		setUnit(trees.getPath(packageElement));
+		DocCommentTree comment = trees.getDocCommentTree(packageElement);
+		if (comment == null) {
+			setUnit(null);
+			comment = getPackageHtml(packageElement);
+		}
+		return new PackageInfo(packageElement.getQualifiedName().toString(), getBody(comment));
+	}
+
+	/**
+	 * Reads the information of a class with all its members.
+	 *
+	 * @param type type element
+	 * @return class information
+	 */
+	public ClassInfo readClass(TypeElement type) {
+		TreePath path = trees.getPath(type);
+		setUnit(path);
+		DocCommentTree comment = trees.getDocCommentTree(type);
+		int modifiers = getModifiers(type);
+		if (isInterface(type) || type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			modifiers &= ~java.lang.reflect.Modifier.ABSTRACT;
+		}
+		ClassInfo info = new ClassInfo(getName(type), type.getQualifiedName().toString(),
+				elements.getPackageOf(type).getQualifiedName().toString(),
+				java.lang.reflect.Modifier.toString(modifiers), isInterface(type), getBody(comment));
+
+		// Source code file information
+		if (unit != null) {
+			info.setSource(new File(unit.getSourceFile().getName()));
+		}
+
+		// inheritance hierarchy and known subclasses
+		String qualifiedName = index(type);
+		info.getHierarchy().addAll(hierarchy.getHierarchy(qualifiedName));
+		info.getSubclasses().addAll(hierarchy.getSubclasses(qualifiedName));
+
+		// interface
+		for (TypeElement e : getInterfaces(type)) {
+			info.getInterfaces().add(e.getQualifiedName().toString());
+		}
+		info.getAllInterfaces().addAll(hierarchy.getAllInterfaces(qualifiedName));
+
+		// version and author
+		for (DocTree tag : getBlockTags(comment)) {
+			if (tag.getKind() == DocTree.Kind.VERSION) {
+				info.getVersions().add(getText(comment, ((VersionTree) tag).getBody()));
+			} else if (tag.getKind() == DocTree.Kind.AUTHOR) {
+				info.getAuthors().add(getText(comment, ((AuthorTree) tag).getName()));
+			}
+		}
+
+		// all constants and fields
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getKind() == ElementKind.ENUM_CONSTANT) {
+				info.getEnumConstants().add(readField(field));
+			}
+		}
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getKind() == ElementKind.FIELD && env.isIncluded(field)) {
+				info.getFields().add(readField(field));
+			}
+		}
+
+		// all constructors
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (env.isIncluded(constructor)) {
+				info.getConstructors().add(readMember(constructor));
+			}
+		}
+
+		// all methods, annotation type elements are not methods
+		if (type.getKind() != ElementKind.ANNOTATION_TYPE) {
+			for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+				if (env.isIncluded(method)) {
+					info.getMethods().add(readMember(method));
+				}
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Reads the information of a field.
+	 *
+	 * @param field field element
+	 * @return field information
+	 */
+	private FieldInfo readField(VariableElement field) {
+		return new FieldInfo(java.lang.reflect.Modifier.toString(getModifiers(field)),
+				getShortName(field.asType()), field.getSimpleName().toString(),
+				getBody(trees.getDocCommentTree(field)));
+	}
+
+	/**
+	 * Reads the information of an executable member.
+	 *
+	 * @param member constructor or method element
+	 * @return method information
+	 */
+	private MethodInfo readMember(ExecutableElement member) {
+		boolean isMethod = member.getKind() == ElementKind.METHOD;
+		DocCommentTree comment = trees.getDocCommentTree(member);
+		int modifiers = getModifiers(member);
+		if (isMethod && isInterface(member.getEnclosingElement())) {
+			// Remove the implicit abstract modifier.
+			modifiers &= ~java.lang.reflect.Modifier.ABSTRACT;
+		}
+		String name = isMethod ? member.getSimpleName().toString()
+				: member.getEnclosingElement().getSimpleName().toString();
+		MethodInfo info = new MethodInfo(java.lang.reflect.Modifier.toString(modifiers),
+				isMethod ? getShortName(member.getReturnType()) : null, name, getBody(comment));
+
+		// comments of the block tags, the first one wins
+		Map<String, String> paramComments = new HashMap<String, String>();
+		Map<String, String> throwsComments = new HashMap<String, String>();
+		for (DocTree tag : getBlockTags(comment)) {
+			switch (tag.getKind()) {
+			case PARAM:
+				ParamTree param = (ParamTree) tag;
+				if (!param.isTypeParameter() && !paramComments.containsKey(param.getName().toString())) {
+					paramComments.put(param.getName().toString(), getText(comment, param.getDescription()));
+				}
+				break;
+			case THROWS:
+			case EXCEPTION:
+				ThrowsTree exception = (ThrowsTree) tag;
+				String exceptionName = exception.getExceptionName().getSignature();
+				if (!throwsComments.containsKey(exceptionName)) {
+					throwsComments.put(exceptionName, getText(comment, exception.getDescription()));
+				}
+				break;
+			case RETURN:
+				if (isMethod && info.getReturnComment() == null) {
+					info.setReturnComment(getText(comment, ((ReturnTree) tag).getDescription()));
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		// parameters
+		List<? extends VariableElement> parameters = member.getParameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			VariableElement parameter = parameters.get(i);
+			String type = getTypeString(parameter.asType());
+			if (member.isVarArgs() && i == parameters.size() - 1 && type.endsWith("...")) {
+				type = type.substring(0, type.length() - 3) + "[]";
+			}
+			String parameterName = parameter.getSimpleName().toString();
+			info.getParams().add(new ParamInfo(shortNames.get(type), parameterName,
+					getComment(paramComments, parameterName)));
+		}
+
+		// exception
+		for (TypeMirror exception : member.getThrownTypes()) {
+			info.getExceptions().add(new ThrowsInfo(getShortName(exception),
+					getComment(throwsComments, getTypeName(exception))));
+		}
+		return info;
+	}
+
+	/**
+	 * Gets a comment by name.
+	 *
+	 * @param comments Comment information by name
+	 * @param name name
+	 * @return Comment information, or an empty string if there is none
+	 */
+	private String getComment(Map<String, String> comments, String name) {
+		String comment = comments.get(name);
+		return comment == null ? "" : comment;
+	}
+
+	/**
+	 * Gets the comment tree of a <code>package.html</code> file.
+	 *
+	 * @param packageElement package element
+	 * @return comment tree, or null if there is no such file
+	 */
+	private DocCommentTree getPackageHtml(PackageElement packageElement) {
+		JavaFileManager fileManager = env.getJavaFileManager();
+		if (!fileManager.hasLocation(StandardLocation.SOURCE_PATH)) {
+			return null;
+		}
+		try {
+			FileObject file = fileManager.getFileForInput(StandardLocation.SOURCE_PATH,
+					packageElement.getQualifiedName().toString(), "package.html");
+			return file == null ? null : trees.getDocCommentTree(file);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the block tags of a comment.
+	 *
+	 * @param comment comment tree, or null
+	 * @return block tags
+	 */
+	private List<? extends DocTree> getBlockTags(DocCommentTree comment) {
+		if (comment == null) {
+			return Collections.emptyList();
+		}
+		return comment.getBlockTags();
+	}
+
+	/**
+	 * Gets the main description of a comment.
+	 *
+	 * @param comment comment tree, or null
+	 * @return comment text, or an empty string if there is no comment
+	 */
+	private String getBody(DocCommentTree comment) {
+		if (comment == null) {
+			return "";
+		}
+		return getText(comment, comment.getFullBody());
+	}
+
+	/**
+	 * Sets the compilation unit of the element being read.
+	 *
+	 * @param path path of the element, or null if unknown
+	 */
+	private void setUnit(TreePath path) {
+		CompilationUnitTree newUnit = path == null ? null : path.getCompilationUnit();
+		if (newUnit == unit) {
+			return;
+		}
+		unit = newUnit;
+		source = null;
+		if (unit != null) {
+			try {
+				source = unit.getSourceFile().getCharContent(true);
+			} catch (IOException e) {
+				// inline tags are rebuilt from the comment tree
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the source text of comment nodes.
+	 * <p>
+	 * Text nodes are copied and other nodes, such as inline tags and HTML
+	 * elements, are copied from the source code with the leading white
+	 * space and stars of continuation lines removed, like in comment text
+	 * nodes. Leading and trailing white space is removed.
+	 *
+	 * @param comment comment tree of the nodes
+	 * @param nodes comment nodes
+	 * @return comment text
+	 */
+	private String getText(DocCommentTree comment, List<? extends DocTree> nodes) {
+		text.setLength(0);
+		for (DocTree node : nodes) {
+			if (node.getKind() == DocTree.Kind.TEXT) {
+				text.append(((TextTree) node).getBody());
+				continue;
+			}
+			if (source != null) {
+				long start = positions.getStartPosition(unit, comment, node);
+				long end = positions.getEndPosition(unit, comment, node);
+				if (0 <= start && start <= end && end <= source.length()
+						&& hasDelimiters(node, (int) start, (int) end)) {
+					appendSource((int) start, (int) end);
+					continue;
+				}
+			}
+			if (node.getKind() == DocTree.Kind.ENTITY) {
+				text.append('&').append(((EntityTree) node).getName()).append(';');
+			} else {
+				text.append(node.toString());
+			}
+		}
+		int start = 0;
+		int end = text.length();
+		while (start < end && Character.isWhitespace(text.charAt(start))) {
+			start++;
+		}
+		while (start < end && Character.isWhitespace(text.charAt(end - 1))) {
+			end--;
+		}
+		return text.substring(start, end);
+	}
+
+	/**
+	 * Determine whether a source code range starts and ends like the node.
+	 * <p>
+	 * Some JDK versions report wrong positions for nodes following a star.
+	 *
+	 * @param node comment node
+	 * @param start start position in the source code
+	 * @param end end position in the source code
+	 * @return Returns true if the range has the delimiters of the node.
+	 */
+	private boolean hasDelimiters(DocTree node, int start, int end) {
+		if (end - start < 2) {
+			return false;
+		}
+		char first = source.charAt(start);
+		char last = source.charAt(end - 1);
+		switch (node.getKind()) {
+		case START_ELEMENT:
+		case END_ELEMENT:
+		case COMMENT:
+			return first == '<' && last == '>';
+		case ENTITY:
+			return first == '&' && last == ';';
+		case ERRONEOUS:
+			return true;
+		default:
+			return first == '{' && last == '}';
+		}
+	}
+
+	/**
+	 * Copies a comment node from the source code.
+	 * <p>
+	 * Unicode escapes are translated. On each continuation line, the leading
+	 * spaces, tabs and form feeds are removed if they are followed by stars,
+	 * which are removed as well.
+	 *
+	 * @param start start position in the source code
+	 * @param end end position in the source code
+	 */
+	private void appendSource(int start, int end) {
+
+		// backslashes right before the node
+		int backslashes = 0;
+		while (backslashes < start && source.charAt(start - backslashes - 1) == '\\') {
+			backslashes++;
+		}
+
+		int lineStart = -1;
+		int i = start;
+		while (i < end) {
+			char c = source.charAt(i++);
+			boolean escape = false;
+			if (c == '\\' && backslashes % 2 == 0) {
+				int j = i;
+				while (j < end && source.charAt(j) == 'u') {
+					j++;
+				}
+				if (i < j && j + 4 <= end && isHexDigits(j)) {
+					c = (char) Integer.parseInt(source.subSequence(j, j + 4).toString(), 16);
+					i = j + 4;
+					escape = true;
+				}
+			}
+			backslashes = c == '\\' && !escape ? backslashes + 1 : 0;
+
+			// leading white space and stars of a continuation line
+			if (0 <= lineStart) {
+				if (c == ' ' || c == '\t' || c == '\f') {
+					text.append(c);
+					continue;
+				}
+				if (c == '*') {
+					text.setLength(lineStart);
+					while (i < end && source.charAt(i) == '*') {
+						i++;
+					}
+					lineStart = -1;
+					continue;
+				}
+				lineStart = -1;
+			}
+			text.append(c);
+			if (c == '\n' || (c == '\r' && (end <= i || source.charAt(i) != '\n'))) {
+				lineStart = text.length();
+			}
+		}
+	}
+
+	/**
+	 * Determine whether four hexadecimal digits follow in the source code.
+	 *
+	 * @param from position of the first digit
+	 * @return Returns true if all four characters are hexadecimal digits.
+	 */
+	private boolean isHexDigits(int from) {
+		for (int i = from; i < from + 4; i++) {
+			if (Character.digit(source.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the name of a class including the names of the enclosing classes.
+	 *
+	 * @param type type element
+	 * @return class name
+	 */
+	private static String getName(TypeElement type) {
+		String name = type.getSimpleName().toString();
+		for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+			name = e.getSimpleName() + "." + name;
+		}
+		return name;
+	}
+
+	/**
+	 * Adds a type to the type hierarchy after its supertypes.
+	 *
+	 * @param type type element
+	 * @return qualified name
+	 */
+	private String index(TypeElement type) {
+		String qualifiedName = type.getQualifiedName().toString();
+		if (hierarchy.contains(qualifiedName)) {
+			return qualifiedName;
+		}
+		String superclass = null;
+		TypeElement d = getSuperclass(type);
+		if (d != null && !d.getQualifiedName().contentEquals("java.lang.Object")) {
+			superclass = index(d);
+		}
+		List<String> interfaces = new ArrayList<String>();
+		for (TypeElement e : getInterfaces(type)) {
+			interfaces.add(index(e));
+		}
+		hierarchy.add(qualifiedName, superclass, interfaces);
+		return qualifiedName;
+	}
+
+	/**
+	 * Gets the interfaces a type implements or extends directly.
+	 *
+	 * @param type type element
+	 * @return interface elements
+	 */
+	private List<TypeElement> getInterfaces(TypeElement type) {
+		List<TypeElement> interfaces = new ArrayList<TypeElement>();
+		for (TypeMirror t : type.getInterfaces()) {
+			Element e = env.getTypeUtils().asElement(t);
+			if (e instanceof TypeElement) {
+				interfaces.add((TypeElement) e);
+			}
+		}
+		return interfaces;
+	}
+
+	/**
+	 * Gets the superclass of a class.
+	 *
+	 * @param type type element
+	 * @return superclass, or null for interfaces and java.lang.Object
+	 */
+	private TypeElement getSuperclass(TypeElement type) {
+		if (isInterface(type) || type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			return null;
+		}
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	/**
+	 * Determine whether an element is an interface.
+	 * <p>
+	 * Annotation types are not interfaces.
+	 *
+	 * @param element element
+	 * @return Returns true for interfaces.
+	 */
+	private static boolean isInterface(Element element) {
+		return element.getKind() == ElementKind.INTERFACE;
+	}
+
+	/**
+	 * Gets the modifiers of an element as reflection modifier flags.
+	 * <p>
+	 * Interfaces and annotation types have the interface flag. Modifiers
+	 * that reflection does not know, such as <code>default</code>, are left
+	 * out.
+	 *
+	 * @param element element
+	 * @return modifier flags
+	 */
+	private static int getModifiers(Element element) {
+		int modifiers = 0;
+		Set<Modifier> set = element.getModifiers();
+		for (Modifier modifier : set) {
+			switch (modifier) {
+			case ABSTRACT:
+				modifiers |= java.lang.reflect.Modifier.ABSTRACT;
+				break;
+			case FINAL:
+				modifiers |= java.lang.reflect.Modifier.FINAL;
+				break;
+			case NATIVE:
+				modifiers |= java.lang.reflect.Modifier.NATIVE;
+				break;
+			case PRIVATE:
+				modifiers |= java.lang.reflect.Modifier.PRIVATE;
+				break;
+			case PROTECTED:
+				modifiers |= java.lang.reflect.Modifier.PROTECTED;
+				break;
+			case PUBLIC:
+				modifiers |= java.lang.reflect.Modifier.PUBLIC;
+				break;
+			case STATIC:
+				modifiers |= java.lang.reflect.Modifier.STATIC;
+				break;
+			case SYNCHRONIZED:
+				modifiers |= java.lang.reflect.Modifier.SYNCHRONIZED;
+				break;
+			case TRANSIENT:
+				modifiers |= java.lang.reflect.Modifier.TRANSIENT;
+				break;
+			case VOLATILE:
+				modifiers |= java.lang.reflect.Modifier.VOLATILE;
+				break;
+			default:
+				break;
+			}
+		}
+		if (isInterface(element) || element.getKind() == ElementKind.ANNOTATION_TYPE) {
+			modifiers |= java.lang.reflect.Modifier.INTERFACE;
+		}
+		return modifiers;
+	}
+
+	/**
+	 * Removes the package name from the type name.
+	 *
+	 * @param type type
+	 * @return abbreviated type name
+	 */
+	private String getShortName(TypeMirror type) {
+		return shortNames.get(getTypeString(type));
+	}
+
+	/**
+	 * Gets the name of a type as written by the old doclet API.
+	 * <p>
+	 * Class names are qualified and include their type arguments, type
+	 * variables include their bounds and arrays only show the qualified name
+	 * of their component type.
+	 *
+	 * @param type type
+	 * @return type name
+	 */
+	private String getTypeString(TypeMirror type) {
+		switch (type.getKind()) {
+		case ARRAY:
+			StringBuilder dimension = new StringBuilder();
+			TypeMirror t = type;
+			while (t.getKind() == TypeKind.ARRAY) {
+				dimension.append("[]");
+				t = ((ArrayType) t).getComponentType();
+			}
+			return getQualifiedTypeName(t) + dimension;
+		case TYPEVAR:
+			return getTypeVariableString((TypeVariable) type);
+		default:
+			return getTypeUseString(type);
+		}
+	}
+
+	/**
+	 * Gets the name of a type variable with the bounds of its extends clause.
+	 *
+	 * @param type type variable
+	 * @return type variable name
+	 */
+	private String getTypeVariableString(TypeVariable type) {
+		StringBuilder sb = new StringBuilder(type.asElement().getSimpleName());
+		TypeMirror upperBound = type.getUpperBound();
+		if (upperBound.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) upperBound).asElement())
+				.getQualifiedName().contentEquals("java.lang.Object")) {
+			return sb.toString();
+		}
+		List<? extends TypeMirror> bounds;
+		if (upperBound.getKind() == TypeKind.INTERSECTION) {
+			bounds = ((IntersectionType) upperBound).getBounds();
+		} else {
+			bounds = Collections.singletonList(upperBound);
+		}
+		for (int i = 0; i < bounds.size(); i++) {
+			sb.append(i == 0 ? " extends " : " & ");
+			sb.append(getTypeUseString(bounds.get(i)));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Gets the name of a type use, without the bounds of type variables.
+	 *
+	 * @param type type
+	 * @return type name
+	 */
+	private String getTypeUseString(TypeMirror type) {
+		switch (type.getKind()) {
+		case ARRAY:
+			StringBuilder dimension = new StringBuilder();
+			TypeMirror t = type;
+			while (t.getKind() == TypeKind.ARRAY) {
+				dimension.append("[]");
+				t = ((ArrayType) t).getComponentType();
+			}
+			return getTypeUseString(t) + dimension;
+		case DECLARED:
+		case ERROR:
+			DeclaredType declared = (DeclaredType) type;
+			StringBuilder sb = new StringBuilder();
+			TypeMirror enclosing = declared.getEnclosingType();
+			if (enclosing.getKind() == TypeKind.DECLARED) {
+				sb.append(getTypeUseString(enclosing)).append('.');
+				sb.append(declared.asElement().getSimpleName());
+			} else {
+				sb.append(getQualifiedTypeName(type));
+			}
+			List<? extends TypeMirror> arguments = declared.getTypeArguments();
+			for (int i = 0; i < arguments.size(); i++) {
+				sb.append(i == 0 ? "<" : ", ");
+				sb.append(getTypeUseString(arguments.get(i)));
+			}
+			if (!arguments.isEmpty()) {
+				sb.append('>');
+			}
+			return sb.toString();
+		case WILDCARD:
+			WildcardType wildcard = (WildcardType) type;
+			if (wildcard.getExtendsBound() != null) {
+				return "? extends " + getTypeUseString(wildcard.getExtendsBound());
+			}
+			if (wildcard.getSuperBound() != null) {
+				return "? super " + getTypeUseString(wildcard.getSuperBound());
+			}
+			return "?";
+		default:
+			return getQualifiedTypeName(type);
+		}
+	}
+
+	/**
+	 * Gets the qualified name of a type without type arguments.
+	 *
+	 * @param type type
+	 * @return qualified type name
+	 */
+	private String getQualifiedTypeName(TypeMirror type) {
+		switch (type.getKind()) {
+		case DECLARED:
+		case ERROR:
+			Element element = ((DeclaredType) type).asElement();
+			if (element instanceof TypeElement) {
+				return ((TypeElement) element).getQualifiedName().toString();
+			}
+			return element.getSimpleName().toString();
+		case TYPEVAR:
+			return ((TypeVariable) type).asElement().getSimpleName().toString();
+		default:
+			return type.toString();
+		}
+	}
+
+	/**
+	 * Gets the name of a type as written in throws tags.
+	 * <p>
+	 * Class names include the names of their enclosing classes.
+	 *
+	 * @param type type
+	 * @return type name
+	 */
+	private String getTypeName(TypeMirror type) {
+		if (type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ERROR) {
+			Element element = ((DeclaredType) type).asElement();
+			if (element instanceof TypeElement) {
+				return getName((TypeElement) element);
+			}
+		}
+		return getQualifiedTypeName(type);
+	}
+}
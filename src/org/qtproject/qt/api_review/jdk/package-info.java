@@ -0,0 +1,4 @@
+/**
+ * This is a package that stores classes of the doclet for the jdk.javadoc doclet API.
+ */
+package org.qtproject.qt.api_review.jdk;
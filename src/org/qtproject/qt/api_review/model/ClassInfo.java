@@ -0,0 +1,279 @@
+package org.qtproject.qt.api_review.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the information of a class or interface.
+ */
+public class ClassInfo {
+
+	/**
+	 * Simple class name
+	 */
+	private final String name;
+
+	/**
+	 * Qualified class name
+	 */
+	private final String qualifiedName;
+
+	/**
+	 * Name of the containing package
+	 */
+	private final String packageName;
+
+	/**
+	 * Modifiers
+	 */
+	private final String modifiers;
+
+	/**
+	 * Whether this is an interface
+	 */
+	private final boolean isInterface;
+
+	/**
+	 * Javadoc comment text
+	 */
+	private final String comment;
+
+	/**
+	 * Source file, or null if unknown
+	 */
+	private File source;
+
+	/**
+	 * Qualified names of the inheritance hierarchy, from the top superclass
+	 * below java.lang.Object down to this class
+	 */
+	private final List<String> hierarchy = new ArrayList<String>();
+
+	/**
+	 * Qualified names of the implemented interfaces
+	 */
+	private final List<String> interfaces = new ArrayList<String>();
+
+	/**
+	 * Qualified names of all interfaces implemented directly or through supertypes
+	 */
+	private final List<String> allInterfaces = new ArrayList<String>();
+
+	/**
+	 * Qualified names of the documented direct subclasses
+	 */
+	private final List<String> subclasses = new ArrayList<String>();
+
+	/**
+	 * Texts of the version tags
+	 */
+	private final List<String> versions = new ArrayList<String>();
+
+	/**
+	 * Texts of the author tags
+	 */
+	private final List<String> authors = new ArrayList<String>();
+
+	/**
+	 * Enum constants
+	 */
+	private final List<FieldInfo> enumConstants = new ArrayList<FieldInfo>();
+
+	/**
+	 * Fields
+	 */
+	private final List<FieldInfo> fields = new ArrayList<FieldInfo>();
+
+	/**
+	 * Constructors
+	 */
+	private final List<MethodInfo> constructors = new ArrayList<MethodInfo>();
+
+	/**
+	 * Methods
+	 */
+	private final List<MethodInfo> methods = new ArrayList<MethodInfo>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param name Simple class name
+	 * @param qualifiedName Qualified class name
+	 * @param packageName Name of the containing package
+	 * @param modifiers Modifiers
+	 * @param isInterface Whether this is an interface
+	 * @param comment Javadoc comment text
+	 */
+	public ClassInfo(String name, String qualifiedName, String packageName, String modifiers,
+			boolean isInterface, String comment) {
+		this.name = name;
+		this.qualifiedName = qualifiedName;
+		this.packageName = packageName;
+		this.modifiers = modifiers;
+		this.isInterface = isInterface;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the simple class name.
+	 *
+	 * @return Simple class name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the qualified class name.
+	 *
+	 * @return Qualified class name
+	 */
+	public String getQualifiedName() {
+		return qualifiedName;
+	}
+
+	/**
+	 * Get the name of the containing package.
+	 *
+	 * @return Name of the containing package
+	 */
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * Get the modifiers.
+	 *
+	 * @return Modifiers
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Determine whether this is an interface.
+	 *
+	 * @return Returns true for interfaces.
+	 */
+	public boolean isInterface() {
+		return isInterface;
+	}
+
+	/**
+	 * Get the Javadoc comment text.
+	 *
+	 * @return Javadoc comment text
+	 */
+	public String getComment() {
+		return comment;
+	}
+
+	/**
+	 * Get the source file.
+	 *
+	 * @return Source file, or null if unknown
+	 */
+	public File getSource() {
+		return source;
+	}
+
+	/**
+	 * Set the source file.
+	 *
+	 * @param source Source file, or null if unknown
+	 */
+	public void setSource(File source) {
+		this.source = source;
+	}
+
+	/**
+	 * Get the inheritance hierarchy.
+	 *
+	 * @return Qualified names from the top superclass down to this class
+	 */
+	public List<String> getHierarchy() {
+		return hierarchy;
+	}
+
+	/**
+	 * Get the implemented interfaces.
+	 *
+	 * @return Qualified names of the implemented interfaces
+	 */
+	public List<String> getInterfaces() {
+		return interfaces;
+	}
+
+	/**
+	 * Get all implemented interfaces.
+	 *
+	 * @return Qualified names of the interfaces implemented directly or through supertypes
+	 */
+	public List<String> getAllInterfaces() {
+		return allInterfaces;
+	}
+
+	/**
+	 * Get the known subclasses.
+	 *
+	 * @return Qualified names of the documented direct subclasses
+	 */
+	public List<String> getSubclasses() {
+		return subclasses;
+	}
+
+	/**
+	 * Get the texts of the version tags.
+	 *
+	 * @return Texts of the version tags
+	 */
+	public List<String> getVersions() {
+		return versions;
+	}
+
+	/**
+	 * Get the texts of the author tags.
+	 *
+	 * @return Texts of the author tags
+	 */
+	public List<String> getAuthors() {
+		return authors;
+	}
+
+	/**
+	 * Get the enum constants.
+	 *
+	 * @return Enum constants in declaration order
+	 */
+	public List<FieldInfo> getEnumConstants() {
+		return enumConstants;
+	}
+
+	/**
+	 * Get the fields.
+	 *
+	 * @return Fields in declaration order
+	 */
+	public List<FieldInfo> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Get the constructors.
+	 *
+	 * @return Constructors in declaration order
+	 */
+	public List<MethodInfo> getConstructors() {
+		return constructors;
+	}
+
+	/**
+	 * Get the methods.
+	 *
+	 * @return Methods in declaration order
+	 */
+	public List<MethodInfo> getMethods() {
+		return methods;
+	}
+}
@@ -0,0 +1,78 @@
+package org.qtproject.qt.api_review.model;
+
+/**
+ * This class holds the information of a field or an enum constant.
+ */
+public class FieldInfo {
+
+	/**
+	 * Modifiers
+	 */
+	private final String modifiers;
+
+	/**
+	 * Type name without package names
+	 */
+	private final String type;
+
+	/**
+	 * Field name
+	 */
+	private final String name;
+
+	/**
+	 * Javadoc comment text
+	 */
+	private final String comment;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param modifiers Modifiers
+	 * @param type Type name without package names
+	 * @param name Field name
+	 * @param comment Javadoc comment text
+	 */
+	public FieldInfo(String modifiers, String type, String name, String comment) {
+		this.modifiers = modifiers;
+		this.type = type;
+		this.name = name;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the modifiers.
+	 *
+	 * @return Modifiers
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Get the type name.
+	 *
+	 * @return Type name without package names
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Get the field name.
+	 *
+	 * @return Field name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the Javadoc comment text.
+	 *
+	 * @return Javadoc comment text
+	 */
+	public String getComment() {
+		return comment;
+	}
+}
@@ -0,0 +1,141 @@
+package org.qtproject.qt.api_review.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the information of a method or constructor.
+ */
+public class MethodInfo {
+
+	/**
+	 * Modifiers
+	 */
+	private final String modifiers;
+
+	/**
+	 * Return type name without package names, or null for constructors
+	 */
+	private final String returnType;
+
+	/**
+	 * Method name
+	 */
+	private final String name;
+
+	/**
+	 * Javadoc comment text
+	 */
+	private final String comment;
+
+	/**
+	 * Text of the first return tag, or null
+	 */
+	private String returnComment;
+
+	/**
+	 * Parameters
+	 */
+	private final List<ParamInfo> params = new ArrayList<ParamInfo>();
+
+	/**
+	 * Thrown exceptions
+	 */
+	private final List<ThrowsInfo> exceptions = new ArrayList<ThrowsInfo>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param modifiers Modifiers
+	 * @param returnType Return type name without package names, or null for constructors
+	 * @param name Method name
+	 * @param comment Javadoc comment text
+	 */
+	public MethodInfo(String modifiers, String returnType, String name, String comment) {
+		this.modifiers = modifiers;
+		this.returnType = returnType;
+		this.name = name;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the modifiers.
+	 *
+	 * @return Modifiers
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Get the return type name.
+	 *
+	 * @return Return type name without package names, or null for constructors
+	 */
+	public String getReturnType() {
+		return returnType;
+	}
+
+	/**
+	 * Determine whether this is a constructor.
+	 *
+	 * @return Returns true for constructors.
+	 */
+	public boolean isConstructor() {
+		return returnType == null;
+	}
+
+	/**
+	 * Get the method name.
+	 *
+	 * @return Method name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the Javadoc comment text.
+	 *
+	 * @return Javadoc comment text
+	 */
+	public String getComment() {
+		return comment;
+	}
+
+	/**
+	 * Get the text of the first return tag.
+	 *
+	 * @return Text of the first return tag, or null
+	 */
+	public String getReturnComment() {
+		return returnComment;
+	}
+
+	/**
+	 * Set the text of the first return tag.
+	 *
+	 * @param returnComment Text of the first return tag, or null
+	 */
+	public void setReturnComment(String returnComment) {
+		this.returnComment = returnComment;
+	}
+
+	/**
+	 * Get the parameters.
+	 *
+	 * @return Parameters in declaration order
+	 */
+	public List<ParamInfo> getParams() {
+		return params;
+	}
+
+	/**
+	 * Get the thrown exceptions.
+	 *
+	 * @return Thrown exceptions in declaration order
+	 */
+	public List<ThrowsInfo> getExceptions() {
+		return exceptions;
+	}
+}
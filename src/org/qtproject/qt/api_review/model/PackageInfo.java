@@ -0,0 +1,46 @@
+package org.qtproject.qt.api_review.model;
+
+/**
+ * This class holds the information of a package.
+ */
+public class PackageInfo {
+
+	/**
+	 * Package name
+	 */
+	private final String name;
+
+	/**
+	 * Javadoc comment text
+	 */
+	private final String comment;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param name Package name
+	 * @param comment Javadoc comment text
+	 */
+	public PackageInfo(String name, String comment) {
+		this.name = name;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the package name.
+	 *
+	 * @return Package name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the Javadoc comment text.
+	 *
+	 * @return Javadoc comment text
+	 */
+	public String getComment() {
+		return comment;
+	}
+}
@@ -0,0 +1,62 @@
+package org.qtproject.qt.api_review.model;
+
+/**
+ * This class holds the information of a method or constructor parameter.
+ */
+public class ParamInfo {
+
+	/**
+	 * Type name without package names
+	 */
+	private final String type;
+
+	/**
+	 * Parameter name
+	 */
+	private final String name;
+
+	/**
+	 * Text of the matching param tag, or an empty string
+	 */
+	private final String comment;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param type Type name without package names
+	 * @param name Parameter name
+	 * @param comment Text of the matching param tag, or an empty string
+	 */
+	public ParamInfo(String type, String name, String comment) {
+		this.type = type;
+		this.name = name;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the type name.
+	 *
+	 * @return Type name without package names
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Get the parameter name.
+	 *
+	 * @return Parameter name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the text of the matching param tag.
+	 *
+	 * @return Text of the matching param tag, or an empty string
+	 */
+	public String getComment() {
+		return comment;
+	}
+}
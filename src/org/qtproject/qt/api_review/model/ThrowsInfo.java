@@ -0,0 +1,46 @@
+package org.qtproject.qt.api_review.model;
+
+/**
+ * This class holds the information of a thrown exception.
+ */
+public class ThrowsInfo {
+
+	/**
+	 * Exception type name without package names
+	 */
+	private final String type;
+
+	/**
+	 * Text of the matching throws tag, or an empty string
+	 */
+	private final String comment;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param type Exception type name without package names
+	 * @param comment Text of the matching throws tag, or an empty string
+	 */
+	public ThrowsInfo(String type, String comment) {
+		this.type = type;
+		this.comment = comment;
+	}
+
+	/**
+	 * Get the exception type name.
+	 *
+	 * @return Exception type name without package names
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Get the text of the matching throws tag.
+	 *
+	 * @return Text of the matching throws tag, or an empty string
+	 */
+	public String getComment() {
+		return comment;
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This is a package that stores classes of the API model rendered as review stubs.
+ */
+package org.qtproject.qt.api_review.model;
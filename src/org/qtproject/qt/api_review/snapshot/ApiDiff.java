@@ -0,0 +1,219 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+
+/**
+ * Matches the API model of a run against the snapshot of a previous version.
+ * <p>
+ * Packages and classes are matched by qualified name and members by kind and
+ * signature, all through hash maps, so the cost grows linearly with the size
+ * of the API. The packages and classes of the run are compared one by one as
+ * they are read; what is left of the previous version afterwards was removed.
+ * Comments are compared by their digests.
+ */
+public class ApiDiff {
+
+	/**
+	 * Kind of declarations that are new in this version
+	 */
+	public static final int ADDED = 1;
+
+	/**
+	 * Kind of declarations that no longer exist in this version
+	 */
+	public static final int REMOVED = 2;
+
+	/**
+	 * Kind of declarations that exist in both versions but differ
+	 */
+	public static final int CHANGED = 3;
+
+	/**
+	 * Comment digests of the packages of the previous version not matched yet
+	 */
+	private final Map<String, Long> packages;
+
+	/**
+	 * Classes of the previous version not matched yet, by qualified name
+	 */
+	private final Map<String, SnapshotClass> classes = new LinkedHashMap<String, SnapshotClass>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param previous snapshot of the previous version
+	 */
+	public ApiDiff(Snapshot previous) {
+		packages = new LinkedHashMap<String, Long>(previous.getPackages());
+		for (SnapshotClass c : previous.getClasses()) {
+			classes.put(c.getQualifiedName(), c);
+		}
+	}
+
+	/**
+	 * Compares a package of this version.
+	 *
+	 * @param packageInfo package information
+	 * @return {@link #ADDED}, {@link #CHANGED} if the description changed, or 0 if it is unchanged
+	 */
+	public int comparePackage(PackageInfo packageInfo) {
+		Long digest = packages.remove(packageInfo.getName());
+		if (digest == null) {
+			return ADDED;
+		}
+		return digest.longValue() == Snapshot.digest(packageInfo.getComment()) ? 0 : CHANGED;
+	}
+
+	/**
+	 * Compares a class of this version with all its members.
+	 *
+	 * @param classInfo class information
+	 * @return difference, or null if the class is unchanged
+	 */
+	public ClassDiff compareClass(ClassInfo classInfo) {
+		SnapshotClass current = SnapshotClass.of(classInfo);
+		SnapshotClass previous = classes.remove(current.getQualifiedName());
+		if (previous == null) {
+			List<MemberDiff> members = new ArrayList<MemberDiff>();
+			for (int i = 0; i < current.getMembers().size(); i++) {
+				members.add(new MemberDiff(ADDED, null, current.getMembers().get(i), i, Collections.<String>emptyList()));
+			}
+			return new ClassDiff(ADDED, null, current, Collections.<String>emptyList(), members);
+		}
+
+		// the class itself
+		List<String> changes = new ArrayList<String>();
+		if (!previous.getModifiers().equals(current.getModifiers())) {
+			changes.add("modifiers");
+		}
+		if (previous.isInterface() != current.isInterface()) {
+			changes.add("kind");
+		}
+		if (!previous.getHierarchy().equals(current.getHierarchy())) {
+			changes.add("hierarchy");
+		}
+		if (!previous.getInterfaces().equals(current.getInterfaces())) {
+			changes.add("interfaces");
+		}
+		if (previous.getCommentDigest() != current.getCommentDigest()) {
+			changes.add("comment");
+		}
+
+		// members by kind and signature
+		Map<String, SnapshotMember> previousMembers = index(previous.getMembers());
+		List<MemberDiff> members = new ArrayList<MemberDiff>();
+		Map<String, Integer> occurrences = new HashMap<String, Integer>();
+		for (int i = 0; i < current.getMembers().size(); i++) {
+			SnapshotMember member = current.getMembers().get(i);
+			SnapshotMember old = previousMembers.remove(key(member, occurrences));
+			if (old == null) {
+				members.add(new MemberDiff(ADDED, null, member, i, Collections.<String>emptyList()));
+				continue;
+			}
+			List<String> memberChanges = compare(old, member);
+			if (!memberChanges.isEmpty()) {
+				members.add(new MemberDiff(CHANGED, old, member, i, memberChanges));
+			}
+		}
+		for (SnapshotMember old : previousMembers.values()) {
+			members.add(new MemberDiff(REMOVED, old, null, -1, Collections.<String>emptyList()));
+		}
+		if (changes.isEmpty() && members.isEmpty()) {
+			return null;
+		}
+		return new ClassDiff(CHANGED, previous, current, changes, members);
+	}
+
+	/**
+	 * Gets the packages of the previous version that were not matched.
+	 *
+	 * @return names of the removed packages in document order
+	 */
+	public List<String> getRemovedPackages() {
+		return new ArrayList<String>(packages.keySet());
+	}
+
+	/**
+	 * Gets the classes of the previous version that were not matched.
+	 *
+	 * @return removed classes with all their members, in document order
+	 */
+	public List<ClassDiff> getRemovedClasses() {
+		List<ClassDiff> removed = new ArrayList<ClassDiff>();
+		for (SnapshotClass previous : classes.values()) {
+			List<MemberDiff> members = new ArrayList<MemberDiff>();
+			for (SnapshotMember member : previous.getMembers()) {
+				members.add(new MemberDiff(REMOVED, member, null, -1, Collections.<String>emptyList()));
+			}
+			removed.add(new ClassDiff(REMOVED, previous, null, Collections.<String>emptyList(), members));
+		}
+		return removed;
+	}
+
+	/**
+	 * Indexes members by kind and signature.
+	 *
+	 * @param members members in document order
+	 * @return members by key, in document order
+	 */
+	private static Map<String, SnapshotMember> index(List<SnapshotMember> members) {
+		Map<String, SnapshotMember> index = new LinkedHashMap<String, SnapshotMember>();
+		Map<String, Integer> occurrences = new HashMap<String, Integer>();
+		for (SnapshotMember member : members) {
+			index.put(key(member, occurrences), member);
+		}
+		return index;
+	}
+
+	/**
+	 * Computes the key that matches a member.
+	 * <p>
+	 * Signatures use type names without package names, so two overloads may
+	 * have the same signature. They are told apart by their order.
+	 *
+	 * @param member member
+	 * @param occurrences number of members seen so far by signature
+	 * @return key
+	 */
+	private static String key(SnapshotMember member, Map<String, Integer> occurrences) {
+		String signature = member.getKind() + ":" + member.getSignature();
+		Integer seen = occurrences.get(signature);
+		occurrences.put(signature, seen == null ? 1 : seen + 1);
+		return seen == null ? signature : signature + "#" + seen;
+	}
+
+	/**
+	 * Compares the parts of a member besides its signature.
+	 *
+	 * @param previous member of the previous version
+	 * @param current member of this version
+	 * @return descriptions of the changed parts
+	 */
+	private static List<String> compare(SnapshotMember previous, SnapshotMember current) {
+		List<String> changes = new ArrayList<String>();
+		if (!previous.getModifiers().equals(current.getModifiers())) {
+			changes.add("modifiers");
+		}
+		if (previous.getType() == null ? current.getType() != null : !previous.getType().equals(current.getType())) {
+			changes.add("type");
+		}
+		if (!previous.getParamNames().equals(current.getParamNames())) {
+			changes.add("parameter names");
+		}
+		if (!previous.getExceptions().equals(current.getExceptions())) {
+			changes.add("exceptions");
+		}
+		if (previous.getCommentDigest() != current.getCommentDigest()) {
+			changes.add("comment");
+		}
+		return changes;
+	}
+}
@@ -0,0 +1,126 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class that was added, removed or changed since the previous version.
+ * <p>
+ * A class is changed if the class itself or any of its members changed.
+ */
+public class ClassDiff {
+
+	/**
+	 * One of {@link ApiDiff#ADDED}, {@link ApiDiff#REMOVED} and {@link ApiDiff#CHANGED}
+	 */
+	private final int kind;
+
+	/**
+	 * Class of the previous version, or null if added
+	 */
+	private final SnapshotClass previous;
+
+	/**
+	 * Class of this version, or null if removed
+	 */
+	private final SnapshotClass current;
+
+	/**
+	 * Changed parts of the class itself
+	 */
+	private final List<String> changes;
+
+	/**
+	 * Members that differ, the members of this version in document order first
+	 */
+	private final List<MemberDiff> members;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param kind kind of the difference
+	 * @param previous class of the previous version, or null if added
+	 * @param current class of this version, or null if removed
+	 * @param changes changed parts of the class itself
+	 * @param members members that differ
+	 */
+	ClassDiff(int kind, SnapshotClass previous, SnapshotClass current, List<String> changes, List<MemberDiff> members) {
+		this.kind = kind;
+		this.previous = previous;
+		this.current = current;
+		this.changes = Collections.unmodifiableList(changes);
+		this.members = Collections.unmodifiableList(members);
+	}
+
+	/**
+	 * Get the kind of the difference.
+	 *
+	 * @return one of {@link ApiDiff#ADDED}, {@link ApiDiff#REMOVED} and {@link ApiDiff#CHANGED}
+	 */
+	public int getKind() {
+		return kind;
+	}
+
+	/**
+	 * Get the class of the previous version.
+	 *
+	 * @return class, or null if added
+	 */
+	public SnapshotClass getPrevious() {
+		return previous;
+	}
+
+	/**
+	 * Get the class of this version.
+	 *
+	 * @return class, or null if removed
+	 */
+	public SnapshotClass getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Get the class of this version, or of the previous version if removed.
+	 *
+	 * @return class
+	 */
+	public SnapshotClass getLatest() {
+		return current != null ? current : previous;
+	}
+
+	/**
+	 * Get the changed parts of the class itself.
+	 *
+	 * @return descriptions such as <code>hierarchy</code> or <code>comment</code>
+	 */
+	public List<String> getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Get the members that differ.
+	 * <p>
+	 * Added and removed classes list all their members.
+	 *
+	 * @return added and changed members in document order, then removed members
+	 */
+	public List<MemberDiff> getMembers() {
+		return members;
+	}
+
+	/**
+	 * Counts the members of a kind of difference.
+	 *
+	 * @param memberKind one of {@link ApiDiff#ADDED}, {@link ApiDiff#REMOVED} and {@link ApiDiff#CHANGED}
+	 * @return number of members
+	 */
+	public int count(int memberKind) {
+		int count = 0;
+		for (MemberDiff member : members) {
+			if (member.getKind() == memberKind) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
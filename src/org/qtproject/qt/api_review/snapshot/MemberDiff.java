@@ -0,0 +1,97 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A member that was added, removed or changed since the previous version.
+ */
+public class MemberDiff {
+
+	/**
+	 * One of {@link ApiDiff#ADDED}, {@link ApiDiff#REMOVED} and {@link ApiDiff#CHANGED}
+	 */
+	private final int kind;
+
+	/**
+	 * Member of the previous version, or null if added
+	 */
+	private final SnapshotMember previous;
+
+	/**
+	 * Member of this version, or null if removed
+	 */
+	private final SnapshotMember current;
+
+	/**
+	 * Position of the member in its class in document order, or -1 if removed
+	 */
+	private final int index;
+
+	/**
+	 * Changed parts of a changed member
+	 */
+	private final List<String> changes;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param kind kind of the difference
+	 * @param previous member of the previous version, or null if added
+	 * @param current member of this version, or null if removed
+	 * @param index position of the member in its class, or -1 if removed
+	 * @param changes changed parts of a changed member
+	 */
+	MemberDiff(int kind, SnapshotMember previous, SnapshotMember current, int index, List<String> changes) {
+		this.kind = kind;
+		this.previous = previous;
+		this.current = current;
+		this.index = index;
+		this.changes = Collections.unmodifiableList(changes);
+	}
+
+	/**
+	 * Get the kind of the difference.
+	 *
+	 * @return one of {@link ApiDiff#ADDED}, {@link ApiDiff#REMOVED} and {@link ApiDiff#CHANGED}
+	 */
+	public int getKind() {
+		return kind;
+	}
+
+	/**
+	 * Get the member of the previous version.
+	 *
+	 * @return member, or null if added
+	 */
+	public SnapshotMember getPrevious() {
+		return previous;
+	}
+
+	/**
+	 * Get the member of this version.
+	 *
+	 * @return member, or null if removed
+	 */
+	public SnapshotMember getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Get the position of the member in its class.
+	 *
+	 * @return index among the enum constants, fields, constructors and methods in document order, or -1 if removed
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Get the changed parts of a changed member.
+	 *
+	 * @return descriptions such as <code>modifiers</code> or <code>comment</code>, empty unless changed
+	 */
+	public List<String> getChanges() {
+		return changes;
+	}
+}
@@ -0,0 +1,93 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The API model of a run as read from a snapshot file.
+ * <p>
+ * Comments are not stored, only their digests, so two snapshots tell
+ * whether a comment changed but not how.
+ *
+ * @see SnapshotWriter
+ * @see SnapshotReader
+ */
+public class Snapshot {
+
+	/**
+	 * First bytes of a snapshot file, <code>APIS</code> in ASCII
+	 */
+	static final int MAGIC = 0x41504953;
+
+	/**
+	 * Format of the snapshot files. Change it whenever the layout changes.
+	 */
+	static final int FORMAT = 1;
+
+	/**
+	 * Class flag of interfaces
+	 */
+	static final int INTERFACE = 1;
+
+	/**
+	 * Comment digests by package name, in document order
+	 */
+	private final Map<String, Long> packages;
+
+	/**
+	 * Classes in document order
+	 */
+	private final List<SnapshotClass> classes;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param packages comment digests by package name
+	 * @param classes classes in document order
+	 */
+	Snapshot(Map<String, Long> packages, List<SnapshotClass> classes) {
+		this.packages = Collections.unmodifiableMap(packages);
+		this.classes = Collections.unmodifiableList(classes);
+	}
+
+	/**
+	 * Get the packages.
+	 *
+	 * @return comment digests by package name, in document order
+	 */
+	public Map<String, Long> getPackages() {
+		return packages;
+	}
+
+	/**
+	 * Get the classes.
+	 *
+	 * @return classes in document order
+	 */
+	public List<SnapshotClass> getClasses() {
+		return classes;
+	}
+
+	/**
+	 * Computes the 64-bit FNV-1a digest of some strings.
+	 * <p>
+	 * Each string is terminated, so neighbouring strings cannot run together,
+	 * and null differs from an empty string.
+	 *
+	 * @param texts strings, or null
+	 * @return digest
+	 */
+	static long digest(String... texts) {
+		long hash = 0xcbf29ce484222325L;
+		for (String text : texts) {
+			if (text != null) {
+				for (int i = 0; i < text.length(); i++) {
+					hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+				}
+			}
+			hash = (hash ^ (text == null ? 0xfffe : 0xffff)) * 0x100000001b3L;
+		}
+		return hash;
+	}
+}
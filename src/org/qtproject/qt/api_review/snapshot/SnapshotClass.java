@@ -0,0 +1,241 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+
+/**
+ * A class as stored in an API snapshot.
+ */
+public class SnapshotClass {
+
+	/**
+	 * Package name
+	 */
+	private final String packageName;
+
+	/**
+	 * Class name, including the names of enclosing classes
+	 */
+	private final String name;
+
+	/**
+	 * Qualified class name
+	 */
+	private final String qualifiedName;
+
+	/**
+	 * Modifiers
+	 */
+	private final String modifiers;
+
+	/**
+	 * Whether the class is an interface
+	 */
+	private final boolean isInterface;
+
+	/**
+	 * Digest of the class comment with its version and author tags
+	 */
+	private final long commentDigest;
+
+	/**
+	 * Qualified names of the inheritance hierarchy, the class last
+	 */
+	private final List<String> hierarchy;
+
+	/**
+	 * Qualified names of the implemented interfaces
+	 */
+	private final List<String> interfaces;
+
+	/**
+	 * Enum constants, fields, constructors and methods in document order
+	 */
+	private final List<SnapshotMember> members;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param packageName package name
+	 * @param name class name
+	 * @param qualifiedName qualified class name
+	 * @param modifiers modifiers
+	 * @param isInterface whether the class is an interface
+	 * @param commentDigest digest of the class comment
+	 * @param hierarchy inheritance hierarchy
+	 * @param interfaces implemented interfaces
+	 * @param members members in document order
+	 */
+	SnapshotClass(String packageName, String name, String qualifiedName, String modifiers, boolean isInterface,
+			long commentDigest, List<String> hierarchy, List<String> interfaces, List<SnapshotMember> members) {
+		this.packageName = packageName;
+		this.name = name;
+		this.qualifiedName = qualifiedName;
+		this.modifiers = modifiers;
+		this.isInterface = isInterface;
+		this.commentDigest = commentDigest;
+		this.hierarchy = Collections.unmodifiableList(hierarchy);
+		this.interfaces = Collections.unmodifiableList(interfaces);
+		this.members = Collections.unmodifiableList(members);
+	}
+
+	/**
+	 * Creates the snapshot of a class of the API model.
+	 *
+	 * @param classInfo class information
+	 * @return class as stored in a snapshot
+	 */
+	static SnapshotClass of(ClassInfo classInfo) {
+		List<String> comments = new ArrayList<String>();
+		comments.add(classInfo.getComment());
+		comments.addAll(classInfo.getVersions());
+		comments.add(null);
+		comments.addAll(classInfo.getAuthors());
+
+		// members in document order
+		List<SnapshotMember> members = new ArrayList<SnapshotMember>();
+		for (FieldInfo field : classInfo.getEnumConstants()) {
+			members.add(of(SnapshotMember.ENUM_CONSTANT, field));
+		}
+		for (FieldInfo field : classInfo.getFields()) {
+			members.add(of(SnapshotMember.FIELD, field));
+		}
+		for (MethodInfo method : classInfo.getConstructors()) {
+			members.add(of(SnapshotMember.CONSTRUCTOR, method));
+		}
+		for (MethodInfo method : classInfo.getMethods()) {
+			members.add(of(SnapshotMember.METHOD, method));
+		}
+		return new SnapshotClass(classInfo.getPackageName(), classInfo.getName(), classInfo.getQualifiedName(),
+				classInfo.getModifiers(), classInfo.isInterface(), Snapshot.digest(comments.toArray(new String[comments.size()])),
+				new ArrayList<String>(classInfo.getHierarchy()), new ArrayList<String>(classInfo.getInterfaces()), members);
+	}
+
+	/**
+	 * Creates the snapshot of an enum constant or a field.
+	 *
+	 * @param kind member kind
+	 * @param field field information
+	 * @return member as stored in a snapshot
+	 */
+	private static SnapshotMember of(int kind, FieldInfo field) {
+		return new SnapshotMember(kind, field.getModifiers(), field.getType(), field.getName(),
+				Collections.<String>emptyList(), Collections.<String>emptyList(), Collections.<String>emptyList(),
+				Snapshot.digest(field.getComment()));
+	}
+
+	/**
+	 * Creates the snapshot of a constructor or a method.
+	 *
+	 * @param kind member kind
+	 * @param method method information
+	 * @return member as stored in a snapshot
+	 */
+	private static SnapshotMember of(int kind, MethodInfo method) {
+		List<String> paramTypes = new ArrayList<String>();
+		List<String> paramNames = new ArrayList<String>();
+		List<String> exceptions = new ArrayList<String>();
+		List<String> comments = new ArrayList<String>();
+		comments.add(method.getComment());
+		for (ParamInfo param : method.getParams()) {
+			paramTypes.add(param.getType());
+			paramNames.add(param.getName());
+			comments.add(param.getComment());
+		}
+		comments.add(method.getReturnComment());
+		for (ThrowsInfo exception : method.getExceptions()) {
+			exceptions.add(exception.getType());
+			comments.add(exception.getComment());
+		}
+		return new SnapshotMember(kind, method.getModifiers(), method.getReturnType(), method.getName(),
+				paramTypes, paramNames, exceptions, Snapshot.digest(comments.toArray(new String[comments.size()])));
+	}
+
+	/**
+	 * Get the package name.
+	 *
+	 * @return package name
+	 */
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * Get the class name.
+	 *
+	 * @return class name, including the names of enclosing classes
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the qualified class name.
+	 *
+	 * @return qualified class name
+	 */
+	public String getQualifiedName() {
+		return qualifiedName;
+	}
+
+	/**
+	 * Get the modifiers.
+	 *
+	 * @return modifiers
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Determine whether the class is an interface.
+	 *
+	 * @return Returns true for interfaces.
+	 */
+	public boolean isInterface() {
+		return isInterface;
+	}
+
+	/**
+	 * Get the digest of the class comment with its version and author tags.
+	 *
+	 * @return comment digest
+	 */
+	public long getCommentDigest() {
+		return commentDigest;
+	}
+
+	/**
+	 * Get the inheritance hierarchy.
+	 *
+	 * @return qualified names, the topmost superclass first and the class last
+	 */
+	public List<String> getHierarchy() {
+		return hierarchy;
+	}
+
+	/**
+	 * Get the implemented interfaces.
+	 *
+	 * @return qualified interface names
+	 */
+	public List<String> getInterfaces() {
+		return interfaces;
+	}
+
+	/**
+	 * Get the members.
+	 *
+	 * @return enum constants, fields, constructors and methods in document order
+	 */
+	public List<SnapshotMember> getMembers() {
+		return members;
+	}
+}
@@ -0,0 +1,188 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A member of a class as stored in an API snapshot.
+ */
+public class SnapshotMember {
+
+	/**
+	 * Kind of enum constants
+	 */
+	public static final int ENUM_CONSTANT = 0;
+
+	/**
+	 * Kind of fields
+	 */
+	public static final int FIELD = 1;
+
+	/**
+	 * Kind of constructors
+	 */
+	public static final int CONSTRUCTOR = 2;
+
+	/**
+	 * Kind of methods
+	 */
+	public static final int METHOD = 3;
+
+	/**
+	 * Member kind
+	 */
+	private final int kind;
+
+	/**
+	 * Modifiers
+	 */
+	private final String modifiers;
+
+	/**
+	 * Field type or return type without package names, or null for constructors
+	 */
+	private final String type;
+
+	/**
+	 * Member name
+	 */
+	private final String name;
+
+	/**
+	 * Parameter types without package names
+	 */
+	private final List<String> paramTypes;
+
+	/**
+	 * Parameter names
+	 */
+	private final List<String> paramNames;
+
+	/**
+	 * Thrown types without package names
+	 */
+	private final List<String> exceptions;
+
+	/**
+	 * Digest of all comments of the member
+	 */
+	private final long commentDigest;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param kind member kind
+	 * @param modifiers modifiers
+	 * @param type field type or return type, or null for constructors
+	 * @param name member name
+	 * @param paramTypes parameter types
+	 * @param paramNames parameter names
+	 * @param exceptions thrown types
+	 * @param commentDigest digest of all comments of the member
+	 */
+	SnapshotMember(int kind, String modifiers, String type, String name, List<String> paramTypes,
+			List<String> paramNames, List<String> exceptions, long commentDigest) {
+		this.kind = kind;
+		this.modifiers = modifiers;
+		this.type = type;
+		this.name = name;
+		this.paramTypes = Collections.unmodifiableList(paramTypes);
+		this.paramNames = Collections.unmodifiableList(paramNames);
+		this.exceptions = Collections.unmodifiableList(exceptions);
+		this.commentDigest = commentDigest;
+	}
+
+	/**
+	 * Get the member kind.
+	 *
+	 * @return one of {@link #ENUM_CONSTANT}, {@link #FIELD}, {@link #CONSTRUCTOR} and {@link #METHOD}
+	 */
+	public int getKind() {
+		return kind;
+	}
+
+	/**
+	 * Get the modifiers.
+	 *
+	 * @return modifiers
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Get the field type or return type.
+	 *
+	 * @return type without package names, or null for constructors
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Get the member name.
+	 *
+	 * @return member name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the parameter types.
+	 *
+	 * @return parameter types without package names
+	 */
+	public List<String> getParamTypes() {
+		return paramTypes;
+	}
+
+	/**
+	 * Get the parameter names.
+	 *
+	 * @return parameter names
+	 */
+	public List<String> getParamNames() {
+		return paramNames;
+	}
+
+	/**
+	 * Get the thrown types.
+	 *
+	 * @return thrown types without package names
+	 */
+	public List<String> getExceptions() {
+		return exceptions;
+	}
+
+	/**
+	 * Get the digest of all comments of the member.
+	 * <p>
+	 * The main description and the comments of the parameters, the return
+	 * value and the exceptions go into the digest.
+	 *
+	 * @return comment digest
+	 */
+	public long getCommentDigest() {
+		return commentDigest;
+	}
+
+	/**
+	 * Get the signature that identifies the member within its class.
+	 *
+	 * @return name, followed by the parameter types for constructors and methods
+	 */
+	public String getSignature() {
+		if (kind != CONSTRUCTOR && kind != METHOD) {
+			return name;
+		}
+		StringBuilder sb = new StringBuilder(name).append('(');
+		for (int i = 0; i < paramTypes.size(); i++) {
+			if (0 < i) {
+				sb.append(", ");
+			}
+			sb.append(paramTypes.get(i));
+		}
+		return sb.append(')').toString();
+	}
+}
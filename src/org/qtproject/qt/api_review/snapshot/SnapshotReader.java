@@ -0,0 +1,223 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an API snapshot written by {@link SnapshotWriter}.
+ * <p>
+ * The file is mapped into memory and decoded in one pass. Each string of
+ * the string table is decoded once and shared by all classes using it.
+ */
+public class SnapshotReader {
+
+	/**
+	 * Character set of the string table
+	 */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Content of the snapshot file
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * String table
+	 */
+	private String[] strings;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param buffer content of the snapshot file
+	 */
+	private SnapshotReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Reads a snapshot file.
+	 *
+	 * @param file snapshot file
+	 * @return snapshot
+	 * @throws IOException if the file cannot be read or is no snapshot of this format
+	 */
+	public static Snapshot read(File file) throws IOException {
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new SnapshotReader(buffer).decode(file);
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Truncated API snapshot: " + file);
+		} catch (IndexOutOfBoundsException e) {
+			throw new IOException("Corrupt API snapshot: " + file);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Decodes the snapshot.
+	 *
+	 * @param file snapshot file, for messages
+	 * @return snapshot
+	 * @throws IOException if the file is no snapshot of this format
+	 */
+	private Snapshot decode(File file) throws IOException {
+		if (buffer.remaining() < 4 || buffer.getInt() != Snapshot.MAGIC) {
+			throw new IOException("Not an API snapshot: " + file);
+		}
+		int format = readVarint();
+		if (format != Snapshot.FORMAT) {
+			throw new IOException("Unsupported API snapshot format " + format + ": " + file);
+		}
+
+		// string table
+		strings = new String[readCount()];
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < strings.length; i++) {
+			int length = readCount();
+			if (bytes.length < length) {
+				bytes = new byte[Math.max(length, bytes.length * 2)];
+			}
+			buffer.get(bytes, 0, length);
+			strings[i] = new String(bytes, 0, length, UTF_8);
+		}
+
+		// packages
+		int packageCount = readCount();
+		Map<String, Long> packages = new LinkedHashMap<String, Long>();
+		for (int i = 0; i < packageCount; i++) {
+			String name = readString();
+			packages.put(name, buffer.getLong());
+		}
+
+		// classes
+		int classCount = readCount();
+		List<SnapshotClass> classes = new ArrayList<SnapshotClass>(classCount);
+		for (int i = 0; i < classCount; i++) {
+			classes.add(readClass());
+		}
+		return new Snapshot(packages, classes);
+	}
+
+	/**
+	 * Decodes a class with all its members.
+	 *
+	 * @return class
+	 */
+	private SnapshotClass readClass() {
+		String packageName = readString();
+		String name = readString();
+		String qualifiedName = readString();
+		String modifiers = readString();
+		int flags = readVarint();
+		long commentDigest = buffer.getLong();
+		List<String> hierarchy = readStrings();
+		List<String> interfaces = readStrings();
+		int memberCount = readCount();
+		List<SnapshotMember> members = new ArrayList<SnapshotMember>(memberCount);
+		for (int i = 0; i < memberCount; i++) {
+			members.add(readMember());
+		}
+		return new SnapshotClass(packageName, name, qualifiedName, modifiers, (flags & Snapshot.INTERFACE) != 0,
+				commentDigest, hierarchy, interfaces, members);
+	}
+
+	/**
+	 * Decodes a member.
+	 *
+	 * @return member
+	 */
+	private SnapshotMember readMember() {
+		int kind = readVarint();
+		String modifiers = readString();
+		String type = readString();
+		String name = readString();
+		int paramCount = readCount();
+		List<String> paramTypes = paramCount == 0 ? Collections.<String>emptyList() : new ArrayList<String>(paramCount);
+		List<String> paramNames = paramCount == 0 ? Collections.<String>emptyList() : new ArrayList<String>(paramCount);
+		for (int i = 0; i < paramCount; i++) {
+			paramTypes.add(readString());
+			paramNames.add(readString());
+		}
+		List<String> exceptions = readStrings();
+		return new SnapshotMember(kind, modifiers, type, name, paramTypes, paramNames, exceptions, buffer.getLong());
+	}
+
+	/**
+	 * Decodes a list of strings with its size.
+	 *
+	 * @return strings
+	 */
+	private List<String> readStrings() {
+		int size = readCount();
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		List<String> list = new ArrayList<String>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(readString());
+		}
+		return list;
+	}
+
+	/**
+	 * Decodes a string by its index in the string table.
+	 *
+	 * @return string, or null
+	 */
+	private String readString() {
+		int index = readVarint();
+		return index == 0 ? null : strings[index - 1];
+	}
+
+	/**
+	 * Decodes the number of elements or bytes that follow.
+	 * <p>
+	 * Every element takes at least one byte, so a count beyond the rest of
+	 * the file can only come from a corrupt file. It is rejected before
+	 * anything is allocated for it.
+	 *
+	 * @return count, not negative
+	 * @throws IndexOutOfBoundsException if the count exceeds the remaining bytes
+	 */
+	private int readCount() {
+		int count = readVarint();
+		if (buffer.remaining() < count) {
+			throw new IndexOutOfBoundsException("Invalid count " + count);
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes an unsigned varint.
+	 *
+	 * @return value, not negative
+	 * @throws IndexOutOfBoundsException if the value does not fit in an int
+	 */
+	private int readVarint() {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = buffer.get();
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					break;
+				}
+				return value;
+			}
+		}
+		throw new IndexOutOfBoundsException("Invalid varint");
+	}
+}
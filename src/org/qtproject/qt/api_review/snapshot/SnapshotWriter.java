@@ -0,0 +1,216 @@
+package org.qtproject.qt.api_review.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+
+/**
+ * Writes the API model of a run as a compact binary snapshot.
+ * <p>
+ * Every string is stored once in a string table and referred to by its
+ * index, and all numbers are written as unsigned varints of seven bits per
+ * byte. Comments are stored as 64-bit FNV-1a digests. The file is laid out
+ * as follows:
+ * <pre>
+ * magic (4 bytes) format
+ * string count, then per string: UTF-8 length, UTF-8 bytes
+ * package count, then per package: name, comment digest
+ * class count, then per class:
+ *   package name, name, qualified name, modifiers, flags, comment digest,
+ *   hierarchy count, names, interface count, names,
+ *   member count, then per member:
+ *     kind, modifiers, type, name,
+ *     parameter count, types and names, exception count, types,
+ *     comment digest
+ * </pre>
+ * Strings are written as their index plus one, zero stands for null.
+ * Digests are 8 bytes, big endian. Packages and classes are added on the
+ * thread reading the API model and kept in memory until the file is written.
+ */
+public class SnapshotWriter {
+
+	/**
+	 * Character set of the string table
+	 */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Index of each string in the string table
+	 */
+	private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+	/**
+	 * String table in order of first use
+	 */
+	private final List<String> strings = new ArrayList<String>();
+
+	/**
+	 * Encoded packages
+	 */
+	private final ByteArrayOutputStream packages = new ByteArrayOutputStream();
+
+	/**
+	 * Number of packages
+	 */
+	private int packageCount;
+
+	/**
+	 * Encoded classes
+	 */
+	private final ByteArrayOutputStream classes = new ByteArrayOutputStream();
+
+	/**
+	 * Number of classes
+	 */
+	private int classCount;
+
+	/**
+	 * Adds a package.
+	 *
+	 * @param packageInfo package information
+	 */
+	public void addPackage(PackageInfo packageInfo) {
+		writeString(packages, packageInfo.getName());
+		writeDigest(packages, Snapshot.digest(packageInfo.getComment()));
+		packageCount++;
+	}
+
+	/**
+	 * Adds a class with all its members.
+	 *
+	 * @param classInfo class information
+	 */
+	public void addClass(ClassInfo classInfo) {
+		SnapshotClass c = SnapshotClass.of(classInfo);
+		ByteArrayOutputStream out = classes;
+		writeString(out, c.getPackageName());
+		writeString(out, c.getName());
+		writeString(out, c.getQualifiedName());
+		writeString(out, c.getModifiers());
+		writeVarint(out, c.isInterface() ? Snapshot.INTERFACE : 0);
+		writeDigest(out, c.getCommentDigest());
+		writeStrings(out, c.getHierarchy());
+		writeStrings(out, c.getInterfaces());
+		writeVarint(out, c.getMembers().size());
+		for (SnapshotMember member : c.getMembers()) {
+			writeVarint(out, member.getKind());
+			writeString(out, member.getModifiers());
+			writeString(out, member.getType());
+			writeString(out, member.getName());
+			writeVarint(out, member.getParamTypes().size());
+			for (int i = 0; i < member.getParamTypes().size(); i++) {
+				writeString(out, member.getParamTypes().get(i));
+				writeString(out, member.getParamNames().get(i));
+			}
+			writeStrings(out, member.getExceptions());
+			writeDigest(out, member.getCommentDigest());
+		}
+		classCount++;
+	}
+
+	/**
+	 * Writes the snapshot file.
+	 *
+	 * @param file snapshot file
+	 * @throws IOException exception
+	 */
+	public void write(File file) throws IOException {
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		writeVarint(header, Snapshot.FORMAT);
+		writeVarint(header, strings.size());
+		for (String str : strings) {
+			byte[] bytes = str.getBytes(UTF_8);
+			writeVarint(header, bytes.length);
+			header.write(bytes, 0, bytes.length);
+		}
+
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+		try {
+			out.write(Snapshot.MAGIC >>> 24);
+			out.write(Snapshot.MAGIC >>> 16);
+			out.write(Snapshot.MAGIC >>> 8);
+			out.write(Snapshot.MAGIC);
+			header.writeTo(out);
+			ByteArrayOutputStream count = new ByteArrayOutputStream();
+			writeVarint(count, packageCount);
+			count.writeTo(out);
+			packages.writeTo(out);
+			count.reset();
+			writeVarint(count, classCount);
+			count.writeTo(out);
+			classes.writeTo(out);
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Writes a list of strings with its size.
+	 *
+	 * @param out output buffer
+	 * @param list strings
+	 */
+	private void writeStrings(ByteArrayOutputStream out, List<String> list) {
+		writeVarint(out, list.size());
+		for (String str : list) {
+			writeString(out, str);
+		}
+	}
+
+	/**
+	 * Writes a string as its index in the string table, adding it if needed.
+	 *
+	 * @param out output buffer
+	 * @param str string, or null
+	 */
+	private void writeString(ByteArrayOutputStream out, String str) {
+		if (str == null) {
+			writeVarint(out, 0);
+			return;
+		}
+		Integer index = indexes.get(str);
+		if (index == null) {
+			index = strings.size();
+			indexes.put(str, index);
+			strings.add(str);
+		}
+		writeVarint(out, index + 1);
+	}
+
+	/**
+	 * Writes an unsigned varint.
+	 *
+	 * @param out output buffer
+	 * @param value value, not negative
+	 */
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7f) != 0) {
+			out.write((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	/**
+	 * Writes a digest as 8 bytes, big endian.
+	 *
+	 * @param out output buffer
+	 * @param digest digest
+	 */
+	private static void writeDigest(ByteArrayOutputStream out, long digest) {
+		for (int shift = 56; 0 <= shift; shift -= 8) {
+			out.write((int) (digest >>> shift));
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This is a package that stores classes of the binary snapshot of the API model.
+ */
+package org.qtproject.qt.api_review.snapshot;
@@ -0,0 +1,299 @@
+package org.qtproject.qt.api_review.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A documentation comment split into its main description and block tags.
+ * <p>
+ * The comment is read the way the javadoc tool of JDK 8 read it: leading
+ * white space and stars are removed from each line, and a block tag starts
+ * with <code>@</code> at the beginning of a line. Texts are trimmed.
+ */
+class DocComment {
+
+	/**
+	 * Comment without any text
+	 */
+	static final DocComment EMPTY = new DocComment("");
+
+	/**
+	 * Main description
+	 */
+	private String text = "";
+
+	/**
+	 * Block tag names, including the <code>@</code>
+	 */
+	private final List<String> tagNames = new ArrayList<String>();
+
+	/**
+	 * Block tag texts
+	 */
+	private final List<String> tagTexts = new ArrayList<String>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param comment comment string without the comment delimiters and stars
+	 */
+	DocComment(String comment) {
+		parse(comment);
+	}
+
+	/**
+	 * Reads a documentation comment from the source code.
+	 *
+	 * @param source source code
+	 * @param start position of the comment start, or -1 if there is none
+	 * @return comment
+	 */
+	static DocComment read(char[] source, int start) {
+		if (start < 0) {
+			return EMPTY;
+		}
+		return new DocComment(strip(source, start));
+	}
+
+	/**
+	 * Reads a documentation comment of a compilation unit once.
+	 * <p>
+	 * The comment is kept with the unit, so it is not read again while the
+	 * source file is unchanged.
+	 *
+	 * @param unit compilation unit
+	 * @param start position of the comment start, or -1 if there is none
+	 * @return comment
+	 */
+	static DocComment read(UnitDecl unit, int start) {
+		if (start < 0) {
+			return EMPTY;
+		}
+		DocComment comment = unit.comments.get(start);
+		if (comment == null) {
+			comment = read(unit.source, start);
+			unit.comments.put(start, comment);
+		}
+		return comment;
+	}
+
+	/**
+	 * Gets the main description.
+	 *
+	 * @return comment text
+	 */
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * Gets the texts of the block tags with the given names.
+	 *
+	 * @param names tag names, including the <code>@</code>
+	 * @return tag texts in comment order
+	 */
+	List<String> getTags(String... names) {
+		List<String> texts = new ArrayList<String>();
+		for (int i = 0; i < tagNames.size(); i++) {
+			for (String name : names) {
+				if (tagNames.get(i).equals(name)) {
+					texts.add(tagTexts.get(i));
+					break;
+				}
+			}
+		}
+		return texts;
+	}
+
+	/**
+	 * Splits a tag text at the first white space, as for the names of
+	 * parameter and exception tags.
+	 *
+	 * @param tagText tag text
+	 * @return the first word and the rest without leading white space
+	 */
+	static String[] divideAtWhite(String tagText) {
+		String[] sa = { tagText, "" };
+		int len = tagText.length();
+		for (int i = 0; i < len; i++) {
+			if (Character.isWhitespace(tagText.charAt(i))) {
+				sa[0] = tagText.substring(0, i);
+				for (; i < len; i++) {
+					if (!Character.isWhitespace(tagText.charAt(i))) {
+						sa[1] = tagText.substring(i, len);
+						break;
+					}
+				}
+				break;
+			}
+		}
+		return sa;
+	}
+
+	/**
+	 * Splits the comment string into the main description and block tags.
+	 *
+	 * @param comment comment string
+	 */
+	private void parse(String comment) {
+		final int inText = 1;
+		final int tagGap = 2;
+		final int tagName = 3;
+		int state = tagGap;
+		boolean newLine = true;
+		String name = null;
+		int tagStart = 0;
+		int textStart = 0;
+		int lastNonWhite = -1;
+		int len = comment.length();
+		for (int i = 0; i < len; i++) {
+			char c = comment.charAt(i);
+			boolean isWhite = Character.isWhitespace(c);
+			if (state == tagName) {
+				if (isWhite) {
+					name = comment.substring(tagStart, i);
+					state = tagGap;
+				}
+			} else {
+				if (state == tagGap && !isWhite) {
+					textStart = i;
+					state = inText;
+				}
+				if (state == inText && newLine && c == '@') {
+					addComponent(name, comment, textStart, lastNonWhite + 1);
+					tagStart = i;
+					state = tagName;
+				}
+			}
+			if (c == '\n') {
+				newLine = true;
+			} else if (!isWhite) {
+				lastNonWhite = i;
+				newLine = false;
+			}
+		}
+
+		// the component being read
+		if (state == tagName) {
+			name = comment.substring(tagStart, len);
+		}
+		if (state != inText) {
+			textStart = len;
+		}
+		addComponent(name, comment, textStart, lastNonWhite + 1);
+	}
+
+	/**
+	 * Adds the main description or a block tag.
+	 *
+	 * @param name tag name, or null for the main description
+	 * @param comment comment string
+	 * @param from start of the text
+	 * @param upto end of the text
+	 */
+	private void addComponent(String name, String comment, int from, int upto) {
+		String componentText = upto <= from ? "" : comment.substring(from, upto);
+		if (name == null) {
+			text = componentText;
+		} else {
+			tagNames.add(name);
+			tagTexts.add(componentText);
+		}
+	}
+
+	/**
+	 * Removes the comment delimiters and the leading white space and stars
+	 * of each line.
+	 * <p>
+	 * White space before the first star of a line is removed; if a line
+	 * after the first one has no stars, it is kept as it is. Line ends are
+	 * written as LF, a form feed ends a line and stars at the end of the
+	 * comment are removed.
+	 *
+	 * @param buf source code
+	 * @param start position of the comment start
+	 * @return comment string
+	 */
+	static String strip(char[] buf, int start) {
+		int length = buf.length;
+		StringBuilder sb = new StringBuilder();
+		boolean firstLine = true;
+
+		// slash and stars
+		int i = start + 2;
+		while (i < length && buf[i] == '*') {
+			i++;
+		}
+		if (i < length && buf[i] == '/') {
+			return "";
+		}
+
+		// a line end on the first line
+		if (i < length && buf[i] == '\n') {
+			i++;
+			firstLine = false;
+		} else if (i < length && buf[i] == '\r') {
+			i++;
+			if (i < length && buf[i] == '\n') {
+				i++;
+				firstLine = false;
+			}
+		}
+
+		outer:
+		while (i < length) {
+			int lineStart = i;
+			while (i < length && (buf[i] == ' ' || buf[i] == '\t' || buf[i] == '\f')) {
+				i++;
+			}
+			if (i < length && buf[i] == '*') {
+				while (i < length && buf[i] == '*') {
+					i++;
+				}
+				if (i < length && buf[i] == '/') {
+					break;
+				}
+			} else if (!firstLine) {
+				i = lineStart;
+			}
+
+			// rest of the line
+			while (i < length) {
+				char c = buf[i];
+				if (c == '*') {
+					i++;
+					if (i < length && buf[i] == '/') {
+						break outer;
+					}
+					sb.append('*');
+				} else if (c == '\f') {
+					i++;
+					break;
+				} else if (c == '\r') {
+					i++;
+					if (i < length && buf[i] == '\n') {
+						i++;
+					}
+					sb.append('\n');
+					break;
+				} else if (c == '\n') {
+					i++;
+					sb.append('\n');
+					break;
+				} else {
+					sb.append(c);
+					i++;
+				}
+			}
+			firstLine = false;
+		}
+
+		// trailing stars
+		int end = sb.length();
+		while (0 < end && sb.charAt(end - 1) == '*') {
+			end--;
+		}
+		sb.setLength(end);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,80 @@
+package org.qtproject.qt.api_review.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declaration of an enum constant, field, constructor or method.
+ */
+class MemberDecl {
+
+	/**
+	 * Kind of enum constants
+	 */
+	static final int ENUM_CONSTANT = 0;
+
+	/**
+	 * Kind of fields
+	 */
+	static final int FIELD = 1;
+
+	/**
+	 * Kind of constructors
+	 */
+	static final int CONSTRUCTOR = 2;
+
+	/**
+	 * Kind of methods
+	 */
+	static final int METHOD = 3;
+
+	/**
+	 * Kind of the member
+	 */
+	int kind;
+
+	/**
+	 * Modifiers as written, as reflection modifier flags
+	 */
+	int modifiers;
+
+	/**
+	 * Whether the method has the <code>default</code> modifier
+	 */
+	boolean isDefault;
+
+	/**
+	 * Name
+	 */
+	String name;
+
+	/**
+	 * Start position of the documentation comment, or -1
+	 */
+	int doc = -1;
+
+	/**
+	 * Type parameters of a method or constructor
+	 */
+	final List<TypeParam> typeParams = new ArrayList<TypeParam>();
+
+	/**
+	 * Field type or return type, or null
+	 */
+	TypeRef type;
+
+	/**
+	 * Parameter types, the one of a variable arity parameter as an array
+	 */
+	final List<TypeRef> paramTypes = new ArrayList<TypeRef>();
+
+	/**
+	 * Parameter names
+	 */
+	final List<String> paramNames = new ArrayList<String>();
+
+	/**
+	 * Thrown exceptions as written
+	 */
+	final List<TypeRef> exceptions = new ArrayList<TypeRef>();
+}
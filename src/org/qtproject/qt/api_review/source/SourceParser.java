@@ -0,0 +1,730 @@
+package org.qtproject.qt.api_review.source;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Reads the declarations of a compilation unit.
+ * <p>
+ * Only the package, the imports and the declarations of types and their
+ * members are read. Method bodies, initializers and annotations are skipped
+ * by counting brackets, so the source code does not need to compile.
+ */
+class SourceParser {
+
+	/**
+	 * Tokens of the source code
+	 */
+	private final SourceScanner s;
+
+	/**
+	 * Index of the current token
+	 */
+	private int p;
+
+	/**
+	 * Compilation unit being read
+	 */
+	private final UnitDecl unit = new UnitDecl();
+
+	/**
+	 * Whether the modifiers read last contain <code>default</code>
+	 */
+	private boolean isDefault;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param file source file
+	 * @param source source code
+	 */
+	SourceParser(File file, char[] source) {
+		s = new SourceScanner(source);
+		unit.file = file;
+		unit.source = s.getSource();
+	}
+
+	/**
+	 * Reads the declarations of the compilation unit.
+	 *
+	 * @return compilation unit
+	 */
+	UnitDecl parse() {
+		unit.doc = s.getDoc(0);
+
+		// package
+		skipAnnotations();
+		if (s.is(p, "package")) {
+			p++;
+			unit.packageName = parseQualifiedName();
+			skipTo(';');
+		} else {
+			p = 0;
+		}
+
+		// imports, static ones may import member types
+		while (s.is(p, "import")) {
+			p++;
+			if (s.is(p, "static")) {
+				p++;
+			}
+			String name = parseQualifiedName();
+			boolean onDemand = s.is(p, '.') && s.is(p + 1, '*');
+			skipTo(';');
+			(onDemand ? unit.importsOnDemand : unit.imports).add(name);
+		}
+
+		// types
+		while (p < s.getCount()) {
+			if (s.is(p, ';')) {
+				p++;
+				continue;
+			}
+			int doc = s.getDoc(p);
+			int modifiers = parseModifiers();
+			if (isTypeStart()) {
+				parseType(null, modifiers, doc);
+			} else {
+				p++;
+			}
+		}
+		return unit;
+	}
+
+	/**
+	 * Reads a type declaration starting at its keyword.
+	 *
+	 * @param outer enclosing type, or null for a top level type
+	 * @param modifiers modifiers as written
+	 * @param doc start position of the documentation comment, or -1
+	 */
+	private void parseType(TypeDecl outer, int modifiers, int doc) {
+		TypeDecl type = new TypeDecl();
+		type.unit = unit;
+		type.outer = outer;
+		type.modifiers = modifiers;
+		type.doc = doc;
+		boolean isRecord = false;
+		if (s.is(p, '@')) {
+			type.kind = TypeDecl.ANNOTATION;
+			p++;
+		} else if (s.is(p, "interface")) {
+			type.kind = TypeDecl.INTERFACE;
+		} else if (s.is(p, "enum")) {
+			type.kind = TypeDecl.ENUM;
+		} else {
+			isRecord = s.is(p, "record");
+			type.kind = TypeDecl.CLASS;
+		}
+		p++;
+		type.name = s.getText(p++);
+		if (s.is(p, '<')) {
+			parseTypeParams(type.typeParams);
+		}
+		if (isRecord && s.is(p, '(')) {
+			skipBrackets();
+		}
+		if (s.is(p, "extends")) {
+			p++;
+			if (type.kind == TypeDecl.INTERFACE) {
+				parseTypeList(type.interfaces);
+			} else {
+				type.superclass = parseTypeRef();
+			}
+		}
+		if (s.is(p, "implements")) {
+			p++;
+			parseTypeList(type.interfaces);
+		}
+		while (p < s.getCount() && !s.is(p, '{')) {
+			p++;
+		}
+		p++;
+		if (outer == null) {
+			unit.types.add(type);
+		} else {
+			outer.types.add(type);
+		}
+		if (type.kind == TypeDecl.ENUM) {
+			parseEnumConstants(type);
+		}
+		while (p < s.getCount() && !s.is(p, '}')) {
+			int before = p;
+			parseMember(type);
+			if (p == before) {
+				p++;
+			}
+		}
+		p++;
+	}
+
+	/**
+	 * Reads the enum constants at the start of an enum body.
+	 *
+	 * @param type enum declaration
+	 */
+	private void parseEnumConstants(TypeDecl type) {
+		while (p < s.getCount()) {
+			if (s.is(p, ';')) {
+				p++;
+				return;
+			}
+			if (s.is(p, '}')) {
+				return;
+			}
+			int doc = s.getDoc(p);
+			skipAnnotations();
+			if (s.getKind(p) == SourceScanner.IDENTIFIER) {
+				MemberDecl constant = new MemberDecl();
+				constant.kind = MemberDecl.ENUM_CONSTANT;
+				constant.name = s.getText(p++);
+				constant.doc = doc;
+				type.members.add(constant);
+				if (s.is(p, '(')) {
+					skipBrackets();
+				}
+				if (s.is(p, '{')) {
+					skipBrackets();
+					type.hasConstantBody = true;
+				}
+			}
+			if (s.is(p, ',') || !s.is(p, ';') && !s.is(p, '}')) {
+				p++;
+			}
+		}
+	}
+
+	/**
+	 * Reads a member declaration of a type body.
+	 *
+	 * @param type enclosing type
+	 */
+	private void parseMember(TypeDecl type) {
+		if (s.is(p, ';')) {
+			p++;
+			return;
+		}
+
+		// initializers
+		if (s.is(p, '{') || (s.is(p, "static") && s.is(p + 1, '{'))) {
+			if (!s.is(p, '{')) {
+				p++;
+			}
+			skipBrackets();
+			return;
+		}
+
+		int doc = s.getDoc(p);
+		int modifiers = parseModifiers();
+		if (isTypeStart()) {
+			parseType(type, modifiers, doc);
+			return;
+		}
+		MemberDecl member = new MemberDecl();
+		member.modifiers = modifiers;
+		member.isDefault = isDefault;
+		member.doc = doc;
+		if (s.is(p, '<')) {
+			parseTypeParams(member.typeParams);
+		}
+
+		// constructors, including the compact ones of records
+		if (s.getKind(p) == SourceScanner.IDENTIFIER && (s.is(p + 1, '(') || s.is(p + 1, '{'))) {
+			member.name = s.getText(p++);
+			if (s.is(p, '{')) {
+				skipBrackets();
+				return;
+			}
+			member.kind = MemberDecl.CONSTRUCTOR;
+			parseParams(member);
+			parseThrows(member.exceptions);
+			skipMemberBody();
+			type.members.add(member);
+			type.hasConstructor = true;
+			return;
+		}
+
+		TypeRef memberType = parseTypeRef();
+		if (memberType == null || s.getKind(p) != SourceScanner.IDENTIFIER) {
+			skipDeclaration();
+			return;
+		}
+
+		// methods
+		if (s.is(p + 1, '(')) {
+			member.kind = MemberDecl.METHOD;
+			member.name = s.getText(p++);
+			parseParams(member);
+			member.type = memberType.addDimensions(parseDims());
+			parseThrows(member.exceptions);
+			skipMemberBody();
+			type.members.add(member);
+			return;
+		}
+
+		// fields, one for each declarator
+		while (s.getKind(p) == SourceScanner.IDENTIFIER) {
+			MemberDecl field = new MemberDecl();
+			field.kind = MemberDecl.FIELD;
+			field.modifiers = modifiers;
+			field.doc = doc;
+			field.name = s.getText(p++);
+			field.type = memberType.addDimensions(parseDims());
+			type.members.add(field);
+			if (s.is(p, '=')) {
+				skipInitializer();
+			}
+			if (!s.is(p, ',')) {
+				break;
+			}
+			p++;
+		}
+		skipDeclaration();
+	}
+
+	/**
+	 * Determine whether a type declaration starts at the current token.
+	 *
+	 * @return Returns true for the keywords of type declarations.
+	 */
+	private boolean isTypeStart() {
+		if (s.is(p, "class") || s.is(p, "interface") || s.is(p, "enum")) {
+			return true;
+		}
+		if (s.is(p, '@')) {
+			return s.is(p + 1, "interface");
+		}
+		return s.is(p, "record") && s.getKind(p + 1) == SourceScanner.IDENTIFIER
+				&& (s.is(p + 2, '(') || s.is(p + 2, '<'));
+	}
+
+	/**
+	 * Reads modifiers and skips annotations.
+	 *
+	 * @return modifiers as reflection modifier flags
+	 */
+	private int parseModifiers() {
+		int modifiers = 0;
+		isDefault = false;
+		while (p < s.getCount()) {
+			if (s.is(p, '@') && !s.is(p + 1, "interface")) {
+				skipAnnotation();
+				continue;
+			}
+			String text = s.getText(p);
+			if (text == null) {
+				break;
+			}
+			switch (text) {
+			case "public":
+				modifiers |= Modifier.PUBLIC;
+				break;
+			case "protected":
+				modifiers |= Modifier.PROTECTED;
+				break;
+			case "private":
+				modifiers |= Modifier.PRIVATE;
+				break;
+			case "static":
+				modifiers |= Modifier.STATIC;
+				break;
+			case "final":
+				modifiers |= Modifier.FINAL;
+				break;
+			case "abstract":
+				modifiers |= Modifier.ABSTRACT;
+				break;
+			case "native":
+				modifiers |= Modifier.NATIVE;
+				break;
+			case "synchronized":
+				modifiers |= Modifier.SYNCHRONIZED;
+				break;
+			case "transient":
+				modifiers |= Modifier.TRANSIENT;
+				break;
+			case "volatile":
+				modifiers |= Modifier.VOLATILE;
+				break;
+			case "strictfp":
+				break;
+			case "default":
+				isDefault = true;
+				break;
+			case "sealed":
+				if (s.getKind(p + 1) != SourceScanner.IDENTIFIER) {
+					return modifiers;
+				}
+				break;
+			case "non":
+				if (!s.is(p + 1, '-') || !s.is(p + 2, "sealed")) {
+					return modifiers;
+				}
+				p += 2;
+				break;
+			default:
+				return modifiers;
+			}
+			p++;
+		}
+		return modifiers;
+	}
+
+	/**
+	 * Reads type parameters.
+	 *
+	 * @param typeParams list to add the type parameters to
+	 */
+	private void parseTypeParams(List<TypeParam> typeParams) {
+		p++;
+		while (p < s.getCount()) {
+			skipAnnotations();
+			if (s.getKind(p) != SourceScanner.IDENTIFIER) {
+				break;
+			}
+			TypeParam typeParam = new TypeParam(s.getText(p++));
+			if (s.is(p, "extends")) {
+				do {
+					p++;
+					TypeRef bound = parseTypeRef();
+					if (bound == null) {
+						break;
+					}
+					typeParam.bounds.add(bound);
+				} while (s.is(p, '&'));
+			}
+			typeParams.add(typeParam);
+			if (!s.is(p, ',')) {
+				break;
+			}
+			p++;
+		}
+		if (s.is(p, '>')) {
+			p++;
+		}
+	}
+
+	/**
+	 * Reads a list of types separated by commas.
+	 *
+	 * @param types list to add the types to
+	 */
+	private void parseTypeList(List<TypeRef> types) {
+		while (true) {
+			TypeRef type = parseTypeRef();
+			if (type == null) {
+				break;
+			}
+			types.add(type);
+			if (!s.is(p, ',')) {
+				break;
+			}
+			p++;
+		}
+	}
+
+	/**
+	 * Reads a type.
+	 *
+	 * @return type, or null if no type starts at the current token
+	 */
+	private TypeRef parseTypeRef() {
+		skipAnnotations();
+		if (s.getKind(p) != SourceScanner.IDENTIFIER) {
+			return null;
+		}
+		StringBuilder name = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+		while (true) {
+			String segment = s.getText(p++);
+			name.append(segment);
+			text.append(segment);
+			if (s.is(p, '<')) {
+				parseTypeArgs(text);
+			}
+			if (!s.is(p, '.') || s.is(p + 1, '.')) {
+				break;
+			}
+			p++;
+			skipAnnotations();
+			if (s.getKind(p) != SourceScanner.IDENTIFIER) {
+				break;
+			}
+			name.append('.');
+			text.append('.');
+		}
+		return new TypeRef(name.toString(), text.toString(), parseDims());
+	}
+
+	/**
+	 * Reads type arguments.
+	 *
+	 * @param text buffer to write the type arguments to
+	 */
+	private void parseTypeArgs(StringBuilder text) {
+		p++;
+		text.append('<');
+		boolean first = true;
+		while (p < s.getCount() && !s.is(p, '>')) {
+			if (!first) {
+				text.append(", ");
+			}
+			first = false;
+			skipAnnotations();
+			if (s.is(p, '?')) {
+				p++;
+				text.append('?');
+				if (s.is(p, "extends") || s.is(p, "super")) {
+					text.append(' ').append(s.getText(p++)).append(' ');
+					appendType(text, parseTypeRef());
+				}
+			} else {
+				TypeRef argument = parseTypeRef();
+				if (argument == null) {
+					break;
+				}
+				appendType(text, argument);
+			}
+			if (!s.is(p, ',')) {
+				break;
+			}
+			p++;
+		}
+		if (s.is(p, '>')) {
+			p++;
+		}
+		text.append('>');
+	}
+
+	/**
+	 * Writes a type with its array dimensions.
+	 *
+	 * @param text buffer to write the type to
+	 * @param type type, or null
+	 */
+	private static void appendType(StringBuilder text, TypeRef type) {
+		if (type == null) {
+			return;
+		}
+		text.append(type.text);
+		for (int i = 0; i < type.dimensions; i++) {
+			text.append("[]");
+		}
+	}
+
+	/**
+	 * Reads array dimensions.
+	 *
+	 * @return number of dimensions
+	 */
+	private int parseDims() {
+		int dimensions = 0;
+		while (true) {
+			int start = p;
+			skipAnnotations();
+			if (!s.is(p, '[') || !s.is(p + 1, ']')) {
+				p = start;
+				return dimensions;
+			}
+			p += 2;
+			dimensions++;
+		}
+	}
+
+	/**
+	 * Reads the formal parameters of a method or constructor.
+	 *
+	 * @param member method or constructor
+	 */
+	private void parseParams(MemberDecl member) {
+		p++;
+		while (p < s.getCount() && !s.is(p, ')')) {
+			parseModifiers();
+			TypeRef type = parseTypeRef();
+			if (type == null) {
+				break;
+			}
+			skipAnnotations();
+			int dimensions = 0;
+			if (s.is(p, '.') && s.is(p + 1, '.') && s.is(p + 2, '.')) {
+				p += 3;
+				dimensions++;
+			}
+
+			// receiver parameters are not parameters
+			if (s.is(p, "this")) {
+				p++;
+			} else if (s.is(p + 1, '.') && s.is(p + 2, "this")) {
+				p += 3;
+			} else if (s.getKind(p) == SourceScanner.IDENTIFIER) {
+				String name = s.getText(p++);
+				dimensions += parseDims();
+				member.paramTypes.add(type.addDimensions(dimensions));
+				member.paramNames.add(name);
+			}
+			if (!s.is(p, ',')) {
+				break;
+			}
+			p++;
+		}
+		skipTo(')');
+	}
+
+	/**
+	 * Reads the throws clause of a method or constructor.
+	 *
+	 * @param exceptions list to add the thrown types to
+	 */
+	private void parseThrows(List<TypeRef> exceptions) {
+		if (s.is(p, "throws")) {
+			p++;
+			parseTypeList(exceptions);
+		}
+	}
+
+	/**
+	 * Reads a qualified name.
+	 *
+	 * @return qualified name
+	 */
+	private String parseQualifiedName() {
+		StringBuilder sb = new StringBuilder();
+		while (s.getKind(p) == SourceScanner.IDENTIFIER) {
+			sb.append(s.getText(p++));
+			if (!s.is(p, '.') || s.getKind(p + 1) != SourceScanner.IDENTIFIER) {
+				break;
+			}
+			sb.append('.');
+			p++;
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Skips the body of a method or constructor, or the default value of an
+	 * annotation type element.
+	 */
+	private void skipMemberBody() {
+		if (s.is(p, '{')) {
+			skipBrackets();
+		} else {
+			skipDeclaration();
+		}
+	}
+
+	/**
+	 * Skips the rest of a declaration, up to and including a semicolon or a
+	 * block, or up to the end of the enclosing body.
+	 */
+	private void skipDeclaration() {
+		int depth = 0;
+		while (p < s.getCount()) {
+			if (s.is(p, '(') || s.is(p, '[') || s.is(p, '{')) {
+				depth++;
+			} else if (s.is(p, ')') || s.is(p, ']') || s.is(p, '}')) {
+				if (depth == 0) {
+					return;
+				}
+				depth--;
+				if (depth == 0 && s.is(p, '}')) {
+					p++;
+					return;
+				}
+			} else if (depth == 0 && s.is(p, ';')) {
+				p++;
+				return;
+			}
+			p++;
+		}
+	}
+
+	/**
+	 * Skips a field initializer, up to the comma before the next declarator
+	 * or the semicolon.
+	 * <p>
+	 * A comma outside brackets only ends the initializer if a declarator
+	 * follows, which is a name followed by <code>=</code>, <code>,</code>,
+	 * <code>;</code> or <code>[</code>; other commas belong to type
+	 * arguments.
+	 */
+	private void skipInitializer() {
+		p++;
+		int depth = 0;
+		while (p < s.getCount()) {
+			if (s.is(p, '(') || s.is(p, '[') || s.is(p, '{')) {
+				depth++;
+			} else if (s.is(p, ')') || s.is(p, ']') || s.is(p, '}')) {
+				if (depth == 0) {
+					return;
+				}
+				depth--;
+			} else if (depth == 0) {
+				if (s.is(p, ';')) {
+					return;
+				}
+				if (s.is(p, ',') && s.getKind(p + 1) == SourceScanner.IDENTIFIER
+						&& (s.is(p + 2, '=') || s.is(p + 2, ',') || s.is(p + 2, ';') || s.is(p + 2, '['))) {
+					return;
+				}
+			}
+			p++;
+		}
+	}
+
+	/**
+	 * Skips a bracketed token sequence starting at the current token, such
+	 * as a block or an argument list.
+	 */
+	private void skipBrackets() {
+		int depth = 0;
+		while (p < s.getCount()) {
+			if (s.is(p, '(') || s.is(p, '[') || s.is(p, '{')) {
+				depth++;
+			} else if (s.is(p, ')') || s.is(p, ']') || s.is(p, '}')) {
+				depth--;
+				if (depth <= 0) {
+					p++;
+					return;
+				}
+			}
+			p++;
+		}
+	}
+
+	/**
+	 * Skips tokens up to and including an operator outside brackets.
+	 *
+	 * @param c operator character
+	 */
+	private void skipTo(char c) {
+		while (p < s.getCount() && !s.is(p, c)) {
+			if (s.is(p, '(') || s.is(p, '[') || s.is(p, '{')) {
+				skipBrackets();
+			} else {
+				p++;
+			}
+		}
+		p++;
+	}
+
+	/**
+	 * Skips annotations, but not the start of an annotation type declaration.
+	 */
+	private void skipAnnotations() {
+		while (s.is(p, '@') && !s.is(p + 1, "interface")) {
+			skipAnnotation();
+		}
+	}
+
+	/**
+	 * Skips an annotation.
+	 */
+	private void skipAnnotation() {
+		p++;
+		parseQualifiedName();
+		if (s.is(p, '(')) {
+			skipBrackets();
+		}
+	}
+}
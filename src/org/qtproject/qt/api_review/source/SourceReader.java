@@ -0,0 +1,1117 @@
+package org.qtproject.qt.api_review.source;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.qtproject.qt.api_review.ApiReader;
+import org.qtproject.qt.api_review.HierarchyIndex;
+import org.qtproject.qt.api_review.ShortNameCache;
+import org.qtproject.qt.api_review.model.ClassInfo;
+import org.qtproject.qt.api_review.model.FieldInfo;
+import org.qtproject.qt.api_review.model.MethodInfo;
+import org.qtproject.qt.api_review.model.PackageInfo;
+import org.qtproject.qt.api_review.model.ParamInfo;
+import org.qtproject.qt.api_review.model.ThrowsInfo;
+
+/**
+ * Reads the API model directly from Java source files, without the javadoc
+ * tool and without a classpath.
+ * <p>
+ * Only declarations are read, method bodies are skipped. The model is the
+ * same as the one read by the javadoc tool of JDK 8 with the default access
+ * filter: implicit modifiers, default constructors and the implicit methods
+ * of enums are added, and comments are split the same way. Type names are
+ * resolved for the inheritance hierarchy against the source path, and else
+ * against the classes of the running JVM.
+ */
+public class SourceReader implements ApiReader {
+
+	/**
+	 * Body of a <code>package.html</code> file
+	 */
+	private static final Pattern BODY = Pattern.compile("(?is).*<body\\b[^>]*>(.*)</body\\b.*");
+
+	/**
+	 * Resolved types cached as not found
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	/**
+	 * Source path directories
+	 */
+	private final List<File> sourcePath = new ArrayList<File>();
+
+	/**
+	 * Encoding of the source files
+	 */
+	private final Charset encoding;
+
+	/**
+	 * Names of the packages to read
+	 */
+	private final List<String> packageNames;
+
+	/**
+	 * Index of the next package to read
+	 */
+	private int nextPackage;
+
+	/**
+	 * Classes of the package being read
+	 */
+	private final List<TypeDecl> classes = new ArrayList<TypeDecl>();
+
+	/**
+	 * Source files of the package being read
+	 */
+	private final Set<File> packageFiles = new HashSet<File>();
+
+	/**
+	 * Index of the next class to read
+	 */
+	private int next;
+
+	/**
+	 * Compilation units by source file, in parsing order
+	 */
+	private final Map<File, UnitDecl> units = new LinkedHashMap<File, UnitDecl>();
+
+	/**
+	 * Directories of all source files parsed since the last reset
+	 */
+	private final Set<File> unitDirectories = new LinkedHashSet<File>();
+
+	/**
+	 * Declared types by qualified name
+	 */
+	private final Map<String, TypeDecl> sourceTypes = new HashMap<String, TypeDecl>();
+
+	/**
+	 * Types found by qualified name, declarations or classes of the running JVM
+	 */
+	private final Map<String, Object> foundTypes = new HashMap<String, Object>();
+
+	/**
+	 * Short type names of the run
+	 */
+	private final ShortNameCache shortNames = new ShortNameCache();
+
+	/**
+	 * Type hierarchy of the run
+	 */
+	private final HierarchyIndex hierarchy = new HierarchyIndex();
+
+	/**
+	 * Qualified names of the types being added to the type hierarchy
+	 */
+	private final Set<String> indexing = new HashSet<String>();
+
+	/**
+	 * Whether the documented classes of all packages are in the type hierarchy
+	 */
+	private boolean indexed;
+
+	/**
+	 * Whether the known subclasses are read
+	 */
+	private boolean knownSubclasses;
+
+	/**
+	 * Whether the parsed units of a package are dropped once it was indexed
+	 */
+	private boolean packageAtATime;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param sourcePath source path, directories separated by the path separator
+	 * @param encoding encoding of the source files
+	 * @param packageNames names of the packages to read
+	 * @throws IllegalArgumentException if a package has no source files
+	 */
+	public SourceReader(String sourcePath, Charset encoding, List<String> packageNames) {
+		for (String path : sourcePath.split(Pattern.quote(File.pathSeparator))) {
+			if (!path.isEmpty()) {
+				this.sourcePath.add(new File(path));
+			}
+		}
+		this.encoding = encoding;
+		this.packageNames = new ArrayList<String>(packageNames);
+		for (String packageName : packageNames) {
+			if (getSourceFiles(packageName).isEmpty()) {
+				throw new IllegalArgumentException("No source files for package " + packageName);
+			}
+		}
+	}
+
+	/**
+	 * Sets whether the known subclasses are read.
+	 * <p>
+	 * They need the documented classes of all packages in the type hierarchy
+	 * before the first class is read, so all source files are parsed once
+	 * up front.
+	 *
+	 * @param knownSubclasses whether the known subclasses are read
+	 */
+	public void setKnownSubclasses(boolean knownSubclasses) {
+		this.knownSubclasses = knownSubclasses;
+	}
+
+	/**
+	 * Sets whether the parsed units of each package are dropped once the
+	 * documented classes of all packages were added to the type hierarchy.
+	 *
+	 * @param packageAtATime whether the run is in package-at-a-time mode
+	 */
+	public void setPackageAtATime(boolean packageAtATime) {
+		this.packageAtATime = packageAtATime;
+	}
+
+	@Override
+	public ClassInfo readClass() {
+		if (knownSubclasses && !indexed) {
+			indexPackages();
+		}
+		while (classes.size() <= next) {
+			if (packageNames.size() <= nextPackage) {
+				return null;
+			}
+			readClasses(packageNames.get(nextPackage++));
+		}
+		return readClass(classes.get(next++));
+	}
+
+	@Override
+	public PackageInfo readPackage() {
+		String packageName = classes.get(next - 1).unit.packageName;
+		return new PackageInfo(packageName, getPackageComment(packageName));
+	}
+
+	@Override
+	public void releasePreviousPackages() {
+		units.keySet().retainAll(packageFiles);
+		reindex();
+	}
+
+	@Override
+	public ShortNameCache getShortNames() {
+		return shortNames;
+	}
+
+	@Override
+	public void printNotice(String message) {
+		System.out.println(message);
+	}
+
+	/**
+	 * Starts reading all packages again after source files changed.
+	 * <p>
+	 * Only the changed files are parsed again, the declarations of the other
+	 * files are kept. Files that were added or deleted are picked up too.
+	 *
+	 * @param changed changed source files, or null to parse all files again
+	 */
+	public void reset(Collection<File> changed) {
+		if (changed == null) {
+			units.clear();
+			unitDirectories.clear();
+		} else {
+			units.keySet().removeAll(changed);
+		}
+		reindex();
+		hierarchy.clear();
+		indexed = false;
+		classes.clear();
+		packageFiles.clear();
+		next = 0;
+		nextPackage = 0;
+	}
+
+	/**
+	 * Gets the directories the API model was read from.
+	 * <p>
+	 * These are the package directories and the directories of all other
+	 * source files that were parsed to resolve types.
+	 *
+	 * @return existing directories
+	 */
+	public Set<File> getDirectories() {
+		Set<File> directories = new LinkedHashSet<File>();
+		for (String packageName : packageNames) {
+			for (File root : sourcePath) {
+				File directory = new File(root, packageName.replace('.', File.separatorChar));
+				if (directory.isDirectory()) {
+					directories.add(directory);
+				}
+			}
+		}
+		for (File directory : unitDirectories) {
+			if (directory.isDirectory()) {
+				directories.add(directory);
+			}
+		}
+		return directories;
+	}
+
+	/**
+	 * Registers the types of the kept compilation units again after units were dropped.
+	 */
+	private void reindex() {
+		sourceTypes.clear();
+		for (UnitDecl unit : units.values()) {
+			if (unit != null) {
+				for (TypeDecl type : unit.types) {
+					addSourceType(type);
+				}
+			}
+		}
+
+		// classes of the running JVM do not change
+		Iterator<Object> found = foundTypes.values().iterator();
+		while (found.hasNext()) {
+			if (!(found.next() instanceof Class)) {
+				found.remove();
+			}
+		}
+	}
+
+	/**
+	 * Parses the source files of a package and lists its documented classes.
+	 *
+	 * @param packageName package name
+	 */
+	private void readClasses(String packageName) {
+		classes.clear();
+		packageFiles.clear();
+		next = 0;
+		for (File file : getSourceFiles(packageName)) {
+			packageFiles.add(file);
+			UnitDecl unit = getUnit(file);
+			if (unit == null) {
+				continue;
+			}
+			for (TypeDecl type : unit.types) {
+				addClasses(type);
+			}
+		}
+	}
+
+	/**
+	 * Adds the documented classes of all packages to the type hierarchy, so
+	 * that their known subclasses are complete before the first class is read.
+	 */
+	private void indexPackages() {
+		for (String packageName : packageNames) {
+			for (File file : getSourceFiles(packageName)) {
+				UnitDecl unit = getUnit(file);
+				if (unit == null) {
+					continue;
+				}
+				for (TypeDecl type : unit.types) {
+					indexDocumented(type);
+				}
+			}
+			if (packageAtATime) {
+				units.clear();
+				reindex();
+			}
+		}
+		indexed = true;
+	}
+
+	/**
+	 * Adds a class and its member classes to the type hierarchy if they are documented.
+	 *
+	 * @param type type declaration
+	 */
+	private void indexDocumented(TypeDecl type) {
+		if (!isDocumented(getModifiers(type))) {
+			return;
+		}
+		hierarchy.addDocumented(index(type));
+		for (TypeDecl member : type.types) {
+			indexDocumented(member);
+		}
+	}
+
+	/**
+	 * Adds a type to the type hierarchy after its supertypes.
+	 * <p>
+	 * Unknown supertypes end the hierarchy, and so do cycles.
+	 *
+	 * @param type type declaration or class
+	 * @return qualified name
+	 */
+	private String index(Object type) {
+		String qualifiedName = getQualifiedName(type);
+		if (hierarchy.contains(qualifiedName) || !indexing.add(qualifiedName)) {
+			return qualifiedName;
+		}
+		try {
+			String superclass = null;
+			Object d = getSuperclass(type);
+			if (d != null && !getQualifiedName(d).equals("java.lang.Object")) {
+				superclass = index(d);
+			}
+			List<String> interfaces = new ArrayList<String>();
+			if (type instanceof Class) {
+				for (Class<?> c : ((Class<?>) type).getInterfaces()) {
+					interfaces.add(index(c));
+				}
+			} else {
+				TypeDecl decl = (TypeDecl) type;
+				if (decl.kind == TypeDecl.ANNOTATION) {
+					interfaces.add("java.lang.annotation.Annotation");
+				}
+				for (TypeRef ref : decl.interfaces) {
+					Object resolved = resolve(ref.name, decl.outer, decl.unit);
+					interfaces.add(resolved == null ? ref.name : index(resolved));
+				}
+			}
+			hierarchy.add(qualifiedName, superclass, interfaces);
+		} finally {
+			indexing.remove(qualifiedName);
+		}
+		return qualifiedName;
+	}
+
+	/**
+	 * Adds a class and its member classes if they are documented.
+	 *
+	 * @param type type declaration
+	 */
+	private void addClasses(TypeDecl type) {
+		if (!isDocumented(getModifiers(type))) {
+			return;
+		}
+		classes.add(type);
+		for (TypeDecl member : type.types) {
+			addClasses(member);
+		}
+	}
+
+	/**
+	 * Reads the information of a class with all its members.
+	 *
+	 * @param type type declaration
+	 * @return class information
+	 */
+	private ClassInfo readClass(TypeDecl type) {
+		DocComment comment = DocComment.read(type.unit, type.doc);
+		int modifiers = getModifiers(type);
+		if (type.kind == TypeDecl.INTERFACE || type.kind == TypeDecl.ANNOTATION) {
+			modifiers &= ~Modifier.ABSTRACT;
+		}
+		ClassInfo info = new ClassInfo(type.getName(), type.getQualifiedName(), type.unit.packageName,
+				Modifier.toString(modifiers), type.kind == TypeDecl.INTERFACE, comment.getText());
+
+		// Source code file information
+		info.setSource(type.unit.file);
+
+		// inheritance hierarchy and known subclasses
+		String qualifiedName = index(type);
+		if (type.kind == TypeDecl.CLASS && type.superclass != null && getSuperclass(type) == null) {
+			// an unknown superclass ends the hierarchy
+			info.getHierarchy().add(type.superclass.name);
+		}
+		info.getHierarchy().addAll(hierarchy.getHierarchy(qualifiedName));
+		info.getSubclasses().addAll(hierarchy.getSubclasses(qualifiedName));
+
+		// interface
+		if (type.kind == TypeDecl.ANNOTATION) {
+			info.getInterfaces().add("java.lang.annotation.Annotation");
+		}
+		for (TypeRef ref : type.interfaces) {
+			Object resolved = resolve(ref.name, type.outer, type.unit);
+			info.getInterfaces().add(resolved == null ? ref.name : getQualifiedName(resolved));
+		}
+		info.getAllInterfaces().addAll(hierarchy.getAllInterfaces(qualifiedName));
+
+		// version and author
+		info.getVersions().addAll(comment.getTags("@version"));
+		info.getAuthors().addAll(comment.getTags("@author"));
+
+		// all constants and fields
+		for (MemberDecl member : type.members) {
+			if (member.kind == MemberDecl.ENUM_CONSTANT) {
+				info.getEnumConstants().add(new FieldInfo("public static final",
+						shortNames.get(type.getQualifiedName()), member.name,
+						DocComment.read(type.unit, member.doc).getText()));
+			}
+		}
+		for (MemberDecl member : type.members) {
+			if (member.kind == MemberDecl.FIELD) {
+				int fieldModifiers = getModifiers(member, type);
+				if (isDocumented(fieldModifiers)) {
+					info.getFields().add(new FieldInfo(Modifier.toString(fieldModifiers),
+							getShortName(member.type, member, type), member.name,
+							DocComment.read(type.unit, member.doc).getText()));
+				}
+			}
+		}
+
+		// all constructors, the default one if none is declared
+		for (MemberDecl member : type.members) {
+			if (member.kind == MemberDecl.CONSTRUCTOR && isDocumented(getModifiers(member, type))) {
+				info.getConstructors().add(readMember(member, type));
+			}
+		}
+		if (!type.hasConstructor && type.kind == TypeDecl.CLASS) {
+			int access = getModifiers(type) & (Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE);
+			if (isDocumented(access)) {
+				info.getConstructors().add(new MethodInfo(Modifier.toString(access), null, type.name, ""));
+			}
+		}
+
+		// all methods, annotation type elements are not methods
+		if (type.kind == TypeDecl.ENUM) {
+			info.getMethods().add(new MethodInfo("public static",
+					shortNames.get(type.getQualifiedName() + "[]"), "values", ""));
+			MethodInfo valueOf = new MethodInfo("public static",
+					shortNames.get(type.getQualifiedName()), "valueOf", "");
+			valueOf.getParams().add(new ParamInfo(shortNames.get("java.lang.String"), "name", ""));
+			info.getMethods().add(valueOf);
+		}
+		if (type.kind != TypeDecl.ANNOTATION) {
+			for (MemberDecl member : type.members) {
+				if (member.kind == MemberDecl.METHOD && isDocumented(getModifiers(member, type))) {
+					info.getMethods().add(readMember(member, type));
+				}
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Reads the information of a constructor or method.
+	 *
+	 * @param member constructor or method declaration
+	 * @param type enclosing type
+	 * @return method information
+	 */
+	private MethodInfo readMember(MemberDecl member, TypeDecl type) {
+		boolean isMethod = member.kind == MemberDecl.METHOD;
+		DocComment comment = DocComment.read(type.unit, member.doc);
+		int modifiers = getModifiers(member, type);
+		if (isMethod && type.kind == TypeDecl.INTERFACE) {
+			// Remove the implicit abstract modifier.
+			modifiers &= ~Modifier.ABSTRACT;
+		}
+		MethodInfo info = new MethodInfo(Modifier.toString(modifiers),
+				isMethod ? getShortName(member.type, member, type) : null, member.name, comment.getText());
+
+		// parameters, the first comment wins
+		if (!member.paramNames.isEmpty()) {
+			Map<String, String> comments = new HashMap<String, String>();
+			for (String tag : comment.getTags("@param")) {
+				String[] sa = DocComment.divideAtWhite(tag);
+				if (!isTypeParameterName(sa[0]) && !comments.containsKey(sa[0])) {
+					comments.put(sa[0], sa[1]);
+				}
+			}
+			for (int i = 0; i < member.paramNames.size(); i++) {
+				String name = member.paramNames.get(i);
+				info.getParams().add(new ParamInfo(getShortName(member.paramTypes.get(i), member, type), name,
+						getComment(comments, name)));
+			}
+		}
+
+		// Return value
+		if (isMethod) {
+			List<String> returnTags = comment.getTags("@return");
+			if (!returnTags.isEmpty()) {
+				info.setReturnComment(returnTags.get(0));
+			}
+		}
+
+		// exception
+		if (!member.exceptions.isEmpty()) {
+			Map<String, String> comments = new HashMap<String, String>();
+			for (String tag : comment.getTags("@throws", "@exception")) {
+				String[] sa = DocComment.divideAtWhite(tag);
+				if (!comments.containsKey(sa[0])) {
+					comments.put(sa[0], sa[1]);
+				}
+			}
+			for (TypeRef exception : member.exceptions) {
+				info.getExceptions().add(new ThrowsInfo(getShortName(exception, member, type),
+						getComment(comments, getTypeName(exception, member, type))));
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Gets a comment by name.
+	 *
+	 * @param comments Comment information by name
+	 * @param name name
+	 * @return Comment information, or an empty string if there is none
+	 */
+	private static String getComment(Map<String, String> comments, String name) {
+		String comment = comments.get(name);
+		return comment == null ? "" : comment;
+	}
+
+	/**
+	 * Determine whether a parameter tag documents a type parameter.
+	 *
+	 * @param name first word of the tag
+	 * @return Returns true for names in angle brackets.
+	 */
+	private static boolean isTypeParameterName(String name) {
+		return 2 < name.length() && name.charAt(0) == '<' && name.charAt(name.length() - 1) == '>'
+				&& name.indexOf('<', 1) < 0 && name.indexOf('>') == name.length() - 1;
+	}
+
+	/**
+	 * Gets the modifiers of a type, with the implicit ones.
+	 *
+	 * @param type type declaration
+	 * @return modifier flags
+	 */
+	private static int getModifiers(TypeDecl type) {
+		int modifiers = type.modifiers;
+		if (type.outer != null && (type.outer.kind == TypeDecl.INTERFACE || type.outer.kind == TypeDecl.ANNOTATION)) {
+			modifiers |= Modifier.PUBLIC | Modifier.STATIC;
+		}
+		switch (type.kind) {
+		case TypeDecl.INTERFACE:
+		case TypeDecl.ANNOTATION:
+			modifiers |= Modifier.INTERFACE | Modifier.ABSTRACT;
+			if (type.outer != null) {
+				modifiers |= Modifier.STATIC;
+			}
+			break;
+		case TypeDecl.ENUM:
+			if (type.outer != null) {
+				modifiers |= Modifier.STATIC;
+			}
+			if (!type.hasConstantBody) {
+				modifiers |= Modifier.FINAL;
+			}
+			break;
+		default:
+			break;
+		}
+		return modifiers;
+	}
+
+	/**
+	 * Gets the modifiers of a member, with the implicit ones.
+	 *
+	 * @param member member declaration
+	 * @param type enclosing type
+	 * @return modifier flags
+	 */
+	private static int getModifiers(MemberDecl member, TypeDecl type) {
+		int modifiers = member.modifiers;
+		boolean inInterface = type.kind == TypeDecl.INTERFACE || type.kind == TypeDecl.ANNOTATION;
+		switch (member.kind) {
+		case MemberDecl.FIELD:
+			if (inInterface) {
+				modifiers |= Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL;
+			}
+			break;
+		case MemberDecl.METHOD:
+			if (inInterface && (modifiers & Modifier.PRIVATE) == 0) {
+				modifiers |= Modifier.PUBLIC;
+				if ((modifiers & Modifier.STATIC) == 0 && !member.isDefault) {
+					modifiers |= Modifier.ABSTRACT;
+				}
+			}
+			break;
+		case MemberDecl.CONSTRUCTOR:
+			if (type.kind == TypeDecl.ENUM) {
+				modifiers = (modifiers & ~(Modifier.PUBLIC | Modifier.PROTECTED)) | Modifier.PRIVATE;
+			}
+			break;
+		default:
+			break;
+		}
+		return modifiers;
+	}
+
+	/**
+	 * Determine whether an element passes the access filter.
+	 *
+	 * @param modifiers modifier flags
+	 * @return Returns true for public and protected elements.
+	 */
+	private static boolean isDocumented(int modifiers) {
+		return (modifiers & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0;
+	}
+
+	/**
+	 * Removes the package names from a type as written by the javadoc tool.
+	 * <p>
+	 * Arrays show the name of their component type without type arguments,
+	 * and type variables show the bounds of their declaration.
+	 *
+	 * @param ref type as written
+	 * @param member member using the type
+	 * @param type enclosing type of the member
+	 * @return abbreviated type name
+	 */
+	private String getShortName(TypeRef ref, MemberDecl member, TypeDecl type) {
+		if (0 < ref.dimensions) {
+			StringBuilder sb = new StringBuilder(ref.name);
+			for (int i = 0; i < ref.dimensions; i++) {
+				sb.append("[]");
+			}
+			return shortNames.get(sb.toString());
+		}
+		TypeParam typeParam = findTypeParam(ref, member, type);
+		if (typeParam == null || typeParam.bounds.isEmpty() || isObject(typeParam.bounds)) {
+			return shortNames.get(ref.text);
+		}
+		StringBuilder sb = new StringBuilder(typeParam.name);
+		for (int i = 0; i < typeParam.bounds.size(); i++) {
+			sb.append(i == 0 ? " extends " : " & ");
+			TypeRef bound = typeParam.bounds.get(i);
+			sb.append(bound.text);
+			for (int j = 0; j < bound.dimensions; j++) {
+				sb.append("[]");
+			}
+		}
+		return shortNames.get(sb.toString());
+	}
+
+	/**
+	 * Determine whether the bounds of a type parameter are only
+	 * <code>Object</code>.
+	 *
+	 * @param bounds bounds
+	 * @return Returns true for a single bound of <code>Object</code>.
+	 */
+	private static boolean isObject(List<TypeRef> bounds) {
+		if (bounds.size() != 1) {
+			return false;
+		}
+		TypeRef bound = bounds.get(0);
+		return bound.dimensions == 0 && (bound.text.equals("Object") || bound.text.equals("java.lang.Object"));
+	}
+
+	/**
+	 * Finds the type parameter a type refers to.
+	 *
+	 * @param ref type as written
+	 * @param member member using the type
+	 * @param type enclosing type of the member
+	 * @return type parameter, or null if the type is no type variable
+	 */
+	private static TypeParam findTypeParam(TypeRef ref, MemberDecl member, TypeDecl type) {
+		if (!ref.text.equals(ref.name) || ref.name.indexOf('.') >= 0) {
+			return null;
+		}
+		for (TypeParam typeParam : member.typeParams) {
+			if (typeParam.name.equals(ref.name)) {
+				return typeParam;
+			}
+		}
+		for (TypeDecl t = type; t != null; t = t.outer) {
+			for (TypeParam typeParam : t.typeParams) {
+				if (typeParam.name.equals(ref.name)) {
+					return typeParam;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the name of a thrown type as written in throws tags.
+	 * <p>
+	 * Class names include the names of their enclosing classes.
+	 *
+	 * @param ref type as written
+	 * @param member member throwing the type
+	 * @param type enclosing type of the member
+	 * @return type name
+	 */
+	private String getTypeName(TypeRef ref, MemberDecl member, TypeDecl type) {
+		if (findTypeParam(ref, member, type) != null) {
+			return ref.name;
+		}
+		Object resolved = resolve(ref.name, type, type.unit);
+		if (resolved instanceof TypeDecl) {
+			return ((TypeDecl) resolved).getName();
+		}
+		if (resolved instanceof Class) {
+			Class<?> c = (Class<?>) resolved;
+			String name = c.getName();
+			int dot = name.lastIndexOf('.');
+			return name.substring(dot + 1).replace('$', '.');
+		}
+		return ref.name;
+	}
+
+	/**
+	 * Gets the qualified name of a type.
+	 *
+	 * @param type type declaration or class
+	 * @return qualified name
+	 */
+	private static String getQualifiedName(Object type) {
+		if (type instanceof TypeDecl) {
+			return ((TypeDecl) type).getQualifiedName();
+		}
+		return ((Class<?>) type).getName().replace('$', '.');
+	}
+
+	/**
+	 * Gets the superclass of a type.
+	 *
+	 * @param type type declaration or class
+	 * @return superclass, or null for interfaces, java.lang.Object and unknown classes
+	 */
+	private Object getSuperclass(Object type) {
+		if (type instanceof Class) {
+			return ((Class<?>) type).getSuperclass();
+		}
+		TypeDecl decl = (TypeDecl) type;
+		switch (decl.kind) {
+		case TypeDecl.INTERFACE:
+		case TypeDecl.ANNOTATION:
+			return null;
+		case TypeDecl.ENUM:
+			return findType("java.lang.Enum");
+		default:
+			if (decl.superclass != null) {
+				return resolve(decl.superclass.name, decl.outer, decl.unit);
+			}
+			if (decl.getQualifiedName().equals("java.lang.Object")) {
+				return null;
+			}
+			return findType("java.lang.Object");
+		}
+	}
+
+	/**
+	 * Resolves a type name as written.
+	 * <p>
+	 * A simple name is looked up in the enclosing types and their supertypes,
+	 * the single type imports, the package, the imports on demand and
+	 * <code>java.lang</code>, in this order.
+	 *
+	 * @param name dotted name as written
+	 * @param context type in whose body the name is used, or null
+	 * @param unit compilation unit
+	 * @return type declaration or class, or null if the type is unknown
+	 */
+	private Object resolve(String name, TypeDecl context, UnitDecl unit) {
+		int dot = name.indexOf('.');
+		Object type = resolveSimple(dot < 0 ? name : name.substring(0, dot), context, unit);
+		if (type == null) {
+			return dot < 0 ? null : findType(name);
+		}
+		while (0 <= dot && type != null) {
+			int nextDot = name.indexOf('.', dot + 1);
+			type = findMemberType(type, nextDot < 0 ? name.substring(dot + 1) : name.substring(dot + 1, nextDot), 0);
+			dot = nextDot;
+		}
+		return type;
+	}
+
+	/**
+	 * Resolves a simple type name.
+	 *
+	 * @param name simple name
+	 * @param context type in whose body the name is used, or null
+	 * @param unit compilation unit
+	 * @return type declaration or class, or null if the type is unknown
+	 */
+	private Object resolveSimple(String name, TypeDecl context, UnitDecl unit) {
+		for (TypeDecl t = context; t != null; t = t.outer) {
+			if (t.name.equals(name)) {
+				return t;
+			}
+			Object member = findMemberType(t, name, 0);
+			if (member != null) {
+				return member;
+			}
+		}
+		for (String imported : unit.imports) {
+			if (imported.endsWith("." + name)) {
+				Object type = findType(imported);
+				if (type != null) {
+					return type;
+				}
+			}
+		}
+		Object type = findType(unit.packageName.isEmpty() ? name : unit.packageName + "." + name);
+		if (type != null) {
+			return type;
+		}
+		for (String imported : unit.importsOnDemand) {
+			type = findType(imported + "." + name);
+			if (type != null) {
+				return type;
+			}
+		}
+		return findType("java.lang." + name);
+	}
+
+	/**
+	 * Finds a member type, including the inherited ones.
+	 *
+	 * @param type type declaration or class
+	 * @param name simple name of the member type
+	 * @param depth number of supertypes searched so far
+	 * @return type declaration or class, or null if there is no such member
+	 */
+	private Object findMemberType(Object type, String name, int depth) {
+		if (20 < depth) {
+			return null;
+		}
+		if (type instanceof Class) {
+			try {
+				for (Class<?> c : ((Class<?>) type).getClasses()) {
+					if (c.getSimpleName().equals(name)) {
+						return c;
+					}
+				}
+			} catch (LinkageError e) {
+				// members of a class that cannot be loaded are unknown
+			} catch (SecurityException e) {
+				// members of a class that cannot be loaded are unknown
+			}
+			return null;
+		}
+		TypeDecl decl = (TypeDecl) type;
+		for (TypeDecl member : decl.types) {
+			if (member.name.equals(name)) {
+				return member;
+			}
+		}
+		List<Object> supertypes = new ArrayList<Object>();
+		supertypes.add(getSuperclass(decl));
+		for (TypeRef ref : decl.interfaces) {
+			supertypes.add(resolve(ref.name, decl.outer, decl.unit));
+		}
+		for (Object supertype : supertypes) {
+			Object member = supertype == null ? null : findMemberType(supertype, name, depth + 1);
+			if (member != null) {
+				return member;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds a type by qualified name, in the source path or else among the
+	 * classes of the running JVM.
+	 *
+	 * @param qualifiedName qualified name, nested classes separated by dots
+	 * @return type declaration or class, or null if the type is unknown
+	 */
+	private Object findType(String qualifiedName) {
+		Object type = foundTypes.get(qualifiedName);
+		if (type == null) {
+			type = findSourceType(qualifiedName);
+			if (type == null) {
+				type = findClass(qualifiedName);
+			}
+			foundTypes.put(qualifiedName, type == null ? NOT_FOUND : type);
+		}
+		return type == NOT_FOUND ? null : type;
+	}
+
+	/**
+	 * Finds a declared type by qualified name, parsing the source file of
+	 * its top level type if needed.
+	 *
+	 * @param qualifiedName qualified name
+	 * @return type declaration, or null if there is none
+	 */
+	private TypeDecl findSourceType(String qualifiedName) {
+		TypeDecl type = sourceTypes.get(qualifiedName);
+		if (type != null) {
+			return type;
+		}
+		String[] segments = qualifiedName.split("\\.");
+		StringBuilder path = new StringBuilder();
+		for (int i = 0; i < segments.length; i++) {
+			for (File root : sourcePath) {
+				File file = new File(root, path + segments[i] + ".java");
+				if (!units.containsKey(file) && file.isFile()) {
+					getUnit(file);
+				}
+			}
+			path.append(segments[i]).append(File.separatorChar);
+		}
+		return sourceTypes.get(qualifiedName);
+	}
+
+	/**
+	 * Finds a class of the running JVM by qualified name without
+	 * initializing it.
+	 *
+	 * @param qualifiedName qualified name, nested classes separated by dots
+	 * @return class, or null if there is none
+	 */
+	private static Class<?> findClass(String qualifiedName) {
+		char[] name = qualifiedName.toCharArray();
+		int dot = name.length;
+		while (0 <= dot) {
+			try {
+				return Class.forName(new String(name), false, ClassLoader.getSystemClassLoader());
+			} catch (ClassNotFoundException e) {
+				// try the last package name as an enclosing class
+			} catch (LinkageError e) {
+				return null;
+			}
+			dot = qualifiedName.lastIndexOf('.', dot - 1);
+			if (dot < 0) {
+				break;
+			}
+			name[dot] = '$';
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the source files of a package in all source path directories.
+	 *
+	 * @param packageName package name
+	 * @return source files sorted by name, without <code>package-info.java</code>
+	 */
+	private List<File> getSourceFiles(String packageName) {
+		List<File> files = new ArrayList<File>();
+		for (File root : sourcePath) {
+			File[] list = new File(root, packageName.replace('.', File.separatorChar)).listFiles();
+			if (list == null) {
+				continue;
+			}
+			Arrays.sort(list);
+			for (File file : list) {
+				String name = file.getName();
+				if (name.endsWith(".java") && isIdentifier(name.substring(0, name.length() - 5)) && file.isFile()) {
+					files.add(file);
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Determine whether a file name is a Java identifier.
+	 *
+	 * @param name file name without extension
+	 * @return Returns true if the name is an identifier.
+	 */
+	private static boolean isIdentifier(String name) {
+		if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+			return false;
+		}
+		for (int i = 1; i < name.length(); i++) {
+			if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the declarations of a source file, parsing it once.
+	 *
+	 * @param file source file
+	 * @return compilation unit, or null if the file cannot be read
+	 */
+	private UnitDecl getUnit(File file) {
+		if (units.containsKey(file)) {
+			return units.get(file);
+		}
+		UnitDecl unit = null;
+		try {
+			unit = new SourceParser(file, read(file).toCharArray()).parse();
+			for (TypeDecl type : unit.types) {
+				addSourceType(type);
+			}
+		} catch (IOException e) {
+			printNotice("Cannot read " + file + ": " + e.getMessage());
+		}
+		units.put(file, unit);
+		if (file.getParentFile() != null) {
+			unitDirectories.add(file.getParentFile());
+		}
+		return unit;
+	}
+
+	/**
+	 * Registers a declared type and its member types by qualified name.
+	 * <p>
+	 * The first declaration in the source path wins.
+	 *
+	 * @param type type declaration
+	 */
+	private void addSourceType(TypeDecl type) {
+		String qualifiedName = type.getQualifiedName();
+		if (!sourceTypes.containsKey(qualifiedName)) {
+			sourceTypes.put(qualifiedName, type);
+		}
+		for (TypeDecl member : type.types) {
+			addSourceType(member);
+		}
+	}
+
+	/**
+	 * Gets the comment of a package.
+	 * <p>
+	 * The comment is taken from <code>package-info.java</code>, or else from
+	 * the body of <code>package.html</code>.
+	 *
+	 * @param packageName package name
+	 * @return comment text
+	 */
+	private String getPackageComment(String packageName) {
+		String directory = packageName.replace('.', File.separatorChar);
+		for (File root : sourcePath) {
+			File file = new File(new File(root, directory), "package-info.java");
+			if (file.isFile()) {
+				UnitDecl unit = getUnit(file);
+				return unit == null ? "" : DocComment.read(unit, unit.doc).getText();
+			}
+		}
+		for (File root : sourcePath) {
+			File file = new File(new File(root, directory), "package.html");
+			if (file.isFile()) {
+				try {
+					Matcher m = BODY.matcher(read(file));
+					return m.matches() ? new DocComment(m.group(1)).getText() : "";
+				} catch (IOException e) {
+					printNotice("Cannot read " + file + ": " + e.getMessage());
+					return "";
+				}
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Reads a file in the source encoding.
+	 *
+	 * @param file file
+	 * @return file content
+	 * @throws IOException if the file cannot be read
+	 */
+	private String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), encoding);
+	}
+}
@@ -0,0 +1,421 @@
+package org.qtproject.qt.api_review.source;
+
+/**
+ * Splits Java source code into tokens.
+ * <p>
+ * Only what is needed to find declarations is distinguished: identifiers
+ * (including keywords), literals and single operator characters. Comments
+ * are skipped, but the position of the last documentation comment before
+ * each token is kept. Unicode escapes are translated first.
+ */
+class SourceScanner {
+
+	/**
+	 * Kind of the token after the last one
+	 */
+	static final int EOF = 0;
+
+	/**
+	 * Kind of identifiers and keywords
+	 */
+	static final int IDENTIFIER = 1;
+
+	/**
+	 * Kind of number, character, string and text block literals
+	 */
+	static final int LITERAL = 2;
+
+	/**
+	 * Kind of operator and separator characters, one per token
+	 */
+	static final int OPERATOR = 3;
+
+	/**
+	 * Source code with unicode escapes translated
+	 */
+	private final char[] buf;
+
+	/**
+	 * Length of the source code
+	 */
+	private final int length;
+
+	/**
+	 * Number of tokens
+	 */
+	private int count;
+
+	/**
+	 * Token kinds
+	 */
+	private int[] kinds = new int[1024];
+
+	/**
+	 * Token start positions
+	 */
+	private int[] starts = new int[1024];
+
+	/**
+	 * Token end positions
+	 */
+	private int[] ends = new int[1024];
+
+	/**
+	 * Start positions of the documentation comments before the tokens, or -1
+	 */
+	private int[] docs = new int[1024];
+
+	/**
+	 * Identifier texts by token
+	 */
+	private String[] texts = new String[1024];
+
+	/**
+	 * A constructor. The source code is split into tokens at once.
+	 *
+	 * @param source source code
+	 */
+	SourceScanner(char[] source) {
+		int n = source.length;
+		char[] translated = translateUnicode(source, n);
+		if (translated != null) {
+			source = translated;
+			n = translated.length;
+		}
+		buf = source;
+		length = n;
+		scan();
+	}
+
+	/**
+	 * Gets the source code.
+	 *
+	 * @return source code with unicode escapes translated
+	 */
+	char[] getSource() {
+		return buf;
+	}
+
+	/**
+	 * Gets the number of tokens, not counting the end of file token.
+	 *
+	 * @return number of tokens
+	 */
+	int getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the kind of a token.
+	 *
+	 * @param i token index
+	 * @return token kind, {@link #EOF} after the last token
+	 */
+	int getKind(int i) {
+		return i < count ? kinds[i] : EOF;
+	}
+
+	/**
+	 * Gets the text of an identifier token.
+	 *
+	 * @param i token index
+	 * @return identifier, or null if the token is no identifier
+	 */
+	String getText(int i) {
+		return i < count ? texts[i] : null;
+	}
+
+	/**
+	 * Determine whether a token is the given identifier.
+	 *
+	 * @param i token index
+	 * @param identifier identifier or keyword
+	 * @return Returns true if the token is the identifier.
+	 */
+	boolean is(int i, String identifier) {
+		return i < count && kinds[i] == IDENTIFIER && texts[i].equals(identifier);
+	}
+
+	/**
+	 * Determine whether a token is the given operator character.
+	 *
+	 * @param i token index
+	 * @param c operator character
+	 * @return Returns true if the token is the operator.
+	 */
+	boolean is(int i, char c) {
+		return i < count && kinds[i] == OPERATOR && buf[starts[i]] == c;
+	}
+
+	/**
+	 * Gets the start position of a token.
+	 *
+	 * @param i token index
+	 * @return position in the source code
+	 */
+	int getStart(int i) {
+		return starts[i];
+	}
+
+	/**
+	 * Gets the end position of a token.
+	 *
+	 * @param i token index
+	 * @return position after the token in the source code
+	 */
+	int getEnd(int i) {
+		return ends[i];
+	}
+
+	/**
+	 * Gets the start position of the documentation comment before a token.
+	 *
+	 * @param i token index
+	 * @return position of the comment start, or -1 if there is none
+	 */
+	int getDoc(int i) {
+		return i < count ? docs[i] : -1;
+	}
+
+	/**
+	 * Splits the source code into tokens.
+	 */
+	private void scan() {
+		int doc = -1;
+		int i = 0;
+		while (i < length) {
+			char c = buf[i];
+
+			// white space
+			if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f') {
+				i++;
+				continue;
+			}
+
+			// comments, a documentation comment is kept until the next token
+			if (c == '/' && i + 1 < length && buf[i + 1] == '/') {
+				i += 2;
+				while (i < length && buf[i] != '\n' && buf[i] != '\r') {
+					i++;
+				}
+				continue;
+			}
+			if (c == '/' && i + 1 < length && buf[i + 1] == '*') {
+				int start = i;
+				i += 2;
+				boolean isDoc = i < length && buf[i] == '*';
+				while (i + 1 < length && !(buf[i] == '*' && buf[i + 1] == '/')) {
+					i++;
+				}
+				i = Math.min(i + 2, length);
+				if (isDoc) {
+					doc = start;
+				}
+				continue;
+			}
+
+			int start = i;
+			int kind;
+			if (Character.isJavaIdentifierStart(c)) {
+				i++;
+				while (i < length && Character.isJavaIdentifierPart(buf[i])) {
+					i++;
+				}
+				kind = IDENTIFIER;
+			} else if (('0' <= c && c <= '9') || (c == '.' && i + 1 < length && '0' <= buf[i + 1] && buf[i + 1] <= '9')) {
+				i = skipNumber(i);
+				kind = LITERAL;
+			} else if (c == '"' && i + 2 < length && buf[i + 1] == '"' && buf[i + 2] == '"') {
+				i = skipTextBlock(i + 3);
+				kind = LITERAL;
+			} else if (c == '"' || c == '\'') {
+				i = skipQuoted(i + 1, c);
+				kind = LITERAL;
+			} else {
+				i++;
+				kind = OPERATOR;
+			}
+			add(kind, start, i, doc);
+			doc = -1;
+		}
+	}
+
+	/**
+	 * Adds a token.
+	 *
+	 * @param kind token kind
+	 * @param start start position
+	 * @param end end position
+	 * @param doc start position of the documentation comment before it, or -1
+	 */
+	private void add(int kind, int start, int end, int doc) {
+		if (count == kinds.length) {
+			int size = count * 2;
+			kinds = java.util.Arrays.copyOf(kinds, size);
+			starts = java.util.Arrays.copyOf(starts, size);
+			ends = java.util.Arrays.copyOf(ends, size);
+			docs = java.util.Arrays.copyOf(docs, size);
+			texts = java.util.Arrays.copyOf(texts, size);
+		}
+		kinds[count] = kind;
+		starts[count] = start;
+		ends[count] = end;
+		docs[count] = doc;
+		texts[count] = kind == IDENTIFIER ? new String(buf, start, end - start) : null;
+		count++;
+	}
+
+	/**
+	 * Skips a number literal.
+	 *
+	 * @param i start position
+	 * @return end position
+	 */
+	private int skipNumber(int i) {
+		while (i < length) {
+			char c = buf[i];
+			if (Character.isLetterOrDigit(c) || c == '_' || c == '.') {
+				i++;
+			} else if ((c == '+' || c == '-') && isExponent(buf[i - 1]) && !isHex(i)) {
+				i++;
+			} else {
+				break;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Determine whether a character starts the exponent of a number.
+	 *
+	 * @param c character
+	 * @return Returns true for <code>e</code> and <code>p</code>.
+	 */
+	private static boolean isExponent(char c) {
+		return c == 'e' || c == 'E' || c == 'p' || c == 'P';
+	}
+
+	/**
+	 * Determine whether the number before a sign is hexadecimal without a
+	 * binary exponent, so <code>e</code> is a digit.
+	 *
+	 * @param sign position of the sign
+	 * @return Returns true if the sign does not belong to the number.
+	 */
+	private boolean isHex(int sign) {
+		int start = sign - 1;
+		while (0 < start && (Character.isLetterOrDigit(buf[start - 1]) || buf[start - 1] == '_' || buf[start - 1] == '.')) {
+			start--;
+		}
+		boolean hex = start + 1 < sign && buf[start] == '0' && (buf[start + 1] == 'x' || buf[start + 1] == 'X');
+		char e = buf[sign - 1];
+		return hex && (e == 'e' || e == 'E');
+	}
+
+	/**
+	 * Skips a string or character literal.
+	 *
+	 * @param i position after the opening quote
+	 * @param quote quote character
+	 * @return end position
+	 */
+	private int skipQuoted(int i, char quote) {
+		while (i < length) {
+			char c = buf[i++];
+			if (c == '\\' && i < length) {
+				i++;
+			} else if (c == quote || c == '\n' || c == '\r') {
+				break;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Skips a text block.
+	 *
+	 * @param i position after the opening quotes
+	 * @return end position
+	 */
+	private int skipTextBlock(int i) {
+		while (i < length) {
+			char c = buf[i++];
+			if (c == '\\' && i < length) {
+				i++;
+			} else if (c == '"' && i + 1 < length && buf[i] == '"' && buf[i + 1] == '"') {
+				return i + 2;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Translates the unicode escapes of the source code.
+	 * <p>
+	 * A backslash only starts an escape if it is preceded by an even number
+	 * of backslashes, and a translated backslash starts none.
+	 *
+	 * @param source source code
+	 * @param n length of the source code
+	 * @return translated source code, or null if there are no escapes
+	 */
+	private static char[] translateUnicode(char[] source, int n) {
+		StringBuilder sb = null;
+		int copied = 0;
+		int backslashes = 0;
+		int i = 0;
+		while (i < n) {
+			char c = source[i];
+			if (c != '\\') {
+				backslashes = 0;
+				i++;
+				continue;
+			}
+			if (backslashes % 2 == 1 || i + 1 >= n || source[i + 1] != 'u') {
+				backslashes++;
+				i++;
+				continue;
+			}
+			int j = i + 1;
+			while (j < n && source[j] == 'u') {
+				j++;
+			}
+			if (n < j + 4 || !isHexDigits(source, j)) {
+				backslashes++;
+				i++;
+				continue;
+			}
+			if (sb == null) {
+				sb = new StringBuilder(n);
+			}
+			sb.append(source, copied, i - copied);
+			sb.append((char) Integer.parseInt(new String(source, j, 4), 16));
+			i = j + 4;
+			copied = i;
+			backslashes = 0;
+		}
+		if (sb == null) {
+			return null;
+		}
+		sb.append(source, copied, n - copied);
+		char[] translated = new char[sb.length()];
+		sb.getChars(0, sb.length(), translated, 0);
+		return translated;
+	}
+
+	/**
+	 * Determine whether four hexadecimal digits follow.
+	 *
+	 * @param source source code
+	 * @param from position of the first digit
+	 * @return Returns true if all four characters are hexadecimal digits.
+	 */
+	private static boolean isHexDigits(char[] source, int from) {
+		for (int i = from; i < from + 4; i++) {
+			if (Character.digit(source[i], 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,130 @@
+package org.qtproject.qt.api_review.source;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for changes of the source files a {@link SourceReader} read.
+ * <p>
+ * The directories are watched with a {@link WatchService}. Changes that
+ * follow each other closely, like an editor saving several files, are
+ * reported together.
+ */
+public class SourceWatcher implements Closeable {
+
+	/**
+	 * Time without further changes before changes are reported, in milliseconds
+	 */
+	private static final long QUIET_TIME = 100;
+
+	/**
+	 * Reader whose directories are watched
+	 */
+	private final SourceReader reader;
+
+	/**
+	 * Watch service of the default file system
+	 */
+	private final WatchService service;
+
+	/**
+	 * Watched directories by key
+	 */
+	private final Map<WatchKey, Path> directories = new HashMap<WatchKey, Path>();
+
+	/**
+	 * Registered directories
+	 */
+	private final Set<File> registered = new HashSet<File>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param reader reader whose directories are watched
+	 * @throws IOException exception
+	 */
+	public SourceWatcher(SourceReader reader) throws IOException {
+		this.reader = reader;
+		this.service = FileSystems.getDefault().newWatchService();
+	}
+
+	/**
+	 * Waits until source files change.
+	 * <p>
+	 * The directories of the reader are registered first, so directories of
+	 * source files read by the last run are included.
+	 *
+	 * @return changed files, or null if events were lost and all files may have changed
+	 * @throws IOException exception
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public Set<File> await() throws IOException, InterruptedException {
+		for (File directory : reader.getDirectories()) {
+			if (registered.add(directory)) {
+				Path path = directory.toPath();
+				directories.put(path.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY), path);
+			}
+		}
+
+		Set<File> changed = new LinkedHashSet<File>();
+		boolean overflow = false;
+		WatchKey key = service.take();
+		while (key != null) {
+			Path directory = directories.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					overflow = true;
+				} else if (directory != null && isSource((Path) event.context())) {
+					changed.add(directory.resolve((Path) event.context()).toFile());
+				}
+			}
+			if (!key.reset() && directory != null) {
+				directories.remove(key);
+				registered.remove(directory.toFile());
+			}
+
+			// wait for the changes that belong together, ignoring other files
+			if (changed.isEmpty() && !overflow) {
+				key = service.take();
+			} else {
+				key = service.poll(QUIET_TIME, TimeUnit.MILLISECONDS);
+			}
+		}
+		return overflow ? null : changed;
+	}
+
+	/**
+	 * Stops watching the directories.
+	 *
+	 * @throws IOException exception
+	 */
+	@Override
+	public void close() throws IOException {
+		service.close();
+	}
+
+	/**
+	 * Determine whether a file name is one of a file the API model is read from.
+	 *
+	 * @param name file name
+	 * @return Returns true for Java source files and <code>package.html</code>.
+	 */
+	private static boolean isSource(Path name) {
+		String s = name.toString();
+		return s.endsWith(".java") || s.equals("package.html");
+	}
+}
@@ -0,0 +1,113 @@
+package org.qtproject.qt.api_review.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declaration of a class, interface, enum or annotation type.
+ */
+class TypeDecl {
+
+	/**
+	 * Kind of classes
+	 */
+	static final int CLASS = 0;
+
+	/**
+	 * Kind of interfaces
+	 */
+	static final int INTERFACE = 1;
+
+	/**
+	 * Kind of enums
+	 */
+	static final int ENUM = 2;
+
+	/**
+	 * Kind of annotation types
+	 */
+	static final int ANNOTATION = 3;
+
+	/**
+	 * Compilation unit
+	 */
+	UnitDecl unit;
+
+	/**
+	 * Enclosing type, or null for top level types
+	 */
+	TypeDecl outer;
+
+	/**
+	 * Kind of the type
+	 */
+	int kind;
+
+	/**
+	 * Modifiers as written, as reflection modifier flags
+	 */
+	int modifiers;
+
+	/**
+	 * Simple name
+	 */
+	String name;
+
+	/**
+	 * Start position of the documentation comment, or -1
+	 */
+	int doc = -1;
+
+	/**
+	 * Type parameters
+	 */
+	final List<TypeParam> typeParams = new ArrayList<TypeParam>();
+
+	/**
+	 * Superclass as written, or null
+	 */
+	TypeRef superclass;
+
+	/**
+	 * Implemented or extended interfaces as written
+	 */
+	final List<TypeRef> interfaces = new ArrayList<TypeRef>();
+
+	/**
+	 * Whether an enum constant has a class body
+	 */
+	boolean hasConstantBody;
+
+	/**
+	 * Whether a constructor is declared
+	 */
+	boolean hasConstructor;
+
+	/**
+	 * Enum constants, fields, constructors and methods in source order
+	 */
+	final List<MemberDecl> members = new ArrayList<MemberDecl>();
+
+	/**
+	 * Member types
+	 */
+	final List<TypeDecl> types = new ArrayList<TypeDecl>();
+
+	/**
+	 * Gets the name including the names of the enclosing types.
+	 *
+	 * @return class name
+	 */
+	String getName() {
+		return outer == null ? name : outer.getName() + "." + name;
+	}
+
+	/**
+	 * Gets the qualified name.
+	 *
+	 * @return qualified class name
+	 */
+	String getQualifiedName() {
+		return unit.packageName.isEmpty() ? getName() : unit.packageName + "." + getName();
+	}
+}
@@ -0,0 +1,29 @@
+package org.qtproject.qt.api_review.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declaration of a type parameter.
+ */
+class TypeParam {
+
+	/**
+	 * Name
+	 */
+	final String name;
+
+	/**
+	 * Bounds as written
+	 */
+	final List<TypeRef> bounds = new ArrayList<TypeRef>();
+
+	/**
+	 * A constructor.
+	 *
+	 * @param name name
+	 */
+	TypeParam(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,46 @@
+package org.qtproject.qt.api_review.source;
+
+/**
+ * A type as written in a declaration, without annotations.
+ */
+class TypeRef {
+
+	/**
+	 * Dotted name without type arguments, such as <code>Map.Entry</code>
+	 */
+	final String name;
+
+	/**
+	 * Type with type arguments and without array dimensions, such as
+	 * <code>Map.Entry&lt;K, V&gt;</code>
+	 */
+	final String text;
+
+	/**
+	 * Number of array dimensions
+	 */
+	final int dimensions;
+
+	/**
+	 * A constructor.
+	 *
+	 * @param name dotted name without type arguments
+	 * @param text type with type arguments and without array dimensions
+	 * @param dimensions number of array dimensions
+	 */
+	TypeRef(String name, String text, int dimensions) {
+		this.name = name;
+		this.text = text;
+		this.dimensions = dimensions;
+	}
+
+	/**
+	 * Gets the same type with more array dimensions.
+	 *
+	 * @param more number of added dimensions
+	 * @return array type
+	 */
+	TypeRef addDimensions(int more) {
+		return more == 0 ? this : new TypeRef(name, text, dimensions + more);
+	}
+}
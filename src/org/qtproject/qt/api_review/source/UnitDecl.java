@@ -0,0 +1,53 @@
+package org.qtproject.qt.api_review.source;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarations of a compilation unit.
+ */
+class UnitDecl {
+
+	/**
+	 * Source file
+	 */
+	File file;
+
+	/**
+	 * Source code with unicode escapes translated
+	 */
+	char[] source;
+
+	/**
+	 * Package name, or an empty string for the unnamed package
+	 */
+	String packageName = "";
+
+	/**
+	 * Start position of the documentation comment of the unit, or -1
+	 */
+	int doc = -1;
+
+	/**
+	 * Qualified names of the single type and single static imports
+	 */
+	final List<String> imports = new ArrayList<String>();
+
+	/**
+	 * Package or type names of the type and static imports on demand
+	 */
+	final List<String> importsOnDemand = new ArrayList<String>();
+
+	/**
+	 * Top level types
+	 */
+	final List<TypeDecl> types = new ArrayList<TypeDecl>();
+
+	/**
+	 * Documentation comments read so far by start position
+	 */
+	final Map<Integer, DocComment> comments = new HashMap<Integer, DocComment>();
+}
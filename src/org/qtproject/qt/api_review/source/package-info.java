@@ -0,0 +1,4 @@
+/**
+ * This is a package that stores classes of the standalone source scanner, which reads declarations without the javadoc tool.
+ */
+package org.qtproject.qt.api_review.source;